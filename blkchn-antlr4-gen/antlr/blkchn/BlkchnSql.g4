@@ -58,11 +58,16 @@ statement
     | upgradeFunction                                              #upgradeFunctionRule
     | deploySmartContract 										   #deploySmartContractRule
     | createUser                                                   #createUserRule
+    | explain                                                      #explainRule
     ;
     
 createUser
     : CREATE USER identifier IDENTIFIED BY secret AFFILIATED TO affiliation
     ;
+
+explain
+    : EXPLAIN ANALYZE? query
+    ;
     
 secret
     : STRING
@@ -144,6 +144,18 @@ public class BlkchnSqlBaseListener implements BlkchnSqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCreateUserRule(BlkchnSqlParser.CreateUserRuleContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterExplainRule(BlkchnSqlParser.ExplainRuleContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitExplainRule(BlkchnSqlParser.ExplainRuleContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -156,6 +168,18 @@ public class BlkchnSqlBaseListener implements BlkchnSqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitCreateUser(BlkchnSqlParser.CreateUserContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterExplain(BlkchnSqlParser.ExplainContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitExplain(BlkchnSqlParser.ExplainContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
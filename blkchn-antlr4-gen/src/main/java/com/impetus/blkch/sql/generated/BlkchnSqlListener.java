@@ -138,6 +138,18 @@ public interface BlkchnSqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCreateUserRule(BlkchnSqlParser.CreateUserRuleContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code explainRule}
+	 * labeled alternative in {@link BlkchnSqlParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterExplainRule(BlkchnSqlParser.ExplainRuleContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code explainRule}
+	 * labeled alternative in {@link BlkchnSqlParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitExplainRule(BlkchnSqlParser.ExplainRuleContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link BlkchnSqlParser#createUser}.
 	 * @param ctx the parse tree
@@ -148,6 +160,16 @@ public interface BlkchnSqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCreateUser(BlkchnSqlParser.CreateUserContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link BlkchnSqlParser#explain}.
+	 * @param ctx the parse tree
+	 */
+	void enterExplain(BlkchnSqlParser.ExplainContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link BlkchnSqlParser#explain}.
+	 * @param ctx the parse tree
+	 */
+	void exitExplain(BlkchnSqlParser.ExplainContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link BlkchnSqlParser#secret}.
 	 * @param ctx the parse tree
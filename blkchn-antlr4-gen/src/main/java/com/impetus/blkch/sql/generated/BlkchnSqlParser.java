@@ -47,37 +47,37 @@ public class BlkchnSqlParser extends Parser {
 		BRACKETED_EMPTY_COMMENT=179, BRACKETED_COMMENT=180, WS=181, UNRECOGNIZED=182, 
 		DELIMITER=183;
 	public static final int
-		RULE_singleStatement = 0, RULE_statement = 1, RULE_createUser = 2, RULE_secret = 3, 
-		RULE_affiliation = 4, RULE_insertInto = 5, RULE_columnNames = 6, RULE_columnValues = 7, 
-		RULE_columnValue = 8, RULE_createFunction = 9, RULE_upgradeFunction = 10, 
-		RULE_createAsset = 11, RULE_deploySmartContract = 12, RULE_createFlag = 13, 
-		RULE_upgradeFlag = 14, RULE_asset = 15, RULE_storageType = 16, RULE_fieldDelimiter = 17, 
-		RULE_recordDelimiter = 18, RULE_deleteFunction = 19, RULE_dropAsset = 20, 
-		RULE_className = 21, RULE_version = 22, RULE_endorsersFile = 23, RULE_policyFile = 24, 
-		RULE_args = 25, RULE_argParamSeq = 26, RULE_argParam = 27, RULE_collection = 28, 
-		RULE_bytes = 29, RULE_list = 30, RULE_listTypeDec = 31, RULE_listType = 32, 
-		RULE_callFunction = 33, RULE_smartFunction = 34, RULE_assetFunction = 35, 
-		RULE_checkIsValid = 36, RULE_classOption = 37, RULE_addressOption = 38, 
-		RULE_addressVlaue = 39, RULE_asyncOption = 40, RULE_parameterValues = 41, 
-		RULE_query = 42, RULE_queryOrganization = 43, RULE_orderByClause = 44, 
-		RULE_limitClause = 45, RULE_queryTerm = 46, RULE_queryPrimary = 47, RULE_sortItem = 48, 
-		RULE_querySpecification = 49, RULE_selectClause = 50, RULE_whereClause = 51, 
-		RULE_havingClause = 52, RULE_fromClause = 53, RULE_groupByClause = 54, 
-		RULE_setQuantifier = 55, RULE_relation = 56, RULE_joinRelation = 57, RULE_joinType = 58, 
-		RULE_joinCriteria = 59, RULE_identifierList = 60, RULE_identifierSeq = 61, 
-		RULE_relationPrimary = 62, RULE_inlineTable = 63, RULE_tableIdentifier = 64, 
-		RULE_namedExpression = 65, RULE_namedExpressionSeq = 66, RULE_expression = 67, 
-		RULE_booleanExpression = 68, RULE_predicated = 69, RULE_predicate = 70, 
-		RULE_valueExpression = 71, RULE_questionMark = 72, RULE_primaryExpression = 73, 
-		RULE_constant = 74, RULE_comparisonOperator = 75, RULE_arithmeticOperator = 76, 
-		RULE_predicateOperator = 77, RULE_booleanValue = 78, RULE_interval = 79, 
-		RULE_intervalField = 80, RULE_intervalValue = 81, RULE_dataType = 82, 
-		RULE_colTypeList = 83, RULE_colType = 84, RULE_complexColTypeList = 85, 
-		RULE_complexColType = 86, RULE_whenClause = 87, RULE_qualifiedName = 88, 
-		RULE_identifier = 89, RULE_strictIdentifier = 90, RULE_quotedIdentifier = 91, 
-		RULE_number = 92, RULE_nonReserved = 93;
+		RULE_singleStatement = 0, RULE_statement = 1, RULE_createUser = 2, RULE_explain = 3, 
+		RULE_secret = 4, RULE_affiliation = 5, RULE_insertInto = 6, RULE_columnNames = 7, 
+		RULE_columnValues = 8, RULE_columnValue = 9, RULE_createFunction = 10, 
+		RULE_upgradeFunction = 11, RULE_createAsset = 12, RULE_deploySmartContract = 13, 
+		RULE_createFlag = 14, RULE_upgradeFlag = 15, RULE_asset = 16, RULE_storageType = 17, 
+		RULE_fieldDelimiter = 18, RULE_recordDelimiter = 19, RULE_deleteFunction = 20, 
+		RULE_dropAsset = 21, RULE_className = 22, RULE_version = 23, RULE_endorsersFile = 24, 
+		RULE_policyFile = 25, RULE_args = 26, RULE_argParamSeq = 27, RULE_argParam = 28, 
+		RULE_collection = 29, RULE_bytes = 30, RULE_list = 31, RULE_listTypeDec = 32, 
+		RULE_listType = 33, RULE_callFunction = 34, RULE_smartFunction = 35, RULE_assetFunction = 36, 
+		RULE_checkIsValid = 37, RULE_classOption = 38, RULE_addressOption = 39, 
+		RULE_addressVlaue = 40, RULE_asyncOption = 41, RULE_parameterValues = 42, 
+		RULE_query = 43, RULE_queryOrganization = 44, RULE_orderByClause = 45, 
+		RULE_limitClause = 46, RULE_queryTerm = 47, RULE_queryPrimary = 48, RULE_sortItem = 49, 
+		RULE_querySpecification = 50, RULE_selectClause = 51, RULE_whereClause = 52, 
+		RULE_havingClause = 53, RULE_fromClause = 54, RULE_groupByClause = 55, 
+		RULE_setQuantifier = 56, RULE_relation = 57, RULE_joinRelation = 58, RULE_joinType = 59, 
+		RULE_joinCriteria = 60, RULE_identifierList = 61, RULE_identifierSeq = 62, 
+		RULE_relationPrimary = 63, RULE_inlineTable = 64, RULE_tableIdentifier = 65, 
+		RULE_namedExpression = 66, RULE_namedExpressionSeq = 67, RULE_expression = 68, 
+		RULE_booleanExpression = 69, RULE_predicated = 70, RULE_predicate = 71, 
+		RULE_valueExpression = 72, RULE_questionMark = 73, RULE_primaryExpression = 74, 
+		RULE_constant = 75, RULE_comparisonOperator = 76, RULE_arithmeticOperator = 77, 
+		RULE_predicateOperator = 78, RULE_booleanValue = 79, RULE_interval = 80, 
+		RULE_intervalField = 81, RULE_intervalValue = 82, RULE_dataType = 83, 
+		RULE_colTypeList = 84, RULE_colType = 85, RULE_complexColTypeList = 86, 
+		RULE_complexColType = 87, RULE_whenClause = 88, RULE_qualifiedName = 89, 
+		RULE_identifier = 90, RULE_strictIdentifier = 91, RULE_quotedIdentifier = 92, 
+		RULE_number = 93, RULE_nonReserved = 94;
 	public static final String[] ruleNames = {
-		"singleStatement", "statement", "createUser", "secret", "affiliation", 
+		"singleStatement", "statement", "createUser", "explain", "secret", "affiliation", 
 		"insertInto", "columnNames", "columnValues", "columnValue", "createFunction", 
 		"upgradeFunction", "createAsset", "deploySmartContract", "createFlag", 
 		"upgradeFlag", "asset", "storageType", "fieldDelimiter", "recordDelimiter", 
@@ -255,9 +255,9 @@ public class BlkchnSqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(188);
+			setState(190);
 			statement();
-			setState(189);
+			setState(191);
 			match(EOF);
 			}
 		}
@@ -378,6 +378,25 @@ public class BlkchnSqlParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class ExplainRuleContext extends StatementContext {
+		public ExplainContext explain() {
+			return getRuleContext(ExplainContext.class,0);
+		}
+		public ExplainRuleContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof BlkchnSqlListener ) ((BlkchnSqlListener)listener).enterExplainRule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof BlkchnSqlListener ) ((BlkchnSqlListener)listener).exitExplainRule(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof BlkchnSqlVisitor ) return ((BlkchnSqlVisitor<? extends T>)visitor).visitExplainRule(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class CreateUserRuleContext extends StatementContext {
 		public CreateUserContext createUser() {
 			return getRuleContext(CreateUserContext.class,0);
@@ -478,13 +497,13 @@ public class BlkchnSqlParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_statement);
 		try {
-			setState(201);
+			setState(204);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				_localctx = new StatementDefaultContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(191);
+				setState(193);
 				query();
 				}
 				break;
@@ -492,7 +511,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SingleInsertContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(192);
+				setState(194);
 				insertInto();
 				}
 				break;
@@ -500,7 +519,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new CreateFunctionRuleContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(193);
+				setState(195);
 				createFunction();
 				}
 				break;
@@ -508,7 +527,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new CallFunctionRuleContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(194);
+				setState(196);
 				callFunction();
 				}
 				break;
@@ -516,7 +535,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new CreateAssetRuleContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(195);
+				setState(197);
 				createAsset();
 				}
 				break;
@@ -524,7 +543,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new DeleteFunctionRuleContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(196);
+				setState(198);
 				deleteFunction();
 				}
 				break;
@@ -532,7 +551,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new DropAssetRuleContext(_localctx);
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(197);
+				setState(199);
 				dropAsset();
 				}
 				break;
@@ -540,7 +559,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new UpgradeFunctionRuleContext(_localctx);
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(198);
+				setState(200);
 				upgradeFunction();
 				}
 				break;
@@ -548,7 +567,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new DeploySmartContractRuleContext(_localctx);
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(199);
+				setState(201);
 				deploySmartContract();
 				}
 				break;
@@ -556,10 +575,18 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new CreateUserRuleContext(_localctx);
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(200);
+				setState(202);
 				createUser();
 				}
 				break;
+			case 11:
+				_localctx = new ExplainRuleContext(_localctx);
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(203);
+				explain();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -614,23 +641,23 @@ public class BlkchnSqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(203);
+			setState(206);
 			match(CREATE);
-			setState(204);
+			setState(207);
 			match(USER);
-			setState(205);
+			setState(208);
 			identifier();
-			setState(206);
+			setState(209);
 			match(IDENTIFIED);
-			setState(207);
+			setState(210);
 			match(BY);
-			setState(208);
+			setState(211);
 			secret();
-			setState(209);
+			setState(212);
 			match(AFFILIATED);
-			setState(210);
+			setState(213);
 			match(TO);
-			setState(211);
+			setState(214);
 			affiliation();
 			}
 		}
@@ -645,6 +672,64 @@ public class BlkchnSqlParser extends Parser {
 		return _localctx;
 	}
 
+	public static class ExplainContext extends ParserRuleContext {
+		public TerminalNode EXPLAIN() { return getToken(BlkchnSqlParser.EXPLAIN, 0); }
+		public QueryContext query() {
+			return getRuleContext(QueryContext.class,0);
+		}
+		public TerminalNode ANALYZE() { return getToken(BlkchnSqlParser.ANALYZE, 0); }
+		public ExplainContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_explain; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof BlkchnSqlListener ) ((BlkchnSqlListener)listener).enterExplain(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof BlkchnSqlListener ) ((BlkchnSqlListener)listener).exitExplain(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof BlkchnSqlVisitor ) return ((BlkchnSqlVisitor<? extends T>)visitor).visitExplain(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExplainContext explain() throws RecognitionException {
+		ExplainContext _localctx = new ExplainContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_explain);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(216);
+			match(EXPLAIN);
+			setState(218);
+			_la = _input.LA(1);
+			if (_la==ANALYZE) {
+				{
+				setState(217);
+				match(ANALYZE);
+				}
+			}
+
+			setState(220);
+			query();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class SecretContext extends ParserRuleContext {
 		public TerminalNode STRING() { return getToken(BlkchnSqlParser.STRING, 0); }
 		public SecretContext(ParserRuleContext parent, int invokingState) {
@@ -668,11 +753,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final SecretContext secret() throws RecognitionException {
 		SecretContext _localctx = new SecretContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_secret);
+		enterRule(_localctx, 8, RULE_secret);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(213);
+			setState(222);
 			match(STRING);
 			}
 		}
@@ -711,12 +796,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AffiliationContext affiliation() throws RecognitionException {
 		AffiliationContext _localctx = new AffiliationContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_affiliation);
+		enterRule(_localctx, 10, RULE_affiliation);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(215);
+			setState(224);
 			_la = _input.LA(1);
 			if ( !(_la==IDENTIFIER || _la==NESTED_IDENTIFIER) ) {
 			_errHandler.recoverInline(this);
@@ -770,37 +855,37 @@ public class BlkchnSqlParser extends Parser {
 
 	public final InsertIntoContext insertInto() throws RecognitionException {
 		InsertIntoContext _localctx = new InsertIntoContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_insertInto);
+		enterRule(_localctx, 12, RULE_insertInto);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(217);
+			setState(226);
 			match(INSERT);
-			setState(218);
+			setState(227);
 			match(INTO);
-			setState(219);
+			setState(228);
 			tableIdentifier();
-			setState(224);
+			setState(233);
 			_la = _input.LA(1);
 			if (_la==T__0) {
 				{
-				setState(220);
+				setState(229);
 				match(T__0);
-				setState(221);
+				setState(230);
 				columnNames();
-				setState(222);
+				setState(231);
 				match(T__1);
 				}
 			}
 
-			setState(226);
+			setState(235);
 			match(VALUES);
-			setState(227);
+			setState(236);
 			match(T__0);
-			setState(228);
+			setState(237);
 			columnValues();
-			setState(229);
+			setState(238);
 			match(T__1);
 			}
 		}
@@ -840,11 +925,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ColumnNamesContext columnNames() throws RecognitionException {
 		ColumnNamesContext _localctx = new ColumnNamesContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_columnNames);
+		enterRule(_localctx, 14, RULE_columnNames);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
+			setState(240);
 			identifierSeq();
 			}
 		}
@@ -887,26 +972,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ColumnValuesContext columnValues() throws RecognitionException {
 		ColumnValuesContext _localctx = new ColumnValuesContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_columnValues);
+		enterRule(_localctx, 16, RULE_columnValues);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(233);
+			setState(242);
 			columnValue();
-			setState(238);
+			setState(247);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(234);
+				setState(243);
 				match(T__2);
-				setState(235);
+				setState(244);
 				columnValue();
 				}
 				}
-				setState(240);
+				setState(249);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -951,9 +1036,9 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ColumnValueContext columnValue() throws RecognitionException {
 		ColumnValueContext _localctx = new ColumnValueContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_columnValue);
+		enterRule(_localctx, 18, RULE_columnValue);
 		try {
-			setState(243);
+			setState(252);
 			switch (_input.LA(1)) {
 			case SELECT:
 			case FROM:
@@ -1078,14 +1163,14 @@ public class BlkchnSqlParser extends Parser {
 			case BACKQUOTED_IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(241);
+				setState(250);
 				constant();
 				}
 				break;
 			case QUESTIONMARK:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(242);
+				setState(251);
 				questionMark();
 				}
 				break;
@@ -1149,58 +1234,58 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CreateFunctionContext createFunction() throws RecognitionException {
 		CreateFunctionContext _localctx = new CreateFunctionContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_createFunction);
+		enterRule(_localctx, 20, RULE_createFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(245);
+			setState(254);
 			match(CREATE);
-			setState(246);
+			setState(255);
 			_la = _input.LA(1);
 			if ( !(((((_la - 106)) & ~0x3f) == 0 && ((1L << (_la - 106)) & ((1L << (CHAINCODE - 106)) | (1L << (SMARTCONTRACT - 106)) | (1L << (FUNCTION - 106)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			} else {
 				consume();
 			}
-			setState(247);
+			setState(256);
 			qualifiedName();
-			setState(248);
+			setState(257);
 			match(AS);
-			setState(249);
+			setState(258);
 			className();
-			setState(251);
-			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			setState(260);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				{
-				setState(250);
+				setState(259);
 				version();
 				}
 				break;
 			}
-			setState(254);
-			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			setState(263);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
 				{
-				setState(253);
+				setState(262);
 				endorsersFile();
 				}
 				break;
 			}
-			setState(257);
+			setState(266);
 			_la = _input.LA(1);
 			if (_la==WITH) {
 				{
-				setState(256);
+				setState(265);
 				args();
 				}
 			}
 
-			setState(260);
+			setState(269);
 			_la = _input.LA(1);
 			if (_la==INSTALL_ONLY || _la==INSTANTIATE_ONLY) {
 				{
-				setState(259);
+				setState(268);
 				createFlag();
 				}
 			}
@@ -1263,58 +1348,58 @@ public class BlkchnSqlParser extends Parser {
 
 	public final UpgradeFunctionContext upgradeFunction() throws RecognitionException {
 		UpgradeFunctionContext _localctx = new UpgradeFunctionContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_upgradeFunction);
+		enterRule(_localctx, 22, RULE_upgradeFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(271);
 			match(UPGRADE);
-			setState(263);
+			setState(272);
 			_la = _input.LA(1);
 			if ( !(((((_la - 106)) & ~0x3f) == 0 && ((1L << (_la - 106)) & ((1L << (CHAINCODE - 106)) | (1L << (SMARTCONTRACT - 106)) | (1L << (FUNCTION - 106)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			} else {
 				consume();
 			}
-			setState(264);
+			setState(273);
 			qualifiedName();
-			setState(265);
+			setState(274);
 			match(AS);
-			setState(266);
+			setState(275);
 			className();
-			setState(268);
-			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			setState(277);
+			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
-				setState(267);
+				setState(276);
 				version();
 				}
 				break;
 			}
-			setState(271);
-			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+			setState(280);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				{
-				setState(270);
+				setState(279);
 				endorsersFile();
 				}
 				break;
 			}
-			setState(274);
+			setState(283);
 			_la = _input.LA(1);
 			if (_la==WITH) {
 				{
-				setState(273);
+				setState(282);
 				args();
 				}
 			}
 
-			setState(277);
+			setState(286);
 			_la = _input.LA(1);
 			if (_la==INSTALL_ONLY || _la==UPGRADE_ONLY) {
 				{
-				setState(276);
+				setState(285);
 				upgradeFlag();
 				}
 			}
@@ -1375,57 +1460,57 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CreateAssetContext createAsset() throws RecognitionException {
 		CreateAssetContext _localctx = new CreateAssetContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_createAsset);
+		enterRule(_localctx, 24, RULE_createAsset);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(279);
+			setState(288);
 			match(CREATE);
-			setState(280);
+			setState(289);
 			_la = _input.LA(1);
 			if ( !(_la==TABLE || _la==ASSET) ) {
 			_errHandler.recoverInline(this);
 			} else {
 				consume();
 			}
-			setState(281);
+			setState(290);
 			asset();
-			setState(286);
+			setState(295);
 			_la = _input.LA(1);
 			if (_la==T__0) {
 				{
-				setState(282);
+				setState(291);
 				match(T__0);
-				setState(283);
+				setState(292);
 				colTypeList();
-				setState(284);
+				setState(293);
 				match(T__1);
 				}
 			}
 
-			setState(288);
+			setState(297);
 			match(WITH);
-			setState(289);
+			setState(298);
 			match(STORAGE);
-			setState(290);
+			setState(299);
 			match(TYPE);
-			setState(291);
+			setState(300);
 			storageType();
-			setState(293);
+			setState(302);
 			_la = _input.LA(1);
 			if (_la==FIELDS) {
 				{
-				setState(292);
+				setState(301);
 				fieldDelimiter();
 				}
 			}
 
-			setState(296);
+			setState(305);
 			_la = _input.LA(1);
 			if (_la==RECORDS) {
 				{
-				setState(295);
+				setState(304);
 				recordDelimiter();
 				}
 			}
@@ -1478,39 +1563,39 @@ public class BlkchnSqlParser extends Parser {
 
 	public final DeploySmartContractContext deploySmartContract() throws RecognitionException {
 		DeploySmartContractContext _localctx = new DeploySmartContractContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_deploySmartContract);
+		enterRule(_localctx, 26, RULE_deploySmartContract);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(298);
+			setState(307);
 			match(DEPLOY);
-			setState(299);
+			setState(308);
 			match(SMARTCONTRACT);
-			setState(300);
+			setState(309);
 			className();
-			setState(301);
+			setState(310);
 			match(T__0);
-			setState(303);
+			setState(312);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)) | (1L << (LT - 64)))) != 0) || ((((_la - 132)) & ~0x3f) == 0 && ((1L << (_la - 132)) & ((1L << (MINUS - 132)) | (1L << (DIV - 132)) | (1L << (PERCENTLIT - 132)) | (1L << (OUT - 132)) | (1L << (OF - 132)) | (1L << (FUNCTION - 132)) | (1L << (DATABASE - 132)) | (1L << (DATABASES - 132)) | (1L << (TRUNCATE - 132)) | (1L << (ANALYZE - 132)) | (1L << (COMPUTE - 132)) | (1L << (LIST - 132)) | (1L << (REVOKE - 132)) | (1L << (GRANT - 132)) | (1L << (EXPORT - 132)) | (1L << (IMPORT - 132)) | (1L << (LOAD - 132)) | (1L << (ROLE - 132)) | (1L << (ROLES - 132)) | (1L << (INDEX - 132)) | (1L << (INDEXES - 132)) | (1L << (CURRENT_DATE - 132)) | (1L << (CURRENT_TIMESTAMP - 132)) | (1L << (STRING - 132)) | (1L << (BIGINT_LITERAL - 132)) | (1L << (SMALLINT_LITERAL - 132)) | (1L << (TINYINT_LITERAL - 132)) | (1L << (INTEGER_VALUE - 132)) | (1L << (DECIMAL_VALUE - 132)) | (1L << (DOUBLE_LITERAL - 132)) | (1L << (BIGDECIMAL_LITERAL - 132)) | (1L << (IDENTIFIER - 132)) | (1L << (BACKQUOTED_IDENTIFIER - 132)))) != 0)) {
 				{
-				setState(302);
+				setState(311);
 				parameterValues();
 				}
 			}
 
-			setState(305);
+			setState(314);
 			match(T__1);
-			setState(309);
+			setState(318);
 			_la = _input.LA(1);
 			if (_la==AND) {
 				{
-				setState(306);
+				setState(315);
 				match(AND);
-				setState(307);
+				setState(316);
 				match(WITHASYNC);
-				setState(308);
+				setState(317);
 				asyncOption();
 				}
 			}
@@ -1552,12 +1637,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CreateFlagContext createFlag() throws RecognitionException {
 		CreateFlagContext _localctx = new CreateFlagContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_createFlag);
+		enterRule(_localctx, 28, RULE_createFlag);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(311);
+			setState(320);
 			_la = _input.LA(1);
 			if ( !(_la==INSTALL_ONLY || _la==INSTANTIATE_ONLY) ) {
 			_errHandler.recoverInline(this);
@@ -1601,12 +1686,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final UpgradeFlagContext upgradeFlag() throws RecognitionException {
 		UpgradeFlagContext _localctx = new UpgradeFlagContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_upgradeFlag);
+		enterRule(_localctx, 30, RULE_upgradeFlag);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(313);
+			setState(322);
 			_la = _input.LA(1);
 			if ( !(_la==INSTALL_ONLY || _la==UPGRADE_ONLY) ) {
 			_errHandler.recoverInline(this);
@@ -1651,11 +1736,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AssetContext asset() throws RecognitionException {
 		AssetContext _localctx = new AssetContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_asset);
+		enterRule(_localctx, 32, RULE_asset);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(315);
+			setState(324);
 			identifier();
 			}
 		}
@@ -1694,12 +1779,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final StorageTypeContext storageType() throws RecognitionException {
 		StorageTypeContext _localctx = new StorageTypeContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_storageType);
+		enterRule(_localctx, 34, RULE_storageType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(317);
+			setState(326);
 			_la = _input.LA(1);
 			if ( !(_la==JSON || _la==CSV) ) {
 			_errHandler.recoverInline(this);
@@ -1745,17 +1830,17 @@ public class BlkchnSqlParser extends Parser {
 
 	public final FieldDelimiterContext fieldDelimiter() throws RecognitionException {
 		FieldDelimiterContext _localctx = new FieldDelimiterContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_fieldDelimiter);
+		enterRule(_localctx, 36, RULE_fieldDelimiter);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(319);
+			setState(328);
 			match(FIELDS);
-			setState(320);
+			setState(329);
 			match(DELIMITED);
-			setState(321);
+			setState(330);
 			match(BY);
-			setState(322);
+			setState(331);
 			match(STRING);
 			}
 		}
@@ -1796,17 +1881,17 @@ public class BlkchnSqlParser extends Parser {
 
 	public final RecordDelimiterContext recordDelimiter() throws RecognitionException {
 		RecordDelimiterContext _localctx = new RecordDelimiterContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_recordDelimiter);
+		enterRule(_localctx, 38, RULE_recordDelimiter);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(324);
+			setState(333);
 			match(RECORDS);
-			setState(325);
+			setState(334);
 			match(DELIMITED);
-			setState(326);
+			setState(335);
 			match(BY);
-			setState(327);
+			setState(336);
 			match(STRING);
 			}
 		}
@@ -1850,27 +1935,27 @@ public class BlkchnSqlParser extends Parser {
 
 	public final DeleteFunctionContext deleteFunction() throws RecognitionException {
 		DeleteFunctionContext _localctx = new DeleteFunctionContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_deleteFunction);
+		enterRule(_localctx, 40, RULE_deleteFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(329);
+			setState(338);
 			match(DELETE);
-			setState(330);
+			setState(339);
 			qualifiedName();
-			setState(331);
+			setState(340);
 			match(T__0);
-			setState(333);
+			setState(342);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)) | (1L << (LT - 64)))) != 0) || ((((_la - 132)) & ~0x3f) == 0 && ((1L << (_la - 132)) & ((1L << (MINUS - 132)) | (1L << (DIV - 132)) | (1L << (PERCENTLIT - 132)) | (1L << (OUT - 132)) | (1L << (OF - 132)) | (1L << (FUNCTION - 132)) | (1L << (DATABASE - 132)) | (1L << (DATABASES - 132)) | (1L << (TRUNCATE - 132)) | (1L << (ANALYZE - 132)) | (1L << (COMPUTE - 132)) | (1L << (LIST - 132)) | (1L << (REVOKE - 132)) | (1L << (GRANT - 132)) | (1L << (EXPORT - 132)) | (1L << (IMPORT - 132)) | (1L << (LOAD - 132)) | (1L << (ROLE - 132)) | (1L << (ROLES - 132)) | (1L << (INDEX - 132)) | (1L << (INDEXES - 132)) | (1L << (CURRENT_DATE - 132)) | (1L << (CURRENT_TIMESTAMP - 132)) | (1L << (STRING - 132)) | (1L << (BIGINT_LITERAL - 132)) | (1L << (SMALLINT_LITERAL - 132)) | (1L << (TINYINT_LITERAL - 132)) | (1L << (INTEGER_VALUE - 132)) | (1L << (DECIMAL_VALUE - 132)) | (1L << (DOUBLE_LITERAL - 132)) | (1L << (BIGDECIMAL_LITERAL - 132)) | (1L << (IDENTIFIER - 132)) | (1L << (BACKQUOTED_IDENTIFIER - 132)))) != 0)) {
 				{
-				setState(332);
+				setState(341);
 				parameterValues();
 				}
 			}
 
-			setState(335);
+			setState(344);
 			match(T__1);
 			}
 		}
@@ -1913,21 +1998,21 @@ public class BlkchnSqlParser extends Parser {
 
 	public final DropAssetContext dropAsset() throws RecognitionException {
 		DropAssetContext _localctx = new DropAssetContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_dropAsset);
+		enterRule(_localctx, 42, RULE_dropAsset);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(337);
+			setState(346);
 			match(DROP);
-			setState(338);
+			setState(347);
 			_la = _input.LA(1);
 			if ( !(_la==TABLE || _la==ASSET) ) {
 			_errHandler.recoverInline(this);
 			} else {
 				consume();
 			}
-			setState(339);
+			setState(348);
 			asset();
 			}
 		}
@@ -1965,11 +2050,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ClassNameContext className() throws RecognitionException {
 		ClassNameContext _localctx = new ClassNameContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_className);
+		enterRule(_localctx, 44, RULE_className);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(341);
+			setState(350);
 			match(STRING);
 			}
 		}
@@ -2009,15 +2094,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final VersionContext version() throws RecognitionException {
 		VersionContext _localctx = new VersionContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_version);
+		enterRule(_localctx, 46, RULE_version);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(343);
+			setState(352);
 			match(WITH);
-			setState(344);
+			setState(353);
 			match(VERSION);
-			setState(345);
+			setState(354);
 			match(STRING);
 			}
 		}
@@ -2061,19 +2146,19 @@ public class BlkchnSqlParser extends Parser {
 
 	public final EndorsersFileContext endorsersFile() throws RecognitionException {
 		EndorsersFileContext _localctx = new EndorsersFileContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_endorsersFile);
+		enterRule(_localctx, 48, RULE_endorsersFile);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(347);
+			setState(356);
 			match(WITH);
-			setState(348);
+			setState(357);
 			match(ENDORSEMENT);
-			setState(349);
+			setState(358);
 			match(POLICY);
-			setState(350);
+			setState(359);
 			match(FILE);
-			setState(351);
+			setState(360);
 			policyFile();
 			}
 		}
@@ -2111,11 +2196,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final PolicyFileContext policyFile() throws RecognitionException {
 		PolicyFileContext _localctx = new PolicyFileContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_policyFile);
+		enterRule(_localctx, 50, RULE_policyFile);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(353);
+			setState(362);
 			match(STRING);
 			}
 		}
@@ -2157,15 +2242,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ArgsContext args() throws RecognitionException {
 		ArgsContext _localctx = new ArgsContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_args);
+		enterRule(_localctx, 52, RULE_args);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(355);
+			setState(364);
 			match(WITH);
-			setState(356);
+			setState(365);
 			match(ARGS);
-			setState(357);
+			setState(366);
 			argParamSeq();
 			}
 		}
@@ -2208,26 +2293,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ArgParamSeqContext argParamSeq() throws RecognitionException {
 		ArgParamSeqContext _localctx = new ArgParamSeqContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_argParamSeq);
+		enterRule(_localctx, 54, RULE_argParamSeq);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(359);
+			setState(368);
 			argParam();
-			setState(364);
+			setState(373);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(360);
+				setState(369);
 				match(T__2);
-				setState(361);
+				setState(370);
 				argParam();
 				}
 				}
-				setState(366);
+				setState(375);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2272,9 +2357,9 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ArgParamContext argParam() throws RecognitionException {
 		ArgParamContext _localctx = new ArgParamContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_argParam);
+		enterRule(_localctx, 56, RULE_argParam);
 		try {
-			setState(369);
+			setState(378);
 			switch (_input.LA(1)) {
 			case SELECT:
 			case FROM:
@@ -2399,7 +2484,7 @@ public class BlkchnSqlParser extends Parser {
 			case BACKQUOTED_IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(367);
+				setState(376);
 				constant();
 				}
 				break;
@@ -2408,7 +2493,7 @@ public class BlkchnSqlParser extends Parser {
 			case LT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(368);
+				setState(377);
 				collection();
 				}
 				break;
@@ -2455,22 +2540,22 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CollectionContext collection() throws RecognitionException {
 		CollectionContext _localctx = new CollectionContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_collection);
+		enterRule(_localctx, 58, RULE_collection);
 		try {
-			setState(373);
+			setState(382);
 			switch (_input.LA(1)) {
 			case T__4:
 			case LT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(371);
+				setState(380);
 				list();
 				}
 				break;
 			case T__3:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(372);
+				setState(381);
 				bytes();
 				}
 				break;
@@ -2512,15 +2597,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final BytesContext bytes() throws RecognitionException {
 		BytesContext _localctx = new BytesContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_bytes);
+		enterRule(_localctx, 60, RULE_bytes);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(375);
+			setState(384);
 			match(T__3);
-			setState(376);
+			setState(385);
 			match(STRING);
-			setState(377);
+			setState(386);
 			match(T__1);
 			}
 		}
@@ -2563,32 +2648,32 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ListContext list() throws RecognitionException {
 		ListContext _localctx = new ListContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_list);
+		enterRule(_localctx, 62, RULE_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(380);
+			setState(389);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(379);
+				setState(388);
 				listTypeDec();
 				}
 			}
 
-			setState(382);
+			setState(391);
 			match(T__4);
-			setState(384);
+			setState(393);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)) | (1L << (LT - 64)))) != 0) || ((((_la - 132)) & ~0x3f) == 0 && ((1L << (_la - 132)) & ((1L << (MINUS - 132)) | (1L << (DIV - 132)) | (1L << (PERCENTLIT - 132)) | (1L << (OUT - 132)) | (1L << (OF - 132)) | (1L << (FUNCTION - 132)) | (1L << (DATABASE - 132)) | (1L << (DATABASES - 132)) | (1L << (TRUNCATE - 132)) | (1L << (ANALYZE - 132)) | (1L << (COMPUTE - 132)) | (1L << (LIST - 132)) | (1L << (REVOKE - 132)) | (1L << (GRANT - 132)) | (1L << (EXPORT - 132)) | (1L << (IMPORT - 132)) | (1L << (LOAD - 132)) | (1L << (ROLE - 132)) | (1L << (ROLES - 132)) | (1L << (INDEX - 132)) | (1L << (INDEXES - 132)) | (1L << (CURRENT_DATE - 132)) | (1L << (CURRENT_TIMESTAMP - 132)) | (1L << (STRING - 132)) | (1L << (BIGINT_LITERAL - 132)) | (1L << (SMALLINT_LITERAL - 132)) | (1L << (TINYINT_LITERAL - 132)) | (1L << (INTEGER_VALUE - 132)) | (1L << (DECIMAL_VALUE - 132)) | (1L << (DOUBLE_LITERAL - 132)) | (1L << (BIGDECIMAL_LITERAL - 132)) | (1L << (IDENTIFIER - 132)) | (1L << (BACKQUOTED_IDENTIFIER - 132)))) != 0)) {
 				{
-				setState(383);
+				setState(392);
 				parameterValues();
 				}
 			}
 
-			setState(386);
+			setState(395);
 			match(T__5);
 			}
 		}
@@ -2628,15 +2713,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ListTypeDecContext listTypeDec() throws RecognitionException {
 		ListTypeDecContext _localctx = new ListTypeDecContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_listTypeDec);
+		enterRule(_localctx, 64, RULE_listTypeDec);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(388);
+			setState(397);
 			match(LT);
-			setState(389);
+			setState(398);
 			listType();
-			setState(390);
+			setState(399);
 			match(GT);
 			}
 		}
@@ -2674,11 +2759,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ListTypeContext listType() throws RecognitionException {
 		ListTypeContext _localctx = new ListTypeContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_listType);
+		enterRule(_localctx, 66, RULE_listType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(392);
+			setState(401);
 			match(STRING);
 			}
 		}
@@ -2728,40 +2813,40 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CallFunctionContext callFunction() throws RecognitionException {
 		CallFunctionContext _localctx = new CallFunctionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_callFunction);
+		enterRule(_localctx, 68, RULE_callFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(394);
+			setState(403);
 			match(CALL);
-			setState(395);
+			setState(404);
 			qualifiedName();
-			setState(396);
+			setState(405);
 			match(T__0);
-			setState(398);
+			setState(407);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__4) | (1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)) | (1L << (LT - 64)))) != 0) || ((((_la - 132)) & ~0x3f) == 0 && ((1L << (_la - 132)) & ((1L << (MINUS - 132)) | (1L << (DIV - 132)) | (1L << (PERCENTLIT - 132)) | (1L << (OUT - 132)) | (1L << (OF - 132)) | (1L << (FUNCTION - 132)) | (1L << (DATABASE - 132)) | (1L << (DATABASES - 132)) | (1L << (TRUNCATE - 132)) | (1L << (ANALYZE - 132)) | (1L << (COMPUTE - 132)) | (1L << (LIST - 132)) | (1L << (REVOKE - 132)) | (1L << (GRANT - 132)) | (1L << (EXPORT - 132)) | (1L << (IMPORT - 132)) | (1L << (LOAD - 132)) | (1L << (ROLE - 132)) | (1L << (ROLES - 132)) | (1L << (INDEX - 132)) | (1L << (INDEXES - 132)) | (1L << (CURRENT_DATE - 132)) | (1L << (CURRENT_TIMESTAMP - 132)) | (1L << (STRING - 132)) | (1L << (BIGINT_LITERAL - 132)) | (1L << (SMALLINT_LITERAL - 132)) | (1L << (TINYINT_LITERAL - 132)) | (1L << (INTEGER_VALUE - 132)) | (1L << (DECIMAL_VALUE - 132)) | (1L << (DOUBLE_LITERAL - 132)) | (1L << (BIGDECIMAL_LITERAL - 132)) | (1L << (IDENTIFIER - 132)) | (1L << (BACKQUOTED_IDENTIFIER - 132)))) != 0)) {
 				{
-				setState(397);
+				setState(406);
 				parameterValues();
 				}
 			}
 
-			setState(400);
+			setState(409);
 			match(T__1);
-			setState(403);
+			setState(412);
 			switch (_input.LA(1)) {
 			case USE:
 				{
-				setState(401);
+				setState(410);
 				smartFunction();
 				}
 				break;
 			case EOF:
 			case AS:
 				{
-				setState(402);
+				setState(411);
 				assetFunction();
 				}
 				break;
@@ -2819,37 +2904,37 @@ public class BlkchnSqlParser extends Parser {
 
 	public final SmartFunctionContext smartFunction() throws RecognitionException {
 		SmartFunctionContext _localctx = new SmartFunctionContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_smartFunction);
+		enterRule(_localctx, 70, RULE_smartFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(405);
+			setState(414);
 			match(USE);
-			setState(406);
+			setState(415);
 			classOption();
-			setState(407);
+			setState(416);
 			match(WITH);
-			setState(408);
+			setState(417);
 			addressOption();
-			setState(412);
+			setState(421);
 			_la = _input.LA(1);
 			if (_la==AND) {
 				{
-				setState(409);
+				setState(418);
 				match(AND);
-				setState(410);
+				setState(419);
 				match(WITHASYNC);
-				setState(411);
+				setState(420);
 				asyncOption();
 				}
 			}
 
-			setState(415);
+			setState(424);
 			_la = _input.LA(1);
 			if (_la==T__6) {
 				{
-				setState(414);
+				setState(423);
 				checkIsValid();
 				}
 			}
@@ -2895,25 +2980,25 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AssetFunctionContext assetFunction() throws RecognitionException {
 		AssetFunctionContext _localctx = new AssetFunctionContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_assetFunction);
+		enterRule(_localctx, 72, RULE_assetFunction);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(420);
+			setState(429);
 			_la = _input.LA(1);
 			if (_la==AS) {
 				{
-				setState(417);
+				setState(426);
 				match(AS);
-				setState(418);
+				setState(427);
 				_la = _input.LA(1);
 				if ( !(_la==TABLE || _la==ASSET) ) {
 				_errHandler.recoverInline(this);
 				} else {
 					consume();
 				}
-				setState(419);
+				setState(428);
 				asset();
 				}
 			}
@@ -2953,11 +3038,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final CheckIsValidContext checkIsValid() throws RecognitionException {
 		CheckIsValidContext _localctx = new CheckIsValidContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_checkIsValid);
+		enterRule(_localctx, 74, RULE_checkIsValid);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(422);
+			setState(431);
 			match(T__6);
 			}
 		}
@@ -2998,13 +3083,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ClassOptionContext classOption() throws RecognitionException {
 		ClassOptionContext _localctx = new ClassOptionContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_classOption);
+		enterRule(_localctx, 76, RULE_classOption);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(424);
+			setState(433);
 			match(SMARTCONTRACT);
-			setState(425);
+			setState(434);
 			className();
 			}
 		}
@@ -3045,13 +3130,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AddressOptionContext addressOption() throws RecognitionException {
 		AddressOptionContext _localctx = new AddressOptionContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_addressOption);
+		enterRule(_localctx, 78, RULE_addressOption);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(427);
+			setState(436);
 			match(ADDRESS);
-			setState(428);
+			setState(437);
 			addressVlaue();
 			}
 		}
@@ -3089,11 +3174,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AddressVlaueContext addressVlaue() throws RecognitionException {
 		AddressVlaueContext _localctx = new AddressVlaueContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_addressVlaue);
+		enterRule(_localctx, 80, RULE_addressVlaue);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(430);
+			setState(439);
 			match(STRING);
 			}
 		}
@@ -3133,11 +3218,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final AsyncOptionContext asyncOption() throws RecognitionException {
 		AsyncOptionContext _localctx = new AsyncOptionContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_asyncOption);
+		enterRule(_localctx, 82, RULE_asyncOption);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(432);
+			setState(441);
 			booleanValue();
 			}
 		}
@@ -3177,11 +3262,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ParameterValuesContext parameterValues() throws RecognitionException {
 		ParameterValuesContext _localctx = new ParameterValuesContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_parameterValues);
+		enterRule(_localctx, 84, RULE_parameterValues);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(434);
+			setState(443);
 			argParamSeq();
 			}
 		}
@@ -3232,14 +3317,14 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QueryContext query() throws RecognitionException {
 		QueryContext _localctx = new QueryContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_query);
+		enterRule(_localctx, 86, RULE_query);
 		try {
 			_localctx = new SimpleQueryContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(436);
+			setState(445);
 			queryTerm(0);
-			setState(437);
+			setState(446);
 			queryOrganization();
 			}
 		}
@@ -3282,25 +3367,25 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QueryOrganizationContext queryOrganization() throws RecognitionException {
 		QueryOrganizationContext _localctx = new QueryOrganizationContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_queryOrganization);
+		enterRule(_localctx, 88, RULE_queryOrganization);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(440);
+			setState(449);
 			_la = _input.LA(1);
 			if (_la==ORDER) {
 				{
-				setState(439);
+				setState(448);
 				orderByClause();
 				}
 			}
 
-			setState(443);
+			setState(452);
 			_la = _input.LA(1);
 			if (_la==LIMIT) {
 				{
-				setState(442);
+				setState(451);
 				limitClause();
 				}
 			}
@@ -3350,32 +3435,32 @@ public class BlkchnSqlParser extends Parser {
 
 	public final OrderByClauseContext orderByClause() throws RecognitionException {
 		OrderByClauseContext _localctx = new OrderByClauseContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_orderByClause);
+		enterRule(_localctx, 90, RULE_orderByClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(445);
+			setState(454);
 			match(ORDER);
-			setState(446);
+			setState(455);
 			match(BY);
-			setState(447);
+			setState(456);
 			((OrderByClauseContext)_localctx).sortItem = sortItem();
 			((OrderByClauseContext)_localctx).order.add(((OrderByClauseContext)_localctx).sortItem);
-			setState(452);
+			setState(461);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(448);
+				setState(457);
 				match(T__2);
-				setState(449);
+				setState(458);
 				((OrderByClauseContext)_localctx).sortItem = sortItem();
 				((OrderByClauseContext)_localctx).order.add(((OrderByClauseContext)_localctx).sortItem);
 				}
 				}
-				setState(454);
+				setState(463);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3419,14 +3504,14 @@ public class BlkchnSqlParser extends Parser {
 
 	public final LimitClauseContext limitClause() throws RecognitionException {
 		LimitClauseContext _localctx = new LimitClauseContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_limitClause);
+		enterRule(_localctx, 92, RULE_limitClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(455);
+			setState(464);
 			match(LIMIT);
-			setState(456);
+			setState(465);
 			((LimitClauseContext)_localctx).limit = expression();
 			}
 			}
@@ -3514,8 +3599,8 @@ public class BlkchnSqlParser extends Parser {
 		int _parentState = getState();
 		QueryTermContext _localctx = new QueryTermContext(_ctx, _parentState);
 		QueryTermContext _prevctx = _localctx;
-		int _startState = 92;
-		enterRecursionRule(_localctx, 92, RULE_queryTerm, _p);
+		int _startState = 94;
+		enterRecursionRule(_localctx, 94, RULE_queryTerm, _p);
 		int _la;
 		try {
 			int _alt;
@@ -3526,13 +3611,13 @@ public class BlkchnSqlParser extends Parser {
 			_ctx = _localctx;
 			_prevctx = _localctx;
 
-			setState(459);
+			setState(468);
 			queryPrimary();
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(469);
+			setState(478);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -3542,9 +3627,9 @@ public class BlkchnSqlParser extends Parser {
 					_localctx = new SetOperationContext(new QueryTermContext(_parentctx, _parentState));
 					((SetOperationContext)_localctx).left = _prevctx;
 					pushNewRecursionContext(_localctx, _startState, RULE_queryTerm);
-					setState(461);
+					setState(470);
 					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-					setState(462);
+					setState(471);
 					((SetOperationContext)_localctx).operator = _input.LT(1);
 					_la = _input.LA(1);
 					if ( !(((((_la - 82)) & ~0x3f) == 0 && ((1L << (_la - 82)) & ((1L << (UNION - 82)) | (1L << (EXCEPT - 82)) | (1L << (SETMINUS - 82)) | (1L << (INTERSECT - 82)))) != 0)) ) {
@@ -3552,23 +3637,23 @@ public class BlkchnSqlParser extends Parser {
 					} else {
 						consume();
 					}
-					setState(464);
+					setState(473);
 					_la = _input.LA(1);
 					if (_la==ALL || _la==DISTINCT) {
 						{
-						setState(463);
+						setState(472);
 						setQuantifier();
 						}
 					}
 
-					setState(466);
+					setState(475);
 					((SetOperationContext)_localctx).right = queryTerm(2);
 					}
 					} 
 				}
-				setState(471);
+				setState(480);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,33,_ctx);
 			}
 			}
 		}
@@ -3635,15 +3720,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QueryPrimaryContext queryPrimary() throws RecognitionException {
 		QueryPrimaryContext _localctx = new QueryPrimaryContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_queryPrimary);
+		enterRule(_localctx, 96, RULE_queryPrimary);
 		try {
-			setState(477);
+			setState(486);
 			switch (_input.LA(1)) {
 			case SELECT:
 				_localctx = new QueryPrimaryDefaultContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(472);
+				setState(481);
 				querySpecification();
 				}
 				break;
@@ -3651,11 +3736,11 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SubqueryContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(473);
+				setState(482);
 				match(T__0);
-				setState(474);
+				setState(483);
 				query();
-				setState(475);
+				setState(484);
 				match(T__1);
 				}
 				break;
@@ -3706,18 +3791,18 @@ public class BlkchnSqlParser extends Parser {
 
 	public final SortItemContext sortItem() throws RecognitionException {
 		SortItemContext _localctx = new SortItemContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_sortItem);
+		enterRule(_localctx, 98, RULE_sortItem);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(479);
+			setState(488);
 			expression();
-			setState(481);
+			setState(490);
 			_la = _input.LA(1);
 			if (_la==ASC || _la==DESC) {
 				{
-				setState(480);
+				setState(489);
 				((SortItemContext)_localctx).ordering = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==ASC || _la==DESC) ) {
@@ -3728,13 +3813,13 @@ public class BlkchnSqlParser extends Parser {
 				}
 			}
 
-			setState(485);
+			setState(494);
 			_la = _input.LA(1);
 			if (_la==NULLS) {
 				{
-				setState(483);
+				setState(492);
 				match(NULLS);
-				setState(484);
+				setState(493);
 				((SortItemContext)_localctx).nullOrder = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==FIRST || _la==LAST) ) {
@@ -3795,37 +3880,37 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QuerySpecificationContext querySpecification() throws RecognitionException {
 		QuerySpecificationContext _localctx = new QuerySpecificationContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_querySpecification);
+		enterRule(_localctx, 100, RULE_querySpecification);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(487);
+			setState(496);
 			selectClause();
-			setState(488);
+			setState(497);
 			fromClause();
-			setState(490);
-			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			setState(499);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
 				{
-				setState(489);
+				setState(498);
 				whereClause();
 				}
 				break;
 			}
-			setState(493);
-			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			setState(502);
+			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
 			case 1:
 				{
-				setState(492);
+				setState(501);
 				groupByClause();
 				}
 				break;
 			}
-			setState(496);
-			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+			setState(505);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				{
-				setState(495);
+				setState(504);
 				havingClause();
 				}
 				break;
@@ -3872,22 +3957,22 @@ public class BlkchnSqlParser extends Parser {
 
 	public final SelectClauseContext selectClause() throws RecognitionException {
 		SelectClauseContext _localctx = new SelectClauseContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_selectClause);
+		enterRule(_localctx, 102, RULE_selectClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(498);
+			setState(507);
 			match(SELECT);
-			setState(500);
-			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			setState(509);
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 			case 1:
 				{
-				setState(499);
+				setState(508);
 				setQuantifier();
 				}
 				break;
 			}
-			setState(502);
+			setState(511);
 			namedExpressionSeq();
 			}
 		}
@@ -3928,13 +4013,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public final WhereClauseContext whereClause() throws RecognitionException {
 		WhereClauseContext _localctx = new WhereClauseContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_whereClause);
+		enterRule(_localctx, 104, RULE_whereClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(504);
+			setState(513);
 			match(WHERE);
-			setState(505);
+			setState(514);
 			booleanExpression(0);
 			}
 		}
@@ -3975,13 +4060,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public final HavingClauseContext havingClause() throws RecognitionException {
 		HavingClauseContext _localctx = new HavingClauseContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_havingClause);
+		enterRule(_localctx, 106, RULE_havingClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(507);
+			setState(516);
 			match(HAVING);
-			setState(508);
+			setState(517);
 			booleanExpression(0);
 			}
 		}
@@ -4025,32 +4110,32 @@ public class BlkchnSqlParser extends Parser {
 
 	public final FromClauseContext fromClause() throws RecognitionException {
 		FromClauseContext _localctx = new FromClauseContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_fromClause);
+		enterRule(_localctx, 108, RULE_fromClause);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(510);
+			setState(519);
 			match(FROM);
-			setState(511);
+			setState(520);
 			relation();
-			setState(516);
+			setState(525);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(512);
+					setState(521);
 					match(T__2);
-					setState(513);
+					setState(522);
 					relation();
 					}
 					} 
 				}
-				setState(518);
+				setState(527);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			}
 			}
 		}
@@ -4097,36 +4182,36 @@ public class BlkchnSqlParser extends Parser {
 
 	public final GroupByClauseContext groupByClause() throws RecognitionException {
 		GroupByClauseContext _localctx = new GroupByClauseContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_groupByClause);
+		enterRule(_localctx, 110, RULE_groupByClause);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(519);
+			setState(528);
 			match(GROUP);
-			setState(520);
+			setState(529);
 			match(BY);
-			setState(521);
+			setState(530);
 			((GroupByClauseContext)_localctx).expression = expression();
 			((GroupByClauseContext)_localctx).groupingExpressions.add(((GroupByClauseContext)_localctx).expression);
-			setState(526);
+			setState(535);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(522);
+					setState(531);
 					match(T__2);
-					setState(523);
+					setState(532);
 					((GroupByClauseContext)_localctx).expression = expression();
 					((GroupByClauseContext)_localctx).groupingExpressions.add(((GroupByClauseContext)_localctx).expression);
 					}
 					} 
 				}
-				setState(528);
+				setState(537);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
 			}
 			}
 		}
@@ -4165,12 +4250,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final SetQuantifierContext setQuantifier() throws RecognitionException {
 		SetQuantifierContext _localctx = new SetQuantifierContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_setQuantifier);
+		enterRule(_localctx, 112, RULE_setQuantifier);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(529);
+			setState(538);
 			_la = _input.LA(1);
 			if ( !(_la==ALL || _la==DISTINCT) ) {
 			_errHandler.recoverInline(this);
@@ -4221,28 +4306,28 @@ public class BlkchnSqlParser extends Parser {
 
 	public final RelationContext relation() throws RecognitionException {
 		RelationContext _localctx = new RelationContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_relation);
+		enterRule(_localctx, 114, RULE_relation);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(531);
+			setState(540);
 			relationPrimary();
-			setState(535);
+			setState(544);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(532);
+					setState(541);
 					joinRelation();
 					}
 					} 
 				}
-				setState(537);
+				setState(546);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 			}
 			}
 		}
@@ -4290,23 +4375,23 @@ public class BlkchnSqlParser extends Parser {
 
 	public final JoinRelationContext joinRelation() throws RecognitionException {
 		JoinRelationContext _localctx = new JoinRelationContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_joinRelation);
+		enterRule(_localctx, 116, RULE_joinRelation);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(538);
+			setState(547);
 			joinType();
 			}
-			setState(539);
+			setState(548);
 			match(JOIN);
-			setState(540);
+			setState(549);
 			((JoinRelationContext)_localctx).right = relationPrimary();
-			setState(542);
-			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+			setState(551);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
 			case 1:
 				{
-				setState(541);
+				setState(550);
 				joinCriteria();
 				}
 				break;
@@ -4352,20 +4437,20 @@ public class BlkchnSqlParser extends Parser {
 
 	public final JoinTypeContext joinType() throws RecognitionException {
 		JoinTypeContext _localctx = new JoinTypeContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_joinType);
+		enterRule(_localctx, 118, RULE_joinType);
 		int _la;
 		try {
-			setState(560);
+			setState(569);
 			switch (_input.LA(1)) {
 			case JOIN:
 			case INNER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(545);
+				setState(554);
 				_la = _input.LA(1);
 				if (_la==INNER) {
 					{
-					setState(544);
+					setState(553);
 					match(INNER);
 					}
 				}
@@ -4375,20 +4460,20 @@ public class BlkchnSqlParser extends Parser {
 			case CROSS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(547);
+				setState(556);
 				match(CROSS);
 				}
 				break;
 			case LEFT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(548);
+				setState(557);
 				match(LEFT);
-				setState(550);
+				setState(559);
 				_la = _input.LA(1);
 				if (_la==OUTER) {
 					{
-					setState(549);
+					setState(558);
 					match(OUTER);
 					}
 				}
@@ -4398,13 +4483,13 @@ public class BlkchnSqlParser extends Parser {
 			case RIGHT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(552);
+				setState(561);
 				match(RIGHT);
-				setState(554);
+				setState(563);
 				_la = _input.LA(1);
 				if (_la==OUTER) {
 					{
-					setState(553);
+					setState(562);
 					match(OUTER);
 					}
 				}
@@ -4414,13 +4499,13 @@ public class BlkchnSqlParser extends Parser {
 			case FULL:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(556);
+				setState(565);
 				match(FULL);
-				setState(558);
+				setState(567);
 				_la = _input.LA(1);
 				if (_la==OUTER) {
 					{
-					setState(557);
+					setState(566);
 					match(OUTER);
 					}
 				}
@@ -4468,13 +4553,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public final JoinCriteriaContext joinCriteria() throws RecognitionException {
 		JoinCriteriaContext _localctx = new JoinCriteriaContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_joinCriteria);
+		enterRule(_localctx, 120, RULE_joinCriteria);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(562);
+			setState(571);
 			match(ON);
-			setState(563);
+			setState(572);
 			booleanExpression(0);
 			}
 		}
@@ -4514,15 +4599,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IdentifierListContext identifierList() throws RecognitionException {
 		IdentifierListContext _localctx = new IdentifierListContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_identifierList);
+		enterRule(_localctx, 122, RULE_identifierList);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(565);
+			setState(574);
 			match(T__0);
-			setState(566);
+			setState(575);
 			identifierSeq();
-			setState(567);
+			setState(576);
 			match(T__1);
 			}
 		}
@@ -4565,26 +4650,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IdentifierSeqContext identifierSeq() throws RecognitionException {
 		IdentifierSeqContext _localctx = new IdentifierSeqContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_identifierSeq);
+		enterRule(_localctx, 124, RULE_identifierSeq);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(569);
+			setState(578);
 			identifier();
-			setState(574);
+			setState(583);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(570);
+				setState(579);
 				match(T__2);
-				setState(571);
+				setState(580);
 				identifier();
 				}
 				}
-				setState(576);
+				setState(585);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4703,30 +4788,30 @@ public class BlkchnSqlParser extends Parser {
 
 	public final RelationPrimaryContext relationPrimary() throws RecognitionException {
 		RelationPrimaryContext _localctx = new RelationPrimaryContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_relationPrimary);
+		enterRule(_localctx, 126, RULE_relationPrimary);
 		try {
-			setState(603);
-			switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
+			setState(612);
+			switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
 			case 1:
 				_localctx = new TableNameContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(577);
+				setState(586);
 				tableIdentifier();
-				setState(582);
-				switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
+				setState(591);
+				switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 				case 1:
 					{
-					setState(579);
-					switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+					setState(588);
+					switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
 					case 1:
 						{
-						setState(578);
+						setState(587);
 						match(AS);
 						}
 						break;
 					}
-					setState(581);
+					setState(590);
 					strictIdentifier();
 					}
 					break;
@@ -4737,26 +4822,26 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new AliasedQueryContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(584);
+				setState(593);
 				match(T__0);
-				setState(585);
+				setState(594);
 				query();
-				setState(586);
+				setState(595);
 				match(T__1);
-				setState(591);
-				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+				setState(600);
+				switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
 				case 1:
 					{
-					setState(588);
-					switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+					setState(597);
+					switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
 					case 1:
 						{
-						setState(587);
+						setState(596);
 						match(AS);
 						}
 						break;
 					}
-					setState(590);
+					setState(599);
 					strictIdentifier();
 					}
 					break;
@@ -4767,7 +4852,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new InlineTableDefault2Context(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(593);
+				setState(602);
 				inlineTable();
 				}
 				break;
@@ -4775,26 +4860,26 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new AliasedRelationContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(594);
+				setState(603);
 				match(T__0);
-				setState(595);
+				setState(604);
 				relation();
-				setState(596);
+				setState(605);
 				match(T__1);
-				setState(601);
-				switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+				setState(610);
+				switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
 				case 1:
 					{
-					setState(598);
-					switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+					setState(607);
+					switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
 					case 1:
 						{
-						setState(597);
+						setState(606);
 						match(AS);
 						}
 						break;
 					}
-					setState(600);
+					setState(609);
 					strictIdentifier();
 					}
 					break;
@@ -4850,53 +4935,53 @@ public class BlkchnSqlParser extends Parser {
 
 	public final InlineTableContext inlineTable() throws RecognitionException {
 		InlineTableContext _localctx = new InlineTableContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_inlineTable);
+		enterRule(_localctx, 128, RULE_inlineTable);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(605);
+			setState(614);
 			match(VALUES);
-			setState(606);
+			setState(615);
 			expression();
-			setState(611);
+			setState(620);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(607);
+					setState(616);
 					match(T__2);
-					setState(608);
+					setState(617);
 					expression();
 					}
 					} 
 				}
-				setState(613);
+				setState(622);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 			}
-			setState(621);
-			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+			setState(630);
+			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
 			case 1:
 				{
-				setState(615);
-				switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+				setState(624);
+				switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 				case 1:
 					{
-					setState(614);
+					setState(623);
 					match(AS);
 					}
 					break;
 				}
-				setState(617);
+				setState(626);
 				identifier();
-				setState(619);
-				switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+				setState(628);
+				switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 				case 1:
 					{
-					setState(618);
+					setState(627);
 					identifierList();
 					}
 					break;
@@ -4947,22 +5032,22 @@ public class BlkchnSqlParser extends Parser {
 
 	public final TableIdentifierContext tableIdentifier() throws RecognitionException {
 		TableIdentifierContext _localctx = new TableIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_tableIdentifier);
+		enterRule(_localctx, 130, RULE_tableIdentifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(626);
-			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+			setState(635);
+			switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
 			case 1:
 				{
-				setState(623);
+				setState(632);
 				((TableIdentifierContext)_localctx).db = identifier();
-				setState(624);
+				setState(633);
 				match(T__7);
 				}
 				break;
 			}
-			setState(628);
+			setState(637);
 			((TableIdentifierContext)_localctx).table = identifier();
 			}
 		}
@@ -5009,26 +5094,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final NamedExpressionContext namedExpression() throws RecognitionException {
 		NamedExpressionContext _localctx = new NamedExpressionContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_namedExpression);
+		enterRule(_localctx, 132, RULE_namedExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(630);
+			setState(639);
 			expression();
-			setState(638);
-			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
+			setState(647);
+			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
 			case 1:
 				{
-				setState(632);
-				switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+				setState(641);
+				switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
 				case 1:
 					{
-					setState(631);
+					setState(640);
 					match(AS);
 					}
 					break;
 				}
-				setState(636);
+				setState(645);
 				switch (_input.LA(1)) {
 				case SELECT:
 				case FROM:
@@ -5143,13 +5228,13 @@ public class BlkchnSqlParser extends Parser {
 				case IDENTIFIER:
 				case BACKQUOTED_IDENTIFIER:
 					{
-					setState(634);
+					setState(643);
 					identifier();
 					}
 					break;
 				case T__0:
 					{
-					setState(635);
+					setState(644);
 					identifierList();
 					}
 					break;
@@ -5200,26 +5285,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final NamedExpressionSeqContext namedExpressionSeq() throws RecognitionException {
 		NamedExpressionSeqContext _localctx = new NamedExpressionSeqContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_namedExpressionSeq);
+		enterRule(_localctx, 134, RULE_namedExpressionSeq);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(640);
+			setState(649);
 			namedExpression();
-			setState(645);
+			setState(654);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(641);
+				setState(650);
 				match(T__2);
-				setState(642);
+				setState(651);
 				namedExpression();
 				}
 				}
-				setState(647);
+				setState(656);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5261,11 +5346,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ExpressionContext expression() throws RecognitionException {
 		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_expression);
+		enterRule(_localctx, 136, RULE_expression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(648);
+			setState(657);
 			booleanExpression(0);
 			}
 		}
@@ -5367,23 +5452,23 @@ public class BlkchnSqlParser extends Parser {
 		int _parentState = getState();
 		BooleanExpressionContext _localctx = new BooleanExpressionContext(_ctx, _parentState);
 		BooleanExpressionContext _prevctx = _localctx;
-		int _startState = 136;
-		enterRecursionRule(_localctx, 136, RULE_booleanExpression, _p);
+		int _startState = 138;
+		enterRecursionRule(_localctx, 138, RULE_booleanExpression, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(654);
-			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
+			setState(663);
+			switch ( getInterpreter().adaptivePredict(_input,67,_ctx) ) {
 			case 1:
 				{
 				_localctx = new LogicalNotContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(651);
+				setState(660);
 				match(NOT);
-				setState(652);
+				setState(661);
 				booleanExpression(4);
 				}
 				break;
@@ -5392,32 +5477,32 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new BooleanDefaultContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(653);
+				setState(662);
 				predicated();
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(664);
+			setState(673);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(662);
-					switch ( getInterpreter().adaptivePredict(_input,67,_ctx) ) {
+					setState(671);
+					switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
 					case 1:
 						{
 						_localctx = new LogicalBinaryContext(new BooleanExpressionContext(_parentctx, _parentState));
 						((LogicalBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_booleanExpression);
-						setState(656);
+						setState(665);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(657);
+						setState(666);
 						((LogicalBinaryContext)_localctx).operator = match(AND);
-						setState(658);
+						setState(667);
 						((LogicalBinaryContext)_localctx).right = booleanExpression(3);
 						}
 						break;
@@ -5426,20 +5511,20 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new LogicalBinaryContext(new BooleanExpressionContext(_parentctx, _parentState));
 						((LogicalBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_booleanExpression);
-						setState(659);
+						setState(668);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(660);
+						setState(669);
 						((LogicalBinaryContext)_localctx).operator = match(OR);
-						setState(661);
+						setState(670);
 						((LogicalBinaryContext)_localctx).right = booleanExpression(2);
 						}
 						break;
 					}
 					} 
 				}
-				setState(666);
+				setState(675);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
 			}
 			}
 		}
@@ -5482,17 +5567,17 @@ public class BlkchnSqlParser extends Parser {
 
 	public final PredicatedContext predicated() throws RecognitionException {
 		PredicatedContext _localctx = new PredicatedContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_predicated);
+		enterRule(_localctx, 140, RULE_predicated);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(667);
+			setState(676);
 			valueExpression(0);
-			setState(669);
-			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+			setState(678);
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				{
-				setState(668);
+				setState(677);
 				predicate();
 				}
 				break;
@@ -5643,31 +5728,31 @@ public class BlkchnSqlParser extends Parser {
 
 	public final PredicateContext predicate() throws RecognitionException {
 		PredicateContext _localctx = new PredicateContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_predicate);
+		enterRule(_localctx, 142, RULE_predicate);
 		int _la;
 		try {
-			setState(712);
-			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+			setState(721);
+			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
 			case 1:
 				_localctx = new NotBetweenContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(672);
+				setState(681);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(671);
+					setState(680);
 					match(NOT);
 					}
 				}
 
-				setState(674);
+				setState(683);
 				((NotBetweenContext)_localctx).kind = match(BETWEEN);
-				setState(675);
+				setState(684);
 				((NotBetweenContext)_localctx).lower = valueExpression(0);
-				setState(676);
+				setState(685);
 				match(AND);
-				setState(677);
+				setState(686);
 				((NotBetweenContext)_localctx).upper = valueExpression(0);
 				}
 				break;
@@ -5675,38 +5760,38 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new NotInContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(680);
+				setState(689);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(679);
+					setState(688);
 					match(NOT);
 					}
 				}
 
-				setState(682);
+				setState(691);
 				((NotInContext)_localctx).kind = match(IN);
-				setState(683);
+				setState(692);
 				match(T__0);
-				setState(684);
+				setState(693);
 				expression();
-				setState(689);
+				setState(698);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__2) {
 					{
 					{
-					setState(685);
+					setState(694);
 					match(T__2);
-					setState(686);
+					setState(695);
 					expression();
 					}
 					}
-					setState(691);
+					setState(700);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(692);
+				setState(701);
 				match(T__1);
 				}
 				break;
@@ -5714,22 +5799,22 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new NotInSubQueryContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(695);
+				setState(704);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(694);
+					setState(703);
 					match(NOT);
 					}
 				}
 
-				setState(697);
+				setState(706);
 				((NotInSubQueryContext)_localctx).kind = match(IN);
-				setState(698);
+				setState(707);
 				match(T__0);
-				setState(699);
+				setState(708);
 				query();
-				setState(700);
+				setState(709);
 				match(T__1);
 				}
 				break;
@@ -5737,16 +5822,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new NotLikeContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(703);
+				setState(712);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(702);
+					setState(711);
 					match(NOT);
 					}
 				}
 
-				setState(705);
+				setState(714);
 				((NotLikeContext)_localctx).kind = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==LIKE || _la==RLIKE) ) {
@@ -5754,7 +5839,7 @@ public class BlkchnSqlParser extends Parser {
 				} else {
 					consume();
 				}
-				setState(706);
+				setState(715);
 				((NotLikeContext)_localctx).pattern = valueExpression(0);
 				}
 				break;
@@ -5762,18 +5847,18 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new IsNotNULLContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(707);
+				setState(716);
 				match(IS);
-				setState(709);
+				setState(718);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(708);
+					setState(717);
 					match(NOT);
 					}
 				}
 
-				setState(711);
+				setState(720);
 				((IsNotNULLContext)_localctx).kind = match(NULL);
 				}
 				break;
@@ -5954,14 +6039,14 @@ public class BlkchnSqlParser extends Parser {
 		int _parentState = getState();
 		ValueExpressionContext _localctx = new ValueExpressionContext(_ctx, _parentState);
 		ValueExpressionContext _prevctx = _localctx;
-		int _startState = 142;
-		enterRecursionRule(_localctx, 142, RULE_valueExpression, _p);
+		int _startState = 144;
+		enterRecursionRule(_localctx, 144, RULE_valueExpression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(719);
+			setState(728);
 			switch (_input.LA(1)) {
 			case PLUS:
 			case TILDE:
@@ -5970,7 +6055,7 @@ public class BlkchnSqlParser extends Parser {
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(715);
+				setState(724);
 				((ArithmeticUnaryContext)_localctx).operator = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==PLUS || _la==TILDE) ) {
@@ -5978,7 +6063,7 @@ public class BlkchnSqlParser extends Parser {
 				} else {
 					consume();
 				}
-				setState(716);
+				setState(725);
 				valueExpression(9);
 				}
 				break;
@@ -6109,7 +6194,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ValueExpressionDefaultContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(717);
+				setState(726);
 				primaryExpression(0);
 				}
 				break;
@@ -6118,7 +6203,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new PlaceholderContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(718);
+				setState(727);
 				questionMark();
 				}
 				break;
@@ -6126,24 +6211,24 @@ public class BlkchnSqlParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(744);
+			setState(753);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(742);
-					switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
+					setState(751);
+					switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ArithmeticBinaryContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ArithmeticBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(721);
+						setState(730);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(722);
+						setState(731);
 						((ArithmeticBinaryContext)_localctx).operator = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(((((_la - 133)) & ~0x3f) == 0 && ((1L << (_la - 133)) & ((1L << (ASTERISK - 133)) | (1L << (SLASH - 133)) | (1L << (PERCENT - 133)) | (1L << (DIV - 133)))) != 0)) ) {
@@ -6151,7 +6236,7 @@ public class BlkchnSqlParser extends Parser {
 						} else {
 							consume();
 						}
-						setState(723);
+						setState(732);
 						((ArithmeticBinaryContext)_localctx).right = valueExpression(9);
 						}
 						break;
@@ -6160,9 +6245,9 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new ArithmeticBinaryContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ArithmeticBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(724);
+						setState(733);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(725);
+						setState(734);
 						((ArithmeticBinaryContext)_localctx).operator = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==PLUS || _la==MINUS) ) {
@@ -6170,7 +6255,7 @@ public class BlkchnSqlParser extends Parser {
 						} else {
 							consume();
 						}
-						setState(726);
+						setState(735);
 						((ArithmeticBinaryContext)_localctx).right = valueExpression(8);
 						}
 						break;
@@ -6179,11 +6264,11 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new ArithmeticBinaryContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ArithmeticBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(727);
+						setState(736);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(728);
+						setState(737);
 						((ArithmeticBinaryContext)_localctx).operator = match(AMPERSAND);
-						setState(729);
+						setState(738);
 						((ArithmeticBinaryContext)_localctx).right = valueExpression(7);
 						}
 						break;
@@ -6192,11 +6277,11 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new ArithmeticBinaryContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ArithmeticBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(730);
+						setState(739);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(731);
+						setState(740);
 						((ArithmeticBinaryContext)_localctx).operator = match(HAT);
-						setState(732);
+						setState(741);
 						((ArithmeticBinaryContext)_localctx).right = valueExpression(6);
 						}
 						break;
@@ -6205,11 +6290,11 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new ArithmeticBinaryContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ArithmeticBinaryContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(733);
+						setState(742);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(734);
+						setState(743);
 						((ArithmeticBinaryContext)_localctx).operator = match(PIPE);
-						setState(735);
+						setState(744);
 						((ArithmeticBinaryContext)_localctx).right = valueExpression(5);
 						}
 						break;
@@ -6218,11 +6303,11 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new ComparisonContext(new ValueExpressionContext(_parentctx, _parentState));
 						((ComparisonContext)_localctx).left = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(736);
+						setState(745);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(737);
+						setState(746);
 						comparisonOperator();
-						setState(738);
+						setState(747);
 						((ComparisonContext)_localctx).right = valueExpression(4);
 						}
 						break;
@@ -6230,18 +6315,18 @@ public class BlkchnSqlParser extends Parser {
 						{
 						_localctx = new PredicateExpressionContext(new ValueExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_valueExpression);
-						setState(740);
+						setState(749);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(741);
+						setState(750);
 						predicate();
 						}
 						break;
 					}
 					} 
 				}
-				setState(746);
+				setState(755);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,79,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 			}
 			}
 		}
@@ -6279,11 +6364,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QuestionMarkContext questionMark() throws RecognitionException {
 		QuestionMarkContext _localctx = new QuestionMarkContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_questionMark);
+		enterRule(_localctx, 146, RULE_questionMark);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(747);
+			setState(756);
 			match(QUESTIONMARK);
 			}
 		}
@@ -6662,22 +6747,22 @@ public class BlkchnSqlParser extends Parser {
 		int _parentState = getState();
 		PrimaryExpressionContext _localctx = new PrimaryExpressionContext(_ctx, _parentState);
 		PrimaryExpressionContext _prevctx = _localctx;
-		int _startState = 146;
-		enterRecursionRule(_localctx, 146, RULE_primaryExpression, _p);
+		int _startState = 148;
+		enterRecursionRule(_localctx, 148, RULE_primaryExpression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(843);
-			switch ( getInterpreter().adaptivePredict(_input,90,_ctx) ) {
+			setState(852);
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 			case 1:
 				{
 				_localctx = new TimeFunctionCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(750);
+				setState(759);
 				((TimeFunctionCallContext)_localctx).name = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==CURRENT_DATE || _la==CURRENT_TIMESTAMP) ) {
@@ -6692,34 +6777,34 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SearchedCaseContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(751);
+				setState(760);
 				match(CASE);
-				setState(753); 
+				setState(762); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(752);
+					setState(761);
 					whenClause();
 					}
 					}
-					setState(755); 
+					setState(764); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==WHEN );
-				setState(759);
+				setState(768);
 				_la = _input.LA(1);
 				if (_la==ELSE) {
 					{
-					setState(757);
+					setState(766);
 					match(ELSE);
-					setState(758);
+					setState(767);
 					((SearchedCaseContext)_localctx).elseExpression = expression();
 					}
 				}
 
-				setState(761);
+				setState(770);
 				match(END);
 				}
 				break;
@@ -6728,36 +6813,36 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SimpleCaseContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(763);
+				setState(772);
 				match(CASE);
-				setState(764);
+				setState(773);
 				((SimpleCaseContext)_localctx).value = expression();
-				setState(766); 
+				setState(775); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(765);
+					setState(774);
 					whenClause();
 					}
 					}
-					setState(768); 
+					setState(777); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==WHEN );
-				setState(772);
+				setState(781);
 				_la = _input.LA(1);
 				if (_la==ELSE) {
 					{
-					setState(770);
+					setState(779);
 					match(ELSE);
-					setState(771);
+					setState(780);
 					((SimpleCaseContext)_localctx).elseExpression = expression();
 					}
 				}
 
-				setState(774);
+				setState(783);
 				match(END);
 				}
 				break;
@@ -6766,17 +6851,17 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new CastContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(776);
+				setState(785);
 				match(CAST);
-				setState(777);
+				setState(786);
 				match(T__0);
-				setState(778);
+				setState(787);
 				expression();
-				setState(779);
+				setState(788);
 				match(AS);
-				setState(780);
+				setState(789);
 				dataType();
-				setState(781);
+				setState(790);
 				match(T__1);
 				}
 				break;
@@ -6785,24 +6870,24 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new FirstContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(783);
+				setState(792);
 				match(FIRST);
-				setState(784);
+				setState(793);
 				match(T__0);
-				setState(785);
+				setState(794);
 				expression();
-				setState(788);
+				setState(797);
 				_la = _input.LA(1);
 				if (_la==IGNORE) {
 					{
-					setState(786);
+					setState(795);
 					match(IGNORE);
-					setState(787);
+					setState(796);
 					match(NULLS);
 					}
 				}
 
-				setState(790);
+				setState(799);
 				match(T__1);
 				}
 				break;
@@ -6811,24 +6896,24 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new LastContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(792);
+				setState(801);
 				match(LAST);
-				setState(793);
+				setState(802);
 				match(T__0);
-				setState(794);
+				setState(803);
 				expression();
-				setState(797);
+				setState(806);
 				_la = _input.LA(1);
 				if (_la==IGNORE) {
 					{
-					setState(795);
+					setState(804);
 					match(IGNORE);
-					setState(796);
+					setState(805);
 					match(NULLS);
 					}
 				}
 
-				setState(799);
+				setState(808);
 				match(T__1);
 				}
 				break;
@@ -6837,7 +6922,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ConstantDefaultContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(801);
+				setState(810);
 				constant();
 				}
 				break;
@@ -6846,7 +6931,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new StarContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(802);
+				setState(811);
 				match(ASTERISK);
 				}
 				break;
@@ -6855,11 +6940,11 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new StarContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(803);
+				setState(812);
 				qualifiedName();
-				setState(804);
+				setState(813);
 				match(T__7);
-				setState(805);
+				setState(814);
 				match(ASTERISK);
 				}
 				break;
@@ -6868,27 +6953,27 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new RowConstructorContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(807);
+				setState(816);
 				match(T__0);
-				setState(808);
+				setState(817);
 				namedExpression();
-				setState(811); 
+				setState(820); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(809);
+					setState(818);
 					match(T__2);
-					setState(810);
+					setState(819);
 					namedExpression();
 					}
 					}
-					setState(813); 
+					setState(822); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==T__2 );
-				setState(815);
+				setState(824);
 				match(T__1);
 				}
 				break;
@@ -6897,11 +6982,11 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SubqueryExpressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(817);
+				setState(826);
 				match(T__0);
-				setState(818);
+				setState(827);
 				query();
-				setState(819);
+				setState(828);
 				match(T__1);
 				}
 				break;
@@ -6910,45 +6995,45 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new FunctionCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(821);
+				setState(830);
 				qualifiedName();
-				setState(822);
+				setState(831);
 				match(T__0);
-				setState(834);
+				setState(843);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)))) != 0) || ((((_la - 131)) & ~0x3f) == 0 && ((1L << (_la - 131)) & ((1L << (PLUS - 131)) | (1L << (MINUS - 131)) | (1L << (ASTERISK - 131)) | (1L << (DIV - 131)) | (1L << (TILDE - 131)) | (1L << (QUESTIONMARK - 131)) | (1L << (PERCENTLIT - 131)) | (1L << (OUT - 131)) | (1L << (OF - 131)) | (1L << (FUNCTION - 131)) | (1L << (DATABASE - 131)) | (1L << (DATABASES - 131)) | (1L << (TRUNCATE - 131)) | (1L << (ANALYZE - 131)) | (1L << (COMPUTE - 131)) | (1L << (LIST - 131)) | (1L << (REVOKE - 131)) | (1L << (GRANT - 131)) | (1L << (EXPORT - 131)) | (1L << (IMPORT - 131)) | (1L << (LOAD - 131)) | (1L << (ROLE - 131)) | (1L << (ROLES - 131)) | (1L << (INDEX - 131)) | (1L << (INDEXES - 131)) | (1L << (CURRENT_DATE - 131)) | (1L << (CURRENT_TIMESTAMP - 131)) | (1L << (STRING - 131)) | (1L << (BIGINT_LITERAL - 131)) | (1L << (SMALLINT_LITERAL - 131)) | (1L << (TINYINT_LITERAL - 131)) | (1L << (INTEGER_VALUE - 131)) | (1L << (DECIMAL_VALUE - 131)) | (1L << (DOUBLE_LITERAL - 131)) | (1L << (BIGDECIMAL_LITERAL - 131)) | (1L << (IDENTIFIER - 131)) | (1L << (BACKQUOTED_IDENTIFIER - 131)))) != 0)) {
 					{
-					setState(824);
-					switch ( getInterpreter().adaptivePredict(_input,87,_ctx) ) {
+					setState(833);
+					switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
 					case 1:
 						{
-						setState(823);
+						setState(832);
 						setQuantifier();
 						}
 						break;
 					}
-					setState(826);
+					setState(835);
 					namedExpression();
-					setState(831);
+					setState(840);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__2) {
 						{
 						{
-						setState(827);
+						setState(836);
 						match(T__2);
-						setState(828);
+						setState(837);
 						namedExpression();
 						}
 						}
-						setState(833);
+						setState(842);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(836);
+				setState(845);
 				match(T__1);
 				}
 				break;
@@ -6957,7 +7042,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ColumnReferenceContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(838);
+				setState(847);
 				identifier();
 				}
 				break;
@@ -6966,38 +7051,38 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ParenthesizedExpressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(839);
+				setState(848);
 				match(T__0);
-				setState(840);
+				setState(849);
 				expression();
-				setState(841);
+				setState(850);
 				match(T__1);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(855);
+			setState(864);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,92,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(853);
-					switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
+					setState(862);
+					switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
 					case 1:
 						{
 						_localctx = new SubscriptContext(new PrimaryExpressionContext(_parentctx, _parentState));
 						((SubscriptContext)_localctx).value = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_primaryExpression);
-						setState(845);
+						setState(854);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(846);
+						setState(855);
 						match(T__4);
-						setState(847);
+						setState(856);
 						((SubscriptContext)_localctx).index = valueExpression(0);
-						setState(848);
+						setState(857);
 						match(T__5);
 						}
 						break;
@@ -7006,20 +7091,20 @@ public class BlkchnSqlParser extends Parser {
 						_localctx = new DereferenceContext(new PrimaryExpressionContext(_parentctx, _parentState));
 						((DereferenceContext)_localctx).base = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_primaryExpression);
-						setState(850);
+						setState(859);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(851);
+						setState(860);
 						match(T__7);
-						setState(852);
+						setState(861);
 						((DereferenceContext)_localctx).fieldName = identifier();
 						}
 						break;
 					}
 					} 
 				}
-				setState(857);
+				setState(866);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,92,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
 			}
 			}
 		}
@@ -7162,16 +7247,16 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ConstantContext constant() throws RecognitionException {
 		ConstantContext _localctx = new ConstantContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_constant);
+		enterRule(_localctx, 150, RULE_constant);
 		try {
 			int _alt;
-			setState(870);
-			switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
+			setState(879);
+			switch ( getInterpreter().adaptivePredict(_input,95,_ctx) ) {
 			case 1:
 				_localctx = new NullLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(858);
+				setState(867);
 				match(NULL);
 				}
 				break;
@@ -7179,7 +7264,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new IntervalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(859);
+				setState(868);
 				interval();
 				}
 				break;
@@ -7187,9 +7272,9 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new TypeConstructorContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(860);
+				setState(869);
 				identifier();
-				setState(861);
+				setState(870);
 				match(STRING);
 				}
 				break;
@@ -7197,7 +7282,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new NumericLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(863);
+				setState(872);
 				number();
 				}
 				break;
@@ -7205,7 +7290,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new BooleanLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(864);
+				setState(873);
 				booleanValue();
 				}
 				break;
@@ -7213,7 +7298,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new StringLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(866); 
+				setState(875); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -7221,7 +7306,7 @@ public class BlkchnSqlParser extends Parser {
 					case 1:
 						{
 						{
-						setState(865);
+						setState(874);
 						match(STRING);
 						}
 						}
@@ -7229,9 +7314,9 @@ public class BlkchnSqlParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(868); 
+					setState(877); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,93,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,94,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
@@ -7278,12 +7363,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ComparisonOperatorContext comparisonOperator() throws RecognitionException {
 		ComparisonOperatorContext _localctx = new ComparisonOperatorContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_comparisonOperator);
+		enterRule(_localctx, 152, RULE_comparisonOperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(872);
+			setState(881);
 			_la = _input.LA(1);
 			if ( !(((((_la - 123)) & ~0x3f) == 0 && ((1L << (_la - 123)) & ((1L << (EQ - 123)) | (1L << (NSEQ - 123)) | (1L << (NEQ - 123)) | (1L << (NEQJ - 123)) | (1L << (LT - 123)) | (1L << (LTE - 123)) | (1L << (GT - 123)) | (1L << (GTE - 123)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7335,12 +7420,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ArithmeticOperatorContext arithmeticOperator() throws RecognitionException {
 		ArithmeticOperatorContext _localctx = new ArithmeticOperatorContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_arithmeticOperator);
+		enterRule(_localctx, 154, RULE_arithmeticOperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(874);
+			setState(883);
 			_la = _input.LA(1);
 			if ( !(((((_la - 131)) & ~0x3f) == 0 && ((1L << (_la - 131)) & ((1L << (PLUS - 131)) | (1L << (MINUS - 131)) | (1L << (ASTERISK - 131)) | (1L << (SLASH - 131)) | (1L << (PERCENT - 131)) | (1L << (DIV - 131)) | (1L << (TILDE - 131)) | (1L << (AMPERSAND - 131)) | (1L << (PIPE - 131)) | (1L << (HAT - 131)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7386,12 +7471,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final PredicateOperatorContext predicateOperator() throws RecognitionException {
 		PredicateOperatorContext _localctx = new PredicateOperatorContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_predicateOperator);
+		enterRule(_localctx, 156, RULE_predicateOperator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(876);
+			setState(885);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7435,12 +7520,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final BooleanValueContext booleanValue() throws RecognitionException {
 		BooleanValueContext _localctx = new BooleanValueContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_booleanValue);
+		enterRule(_localctx, 158, RULE_booleanValue);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(878);
+			setState(887);
 			_la = _input.LA(1);
 			if ( !(_la==TRUE || _la==FALSE) ) {
 			_errHandler.recoverInline(this);
@@ -7489,28 +7574,28 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IntervalContext interval() throws RecognitionException {
 		IntervalContext _localctx = new IntervalContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_interval);
+		enterRule(_localctx, 160, RULE_interval);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(880);
+			setState(889);
 			match(INTERVAL);
-			setState(884);
+			setState(893);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(881);
+					setState(890);
 					intervalField();
 					}
 					} 
 				}
-				setState(886);
+				setState(895);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
 			}
 			}
 		}
@@ -7560,21 +7645,21 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IntervalFieldContext intervalField() throws RecognitionException {
 		IntervalFieldContext _localctx = new IntervalFieldContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_intervalField);
+		enterRule(_localctx, 162, RULE_intervalField);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(887);
+			setState(896);
 			((IntervalFieldContext)_localctx).value = intervalValue();
-			setState(888);
+			setState(897);
 			((IntervalFieldContext)_localctx).unit = identifier();
-			setState(891);
-			switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
+			setState(900);
+			switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
 			case 1:
 				{
-				setState(889);
+				setState(898);
 				match(TO);
-				setState(890);
+				setState(899);
 				((IntervalFieldContext)_localctx).to = identifier();
 				}
 				break;
@@ -7619,10 +7704,10 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IntervalValueContext intervalValue() throws RecognitionException {
 		IntervalValueContext _localctx = new IntervalValueContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_intervalValue);
+		enterRule(_localctx, 164, RULE_intervalValue);
 		int _la;
 		try {
-			setState(898);
+			setState(907);
 			switch (_input.LA(1)) {
 			case PLUS:
 			case MINUS:
@@ -7630,11 +7715,11 @@ public class BlkchnSqlParser extends Parser {
 			case DECIMAL_VALUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(894);
+				setState(903);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==MINUS) {
 					{
-					setState(893);
+					setState(902);
 					_la = _input.LA(1);
 					if ( !(_la==PLUS || _la==MINUS) ) {
 					_errHandler.recoverInline(this);
@@ -7644,7 +7729,7 @@ public class BlkchnSqlParser extends Parser {
 					}
 				}
 
-				setState(896);
+				setState(905);
 				_la = _input.LA(1);
 				if ( !(_la==INTEGER_VALUE || _la==DECIMAL_VALUE) ) {
 				_errHandler.recoverInline(this);
@@ -7656,7 +7741,7 @@ public class BlkchnSqlParser extends Parser {
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(897);
+				setState(906);
 				match(STRING);
 				}
 				break;
@@ -7742,22 +7827,22 @@ public class BlkchnSqlParser extends Parser {
 
 	public final DataTypeContext dataType() throws RecognitionException {
 		DataTypeContext _localctx = new DataTypeContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_dataType);
+		enterRule(_localctx, 166, RULE_dataType);
 		int _la;
 		try {
-			setState(934);
-			switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
+			setState(943);
+			switch ( getInterpreter().adaptivePredict(_input,104,_ctx) ) {
 			case 1:
 				_localctx = new ComplexDataTypeContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(900);
+				setState(909);
 				((ComplexDataTypeContext)_localctx).complex = match(ARRAY);
-				setState(901);
+				setState(910);
 				match(LT);
-				setState(902);
+				setState(911);
 				dataType();
-				setState(903);
+				setState(912);
 				match(GT);
 				}
 				break;
@@ -7765,17 +7850,17 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ComplexDataTypeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(905);
+				setState(914);
 				((ComplexDataTypeContext)_localctx).complex = match(MAP);
-				setState(906);
+				setState(915);
 				match(LT);
-				setState(907);
+				setState(916);
 				dataType();
-				setState(908);
+				setState(917);
 				match(T__2);
-				setState(909);
+				setState(918);
 				dataType();
-				setState(910);
+				setState(919);
 				match(GT);
 				}
 				break;
@@ -7783,30 +7868,30 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new ComplexDataTypeContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(912);
+				setState(921);
 				((ComplexDataTypeContext)_localctx).complex = match(STRUCT);
-				setState(919);
+				setState(928);
 				switch (_input.LA(1)) {
 				case LT:
 					{
-					setState(913);
+					setState(922);
 					match(LT);
-					setState(915);
+					setState(924);
 					_la = _input.LA(1);
 					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << JOIN) | (1L << CROSS) | (1L << OUTER) | (1L << INNER) | (1L << LEFT) | (1L << SEMI) | (1L << RIGHT) | (1L << FULL) | (1L << NATURAL) | (1L << ON) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (UNION - 64)) | (1L << (EXCEPT - 64)) | (1L << (SETMINUS - 64)) | (1L << (INTERSECT - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)))) != 0) || ((((_la - 136)) & ~0x3f) == 0 && ((1L << (_la - 136)) & ((1L << (DIV - 136)) | (1L << (PERCENTLIT - 136)) | (1L << (OUT - 136)) | (1L << (OF - 136)) | (1L << (FUNCTION - 136)) | (1L << (DATABASE - 136)) | (1L << (DATABASES - 136)) | (1L << (TRUNCATE - 136)) | (1L << (ANALYZE - 136)) | (1L << (COMPUTE - 136)) | (1L << (LIST - 136)) | (1L << (REVOKE - 136)) | (1L << (GRANT - 136)) | (1L << (EXPORT - 136)) | (1L << (IMPORT - 136)) | (1L << (LOAD - 136)) | (1L << (ROLE - 136)) | (1L << (ROLES - 136)) | (1L << (INDEX - 136)) | (1L << (INDEXES - 136)) | (1L << (CURRENT_DATE - 136)) | (1L << (CURRENT_TIMESTAMP - 136)) | (1L << (IDENTIFIER - 136)) | (1L << (BACKQUOTED_IDENTIFIER - 136)))) != 0)) {
 						{
-						setState(914);
+						setState(923);
 						complexColTypeList();
 						}
 					}
 
-					setState(917);
+					setState(926);
 					match(GT);
 					}
 					break;
 				case NEQ:
 					{
-					setState(918);
+					setState(927);
 					match(NEQ);
 					}
 					break;
@@ -7819,33 +7904,33 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new PrimitiveDataTypeContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(921);
+				setState(930);
 				identifier();
-				setState(932);
+				setState(941);
 				_la = _input.LA(1);
 				if (_la==T__0) {
 					{
-					setState(922);
+					setState(931);
 					match(T__0);
-					setState(923);
+					setState(932);
 					match(INTEGER_VALUE);
-					setState(928);
+					setState(937);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__2) {
 						{
 						{
-						setState(924);
+						setState(933);
 						match(T__2);
-						setState(925);
+						setState(934);
 						match(INTEGER_VALUE);
 						}
 						}
-						setState(930);
+						setState(939);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(931);
+					setState(940);
 					match(T__1);
 					}
 				}
@@ -7893,26 +7978,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ColTypeListContext colTypeList() throws RecognitionException {
 		ColTypeListContext _localctx = new ColTypeListContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_colTypeList);
+		enterRule(_localctx, 168, RULE_colTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(936);
+			setState(945);
 			colType();
-			setState(941);
+			setState(950);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(937);
+				setState(946);
 				match(T__2);
-				setState(938);
+				setState(947);
 				colType();
 				}
 				}
-				setState(943);
+				setState(952);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -7959,22 +8044,22 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ColTypeContext colType() throws RecognitionException {
 		ColTypeContext _localctx = new ColTypeContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_colType);
+		enterRule(_localctx, 170, RULE_colType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(944);
+			setState(953);
 			identifier();
-			setState(945);
+			setState(954);
 			dataType();
-			setState(948);
+			setState(957);
 			_la = _input.LA(1);
 			if (_la==COMMENT) {
 				{
-				setState(946);
+				setState(955);
 				match(COMMENT);
-				setState(947);
+				setState(956);
 				match(STRING);
 				}
 			}
@@ -8020,26 +8105,26 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ComplexColTypeListContext complexColTypeList() throws RecognitionException {
 		ComplexColTypeListContext _localctx = new ComplexColTypeListContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_complexColTypeList);
+		enterRule(_localctx, 172, RULE_complexColTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(950);
+			setState(959);
 			complexColType();
-			setState(955);
+			setState(964);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(951);
+				setState(960);
 				match(T__2);
-				setState(952);
+				setState(961);
 				complexColType();
 				}
 				}
-				setState(957);
+				setState(966);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -8086,24 +8171,24 @@ public class BlkchnSqlParser extends Parser {
 
 	public final ComplexColTypeContext complexColType() throws RecognitionException {
 		ComplexColTypeContext _localctx = new ComplexColTypeContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_complexColType);
+		enterRule(_localctx, 174, RULE_complexColType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(958);
+			setState(967);
 			identifier();
-			setState(959);
+			setState(968);
 			match(T__8);
-			setState(960);
+			setState(969);
 			dataType();
-			setState(963);
+			setState(972);
 			_la = _input.LA(1);
 			if (_la==COMMENT) {
 				{
-				setState(961);
+				setState(970);
 				match(COMMENT);
-				setState(962);
+				setState(971);
 				match(STRING);
 				}
 			}
@@ -8153,17 +8238,17 @@ public class BlkchnSqlParser extends Parser {
 
 	public final WhenClauseContext whenClause() throws RecognitionException {
 		WhenClauseContext _localctx = new WhenClauseContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_whenClause);
+		enterRule(_localctx, 176, RULE_whenClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(965);
+			setState(974);
 			match(WHEN);
-			setState(966);
+			setState(975);
 			((WhenClauseContext)_localctx).condition = expression();
-			setState(967);
+			setState(976);
 			match(THEN);
-			setState(968);
+			setState(977);
 			((WhenClauseContext)_localctx).result = expression();
 			}
 		}
@@ -8206,30 +8291,30 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QualifiedNameContext qualifiedName() throws RecognitionException {
 		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_qualifiedName);
+		enterRule(_localctx, 178, RULE_qualifiedName);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(970);
+			setState(979);
 			identifier();
-			setState(975);
+			setState(984);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,109,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(971);
+					setState(980);
 					match(T__7);
-					setState(972);
+					setState(981);
 					identifier();
 					}
 					} 
 				}
-				setState(977);
+				setState(986);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,109,_ctx);
 			}
 			}
 		}
@@ -8282,9 +8367,9 @@ public class BlkchnSqlParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_identifier);
+		enterRule(_localctx, 180, RULE_identifier);
 		try {
-			setState(992);
+			setState(1001);
 			switch (_input.LA(1)) {
 			case SELECT:
 			case FROM:
@@ -8387,98 +8472,98 @@ public class BlkchnSqlParser extends Parser {
 			case BACKQUOTED_IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(978);
+				setState(987);
 				strictIdentifier();
 				}
 				break;
 			case FULL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(979);
+				setState(988);
 				match(FULL);
 				}
 				break;
 			case INNER:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(980);
+				setState(989);
 				match(INNER);
 				}
 				break;
 			case LEFT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(981);
+				setState(990);
 				match(LEFT);
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(982);
+				setState(991);
 				match(SEMI);
 				}
 				break;
 			case RIGHT:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(983);
+				setState(992);
 				match(RIGHT);
 				}
 				break;
 			case NATURAL:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(984);
+				setState(993);
 				match(NATURAL);
 				}
 				break;
 			case JOIN:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(985);
+				setState(994);
 				match(JOIN);
 				}
 				break;
 			case CROSS:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(986);
+				setState(995);
 				match(CROSS);
 				}
 				break;
 			case ON:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(987);
+				setState(996);
 				match(ON);
 				}
 				break;
 			case UNION:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(988);
+				setState(997);
 				match(UNION);
 				}
 				break;
 			case INTERSECT:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(989);
+				setState(998);
 				match(INTERSECT);
 				}
 				break;
 			case EXCEPT:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(990);
+				setState(999);
 				match(EXCEPT);
 				}
 				break;
 			case SETMINUS:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(991);
+				setState(1000);
 				match(SETMINUS);
 				}
 				break;
@@ -8550,15 +8635,15 @@ public class BlkchnSqlParser extends Parser {
 
 	public final StrictIdentifierContext strictIdentifier() throws RecognitionException {
 		StrictIdentifierContext _localctx = new StrictIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_strictIdentifier);
+		enterRule(_localctx, 182, RULE_strictIdentifier);
 		try {
-			setState(997);
+			setState(1006);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				_localctx = new UnquotedIdentifierContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(994);
+				setState(1003);
 				match(IDENTIFIER);
 				}
 				break;
@@ -8566,7 +8651,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new QuotedIdentifierAlternativeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(995);
+				setState(1004);
 				quotedIdentifier();
 				}
 				break;
@@ -8670,7 +8755,7 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new UnquotedIdentifierContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(996);
+				setState(1005);
 				nonReserved();
 				}
 				break;
@@ -8712,11 +8797,11 @@ public class BlkchnSqlParser extends Parser {
 
 	public final QuotedIdentifierContext quotedIdentifier() throws RecognitionException {
 		QuotedIdentifierContext _localctx = new QuotedIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_quotedIdentifier);
+		enterRule(_localctx, 184, RULE_quotedIdentifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(999);
+			setState(1008);
 			match(BACKQUOTED_IDENTIFIER);
 			}
 		}
@@ -8871,25 +8956,25 @@ public class BlkchnSqlParser extends Parser {
 
 	public final NumberContext number() throws RecognitionException {
 		NumberContext _localctx = new NumberContext(_ctx, getState());
-		enterRule(_localctx, 184, RULE_number);
+		enterRule(_localctx, 186, RULE_number);
 		int _la;
 		try {
-			setState(1029);
-			switch ( getInterpreter().adaptivePredict(_input,118,_ctx) ) {
+			setState(1038);
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
 			case 1:
 				_localctx = new DecimalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1002);
+				setState(1011);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1001);
+					setState(1010);
 					match(MINUS);
 					}
 				}
 
-				setState(1004);
+				setState(1013);
 				match(DECIMAL_VALUE);
 				}
 				break;
@@ -8897,16 +8982,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new IntegerLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1006);
+				setState(1015);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1005);
+					setState(1014);
 					match(MINUS);
 					}
 				}
 
-				setState(1008);
+				setState(1017);
 				match(INTEGER_VALUE);
 				}
 				break;
@@ -8914,16 +8999,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new BigIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1010);
+				setState(1019);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1009);
+					setState(1018);
 					match(MINUS);
 					}
 				}
 
-				setState(1012);
+				setState(1021);
 				match(BIGINT_LITERAL);
 				}
 				break;
@@ -8931,16 +9016,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new SmallIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1014);
+				setState(1023);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1013);
+					setState(1022);
 					match(MINUS);
 					}
 				}
 
-				setState(1016);
+				setState(1025);
 				match(SMALLINT_LITERAL);
 				}
 				break;
@@ -8948,16 +9033,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new TinyIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1018);
+				setState(1027);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1017);
+					setState(1026);
 					match(MINUS);
 					}
 				}
 
-				setState(1020);
+				setState(1029);
 				match(TINYINT_LITERAL);
 				}
 				break;
@@ -8965,16 +9050,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new DoubleLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1022);
+				setState(1031);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1021);
+					setState(1030);
 					match(MINUS);
 					}
 				}
 
-				setState(1024);
+				setState(1033);
 				match(DOUBLE_LITERAL);
 				}
 				break;
@@ -8982,16 +9067,16 @@ public class BlkchnSqlParser extends Parser {
 				_localctx = new BigDecimalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1026);
+				setState(1035);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(1025);
+					setState(1034);
 					match(MINUS);
 					}
 				}
 
-				setState(1028);
+				setState(1037);
 				match(BIGDECIMAL_LITERAL);
 				}
 				break;
@@ -9133,12 +9218,12 @@ public class BlkchnSqlParser extends Parser {
 
 	public final NonReservedContext nonReserved() throws RecognitionException {
 		NonReservedContext _localctx = new NonReservedContext(_ctx, getState());
-		enterRule(_localctx, 186, RULE_nonReserved);
+		enterRule(_localctx, 188, RULE_nonReserved);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1031);
+			setState(1040);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << OUTER) | (1L << FIRST) | (1L << AFTER) | (1L << LAST))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (TO - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)))) != 0) || ((((_la - 136)) & ~0x3f) == 0 && ((1L << (_la - 136)) & ((1L << (DIV - 136)) | (1L << (PERCENTLIT - 136)) | (1L << (OUT - 136)) | (1L << (OF - 136)) | (1L << (FUNCTION - 136)) | (1L << (DATABASE - 136)) | (1L << (DATABASES - 136)) | (1L << (TRUNCATE - 136)) | (1L << (ANALYZE - 136)) | (1L << (COMPUTE - 136)) | (1L << (LIST - 136)) | (1L << (REVOKE - 136)) | (1L << (GRANT - 136)) | (1L << (EXPORT - 136)) | (1L << (IMPORT - 136)) | (1L << (LOAD - 136)) | (1L << (ROLE - 136)) | (1L << (ROLES - 136)) | (1L << (INDEX - 136)) | (1L << (INDEXES - 136)) | (1L << (CURRENT_DATE - 136)) | (1L << (CURRENT_TIMESTAMP - 136)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -9160,13 +9245,13 @@ public class BlkchnSqlParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 46:
+		case 47:
 			return queryTerm_sempred((QueryTermContext)_localctx, predIndex);
-		case 68:
+		case 69:
 			return booleanExpression_sempred((BooleanExpressionContext)_localctx, predIndex);
-		case 71:
+		case 72:
 			return valueExpression_sempred((ValueExpressionContext)_localctx, predIndex);
-		case 73:
+		case 74:
 			return primaryExpression_sempred((PrimaryExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -9217,7 +9302,7 @@ public class BlkchnSqlParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\u00b9\u040c\4\2\t"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\u00b9\u0415\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -9227,394 +9312,398 @@ public class BlkchnSqlParser extends Parser {
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
 		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
 		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
-		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\3"+
-		"\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\u00cc\n\3\3\4\3"+
-		"\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\7\3\7\3\7"+
-		"\3\7\3\7\5\7\u00e3\n\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\t\3\t\3\t\7\t\u00ef"+
-		"\n\t\f\t\16\t\u00f2\13\t\3\n\3\n\5\n\u00f6\n\n\3\13\3\13\3\13\3\13\3\13"+
-		"\3\13\5\13\u00fe\n\13\3\13\5\13\u0101\n\13\3\13\5\13\u0104\n\13\3\13\5"+
-		"\13\u0107\n\13\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u010f\n\f\3\f\5\f\u0112\n\f"+
-		"\3\f\5\f\u0115\n\f\3\f\5\f\u0118\n\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u0121"+
-		"\n\r\3\r\3\r\3\r\3\r\3\r\5\r\u0128\n\r\3\r\5\r\u012b\n\r\3\16\3\16\3\16"+
-		"\3\16\3\16\5\16\u0132\n\16\3\16\3\16\3\16\3\16\5\16\u0138\n\16\3\17\3"+
-		"\17\3\20\3\20\3\21\3\21\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3"+
-		"\24\3\24\3\24\3\25\3\25\3\25\3\25\5\25\u0150\n\25\3\25\3\25\3\26\3\26"+
-		"\3\26\3\26\3\27\3\27\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31"+
-		"\3\32\3\32\3\33\3\33\3\33\3\33\3\34\3\34\3\34\7\34\u016d\n\34\f\34\16"+
-		"\34\u0170\13\34\3\35\3\35\5\35\u0174\n\35\3\36\3\36\5\36\u0178\n\36\3"+
-		"\37\3\37\3\37\3\37\3 \5 \u017f\n \3 \3 \5 \u0183\n \3 \3 \3!\3!\3!\3!"+
-		"\3\"\3\"\3#\3#\3#\3#\5#\u0191\n#\3#\3#\3#\5#\u0196\n#\3$\3$\3$\3$\3$\3"+
-		"$\3$\5$\u019f\n$\3$\5$\u01a2\n$\3%\3%\3%\5%\u01a7\n%\3&\3&\3\'\3\'\3\'"+
-		"\3(\3(\3(\3)\3)\3*\3*\3+\3+\3,\3,\3,\3-\5-\u01bb\n-\3-\5-\u01be\n-\3."+
-		"\3.\3.\3.\3.\7.\u01c5\n.\f.\16.\u01c8\13.\3/\3/\3/\3\60\3\60\3\60\3\60"+
-		"\3\60\3\60\5\60\u01d3\n\60\3\60\7\60\u01d6\n\60\f\60\16\60\u01d9\13\60"+
-		"\3\61\3\61\3\61\3\61\3\61\5\61\u01e0\n\61\3\62\3\62\5\62\u01e4\n\62\3"+
-		"\62\3\62\5\62\u01e8\n\62\3\63\3\63\3\63\5\63\u01ed\n\63\3\63\5\63\u01f0"+
-		"\n\63\3\63\5\63\u01f3\n\63\3\64\3\64\5\64\u01f7\n\64\3\64\3\64\3\65\3"+
-		"\65\3\65\3\66\3\66\3\66\3\67\3\67\3\67\3\67\7\67\u0205\n\67\f\67\16\67"+
-		"\u0208\13\67\38\38\38\38\38\78\u020f\n8\f8\168\u0212\138\39\39\3:\3:\7"+
-		":\u0218\n:\f:\16:\u021b\13:\3;\3;\3;\3;\5;\u0221\n;\3<\5<\u0224\n<\3<"+
-		"\3<\3<\5<\u0229\n<\3<\3<\5<\u022d\n<\3<\3<\5<\u0231\n<\5<\u0233\n<\3="+
-		"\3=\3=\3>\3>\3>\3>\3?\3?\3?\7?\u023f\n?\f?\16?\u0242\13?\3@\3@\5@\u0246"+
-		"\n@\3@\5@\u0249\n@\3@\3@\3@\3@\5@\u024f\n@\3@\5@\u0252\n@\3@\3@\3@\3@"+
-		"\3@\5@\u0259\n@\3@\5@\u025c\n@\5@\u025e\n@\3A\3A\3A\3A\7A\u0264\nA\fA"+
-		"\16A\u0267\13A\3A\5A\u026a\nA\3A\3A\5A\u026e\nA\5A\u0270\nA\3B\3B\3B\5"+
-		"B\u0275\nB\3B\3B\3C\3C\5C\u027b\nC\3C\3C\5C\u027f\nC\5C\u0281\nC\3D\3"+
-		"D\3D\7D\u0286\nD\fD\16D\u0289\13D\3E\3E\3F\3F\3F\3F\5F\u0291\nF\3F\3F"+
-		"\3F\3F\3F\3F\7F\u0299\nF\fF\16F\u029c\13F\3G\3G\5G\u02a0\nG\3H\5H\u02a3"+
-		"\nH\3H\3H\3H\3H\3H\3H\5H\u02ab\nH\3H\3H\3H\3H\3H\7H\u02b2\nH\fH\16H\u02b5"+
-		"\13H\3H\3H\3H\5H\u02ba\nH\3H\3H\3H\3H\3H\3H\5H\u02c2\nH\3H\3H\3H\3H\5"+
-		"H\u02c8\nH\3H\5H\u02cb\nH\3I\3I\3I\3I\3I\5I\u02d2\nI\3I\3I\3I\3I\3I\3"+
-		"I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\7I\u02e9\nI\fI\16I\u02ec"+
-		"\13I\3J\3J\3K\3K\3K\3K\6K\u02f4\nK\rK\16K\u02f5\3K\3K\5K\u02fa\nK\3K\3"+
-		"K\3K\3K\3K\6K\u0301\nK\rK\16K\u0302\3K\3K\5K\u0307\nK\3K\3K\3K\3K\3K\3"+
-		"K\3K\3K\3K\3K\3K\3K\3K\3K\5K\u0317\nK\3K\3K\3K\3K\3K\3K\3K\5K\u0320\n"+
-		"K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\6K\u032e\nK\rK\16K\u032f\3K\3K\3"+
-		"K\3K\3K\3K\3K\3K\3K\5K\u033b\nK\3K\3K\3K\7K\u0340\nK\fK\16K\u0343\13K"+
-		"\5K\u0345\nK\3K\3K\3K\3K\3K\3K\3K\5K\u034e\nK\3K\3K\3K\3K\3K\3K\3K\3K"+
-		"\7K\u0358\nK\fK\16K\u035b\13K\3L\3L\3L\3L\3L\3L\3L\3L\6L\u0365\nL\rL\16"+
-		"L\u0366\5L\u0369\nL\3M\3M\3N\3N\3O\3O\3P\3P\3Q\3Q\7Q\u0375\nQ\fQ\16Q\u0378"+
-		"\13Q\3R\3R\3R\3R\5R\u037e\nR\3S\5S\u0381\nS\3S\3S\5S\u0385\nS\3T\3T\3"+
-		"T\3T\3T\3T\3T\3T\3T\3T\3T\3T\3T\3T\3T\5T\u0396\nT\3T\3T\5T\u039a\nT\3"+
-		"T\3T\3T\3T\3T\7T\u03a1\nT\fT\16T\u03a4\13T\3T\5T\u03a7\nT\5T\u03a9\nT"+
-		"\3U\3U\3U\7U\u03ae\nU\fU\16U\u03b1\13U\3V\3V\3V\3V\5V\u03b7\nV\3W\3W\3"+
-		"W\7W\u03bc\nW\fW\16W\u03bf\13W\3X\3X\3X\3X\3X\5X\u03c6\nX\3Y\3Y\3Y\3Y"+
-		"\3Y\3Z\3Z\3Z\7Z\u03d0\nZ\fZ\16Z\u03d3\13Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\3"+
-		"[\3[\3[\3[\3[\5[\u03e3\n[\3\\\3\\\3\\\5\\\u03e8\n\\\3]\3]\3^\5^\u03ed"+
-		"\n^\3^\3^\5^\u03f1\n^\3^\3^\5^\u03f5\n^\3^\3^\5^\u03f9\n^\3^\3^\5^\u03fd"+
-		"\n^\3^\3^\5^\u0401\n^\3^\3^\5^\u0405\n^\3^\5^\u0408\n^\3_\3_\3_\2\6^\u008a"+
-		"\u0090\u0094`\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64"+
-		"\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088"+
-		"\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0"+
-		"\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8"+
-		"\u00ba\u00bc\2\27\3\2\u00b1\u00b2\4\2lm\u0093\u0093\4\2DDkk\3\2\u00a5"+
-		"\u00a6\4\2\u00a5\u00a5\u00a7\u00a7\3\2pq\3\2TW\3\2+,\4\2??AA\3\2\20\21"+
-		"\3\2$%\4\2\u0085\u0085\u008b\u008b\3\2\u0087\u008a\3\2\u0085\u0086\3\2"+
-		"\u00a3\u00a4\3\2}\u0084\3\2\u0085\u008e\3\2\35 \3\2()\3\2\u00ad\u00ae"+
-		"\n\2\f,.\64\67\67?SXc||\u008a\u008a\u0090\u00a4\u045e\2\u00be\3\2\2\2"+
-		"\4\u00cb\3\2\2\2\6\u00cd\3\2\2\2\b\u00d7\3\2\2\2\n\u00d9\3\2\2\2\f\u00db"+
-		"\3\2\2\2\16\u00e9\3\2\2\2\20\u00eb\3\2\2\2\22\u00f5\3\2\2\2\24\u00f7\3"+
-		"\2\2\2\26\u0108\3\2\2\2\30\u0119\3\2\2\2\32\u012c\3\2\2\2\34\u0139\3\2"+
-		"\2\2\36\u013b\3\2\2\2 \u013d\3\2\2\2\"\u013f\3\2\2\2$\u0141\3\2\2\2&\u0146"+
-		"\3\2\2\2(\u014b\3\2\2\2*\u0153\3\2\2\2,\u0157\3\2\2\2.\u0159\3\2\2\2\60"+
-		"\u015d\3\2\2\2\62\u0163\3\2\2\2\64\u0165\3\2\2\2\66\u0169\3\2\2\28\u0173"+
-		"\3\2\2\2:\u0177\3\2\2\2<\u0179\3\2\2\2>\u017e\3\2\2\2@\u0186\3\2\2\2B"+
-		"\u018a\3\2\2\2D\u018c\3\2\2\2F\u0197\3\2\2\2H\u01a6\3\2\2\2J\u01a8\3\2"+
-		"\2\2L\u01aa\3\2\2\2N\u01ad\3\2\2\2P\u01b0\3\2\2\2R\u01b2\3\2\2\2T\u01b4"+
-		"\3\2\2\2V\u01b6\3\2\2\2X\u01ba\3\2\2\2Z\u01bf\3\2\2\2\\\u01c9\3\2\2\2"+
-		"^\u01cc\3\2\2\2`\u01df\3\2\2\2b\u01e1\3\2\2\2d\u01e9\3\2\2\2f\u01f4\3"+
-		"\2\2\2h\u01fa\3\2\2\2j\u01fd\3\2\2\2l\u0200\3\2\2\2n\u0209\3\2\2\2p\u0213"+
-		"\3\2\2\2r\u0215\3\2\2\2t\u021c\3\2\2\2v\u0232\3\2\2\2x\u0234\3\2\2\2z"+
-		"\u0237\3\2\2\2|\u023b\3\2\2\2~\u025d\3\2\2\2\u0080\u025f\3\2\2\2\u0082"+
-		"\u0274\3\2\2\2\u0084\u0278\3\2\2\2\u0086\u0282\3\2\2\2\u0088\u028a\3\2"+
-		"\2\2\u008a\u0290\3\2\2\2\u008c\u029d\3\2\2\2\u008e\u02ca\3\2\2\2\u0090"+
-		"\u02d1\3\2\2\2\u0092\u02ed\3\2\2\2\u0094\u034d\3\2\2\2\u0096\u0368\3\2"+
-		"\2\2\u0098\u036a\3\2\2\2\u009a\u036c\3\2\2\2\u009c\u036e\3\2\2\2\u009e"+
-		"\u0370\3\2\2\2\u00a0\u0372\3\2\2\2\u00a2\u0379\3\2\2\2\u00a4\u0384\3\2"+
-		"\2\2\u00a6\u03a8\3\2\2\2\u00a8\u03aa\3\2\2\2\u00aa\u03b2\3\2\2\2\u00ac"+
-		"\u03b8\3\2\2\2\u00ae\u03c0\3\2\2\2\u00b0\u03c7\3\2\2\2\u00b2\u03cc\3\2"+
-		"\2\2\u00b4\u03e2\3\2\2\2\u00b6\u03e7\3\2\2\2\u00b8\u03e9\3\2\2\2\u00ba"+
-		"\u0407\3\2\2\2\u00bc\u0409\3\2\2\2\u00be\u00bf\5\4\3\2\u00bf\u00c0\7\2"+
-		"\2\3\u00c0\3\3\2\2\2\u00c1\u00cc\5V,\2\u00c2\u00cc\5\f\7\2\u00c3\u00cc"+
-		"\5\24\13\2\u00c4\u00cc\5D#\2\u00c5\u00cc\5\30\r\2\u00c6\u00cc\5(\25\2"+
-		"\u00c7\u00cc\5*\26\2\u00c8\u00cc\5\26\f\2\u00c9\u00cc\5\32\16\2\u00ca"+
-		"\u00cc\5\6\4\2\u00cb\u00c1\3\2\2\2\u00cb\u00c2\3\2\2\2\u00cb\u00c3\3\2"+
-		"\2\2\u00cb\u00c4\3\2\2\2\u00cb\u00c5\3\2\2\2\u00cb\u00c6\3\2\2\2\u00cb"+
-		"\u00c7\3\2\2\2\u00cb\u00c8\3\2\2\2\u00cb\u00c9\3\2\2\2\u00cb\u00ca\3\2"+
-		"\2\2\u00cc\5\3\2\2\2\u00cd\u00ce\7C\2\2\u00ce\u00cf\7y\2\2\u00cf\u00d0"+
-		"\5\u00b4[\2\u00d0\u00d1\7z\2\2\u00d1\u00d2\7\24\2\2\u00d2\u00d3\5\b\5"+
-		"\2\u00d3\u00d4\7{\2\2\u00d4\u00d5\7X\2\2\u00d5\u00d6\5\n\6\2\u00d6\7\3"+
-		"\2\2\2\u00d7\u00d8\7\u00a8\2\2\u00d8\t\3\2\2\2\u00d9\u00da\t\2\2\2\u00da"+
-		"\13\3\2\2\2\u00db\u00dc\7G\2\2\u00dc\u00dd\7I\2\2\u00dd\u00e2\5\u0082"+
-		"B\2\u00de\u00df\7\3\2\2\u00df\u00e0\5\16\b\2\u00e0\u00e1\7\4\2\2\u00e1"+
-		"\u00e3\3\2\2\2\u00e2\u00de\3\2\2\2\u00e2\u00e3\3\2\2\2\u00e3\u00e4\3\2"+
-		"\2\2\u00e4\u00e5\7B\2\2\u00e5\u00e6\7\3\2\2\u00e6\u00e7\5\20\t\2\u00e7"+
-		"\u00e8\7\4\2\2\u00e8\r\3\2\2\2\u00e9\u00ea\5|?\2\u00ea\17\3\2\2\2\u00eb"+
-		"\u00f0\5\22\n\2\u00ec\u00ed\7\5\2\2\u00ed\u00ef\5\22\n\2\u00ee\u00ec\3"+
-		"\2\2\2\u00ef\u00f2\3\2\2\2\u00f0\u00ee\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1"+
-		"\21\3\2\2\2\u00f2\u00f0\3\2\2\2\u00f3\u00f6\5\u0096L\2\u00f4\u00f6\5\u0092"+
-		"J\2\u00f5\u00f3\3\2\2\2\u00f5\u00f4\3\2\2\2\u00f6\23\3\2\2\2\u00f7\u00f8"+
-		"\7C\2\2\u00f8\u00f9\t\3\2\2\u00f9\u00fa\5\u00b2Z\2\u00fa\u00fb\7\17\2"+
-		"\2\u00fb\u00fd\5,\27\2\u00fc\u00fe\5.\30\2\u00fd\u00fc\3\2\2\2\u00fd\u00fe"+
-		"\3\2\2\2\u00fe\u0100\3\2\2\2\u00ff\u0101\5\60\31\2\u0100\u00ff\3\2\2\2"+
-		"\u0100\u0101\3\2\2\2\u0101\u0103\3\2\2\2\u0102\u0104\5\64\33\2\u0103\u0102"+
-		"\3\2\2\2\u0103\u0104\3\2\2\2\u0104\u0106\3\2\2\2\u0105\u0107\5\34\17\2"+
-		"\u0106\u0105\3\2\2\2\u0106\u0107\3\2\2\2\u0107\25\3\2\2\2\u0108\u0109"+
-		"\7u\2\2\u0109\u010a\t\3\2\2\u010a\u010b\5\u00b2Z\2\u010b\u010c\7\17\2"+
-		"\2\u010c\u010e\5,\27\2\u010d\u010f\5.\30\2\u010e\u010d\3\2\2\2\u010e\u010f"+
-		"\3\2\2\2\u010f\u0111\3\2\2\2\u0110\u0112\5\60\31\2\u0111\u0110\3\2\2\2"+
-		"\u0111\u0112\3\2\2\2\u0112\u0114\3\2\2\2\u0113\u0115\5\64\33\2\u0114\u0113"+
-		"\3\2\2\2\u0114\u0115\3\2\2\2\u0115\u0117\3\2\2\2\u0116\u0118\5\36\20\2"+
-		"\u0117\u0116\3\2\2\2\u0117\u0118\3\2\2\2\u0118\27\3\2\2\2\u0119\u011a"+
-		"\7C\2\2\u011a\u011b\t\4\2\2\u011b\u0120\5 \21\2\u011c\u011d\7\3\2\2\u011d"+
-		"\u011e\5\u00a8U\2\u011e\u011f\7\4\2\2\u011f\u0121\3\2\2\2\u0120\u011c"+
-		"\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\3\2\2\2\u0122\u0123\7e\2\2\u0123"+
-		"\u0124\7n\2\2\u0124\u0125\7o\2\2\u0125\u0127\5\"\22\2\u0126\u0128\5$\23"+
-		"\2\u0127\u0126\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u012a\3\2\2\2\u0129\u012b"+
-		"\5&\24\2\u012a\u0129\3\2\2\2\u012a\u012b\3\2\2\2\u012b\31\3\2\2\2\u012c"+
-		"\u012d\7x\2\2\u012d\u012e\7m\2\2\u012e\u012f\5,\27\2\u012f\u0131\7\3\2"+
-		"\2\u0130\u0132\5T+\2\u0131\u0130\3\2\2\2\u0131\u0132\3\2\2\2\u0132\u0133"+
-		"\3\2\2\2\u0133\u0137\7\4\2\2\u0134\u0135\7\36\2\2\u0135\u0136\7w\2\2\u0136"+
-		"\u0138\5R*\2\u0137\u0134\3\2\2\2\u0137\u0138\3\2\2\2\u0138\33\3\2\2\2"+
-		"\u0139\u013a\t\5\2\2\u013a\35\3\2\2\2\u013b\u013c\t\6\2\2\u013c\37\3\2"+
-		"\2\2\u013d\u013e\5\u00b4[\2\u013e!\3\2\2\2\u013f\u0140\t\7\2\2\u0140#"+
-		"\3\2\2\2\u0141\u0142\7r\2\2\u0142\u0143\7t\2\2\u0143\u0144\7\24\2\2\u0144"+
-		"\u0145\7\u00a8\2\2\u0145%\3\2\2\2\u0146\u0147\7s\2\2\u0147\u0148\7t\2"+
-		"\2\u0148\u0149\7\24\2\2\u0149\u014a\7\u00a8\2\2\u014a\'\3\2\2\2\u014b"+
-		"\u014c\7H\2\2\u014c\u014d\5\u00b2Z\2\u014d\u014f\7\3\2\2\u014e\u0150\5"+
-		"T+\2\u014f\u014e\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0151\3\2\2\2\u0151"+
-		"\u0152\7\4\2\2\u0152)\3\2\2\2\u0153\u0154\7S\2\2\u0154\u0155\t\4\2\2\u0155"+
-		"\u0156\5 \21\2\u0156+\3\2\2\2\u0157\u0158\7\u00a8\2\2\u0158-\3\2\2\2\u0159"+
-		"\u015a\7e\2\2\u015a\u015b\7f\2\2\u015b\u015c\7\u00a8\2\2\u015c/\3\2\2"+
-		"\2\u015d\u015e\7e\2\2\u015e\u015f\7g\2\2\u015f\u0160\7h\2\2\u0160\u0161"+
-		"\7i\2\2\u0161\u0162\5\62\32\2\u0162\61\3\2\2\2\u0163\u0164\7\u00a8\2\2"+
-		"\u0164\63\3\2\2\2\u0165\u0166\7e\2\2\u0166\u0167\7j\2\2\u0167\u0168\5"+
-		"\66\34\2\u0168\65\3\2\2\2\u0169\u016e\58\35\2\u016a\u016b\7\5\2\2\u016b"+
-		"\u016d\58\35\2\u016c\u016a\3\2\2\2\u016d\u0170\3\2\2\2\u016e\u016c\3\2"+
-		"\2\2\u016e\u016f\3\2\2\2\u016f\67\3\2\2\2\u0170\u016e\3\2\2\2\u0171\u0174"+
-		"\5\u0096L\2\u0172\u0174\5:\36\2\u0173\u0171\3\2\2\2\u0173\u0172\3\2\2"+
-		"\2\u01749\3\2\2\2\u0175\u0178\5> \2\u0176\u0178\5<\37\2\u0177\u0175\3"+
-		"\2\2\2\u0177\u0176\3\2\2\2\u0178;\3\2\2\2\u0179\u017a\7\6\2\2\u017a\u017b"+
-		"\7\u00a8\2\2\u017b\u017c\7\4\2\2\u017c=\3\2\2\2\u017d\u017f\5@!\2\u017e"+
-		"\u017d\3\2\2\2\u017e\u017f\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0182\7\7"+
-		"\2\2\u0181\u0183\5T+\2\u0182\u0181\3\2\2\2\u0182\u0183\3\2\2\2\u0183\u0184"+
-		"\3\2\2\2\u0184\u0185\7\b\2\2\u0185?\3\2\2\2\u0186\u0187\7\u0081\2\2\u0187"+
-		"\u0188\5B\"\2\u0188\u0189\7\u0083\2\2\u0189A\3\2\2\2\u018a\u018b\7\u00a8"+
-		"\2\2\u018bC\3\2\2\2\u018c\u018d\7d\2\2\u018d\u018e\5\u00b2Z\2\u018e\u0190"+
-		"\7\3\2\2\u018f\u0191\5T+\2\u0190\u018f\3\2\2\2\u0190\u0191\3\2\2\2\u0191"+
-		"\u0192\3\2\2\2\u0192\u0195\7\4\2\2\u0193\u0196\5F$\2\u0194\u0196\5H%\2"+
-		"\u0195\u0193\3\2\2\2\u0195\u0194\3\2\2\2\u0196E\3\2\2\2\u0197\u0198\7"+
-		"Q\2\2\u0198\u0199\5L\'\2\u0199\u019a\7e\2\2\u019a\u019e\5N(\2\u019b\u019c"+
-		"\7\36\2\2\u019c\u019d\7w\2\2\u019d\u019f\5R*\2\u019e\u019b\3\2\2\2\u019e"+
-		"\u019f\3\2\2\2\u019f\u01a1\3\2\2\2\u01a0\u01a2\5J&\2\u01a1\u01a0\3\2\2"+
-		"\2\u01a1\u01a2\3\2\2\2\u01a2G\3\2\2\2\u01a3\u01a4\7\17\2\2\u01a4\u01a5"+
-		"\t\4\2\2\u01a5\u01a7\5 \21\2\u01a6\u01a3\3\2\2\2\u01a6\u01a7\3\2\2\2\u01a7"+
-		"I\3\2\2\2\u01a8\u01a9\7\t\2\2\u01a9K\3\2\2\2\u01aa\u01ab\7m\2\2\u01ab"+
-		"\u01ac\5,\27\2\u01acM\3\2\2\2\u01ad\u01ae\7v\2\2\u01ae\u01af\5P)\2\u01af"+
-		"O\3\2\2\2\u01b0\u01b1\7\u00a8\2\2\u01b1Q\3\2\2\2\u01b2\u01b3\5\u009eP"+
-		"\2\u01b3S\3\2\2\2\u01b4\u01b5\5\66\34\2\u01b5U\3\2\2\2\u01b6\u01b7\5^"+
-		"\60\2\u01b7\u01b8\5X-\2\u01b8W\3\2\2\2\u01b9\u01bb\5Z.\2\u01ba\u01b9\3"+
-		"\2\2\2\u01ba\u01bb\3\2\2\2\u01bb\u01bd\3\2\2\2\u01bc\u01be\5\\/\2\u01bd"+
-		"\u01bc\3\2\2\2\u01bd\u01be\3\2\2\2\u01beY\3\2\2\2\u01bf\u01c0\7\31\2\2"+
-		"\u01c0\u01c1\7\24\2\2\u01c1\u01c6\5b\62\2\u01c2\u01c3\7\5\2\2\u01c3\u01c5"+
-		"\5b\62\2\u01c4\u01c2\3\2\2\2\u01c5\u01c8\3\2\2\2\u01c6\u01c4\3\2\2\2\u01c6"+
-		"\u01c7\3\2\2\2\u01c7[\3\2\2\2\u01c8\u01c6\3\2\2\2\u01c9\u01ca\7\33\2\2"+
-		"\u01ca\u01cb\5\u0088E\2\u01cb]\3\2\2\2\u01cc\u01cd\b\60\1\2\u01cd\u01ce"+
-		"\5`\61\2\u01ce\u01d7\3\2\2\2\u01cf\u01d0\f\3\2\2\u01d0\u01d2\t\b\2\2\u01d1"+
-		"\u01d3\5p9\2\u01d2\u01d1\3\2\2\2\u01d2\u01d3\3\2\2\2\u01d3\u01d4\3\2\2"+
-		"\2\u01d4\u01d6\5^\60\4\u01d5\u01cf\3\2\2\2\u01d6\u01d9\3\2\2\2\u01d7\u01d5"+
-		"\3\2\2\2\u01d7\u01d8\3\2\2\2\u01d8_\3\2\2\2\u01d9\u01d7\3\2\2\2\u01da"+
-		"\u01e0\5d\63\2\u01db\u01dc\7\3\2\2\u01dc\u01dd\5V,\2\u01dd\u01de\7\4\2"+
-		"\2\u01de\u01e0\3\2\2\2\u01df\u01da\3\2\2\2\u01df\u01db\3\2\2\2\u01e0a"+
-		"\3\2\2\2\u01e1\u01e3\5\u0088E\2\u01e2\u01e4\t\t\2\2\u01e3\u01e2\3\2\2"+
-		"\2\u01e3\u01e4\3\2\2\2\u01e4\u01e7\3\2\2\2\u01e5\u01e6\7*\2\2\u01e6\u01e8"+
-		"\t\n\2\2\u01e7\u01e5\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8c\3\2\2\2\u01e9"+
-		"\u01ea\5f\64\2\u01ea\u01ec\5l\67\2\u01eb\u01ed\5h\65\2\u01ec\u01eb\3\2"+
-		"\2\2\u01ec\u01ed\3\2\2\2\u01ed\u01ef\3\2\2\2\u01ee\u01f0\5n8\2\u01ef\u01ee"+
-		"\3\2\2\2\u01ef\u01f0\3\2\2\2\u01f0\u01f2\3\2\2\2\u01f1\u01f3\5j\66\2\u01f2"+
-		"\u01f1\3\2\2\2\u01f2\u01f3\3\2\2\2\u01f3e\3\2\2\2\u01f4\u01f6\7\f\2\2"+
-		"\u01f5\u01f7\5p9\2\u01f6\u01f5\3\2\2\2\u01f6\u01f7\3\2\2\2\u01f7\u01f8"+
-		"\3\2\2\2\u01f8\u01f9\5\u0086D\2\u01f9g\3\2\2\2\u01fa\u01fb\7\22\2\2\u01fb"+
-		"\u01fc\5\u008aF\2\u01fci\3\2\2\2\u01fd\u01fe\7\32\2\2\u01fe\u01ff\5\u008a"+
-		"F\2\u01ffk\3\2\2\2\u0200\u0201\7\r\2\2\u0201\u0206\5r:\2\u0202\u0203\7"+
-		"\5\2\2\u0203\u0205\5r:\2\u0204\u0202\3\2\2\2\u0205\u0208\3\2\2\2\u0206"+
-		"\u0204\3\2\2\2\u0206\u0207\3\2\2\2\u0207m\3\2\2\2\u0208\u0206\3\2\2\2"+
-		"\u0209\u020a\7\23\2\2\u020a\u020b\7\24\2\2\u020b\u0210\5\u0088E\2\u020c"+
-		"\u020d\7\5\2\2\u020d\u020f\5\u0088E\2\u020e\u020c\3\2\2\2\u020f\u0212"+
-		"\3\2\2\2\u0210\u020e\3\2\2\2\u0210\u0211\3\2\2\2\u0211o\3\2\2\2\u0212"+
-		"\u0210\3\2\2\2\u0213\u0214\t\13\2\2\u0214q\3\2\2\2\u0215\u0219\5~@\2\u0216"+
-		"\u0218\5t;\2\u0217\u0216\3\2\2\2\u0218\u021b\3\2\2\2\u0219\u0217\3\2\2"+
-		"\2\u0219\u021a\3\2\2\2\u021as\3\2\2\2\u021b\u0219\3\2\2\2\u021c\u021d"+
-		"\5v<\2\u021d\u021e\7\65\2\2\u021e\u0220\5~@\2\u021f\u0221\5x=\2\u0220"+
-		"\u021f\3\2\2\2\u0220\u0221\3\2\2\2\u0221u\3\2\2\2\u0222\u0224\78\2\2\u0223"+
-		"\u0222\3\2\2\2\u0223\u0224\3\2\2\2\u0224\u0233\3\2\2\2\u0225\u0233\7\66"+
-		"\2\2\u0226\u0228\79\2\2\u0227\u0229\7\67\2\2\u0228\u0227\3\2\2\2\u0228"+
-		"\u0229\3\2\2\2\u0229\u0233\3\2\2\2\u022a\u022c\7;\2\2\u022b\u022d\7\67"+
-		"\2\2\u022c\u022b\3\2\2\2\u022c\u022d\3\2\2\2\u022d\u0233\3\2\2\2\u022e"+
-		"\u0230\7<\2\2\u022f\u0231\7\67\2\2\u0230\u022f\3\2\2\2\u0230\u0231\3\2"+
-		"\2\2\u0231\u0233\3\2\2\2\u0232\u0223\3\2\2\2\u0232\u0225\3\2\2\2\u0232"+
-		"\u0226\3\2\2\2\u0232\u022a\3\2\2\2\u0232\u022e\3\2\2\2\u0233w\3\2\2\2"+
-		"\u0234\u0235\7>\2\2\u0235\u0236\5\u008aF\2\u0236y\3\2\2\2\u0237\u0238"+
-		"\7\3\2\2\u0238\u0239\5|?\2\u0239\u023a\7\4\2\2\u023a{\3\2\2\2\u023b\u0240"+
-		"\5\u00b4[\2\u023c\u023d\7\5\2\2\u023d\u023f\5\u00b4[\2\u023e\u023c\3\2"+
-		"\2\2\u023f\u0242\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241"+
-		"}\3\2\2\2\u0242\u0240\3\2\2\2\u0243\u0248\5\u0082B\2\u0244\u0246\7\17"+
-		"\2\2\u0245\u0244\3\2\2\2\u0245\u0246\3\2\2\2\u0246\u0247\3\2\2\2\u0247"+
-		"\u0249\5\u00b6\\\2\u0248\u0245\3\2\2\2\u0248\u0249\3\2\2\2\u0249\u025e"+
-		"\3\2\2\2\u024a\u024b\7\3\2\2\u024b\u024c\5V,\2\u024c\u0251\7\4\2\2\u024d"+
-		"\u024f\7\17\2\2\u024e\u024d\3\2\2\2\u024e\u024f\3\2\2\2\u024f\u0250\3"+
-		"\2\2\2\u0250\u0252\5\u00b6\\\2\u0251\u024e\3\2\2\2\u0251\u0252\3\2\2\2"+
-		"\u0252\u025e\3\2\2\2\u0253\u025e\5\u0080A\2\u0254\u0255\7\3\2\2\u0255"+
-		"\u0256\5r:\2\u0256\u025b\7\4\2\2\u0257\u0259\7\17\2\2\u0258\u0257\3\2"+
-		"\2\2\u0258\u0259\3\2\2\2\u0259\u025a\3\2\2\2\u025a\u025c\5\u00b6\\\2\u025b"+
-		"\u0258\3\2\2\2\u025b\u025c\3\2\2\2\u025c\u025e\3\2\2\2\u025d\u0243\3\2"+
-		"\2\2\u025d\u024a\3\2\2\2\u025d\u0253\3\2\2\2\u025d\u0254\3\2\2\2\u025e"+
-		"\177\3\2\2\2\u025f\u0260\7B\2\2\u0260\u0265\5\u0088E\2\u0261\u0262\7\5"+
-		"\2\2\u0262\u0264\5\u0088E\2\u0263\u0261\3\2\2\2\u0264\u0267\3\2\2\2\u0265"+
-		"\u0263\3\2\2\2\u0265\u0266\3\2\2\2\u0266\u026f\3\2\2\2\u0267\u0265\3\2"+
-		"\2\2\u0268\u026a\7\17\2\2\u0269\u0268\3\2\2\2\u0269\u026a\3\2\2\2\u026a"+
-		"\u026b\3\2\2\2\u026b\u026d\5\u00b4[\2\u026c\u026e\5z>\2\u026d\u026c\3"+
-		"\2\2\2\u026d\u026e\3\2\2\2\u026e\u0270\3\2\2\2\u026f\u0269\3\2\2\2\u026f"+
-		"\u0270\3\2\2\2\u0270\u0081\3\2\2\2\u0271\u0272\5\u00b4[\2\u0272\u0273"+
-		"\7\n\2\2\u0273\u0275\3\2\2\2\u0274\u0271\3\2\2\2\u0274\u0275\3\2\2\2\u0275"+
-		"\u0276\3\2\2\2\u0276\u0277\5\u00b4[\2\u0277\u0083\3\2\2\2\u0278\u0280"+
-		"\5\u0088E\2\u0279\u027b\7\17\2\2\u027a\u0279\3\2\2\2\u027a\u027b\3\2\2"+
-		"\2\u027b\u027e\3\2\2\2\u027c\u027f\5\u00b4[\2\u027d\u027f\5z>\2\u027e"+
-		"\u027c\3\2\2\2\u027e\u027d\3\2\2\2\u027f\u0281\3\2\2\2\u0280\u027a\3\2"+
-		"\2\2\u0280\u0281\3\2\2\2\u0281\u0085\3\2\2\2\u0282\u0287\5\u0084C\2\u0283"+
-		"\u0284\7\5\2\2\u0284\u0286\5\u0084C\2\u0285\u0283\3\2\2\2\u0286\u0289"+
-		"\3\2\2\2\u0287\u0285\3\2\2\2\u0287\u0288\3\2\2\2\u0288\u0087\3\2\2\2\u0289"+
-		"\u0287\3\2\2\2\u028a\u028b\5\u008aF\2\u028b\u0089\3\2\2\2\u028c\u028d"+
-		"\bF\1\2\u028d\u028e\7 \2\2\u028e\u0291\5\u008aF\6\u028f\u0291\5\u008c"+
-		"G\2\u0290\u028c\3\2\2\2\u0290\u028f\3\2\2\2\u0291\u029a\3\2\2\2\u0292"+
-		"\u0293\f\4\2\2\u0293\u0294\7\36\2\2\u0294\u0299\5\u008aF\5\u0295\u0296"+
-		"\f\3\2\2\u0296\u0297\7\35\2\2\u0297\u0299\5\u008aF\4\u0298\u0292\3\2\2"+
-		"\2\u0298\u0295\3\2\2\2\u0299\u029c\3\2\2\2\u029a\u0298\3\2\2\2\u029a\u029b"+
-		"\3\2\2\2\u029b\u008b\3\2\2\2\u029c\u029a\3\2\2\2\u029d\u029f\5\u0090I"+
-		"\2\u029e\u02a0\5\u008eH\2\u029f\u029e\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0"+
-		"\u008d\3\2\2\2\u02a1\u02a3\7 \2\2\u02a2\u02a1\3\2\2\2\u02a2\u02a3\3\2"+
-		"\2\2\u02a3\u02a4\3\2\2\2\u02a4\u02a5\7#\2\2\u02a5\u02a6\5\u0090I\2\u02a6"+
-		"\u02a7\7\36\2\2\u02a7\u02a8\5\u0090I\2\u02a8\u02cb\3\2\2\2\u02a9\u02ab"+
-		"\7 \2\2\u02aa\u02a9\3\2\2\2\u02aa\u02ab\3\2\2\2\u02ab\u02ac\3\2\2\2\u02ac"+
-		"\u02ad\7\37\2\2\u02ad\u02ae\7\3\2\2\u02ae\u02b3\5\u0088E\2\u02af\u02b0"+
-		"\7\5\2\2\u02b0\u02b2\5\u0088E\2\u02b1\u02af\3\2\2\2\u02b2\u02b5\3\2\2"+
-		"\2\u02b3\u02b1\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02b6\3\2\2\2\u02b5\u02b3"+
-		"\3\2\2\2\u02b6\u02b7\7\4\2\2\u02b7\u02cb\3\2\2\2\u02b8\u02ba\7 \2\2\u02b9"+
-		"\u02b8\3\2\2\2\u02b9\u02ba\3\2\2\2\u02ba\u02bb\3\2\2\2\u02bb\u02bc\7\37"+
-		"\2\2\u02bc\u02bd\7\3\2\2\u02bd\u02be\5V,\2\u02be\u02bf\7\4\2\2\u02bf\u02cb"+
-		"\3\2\2\2\u02c0\u02c2\7 \2\2\u02c1\u02c0\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2"+
-		"\u02c3\3\2\2\2\u02c3\u02c4\t\f\2\2\u02c4\u02cb\5\u0090I\2\u02c5\u02c7"+
-		"\7&\2\2\u02c6\u02c8\7 \2\2\u02c7\u02c6\3\2\2\2\u02c7\u02c8\3\2\2\2\u02c8"+
-		"\u02c9\3\2\2\2\u02c9\u02cb\7\'\2\2\u02ca\u02a2\3\2\2\2\u02ca\u02aa\3\2"+
-		"\2\2\u02ca\u02b9\3\2\2\2\u02ca\u02c1\3\2\2\2\u02ca\u02c5\3\2\2\2\u02cb"+
-		"\u008f\3\2\2\2\u02cc\u02cd\bI\1\2\u02cd\u02ce\t\r\2\2\u02ce\u02d2\5\u0090"+
-		"I\13\u02cf\u02d2\5\u0094K\2\u02d0\u02d2\5\u0092J\2\u02d1\u02cc\3\2\2\2"+
-		"\u02d1\u02cf\3\2\2\2\u02d1\u02d0\3\2\2\2\u02d2\u02ea\3\2\2\2\u02d3\u02d4"+
-		"\f\n\2\2\u02d4\u02d5\t\16\2\2\u02d5\u02e9\5\u0090I\13\u02d6\u02d7\f\t"+
-		"\2\2\u02d7\u02d8\t\17\2\2\u02d8\u02e9\5\u0090I\n\u02d9\u02da\f\b\2\2\u02da"+
-		"\u02db\7\u008c\2\2\u02db\u02e9\5\u0090I\t\u02dc\u02dd\f\7\2\2\u02dd\u02de"+
-		"\7\u008e\2\2\u02de\u02e9\5\u0090I\b\u02df\u02e0\f\6\2\2\u02e0\u02e1\7"+
-		"\u008d\2\2\u02e1\u02e9\5\u0090I\7\u02e2\u02e3\f\5\2\2\u02e3\u02e4\5\u0098"+
-		"M\2\u02e4\u02e5\5\u0090I\6\u02e5\u02e9\3\2\2\2\u02e6\u02e7\f\4\2\2\u02e7"+
-		"\u02e9\5\u008eH\2\u02e8\u02d3\3\2\2\2\u02e8\u02d6\3\2\2\2\u02e8\u02d9"+
-		"\3\2\2\2\u02e8\u02dc\3\2\2\2\u02e8\u02df\3\2\2\2\u02e8\u02e2\3\2\2\2\u02e8"+
-		"\u02e6\3\2\2\2\u02e9\u02ec\3\2\2\2\u02ea\u02e8\3\2\2\2\u02ea\u02eb\3\2"+
-		"\2\2\u02eb\u0091\3\2\2\2\u02ec\u02ea\3\2\2\2\u02ed\u02ee\7\u008f\2\2\u02ee"+
-		"\u0093\3\2\2\2\u02ef\u02f0\bK\1\2\u02f0\u034e\t\20\2\2\u02f1\u02f3\7\60"+
-		"\2\2\u02f2\u02f4\5\u00b0Y\2\u02f3\u02f2\3\2\2\2\u02f4\u02f5\3\2\2\2\u02f5"+
-		"\u02f3\3\2\2\2\u02f5\u02f6\3\2\2\2\u02f6\u02f9\3\2\2\2\u02f7\u02f8\7\63"+
-		"\2\2\u02f8\u02fa\5\u0088E\2\u02f9\u02f7\3\2\2\2\u02f9\u02fa\3\2\2\2\u02fa"+
-		"\u02fb\3\2\2\2\u02fb\u02fc\7\64\2\2\u02fc\u034e\3\2\2\2\u02fd\u02fe\7"+
-		"\60\2\2\u02fe\u0300\5\u0088E\2\u02ff\u0301\5\u00b0Y\2\u0300\u02ff\3\2"+
-		"\2\2\u0301\u0302\3\2\2\2\u0302\u0300\3\2\2\2\u0302\u0303\3\2\2\2\u0303"+
-		"\u0306\3\2\2\2\u0304\u0305\7\63\2\2\u0305\u0307\5\u0088E\2\u0306\u0304"+
-		"\3\2\2\2\u0306\u0307\3\2\2\2\u0307\u0308\3\2\2\2\u0308\u0309\7\64\2\2"+
-		"\u0309\u034e\3\2\2\2\u030a\u030b\7L\2\2\u030b\u030c\7\3\2\2\u030c\u030d"+
-		"\5\u0088E\2\u030d\u030e\7\17\2\2\u030e\u030f\5\u00a6T\2\u030f\u0310\7"+
-		"\4\2\2\u0310\u034e\3\2\2\2\u0311\u0312\7?\2\2\u0312\u0313\7\3\2\2\u0313"+
-		"\u0316\5\u0088E\2\u0314\u0315\7c\2\2\u0315\u0317\7*\2\2\u0316\u0314\3"+
-		"\2\2\2\u0316\u0317\3\2\2\2\u0317\u0318\3\2\2\2\u0318\u0319\7\4\2\2\u0319"+
-		"\u034e\3\2\2\2\u031a\u031b\7A\2\2\u031b\u031c\7\3\2\2\u031c\u031f\5\u0088"+
-		"E\2\u031d\u031e\7c\2\2\u031e\u0320\7*\2\2\u031f\u031d\3\2\2\2\u031f\u0320"+
-		"\3\2\2\2\u0320\u0321\3\2\2\2\u0321\u0322\7\4\2\2\u0322\u034e\3\2\2\2\u0323"+
-		"\u034e\5\u0096L\2\u0324\u034e\7\u0087\2\2\u0325\u0326\5\u00b2Z\2\u0326"+
-		"\u0327\7\n\2\2\u0327\u0328\7\u0087\2\2\u0328\u034e\3\2\2\2\u0329\u032a"+
-		"\7\3\2\2\u032a\u032d\5\u0084C\2\u032b\u032c\7\5\2\2\u032c\u032e\5\u0084"+
-		"C\2\u032d\u032b\3\2\2\2\u032e\u032f\3\2\2\2\u032f\u032d\3\2\2\2\u032f"+
-		"\u0330\3\2\2\2\u0330\u0331\3\2\2\2\u0331\u0332\7\4\2\2\u0332\u034e\3\2"+
-		"\2\2\u0333\u0334\7\3\2\2\u0334\u0335\5V,\2\u0335\u0336\7\4\2\2\u0336\u034e"+
-		"\3\2\2\2\u0337\u0338\5\u00b2Z\2\u0338\u0344\7\3\2\2\u0339\u033b\5p9\2"+
-		"\u033a\u0339\3\2\2\2\u033a\u033b\3\2\2\2\u033b\u033c\3\2\2\2\u033c\u0341"+
-		"\5\u0084C\2\u033d\u033e\7\5\2\2\u033e\u0340\5\u0084C\2\u033f\u033d\3\2"+
-		"\2\2\u0340\u0343\3\2\2\2\u0341\u033f\3\2\2\2\u0341\u0342\3\2\2\2\u0342"+
-		"\u0345\3\2\2\2\u0343\u0341\3\2\2\2\u0344\u033a\3\2\2\2\u0344\u0345\3\2"+
-		"\2\2\u0345\u0346\3\2\2\2\u0346\u0347\7\4\2\2\u0347\u034e\3\2\2\2\u0348"+
-		"\u034e\5\u00b4[\2\u0349\u034a\7\3\2\2\u034a\u034b\5\u0088E\2\u034b\u034c"+
-		"\7\4\2\2\u034c\u034e\3\2\2\2\u034d\u02ef\3\2\2\2\u034d\u02f1\3\2\2\2\u034d"+
-		"\u02fd\3\2\2\2\u034d\u030a\3\2\2\2\u034d\u0311\3\2\2\2\u034d\u031a\3\2"+
-		"\2\2\u034d\u0323\3\2\2\2\u034d\u0324\3\2\2\2\u034d\u0325\3\2\2\2\u034d"+
-		"\u0329\3\2\2\2\u034d\u0333\3\2\2\2\u034d\u0337\3\2\2\2\u034d\u0348\3\2"+
-		"\2\2\u034d\u0349\3\2\2\2\u034e\u0359\3\2\2\2\u034f\u0350\f\6\2\2\u0350"+
-		"\u0351\7\7\2\2\u0351\u0352\5\u0090I\2\u0352\u0353\7\b\2\2\u0353\u0358"+
-		"\3\2\2\2\u0354\u0355\f\4\2\2\u0355\u0356\7\n\2\2\u0356\u0358\5\u00b4["+
-		"\2\u0357\u034f\3\2\2\2\u0357\u0354\3\2\2\2\u0358\u035b\3\2\2\2\u0359\u0357"+
-		"\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u0095\3\2\2\2\u035b\u0359\3\2\2\2\u035c"+
-		"\u0369\7\'\2\2\u035d\u0369\5\u00a0Q\2\u035e\u035f\5\u00b4[\2\u035f\u0360"+
-		"\7\u00a8\2\2\u0360\u0369\3\2\2\2\u0361\u0369\5\u00ba^\2\u0362\u0369\5"+
-		"\u009eP\2\u0363\u0365\7\u00a8\2\2\u0364\u0363\3\2\2\2\u0365\u0366\3\2"+
-		"\2\2\u0366\u0364\3\2\2\2\u0366\u0367\3\2\2\2\u0367\u0369\3\2\2\2\u0368"+
-		"\u035c\3\2\2\2\u0368\u035d\3\2\2\2\u0368\u035e\3\2\2\2\u0368\u0361\3\2"+
-		"\2\2\u0368\u0362\3\2\2\2\u0368\u0364\3\2\2\2\u0369\u0097\3\2\2\2\u036a"+
-		"\u036b\t\21\2\2\u036b\u0099\3\2\2\2\u036c\u036d\t\22\2\2\u036d\u009b\3"+
-		"\2\2\2\u036e\u036f\t\23\2\2\u036f\u009d\3\2\2\2\u0370\u0371\t\24\2\2\u0371"+
-		"\u009f\3\2\2\2\u0372\u0376\7/\2\2\u0373\u0375\5\u00a2R\2\u0374\u0373\3"+
-		"\2\2\2\u0375\u0378\3\2\2\2\u0376\u0374\3\2\2\2\u0376\u0377\3\2\2\2\u0377"+
-		"\u00a1\3\2\2\2\u0378\u0376\3\2\2\2\u0379\u037a\5\u00a4S\2\u037a\u037d"+
-		"\5\u00b4[\2\u037b\u037c\7X\2\2\u037c\u037e\5\u00b4[\2\u037d\u037b\3\2"+
-		"\2\2\u037d\u037e\3\2\2\2\u037e\u00a3\3\2\2\2\u037f\u0381\t\17\2\2\u0380"+
-		"\u037f\3\2\2\2\u0380\u0381\3\2\2\2\u0381\u0382\3\2\2\2\u0382\u0385\t\25"+
-		"\2\2\u0383\u0385\7\u00a8\2\2\u0384\u0380\3\2\2\2\u0384\u0383\3\2\2\2\u0385"+
-		"\u00a5\3\2\2\2\u0386\u0387\7[\2\2\u0387\u0388\7\u0081\2\2\u0388\u0389"+
-		"\5\u00a6T\2\u0389\u038a\7\u0083\2\2\u038a\u03a9\3\2\2\2\u038b\u038c\7"+
-		"\\\2\2\u038c\u038d\7\u0081\2\2\u038d\u038e\5\u00a6T\2\u038e\u038f\7\5"+
-		"\2\2\u038f\u0390\5\u00a6T\2\u0390\u0391\7\u0083\2\2\u0391\u03a9\3\2\2"+
-		"\2\u0392\u0399\7]\2\2\u0393\u0395\7\u0081\2\2\u0394\u0396\5\u00acW\2\u0395"+
-		"\u0394\3\2\2\2\u0395\u0396\3\2\2\2\u0396\u0397\3\2\2\2\u0397\u039a\7\u0083"+
-		"\2\2\u0398\u039a\7\177\2\2\u0399\u0393\3\2\2\2\u0399\u0398\3\2\2\2\u039a"+
-		"\u03a9\3\2\2\2\u039b\u03a6\5\u00b4[\2\u039c\u039d\7\3\2\2\u039d\u03a2"+
-		"\7\u00ad\2\2\u039e\u039f\7\5\2\2\u039f\u03a1\7\u00ad\2\2\u03a0\u039e\3"+
-		"\2\2\2\u03a1\u03a4\3\2\2\2\u03a2\u03a0\3\2\2\2\u03a2\u03a3\3\2\2\2\u03a3"+
-		"\u03a5\3\2\2\2\u03a4\u03a2\3\2\2\2\u03a5\u03a7\7\4\2\2\u03a6\u039c\3\2"+
-		"\2\2\u03a6\u03a7\3\2\2\2\u03a7\u03a9\3\2\2\2\u03a8\u0386\3\2\2\2\u03a8"+
-		"\u038b\3\2\2\2\u03a8\u0392\3\2\2\2\u03a8\u039b\3\2\2\2\u03a9\u00a7\3\2"+
-		"\2\2\u03aa\u03af\5\u00aaV\2\u03ab\u03ac\7\5\2\2\u03ac\u03ae\5\u00aaV\2"+
-		"\u03ad\u03ab\3\2\2\2\u03ae\u03b1\3\2\2\2\u03af\u03ad\3\2\2\2\u03af\u03b0"+
-		"\3\2\2\2\u03b0\u00a9\3\2\2\2\u03b1\u03af\3\2\2\2\u03b2\u03b3\5\u00b4["+
-		"\2\u03b3\u03b6\5\u00a6T\2\u03b4\u03b5\7^\2\2\u03b5\u03b7\7\u00a8\2\2\u03b6"+
-		"\u03b4\3\2\2\2\u03b6\u03b7\3\2\2\2\u03b7\u00ab\3\2\2\2\u03b8\u03bd\5\u00ae"+
-		"X\2\u03b9\u03ba\7\5\2\2\u03ba\u03bc\5\u00aeX\2\u03bb\u03b9\3\2\2\2\u03bc"+
-		"\u03bf\3\2\2\2\u03bd\u03bb\3\2\2\2\u03bd\u03be\3\2\2\2\u03be\u00ad\3\2"+
-		"\2\2\u03bf\u03bd\3\2\2\2\u03c0\u03c1\5\u00b4[\2\u03c1\u03c2\7\13\2\2\u03c2"+
-		"\u03c5\5\u00a6T\2\u03c3\u03c4\7^\2\2\u03c4\u03c6\7\u00a8\2\2\u03c5\u03c3"+
-		"\3\2\2\2\u03c5\u03c6\3\2\2\2\u03c6\u00af\3\2\2\2\u03c7\u03c8\7\61\2\2"+
-		"\u03c8\u03c9\5\u0088E\2\u03c9\u03ca\7\62\2\2\u03ca\u03cb\5\u0088E\2\u03cb"+
-		"\u00b1\3\2\2\2\u03cc\u03d1\5\u00b4[\2\u03cd\u03ce\7\n\2\2\u03ce\u03d0"+
-		"\5\u00b4[\2\u03cf\u03cd\3\2\2\2\u03d0\u03d3\3\2\2\2\u03d1\u03cf\3\2\2"+
-		"\2\u03d1\u03d2\3\2\2\2\u03d2\u00b3\3\2\2\2\u03d3\u03d1\3\2\2\2\u03d4\u03e3"+
-		"\5\u00b6\\\2\u03d5\u03e3\7<\2\2\u03d6\u03e3\78\2\2\u03d7\u03e3\79\2\2"+
-		"\u03d8\u03e3\7:\2\2\u03d9\u03e3\7;\2\2\u03da\u03e3\7=\2\2\u03db\u03e3"+
-		"\7\65\2\2\u03dc\u03e3\7\66\2\2\u03dd\u03e3\7>\2\2\u03de\u03e3\7T\2\2\u03df"+
-		"\u03e3\7W\2\2\u03e0\u03e3\7U\2\2\u03e1\u03e3\7V\2\2\u03e2\u03d4\3\2\2"+
-		"\2\u03e2\u03d5\3\2\2\2\u03e2\u03d6\3\2\2\2\u03e2\u03d7\3\2\2\2\u03e2\u03d8"+
-		"\3\2\2\2\u03e2\u03d9\3\2\2\2\u03e2\u03da\3\2\2\2\u03e2\u03db\3\2\2\2\u03e2"+
-		"\u03dc\3\2\2\2\u03e2\u03dd\3\2\2\2\u03e2\u03de\3\2\2\2\u03e2\u03df\3\2"+
-		"\2\2\u03e2\u03e0\3\2\2\2\u03e2\u03e1\3\2\2\2\u03e3\u00b5\3\2\2\2\u03e4"+
-		"\u03e8\7\u00b1\2\2\u03e5\u03e8\5\u00b8]\2\u03e6\u03e8\5\u00bc_\2\u03e7"+
-		"\u03e4\3\2\2\2\u03e7\u03e5\3\2\2\2\u03e7\u03e6\3\2\2\2\u03e8\u00b7\3\2"+
-		"\2\2\u03e9\u03ea\7\u00b3\2\2\u03ea\u00b9\3\2\2\2\u03eb\u03ed\7\u0086\2"+
-		"\2\u03ec\u03eb\3\2\2\2\u03ec\u03ed\3\2\2\2\u03ed\u03ee\3\2\2\2\u03ee\u0408"+
-		"\7\u00ae\2\2\u03ef\u03f1\7\u0086\2\2\u03f0\u03ef\3\2\2\2\u03f0\u03f1\3"+
-		"\2\2\2\u03f1\u03f2\3\2\2\2\u03f2\u0408\7\u00ad\2\2\u03f3\u03f5\7\u0086"+
-		"\2\2\u03f4\u03f3\3\2\2\2\u03f4\u03f5\3\2\2\2\u03f5\u03f6\3\2\2\2\u03f6"+
-		"\u0408\7\u00a9\2\2\u03f7\u03f9\7\u0086\2\2\u03f8\u03f7\3\2\2\2\u03f8\u03f9"+
-		"\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u0408\7\u00aa\2\2\u03fb\u03fd\7\u0086"+
-		"\2\2\u03fc\u03fb\3\2\2\2\u03fc\u03fd\3\2\2\2\u03fd\u03fe\3\2\2\2\u03fe"+
-		"\u0408\7\u00ab\2\2\u03ff\u0401\7\u0086\2\2\u0400\u03ff\3\2\2\2\u0400\u0401"+
-		"\3\2\2\2\u0401\u0402\3\2\2\2\u0402\u0408\7\u00af\2\2\u0403\u0405\7\u0086"+
-		"\2\2\u0404\u0403\3\2\2\2\u0404\u0405\3\2\2\2\u0405\u0406\3\2\2\2\u0406"+
-		"\u0408\7\u00b0\2\2\u0407\u03ec\3\2\2\2\u0407\u03f0\3\2\2\2\u0407\u03f4"+
-		"\3\2\2\2\u0407\u03f8\3\2\2\2\u0407\u03fc\3\2\2\2\u0407\u0400\3\2\2\2\u0407"+
-		"\u0404\3\2\2\2\u0408\u00bb\3\2\2\2\u0409\u040a\t\26\2\2\u040a\u00bd\3"+
-		"\2\2\2y\u00cb\u00e2\u00f0\u00f5\u00fd\u0100\u0103\u0106\u010e\u0111\u0114"+
-		"\u0117\u0120\u0127\u012a\u0131\u0137\u014f\u016e\u0173\u0177\u017e\u0182"+
-		"\u0190\u0195\u019e\u01a1\u01a6\u01ba\u01bd\u01c6\u01d2\u01d7\u01df\u01e3"+
-		"\u01e7\u01ec\u01ef\u01f2\u01f6\u0206\u0210\u0219\u0220\u0223\u0228\u022c"+
-		"\u0230\u0232\u0240\u0245\u0248\u024e\u0251\u0258\u025b\u025d\u0265\u0269"+
-		"\u026d\u026f\u0274\u027a\u027e\u0280\u0287\u0290\u0298\u029a\u029f\u02a2"+
-		"\u02aa\u02b3\u02b9\u02c1\u02c7\u02ca\u02d1\u02e8\u02ea\u02f5\u02f9\u0302"+
-		"\u0306\u0316\u031f\u032f\u033a\u0341\u0344\u034d\u0357\u0359\u0366\u0368"+
-		"\u0376\u037d\u0380\u0384\u0395\u0399\u03a2\u03a6\u03a8\u03af\u03b6\u03bd"+
-		"\u03c5\u03d1\u03e2\u03e7\u03ec\u03f0\u03f4\u03f8\u03fc\u0400\u0404\u0407";
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\u00cf"+
+		"\n\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\5\5\u00dd\n\5\3\5"+
+		"\3\5\3\6\3\6\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\b\u00ec\n\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\t\3\t\3\n\3\n\3\n\7\n\u00f8\n\n\f\n\16\n\u00fb\13\n\3\13"+
+		"\3\13\5\13\u00ff\n\13\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u0107\n\f\3\f\5\f\u010a"+
+		"\n\f\3\f\5\f\u010d\n\f\3\f\5\f\u0110\n\f\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u0118"+
+		"\n\r\3\r\5\r\u011b\n\r\3\r\5\r\u011e\n\r\3\r\5\r\u0121\n\r\3\16\3\16\3"+
+		"\16\3\16\3\16\3\16\3\16\5\16\u012a\n\16\3\16\3\16\3\16\3\16\3\16\5\16"+
+		"\u0131\n\16\3\16\5\16\u0134\n\16\3\17\3\17\3\17\3\17\3\17\5\17\u013b\n"+
+		"\17\3\17\3\17\3\17\3\17\5\17\u0141\n\17\3\20\3\20\3\21\3\21\3\22\3\22"+
+		"\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\26\3\26"+
+		"\3\26\3\26\5\26\u0159\n\26\3\26\3\26\3\27\3\27\3\27\3\27\3\30\3\30\3\31"+
+		"\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\34\3\34\3\34"+
+		"\3\34\3\35\3\35\3\35\7\35\u0176\n\35\f\35\16\35\u0179\13\35\3\36\3\36"+
+		"\5\36\u017d\n\36\3\37\3\37\5\37\u0181\n\37\3 \3 \3 \3 \3!\5!\u0188\n!"+
+		"\3!\3!\5!\u018c\n!\3!\3!\3\"\3\"\3\"\3\"\3#\3#\3$\3$\3$\3$\5$\u019a\n"+
+		"$\3$\3$\3$\5$\u019f\n$\3%\3%\3%\3%\3%\3%\3%\5%\u01a8\n%\3%\5%\u01ab\n"+
+		"%\3&\3&\3&\5&\u01b0\n&\3\'\3\'\3(\3(\3(\3)\3)\3)\3*\3*\3+\3+\3,\3,\3-"+
+		"\3-\3-\3.\5.\u01c4\n.\3.\5.\u01c7\n.\3/\3/\3/\3/\3/\7/\u01ce\n/\f/\16"+
+		"/\u01d1\13/\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\5\61\u01dc\n"+
+		"\61\3\61\7\61\u01df\n\61\f\61\16\61\u01e2\13\61\3\62\3\62\3\62\3\62\3"+
+		"\62\5\62\u01e9\n\62\3\63\3\63\5\63\u01ed\n\63\3\63\3\63\5\63\u01f1\n\63"+
+		"\3\64\3\64\3\64\5\64\u01f6\n\64\3\64\5\64\u01f9\n\64\3\64\5\64\u01fc\n"+
+		"\64\3\65\3\65\5\65\u0200\n\65\3\65\3\65\3\66\3\66\3\66\3\67\3\67\3\67"+
+		"\38\38\38\38\78\u020e\n8\f8\168\u0211\138\39\39\39\39\39\79\u0218\n9\f"+
+		"9\169\u021b\139\3:\3:\3;\3;\7;\u0221\n;\f;\16;\u0224\13;\3<\3<\3<\3<\5"+
+		"<\u022a\n<\3=\5=\u022d\n=\3=\3=\3=\5=\u0232\n=\3=\3=\5=\u0236\n=\3=\3"+
+		"=\5=\u023a\n=\5=\u023c\n=\3>\3>\3>\3?\3?\3?\3?\3@\3@\3@\7@\u0248\n@\f"+
+		"@\16@\u024b\13@\3A\3A\5A\u024f\nA\3A\5A\u0252\nA\3A\3A\3A\3A\5A\u0258"+
+		"\nA\3A\5A\u025b\nA\3A\3A\3A\3A\3A\5A\u0262\nA\3A\5A\u0265\nA\5A\u0267"+
+		"\nA\3B\3B\3B\3B\7B\u026d\nB\fB\16B\u0270\13B\3B\5B\u0273\nB\3B\3B\5B\u0277"+
+		"\nB\5B\u0279\nB\3C\3C\3C\5C\u027e\nC\3C\3C\3D\3D\5D\u0284\nD\3D\3D\5D"+
+		"\u0288\nD\5D\u028a\nD\3E\3E\3E\7E\u028f\nE\fE\16E\u0292\13E\3F\3F\3G\3"+
+		"G\3G\3G\5G\u029a\nG\3G\3G\3G\3G\3G\3G\7G\u02a2\nG\fG\16G\u02a5\13G\3H"+
+		"\3H\5H\u02a9\nH\3I\5I\u02ac\nI\3I\3I\3I\3I\3I\3I\5I\u02b4\nI\3I\3I\3I"+
+		"\3I\3I\7I\u02bb\nI\fI\16I\u02be\13I\3I\3I\3I\5I\u02c3\nI\3I\3I\3I\3I\3"+
+		"I\3I\5I\u02cb\nI\3I\3I\3I\3I\5I\u02d1\nI\3I\5I\u02d4\nI\3J\3J\3J\3J\3"+
+		"J\5J\u02db\nJ\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3J\3"+
+		"J\3J\3J\7J\u02f2\nJ\fJ\16J\u02f5\13J\3K\3K\3L\3L\3L\3L\6L\u02fd\nL\rL"+
+		"\16L\u02fe\3L\3L\5L\u0303\nL\3L\3L\3L\3L\3L\6L\u030a\nL\rL\16L\u030b\3"+
+		"L\3L\5L\u0310\nL\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\5L\u0320\n"+
+		"L\3L\3L\3L\3L\3L\3L\3L\5L\u0329\nL\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3L\3"+
+		"L\6L\u0337\nL\rL\16L\u0338\3L\3L\3L\3L\3L\3L\3L\3L\3L\5L\u0344\nL\3L\3"+
+		"L\3L\7L\u0349\nL\fL\16L\u034c\13L\5L\u034e\nL\3L\3L\3L\3L\3L\3L\3L\5L"+
+		"\u0357\nL\3L\3L\3L\3L\3L\3L\3L\3L\7L\u0361\nL\fL\16L\u0364\13L\3M\3M\3"+
+		"M\3M\3M\3M\3M\3M\6M\u036e\nM\rM\16M\u036f\5M\u0372\nM\3N\3N\3O\3O\3P\3"+
+		"P\3Q\3Q\3R\3R\7R\u037e\nR\fR\16R\u0381\13R\3S\3S\3S\3S\5S\u0387\nS\3T"+
+		"\5T\u038a\nT\3T\3T\5T\u038e\nT\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U"+
+		"\3U\3U\5U\u039f\nU\3U\3U\5U\u03a3\nU\3U\3U\3U\3U\3U\7U\u03aa\nU\fU\16"+
+		"U\u03ad\13U\3U\5U\u03b0\nU\5U\u03b2\nU\3V\3V\3V\7V\u03b7\nV\fV\16V\u03ba"+
+		"\13V\3W\3W\3W\3W\5W\u03c0\nW\3X\3X\3X\7X\u03c5\nX\fX\16X\u03c8\13X\3Y"+
+		"\3Y\3Y\3Y\3Y\5Y\u03cf\nY\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\7[\u03d9\n[\f[\16[\u03dc"+
+		"\13[\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\\5\\\u03ec"+
+		"\n\\\3]\3]\3]\5]\u03f1\n]\3^\3^\3_\5_\u03f6\n_\3_\3_\5_\u03fa\n_\3_\3"+
+		"_\5_\u03fe\n_\3_\3_\5_\u0402\n_\3_\3_\5_\u0406\n_\3_\3_\5_\u040a\n_\3"+
+		"_\3_\5_\u040e\n_\3_\5_\u0411\n_\3`\3`\3`\2\6`\u008c\u0092\u0096a\2\4\6"+
+		"\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRT"+
+		"VXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e"+
+		"\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6"+
+		"\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be"+
+		"\2\27\3\2\u00b1\u00b2\4\2lm\u0093\u0093\4\2DDkk\3\2\u00a5\u00a6\4\2\u00a5"+
+		"\u00a5\u00a7\u00a7\3\2pq\3\2TW\3\2+,\4\2??AA\3\2\20\21\3\2$%\4\2\u0085"+
+		"\u0085\u008b\u008b\3\2\u0087\u008a\3\2\u0085\u0086\3\2\u00a3\u00a4\3\2"+
+		"}\u0084\3\2\u0085\u008e\3\2\35 \3\2()\3\2\u00ad\u00ae\n\2\f,.\64\67\67"+
+		"?SXc||\u008a\u008a\u0090\u00a4\u0468\2\u00c0\3\2\2\2\4\u00ce\3\2\2\2\6"+
+		"\u00d0\3\2\2\2\b\u00da\3\2\2\2\n\u00e0\3\2\2\2\f\u00e2\3\2\2\2\16\u00e4"+
+		"\3\2\2\2\20\u00f2\3\2\2\2\22\u00f4\3\2\2\2\24\u00fe\3\2\2\2\26\u0100\3"+
+		"\2\2\2\30\u0111\3\2\2\2\32\u0122\3\2\2\2\34\u0135\3\2\2\2\36\u0142\3\2"+
+		"\2\2 \u0144\3\2\2\2\"\u0146\3\2\2\2$\u0148\3\2\2\2&\u014a\3\2\2\2(\u014f"+
+		"\3\2\2\2*\u0154\3\2\2\2,\u015c\3\2\2\2.\u0160\3\2\2\2\60\u0162\3\2\2\2"+
+		"\62\u0166\3\2\2\2\64\u016c\3\2\2\2\66\u016e\3\2\2\28\u0172\3\2\2\2:\u017c"+
+		"\3\2\2\2<\u0180\3\2\2\2>\u0182\3\2\2\2@\u0187\3\2\2\2B\u018f\3\2\2\2D"+
+		"\u0193\3\2\2\2F\u0195\3\2\2\2H\u01a0\3\2\2\2J\u01af\3\2\2\2L\u01b1\3\2"+
+		"\2\2N\u01b3\3\2\2\2P\u01b6\3\2\2\2R\u01b9\3\2\2\2T\u01bb\3\2\2\2V\u01bd"+
+		"\3\2\2\2X\u01bf\3\2\2\2Z\u01c3\3\2\2\2\\\u01c8\3\2\2\2^\u01d2\3\2\2\2"+
+		"`\u01d5\3\2\2\2b\u01e8\3\2\2\2d\u01ea\3\2\2\2f\u01f2\3\2\2\2h\u01fd\3"+
+		"\2\2\2j\u0203\3\2\2\2l\u0206\3\2\2\2n\u0209\3\2\2\2p\u0212\3\2\2\2r\u021c"+
+		"\3\2\2\2t\u021e\3\2\2\2v\u0225\3\2\2\2x\u023b\3\2\2\2z\u023d\3\2\2\2|"+
+		"\u0240\3\2\2\2~\u0244\3\2\2\2\u0080\u0266\3\2\2\2\u0082\u0268\3\2\2\2"+
+		"\u0084\u027d\3\2\2\2\u0086\u0281\3\2\2\2\u0088\u028b\3\2\2\2\u008a\u0293"+
+		"\3\2\2\2\u008c\u0299\3\2\2\2\u008e\u02a6\3\2\2\2\u0090\u02d3\3\2\2\2\u0092"+
+		"\u02da\3\2\2\2\u0094\u02f6\3\2\2\2\u0096\u0356\3\2\2\2\u0098\u0371\3\2"+
+		"\2\2\u009a\u0373\3\2\2\2\u009c\u0375\3\2\2\2\u009e\u0377\3\2\2\2\u00a0"+
+		"\u0379\3\2\2\2\u00a2\u037b\3\2\2\2\u00a4\u0382\3\2\2\2\u00a6\u038d\3\2"+
+		"\2\2\u00a8\u03b1\3\2\2\2\u00aa\u03b3\3\2\2\2\u00ac\u03bb\3\2\2\2\u00ae"+
+		"\u03c1\3\2\2\2\u00b0\u03c9\3\2\2\2\u00b2\u03d0\3\2\2\2\u00b4\u03d5\3\2"+
+		"\2\2\u00b6\u03eb\3\2\2\2\u00b8\u03f0\3\2\2\2\u00ba\u03f2\3\2\2\2\u00bc"+
+		"\u0410\3\2\2\2\u00be\u0412\3\2\2\2\u00c0\u00c1\5\4\3\2\u00c1\u00c2\7\2"+
+		"\2\3\u00c2\3\3\2\2\2\u00c3\u00cf\5X-\2\u00c4\u00cf\5\16\b\2\u00c5\u00cf"+
+		"\5\26\f\2\u00c6\u00cf\5F$\2\u00c7\u00cf\5\32\16\2\u00c8\u00cf\5*\26\2"+
+		"\u00c9\u00cf\5,\27\2\u00ca\u00cf\5\30\r\2\u00cb\u00cf\5\34\17\2\u00cc"+
+		"\u00cf\5\6\4\2\u00cd\u00cf\5\b\5\2\u00ce\u00c3\3\2\2\2\u00ce\u00c4\3\2"+
+		"\2\2\u00ce\u00c5\3\2\2\2\u00ce\u00c6\3\2\2\2\u00ce\u00c7\3\2\2\2\u00ce"+
+		"\u00c8\3\2\2\2\u00ce\u00c9\3\2\2\2\u00ce\u00ca\3\2\2\2\u00ce\u00cb\3\2"+
+		"\2\2\u00ce\u00cc\3\2\2\2\u00ce\u00cd\3\2\2\2\u00cf\5\3\2\2\2\u00d0\u00d1"+
+		"\7C\2\2\u00d1\u00d2\7y\2\2\u00d2\u00d3\5\u00b6\\\2\u00d3\u00d4\7z\2\2"+
+		"\u00d4\u00d5\7\24\2\2\u00d5\u00d6\5\n\6\2\u00d6\u00d7\7{\2\2\u00d7\u00d8"+
+		"\7X\2\2\u00d8\u00d9\5\f\7\2\u00d9\7\3\2\2\2\u00da\u00dc\7K\2\2\u00db\u00dd"+
+		"\7\u0097\2\2\u00dc\u00db\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00de\3\2\2"+
+		"\2\u00de\u00df\5X-\2\u00df\t\3\2\2\2\u00e0\u00e1\7\u00a8\2\2\u00e1\13"+
+		"\3\2\2\2\u00e2\u00e3\t\2\2\2\u00e3\r\3\2\2\2\u00e4\u00e5\7G\2\2\u00e5"+
+		"\u00e6\7I\2\2\u00e6\u00eb\5\u0084C\2\u00e7\u00e8\7\3\2\2\u00e8\u00e9\5"+
+		"\20\t\2\u00e9\u00ea\7\4\2\2\u00ea\u00ec\3\2\2\2\u00eb\u00e7\3\2\2\2\u00eb"+
+		"\u00ec\3\2\2\2\u00ec\u00ed\3\2\2\2\u00ed\u00ee\7B\2\2\u00ee\u00ef\7\3"+
+		"\2\2\u00ef\u00f0\5\22\n\2\u00f0\u00f1\7\4\2\2\u00f1\17\3\2\2\2\u00f2\u00f3"+
+		"\5~@\2\u00f3\21\3\2\2\2\u00f4\u00f9\5\24\13\2\u00f5\u00f6\7\5\2\2\u00f6"+
+		"\u00f8\5\24\13\2\u00f7\u00f5\3\2\2\2\u00f8\u00fb\3\2\2\2\u00f9\u00f7\3"+
+		"\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\23\3\2\2\2\u00fb\u00f9\3\2\2\2\u00fc"+
+		"\u00ff\5\u0098M\2\u00fd\u00ff\5\u0094K\2\u00fe\u00fc\3\2\2\2\u00fe\u00fd"+
+		"\3\2\2\2\u00ff\25\3\2\2\2\u0100\u0101\7C\2\2\u0101\u0102\t\3\2\2\u0102"+
+		"\u0103\5\u00b4[\2\u0103\u0104\7\17\2\2\u0104\u0106\5.\30\2\u0105\u0107"+
+		"\5\60\31\2\u0106\u0105\3\2\2\2\u0106\u0107\3\2\2\2\u0107\u0109\3\2\2\2"+
+		"\u0108\u010a\5\62\32\2\u0109\u0108\3\2\2\2\u0109\u010a\3\2\2\2\u010a\u010c"+
+		"\3\2\2\2\u010b\u010d\5\66\34\2\u010c\u010b\3\2\2\2\u010c\u010d\3\2\2\2"+
+		"\u010d\u010f\3\2\2\2\u010e\u0110\5\36\20\2\u010f\u010e\3\2\2\2\u010f\u0110"+
+		"\3\2\2\2\u0110\27\3\2\2\2\u0111\u0112\7u\2\2\u0112\u0113\t\3\2\2\u0113"+
+		"\u0114\5\u00b4[\2\u0114\u0115\7\17\2\2\u0115\u0117\5.\30\2\u0116\u0118"+
+		"\5\60\31\2\u0117\u0116\3\2\2\2\u0117\u0118\3\2\2\2\u0118\u011a\3\2\2\2"+
+		"\u0119\u011b\5\62\32\2\u011a\u0119\3\2\2\2\u011a\u011b\3\2\2\2\u011b\u011d"+
+		"\3\2\2\2\u011c\u011e\5\66\34\2\u011d\u011c\3\2\2\2\u011d\u011e\3\2\2\2"+
+		"\u011e\u0120\3\2\2\2\u011f\u0121\5 \21\2\u0120\u011f\3\2\2\2\u0120\u0121"+
+		"\3\2\2\2\u0121\31\3\2\2\2\u0122\u0123\7C\2\2\u0123\u0124\t\4\2\2\u0124"+
+		"\u0129\5\"\22\2\u0125\u0126\7\3\2\2\u0126\u0127\5\u00aaV\2\u0127\u0128"+
+		"\7\4\2\2\u0128\u012a\3\2\2\2\u0129\u0125\3\2\2\2\u0129\u012a\3\2\2\2\u012a"+
+		"\u012b\3\2\2\2\u012b\u012c\7e\2\2\u012c\u012d\7n\2\2\u012d\u012e\7o\2"+
+		"\2\u012e\u0130\5$\23\2\u012f\u0131\5&\24\2\u0130\u012f\3\2\2\2\u0130\u0131"+
+		"\3\2\2\2\u0131\u0133\3\2\2\2\u0132\u0134\5(\25\2\u0133\u0132\3\2\2\2\u0133"+
+		"\u0134\3\2\2\2\u0134\33\3\2\2\2\u0135\u0136\7x\2\2\u0136\u0137\7m\2\2"+
+		"\u0137\u0138\5.\30\2\u0138\u013a\7\3\2\2\u0139\u013b\5V,\2\u013a\u0139"+
+		"\3\2\2\2\u013a\u013b\3\2\2\2\u013b\u013c\3\2\2\2\u013c\u0140\7\4\2\2\u013d"+
+		"\u013e\7\36\2\2\u013e\u013f\7w\2\2\u013f\u0141\5T+\2\u0140\u013d\3\2\2"+
+		"\2\u0140\u0141\3\2\2\2\u0141\35\3\2\2\2\u0142\u0143\t\5\2\2\u0143\37\3"+
+		"\2\2\2\u0144\u0145\t\6\2\2\u0145!\3\2\2\2\u0146\u0147\5\u00b6\\\2\u0147"+
+		"#\3\2\2\2\u0148\u0149\t\7\2\2\u0149%\3\2\2\2\u014a\u014b\7r\2\2\u014b"+
+		"\u014c\7t\2\2\u014c\u014d\7\24\2\2\u014d\u014e\7\u00a8\2\2\u014e\'\3\2"+
+		"\2\2\u014f\u0150\7s\2\2\u0150\u0151\7t\2\2\u0151\u0152\7\24\2\2\u0152"+
+		"\u0153\7\u00a8\2\2\u0153)\3\2\2\2\u0154\u0155\7H\2\2\u0155\u0156\5\u00b4"+
+		"[\2\u0156\u0158\7\3\2\2\u0157\u0159\5V,\2\u0158\u0157\3\2\2\2\u0158\u0159"+
+		"\3\2\2\2\u0159\u015a\3\2\2\2\u015a\u015b\7\4\2\2\u015b+\3\2\2\2\u015c"+
+		"\u015d\7S\2\2\u015d\u015e\t\4\2\2\u015e\u015f\5\"\22\2\u015f-\3\2\2\2"+
+		"\u0160\u0161\7\u00a8\2\2\u0161/\3\2\2\2\u0162\u0163\7e\2\2\u0163\u0164"+
+		"\7f\2\2\u0164\u0165\7\u00a8\2\2\u0165\61\3\2\2\2\u0166\u0167\7e\2\2\u0167"+
+		"\u0168\7g\2\2\u0168\u0169\7h\2\2\u0169\u016a\7i\2\2\u016a\u016b\5\64\33"+
+		"\2\u016b\63\3\2\2\2\u016c\u016d\7\u00a8\2\2\u016d\65\3\2\2\2\u016e\u016f"+
+		"\7e\2\2\u016f\u0170\7j\2\2\u0170\u0171\58\35\2\u0171\67\3\2\2\2\u0172"+
+		"\u0177\5:\36\2\u0173\u0174\7\5\2\2\u0174\u0176\5:\36\2\u0175\u0173\3\2"+
+		"\2\2\u0176\u0179\3\2\2\2\u0177\u0175\3\2\2\2\u0177\u0178\3\2\2\2\u0178"+
+		"9\3\2\2\2\u0179\u0177\3\2\2\2\u017a\u017d\5\u0098M\2\u017b\u017d\5<\37"+
+		"\2\u017c\u017a\3\2\2\2\u017c\u017b\3\2\2\2\u017d;\3\2\2\2\u017e\u0181"+
+		"\5@!\2\u017f\u0181\5> \2\u0180\u017e\3\2\2\2\u0180\u017f\3\2\2\2\u0181"+
+		"=\3\2\2\2\u0182\u0183\7\6\2\2\u0183\u0184\7\u00a8\2\2\u0184\u0185\7\4"+
+		"\2\2\u0185?\3\2\2\2\u0186\u0188\5B\"\2\u0187\u0186\3\2\2\2\u0187\u0188"+
+		"\3\2\2\2\u0188\u0189\3\2\2\2\u0189\u018b\7\7\2\2\u018a\u018c\5V,\2\u018b"+
+		"\u018a\3\2\2\2\u018b\u018c\3\2\2\2\u018c\u018d\3\2\2\2\u018d\u018e\7\b"+
+		"\2\2\u018eA\3\2\2\2\u018f\u0190\7\u0081\2\2\u0190\u0191\5D#\2\u0191\u0192"+
+		"\7\u0083\2\2\u0192C\3\2\2\2\u0193\u0194\7\u00a8\2\2\u0194E\3\2\2\2\u0195"+
+		"\u0196\7d\2\2\u0196\u0197\5\u00b4[\2\u0197\u0199\7\3\2\2\u0198\u019a\5"+
+		"V,\2\u0199\u0198\3\2\2\2\u0199\u019a\3\2\2\2\u019a\u019b\3\2\2\2\u019b"+
+		"\u019e\7\4\2\2\u019c\u019f\5H%\2\u019d\u019f\5J&\2\u019e\u019c\3\2\2\2"+
+		"\u019e\u019d\3\2\2\2\u019fG\3\2\2\2\u01a0\u01a1\7Q\2\2\u01a1\u01a2\5N"+
+		"(\2\u01a2\u01a3\7e\2\2\u01a3\u01a7\5P)\2\u01a4\u01a5\7\36\2\2\u01a5\u01a6"+
+		"\7w\2\2\u01a6\u01a8\5T+\2\u01a7\u01a4\3\2\2\2\u01a7\u01a8\3\2\2\2\u01a8"+
+		"\u01aa\3\2\2\2\u01a9\u01ab\5L\'\2\u01aa\u01a9\3\2\2\2\u01aa\u01ab\3\2"+
+		"\2\2\u01abI\3\2\2\2\u01ac\u01ad\7\17\2\2\u01ad\u01ae\t\4\2\2\u01ae\u01b0"+
+		"\5\"\22\2\u01af\u01ac\3\2\2\2\u01af\u01b0\3\2\2\2\u01b0K\3\2\2\2\u01b1"+
+		"\u01b2\7\t\2\2\u01b2M\3\2\2\2\u01b3\u01b4\7m\2\2\u01b4\u01b5\5.\30\2\u01b5"+
+		"O\3\2\2\2\u01b6\u01b7\7v\2\2\u01b7\u01b8\5R*\2\u01b8Q\3\2\2\2\u01b9\u01ba"+
+		"\7\u00a8\2\2\u01baS\3\2\2\2\u01bb\u01bc\5\u00a0Q\2\u01bcU\3\2\2\2\u01bd"+
+		"\u01be\58\35\2\u01beW\3\2\2\2\u01bf\u01c0\5`\61\2\u01c0\u01c1\5Z.\2\u01c1"+
+		"Y\3\2\2\2\u01c2\u01c4\5\\/\2\u01c3\u01c2\3\2\2\2\u01c3\u01c4\3\2\2\2\u01c4"+
+		"\u01c6\3\2\2\2\u01c5\u01c7\5^\60\2\u01c6\u01c5\3\2\2\2\u01c6\u01c7\3\2"+
+		"\2\2\u01c7[\3\2\2\2\u01c8\u01c9\7\31\2\2\u01c9\u01ca\7\24\2\2\u01ca\u01cf"+
+		"\5d\63\2\u01cb\u01cc\7\5\2\2\u01cc\u01ce\5d\63\2\u01cd\u01cb\3\2\2\2\u01ce"+
+		"\u01d1\3\2\2\2\u01cf\u01cd\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0]\3\2\2\2"+
+		"\u01d1\u01cf\3\2\2\2\u01d2\u01d3\7\33\2\2\u01d3\u01d4\5\u008aF\2\u01d4"+
+		"_\3\2\2\2\u01d5\u01d6\b\61\1\2\u01d6\u01d7\5b\62\2\u01d7\u01e0\3\2\2\2"+
+		"\u01d8\u01d9\f\3\2\2\u01d9\u01db\t\b\2\2\u01da\u01dc\5r:\2\u01db\u01da"+
+		"\3\2\2\2\u01db\u01dc\3\2\2\2\u01dc\u01dd\3\2\2\2\u01dd\u01df\5`\61\4\u01de"+
+		"\u01d8\3\2\2\2\u01df\u01e2\3\2\2\2\u01e0\u01de\3\2\2\2\u01e0\u01e1\3\2"+
+		"\2\2\u01e1a\3\2\2\2\u01e2\u01e0\3\2\2\2\u01e3\u01e9\5f\64\2\u01e4\u01e5"+
+		"\7\3\2\2\u01e5\u01e6\5X-\2\u01e6\u01e7\7\4\2\2\u01e7\u01e9\3\2\2\2\u01e8"+
+		"\u01e3\3\2\2\2\u01e8\u01e4\3\2\2\2\u01e9c\3\2\2\2\u01ea\u01ec\5\u008a"+
+		"F\2\u01eb\u01ed\t\t\2\2\u01ec\u01eb\3\2\2\2\u01ec\u01ed\3\2\2\2\u01ed"+
+		"\u01f0\3\2\2\2\u01ee\u01ef\7*\2\2\u01ef\u01f1\t\n\2\2\u01f0\u01ee\3\2"+
+		"\2\2\u01f0\u01f1\3\2\2\2\u01f1e\3\2\2\2\u01f2\u01f3\5h\65\2\u01f3\u01f5"+
+		"\5n8\2\u01f4\u01f6\5j\66\2\u01f5\u01f4\3\2\2\2\u01f5\u01f6\3\2\2\2\u01f6"+
+		"\u01f8\3\2\2\2\u01f7\u01f9\5p9\2\u01f8\u01f7\3\2\2\2\u01f8\u01f9\3\2\2"+
+		"\2\u01f9\u01fb\3\2\2\2\u01fa\u01fc\5l\67\2\u01fb\u01fa\3\2\2\2\u01fb\u01fc"+
+		"\3\2\2\2\u01fcg\3\2\2\2\u01fd\u01ff\7\f\2\2\u01fe\u0200\5r:\2\u01ff\u01fe"+
+		"\3\2\2\2\u01ff\u0200\3\2\2\2\u0200\u0201\3\2\2\2\u0201\u0202\5\u0088E"+
+		"\2\u0202i\3\2\2\2\u0203\u0204\7\22\2\2\u0204\u0205\5\u008cG\2\u0205k\3"+
+		"\2\2\2\u0206\u0207\7\32\2\2\u0207\u0208\5\u008cG\2\u0208m\3\2\2\2\u0209"+
+		"\u020a\7\r\2\2\u020a\u020f\5t;\2\u020b\u020c\7\5\2\2\u020c\u020e\5t;\2"+
+		"\u020d\u020b\3\2\2\2\u020e\u0211\3\2\2\2\u020f\u020d\3\2\2\2\u020f\u0210"+
+		"\3\2\2\2\u0210o\3\2\2\2\u0211\u020f\3\2\2\2\u0212\u0213\7\23\2\2\u0213"+
+		"\u0214\7\24\2\2\u0214\u0219\5\u008aF\2\u0215\u0216\7\5\2\2\u0216\u0218"+
+		"\5\u008aF\2\u0217\u0215\3\2\2\2\u0218\u021b\3\2\2\2\u0219\u0217\3\2\2"+
+		"\2\u0219\u021a\3\2\2\2\u021aq\3\2\2\2\u021b\u0219\3\2\2\2\u021c\u021d"+
+		"\t\13\2\2\u021ds\3\2\2\2\u021e\u0222\5\u0080A\2\u021f\u0221\5v<\2\u0220"+
+		"\u021f\3\2\2\2\u0221\u0224\3\2\2\2\u0222\u0220\3\2\2\2\u0222\u0223\3\2"+
+		"\2\2\u0223u\3\2\2\2\u0224\u0222\3\2\2\2\u0225\u0226\5x=\2\u0226\u0227"+
+		"\7\65\2\2\u0227\u0229\5\u0080A\2\u0228\u022a\5z>\2\u0229\u0228\3\2\2\2"+
+		"\u0229\u022a\3\2\2\2\u022aw\3\2\2\2\u022b\u022d\78\2\2\u022c\u022b\3\2"+
+		"\2\2\u022c\u022d\3\2\2\2\u022d\u023c\3\2\2\2\u022e\u023c\7\66\2\2\u022f"+
+		"\u0231\79\2\2\u0230\u0232\7\67\2\2\u0231\u0230\3\2\2\2\u0231\u0232\3\2"+
+		"\2\2\u0232\u023c\3\2\2\2\u0233\u0235\7;\2\2\u0234\u0236\7\67\2\2\u0235"+
+		"\u0234\3\2\2\2\u0235\u0236\3\2\2\2\u0236\u023c\3\2\2\2\u0237\u0239\7<"+
+		"\2\2\u0238\u023a\7\67\2\2\u0239\u0238\3\2\2\2\u0239\u023a\3\2\2\2\u023a"+
+		"\u023c\3\2\2\2\u023b\u022c\3\2\2\2\u023b\u022e\3\2\2\2\u023b\u022f\3\2"+
+		"\2\2\u023b\u0233\3\2\2\2\u023b\u0237\3\2\2\2\u023cy\3\2\2\2\u023d\u023e"+
+		"\7>\2\2\u023e\u023f\5\u008cG\2\u023f{\3\2\2\2\u0240\u0241\7\3\2\2\u0241"+
+		"\u0242\5~@\2\u0242\u0243\7\4\2\2\u0243}\3\2\2\2\u0244\u0249\5\u00b6\\"+
+		"\2\u0245\u0246\7\5\2\2\u0246\u0248\5\u00b6\\\2\u0247\u0245\3\2\2\2\u0248"+
+		"\u024b\3\2\2\2\u0249\u0247\3\2\2\2\u0249\u024a\3\2\2\2\u024a\177\3\2\2"+
+		"\2\u024b\u0249\3\2\2\2\u024c\u0251\5\u0084C\2\u024d\u024f\7\17\2\2\u024e"+
+		"\u024d\3\2\2\2\u024e\u024f\3\2\2\2\u024f\u0250\3\2\2\2\u0250\u0252\5\u00b8"+
+		"]\2\u0251\u024e\3\2\2\2\u0251\u0252\3\2\2\2\u0252\u0267\3\2\2\2\u0253"+
+		"\u0254\7\3\2\2\u0254\u0255\5X-\2\u0255\u025a\7\4\2\2\u0256\u0258\7\17"+
+		"\2\2\u0257\u0256\3\2\2\2\u0257\u0258\3\2\2\2\u0258\u0259\3\2\2\2\u0259"+
+		"\u025b\5\u00b8]\2\u025a\u0257\3\2\2\2\u025a\u025b\3\2\2\2\u025b\u0267"+
+		"\3\2\2\2\u025c\u0267\5\u0082B\2\u025d\u025e\7\3\2\2\u025e\u025f\5t;\2"+
+		"\u025f\u0264\7\4\2\2\u0260\u0262\7\17\2\2\u0261\u0260\3\2\2\2\u0261\u0262"+
+		"\3\2\2\2\u0262\u0263\3\2\2\2\u0263\u0265\5\u00b8]\2\u0264\u0261\3\2\2"+
+		"\2\u0264\u0265\3\2\2\2\u0265\u0267\3\2\2\2\u0266\u024c\3\2\2\2\u0266\u0253"+
+		"\3\2\2\2\u0266\u025c\3\2\2\2\u0266\u025d\3\2\2\2\u0267\u0081\3\2\2\2\u0268"+
+		"\u0269\7B\2\2\u0269\u026e\5\u008aF\2\u026a\u026b\7\5\2\2\u026b\u026d\5"+
+		"\u008aF\2\u026c\u026a\3\2\2\2\u026d\u0270\3\2\2\2\u026e\u026c\3\2\2\2"+
+		"\u026e\u026f\3\2\2\2\u026f\u0278\3\2\2\2\u0270\u026e\3\2\2\2\u0271\u0273"+
+		"\7\17\2\2\u0272\u0271\3\2\2\2\u0272\u0273\3\2\2\2\u0273\u0274\3\2\2\2"+
+		"\u0274\u0276\5\u00b6\\\2\u0275\u0277\5|?\2\u0276\u0275\3\2\2\2\u0276\u0277"+
+		"\3\2\2\2\u0277\u0279\3\2\2\2\u0278\u0272\3\2\2\2\u0278\u0279\3\2\2\2\u0279"+
+		"\u0083\3\2\2\2\u027a\u027b\5\u00b6\\\2\u027b\u027c\7\n\2\2\u027c\u027e"+
+		"\3\2\2\2\u027d\u027a\3\2\2\2\u027d\u027e\3\2\2\2\u027e\u027f\3\2\2\2\u027f"+
+		"\u0280\5\u00b6\\\2\u0280\u0085\3\2\2\2\u0281\u0289\5\u008aF\2\u0282\u0284"+
+		"\7\17\2\2\u0283\u0282\3\2\2\2\u0283\u0284\3\2\2\2\u0284\u0287\3\2\2\2"+
+		"\u0285\u0288\5\u00b6\\\2\u0286\u0288\5|?\2\u0287\u0285\3\2\2\2\u0287\u0286"+
+		"\3\2\2\2\u0288\u028a\3\2\2\2\u0289\u0283\3\2\2\2\u0289\u028a\3\2\2\2\u028a"+
+		"\u0087\3\2\2\2\u028b\u0290\5\u0086D\2\u028c\u028d\7\5\2\2\u028d\u028f"+
+		"\5\u0086D\2\u028e\u028c\3\2\2\2\u028f\u0292\3\2\2\2\u0290\u028e\3\2\2"+
+		"\2\u0290\u0291\3\2\2\2\u0291\u0089\3\2\2\2\u0292\u0290\3\2\2\2\u0293\u0294"+
+		"\5\u008cG\2\u0294\u008b\3\2\2\2\u0295\u0296\bG\1\2\u0296\u0297\7 \2\2"+
+		"\u0297\u029a\5\u008cG\6\u0298\u029a\5\u008eH\2\u0299\u0295\3\2\2\2\u0299"+
+		"\u0298\3\2\2\2\u029a\u02a3\3\2\2\2\u029b\u029c\f\4\2\2\u029c\u029d\7\36"+
+		"\2\2\u029d\u02a2\5\u008cG\5\u029e\u029f\f\3\2\2\u029f\u02a0\7\35\2\2\u02a0"+
+		"\u02a2\5\u008cG\4\u02a1\u029b\3\2\2\2\u02a1\u029e\3\2\2\2\u02a2\u02a5"+
+		"\3\2\2\2\u02a3\u02a1\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4\u008d\3\2\2\2\u02a5"+
+		"\u02a3\3\2\2\2\u02a6\u02a8\5\u0092J\2\u02a7\u02a9\5\u0090I\2\u02a8\u02a7"+
+		"\3\2\2\2\u02a8\u02a9\3\2\2\2\u02a9\u008f\3\2\2\2\u02aa\u02ac\7 \2\2\u02ab"+
+		"\u02aa\3\2\2\2\u02ab\u02ac\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ad\u02ae\7#"+
+		"\2\2\u02ae\u02af\5\u0092J\2\u02af\u02b0\7\36\2\2\u02b0\u02b1\5\u0092J"+
+		"\2\u02b1\u02d4\3\2\2\2\u02b2\u02b4\7 \2\2\u02b3\u02b2\3\2\2\2\u02b3\u02b4"+
+		"\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5\u02b6\7\37\2\2\u02b6\u02b7\7\3\2\2"+
+		"\u02b7\u02bc\5\u008aF\2\u02b8\u02b9\7\5\2\2\u02b9\u02bb\5\u008aF\2\u02ba"+
+		"\u02b8\3\2\2\2\u02bb\u02be\3\2\2\2\u02bc\u02ba\3\2\2\2\u02bc\u02bd\3\2"+
+		"\2\2\u02bd\u02bf\3\2\2\2\u02be\u02bc\3\2\2\2\u02bf\u02c0\7\4\2\2\u02c0"+
+		"\u02d4\3\2\2\2\u02c1\u02c3\7 \2\2\u02c2\u02c1\3\2\2\2\u02c2\u02c3\3\2"+
+		"\2\2\u02c3\u02c4\3\2\2\2\u02c4\u02c5\7\37\2\2\u02c5\u02c6\7\3\2\2\u02c6"+
+		"\u02c7\5X-\2\u02c7\u02c8\7\4\2\2\u02c8\u02d4\3\2\2\2\u02c9\u02cb\7 \2"+
+		"\2\u02ca\u02c9\3\2\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cc\3\2\2\2\u02cc\u02cd"+
+		"\t\f\2\2\u02cd\u02d4\5\u0092J\2\u02ce\u02d0\7&\2\2\u02cf\u02d1\7 \2\2"+
+		"\u02d0\u02cf\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d1\u02d2\3\2\2\2\u02d2\u02d4"+
+		"\7\'\2\2\u02d3\u02ab\3\2\2\2\u02d3\u02b3\3\2\2\2\u02d3\u02c2\3\2\2\2\u02d3"+
+		"\u02ca\3\2\2\2\u02d3\u02ce\3\2\2\2\u02d4\u0091\3\2\2\2\u02d5\u02d6\bJ"+
+		"\1\2\u02d6\u02d7\t\r\2\2\u02d7\u02db\5\u0092J\13\u02d8\u02db\5\u0096L"+
+		"\2\u02d9\u02db\5\u0094K\2\u02da\u02d5\3\2\2\2\u02da\u02d8\3\2\2\2\u02da"+
+		"\u02d9\3\2\2\2\u02db\u02f3\3\2\2\2\u02dc\u02dd\f\n\2\2\u02dd\u02de\t\16"+
+		"\2\2\u02de\u02f2\5\u0092J\13\u02df\u02e0\f\t\2\2\u02e0\u02e1\t\17\2\2"+
+		"\u02e1\u02f2\5\u0092J\n\u02e2\u02e3\f\b\2\2\u02e3\u02e4\7\u008c\2\2\u02e4"+
+		"\u02f2\5\u0092J\t\u02e5\u02e6\f\7\2\2\u02e6\u02e7\7\u008e\2\2\u02e7\u02f2"+
+		"\5\u0092J\b\u02e8\u02e9\f\6\2\2\u02e9\u02ea\7\u008d\2\2\u02ea\u02f2\5"+
+		"\u0092J\7\u02eb\u02ec\f\5\2\2\u02ec\u02ed\5\u009aN\2\u02ed\u02ee\5\u0092"+
+		"J\6\u02ee\u02f2\3\2\2\2\u02ef\u02f0\f\4\2\2\u02f0\u02f2\5\u0090I\2\u02f1"+
+		"\u02dc\3\2\2\2\u02f1\u02df\3\2\2\2\u02f1\u02e2\3\2\2\2\u02f1\u02e5\3\2"+
+		"\2\2\u02f1\u02e8\3\2\2\2\u02f1\u02eb\3\2\2\2\u02f1\u02ef\3\2\2\2\u02f2"+
+		"\u02f5\3\2\2\2\u02f3\u02f1\3\2\2\2\u02f3\u02f4\3\2\2\2\u02f4\u0093\3\2"+
+		"\2\2\u02f5\u02f3\3\2\2\2\u02f6\u02f7\7\u008f\2\2\u02f7\u0095\3\2\2\2\u02f8"+
+		"\u02f9\bL\1\2\u02f9\u0357\t\20\2\2\u02fa\u02fc\7\60\2\2\u02fb\u02fd\5"+
+		"\u00b2Z\2\u02fc\u02fb\3\2\2\2\u02fd\u02fe\3\2\2\2\u02fe\u02fc\3\2\2\2"+
+		"\u02fe\u02ff\3\2\2\2\u02ff\u0302\3\2\2\2\u0300\u0301\7\63\2\2\u0301\u0303"+
+		"\5\u008aF\2\u0302\u0300\3\2\2\2\u0302\u0303\3\2\2\2\u0303\u0304\3\2\2"+
+		"\2\u0304\u0305\7\64\2\2\u0305\u0357\3\2\2\2\u0306\u0307\7\60\2\2\u0307"+
+		"\u0309\5\u008aF\2\u0308\u030a\5\u00b2Z\2\u0309\u0308\3\2\2\2\u030a\u030b"+
+		"\3\2\2\2\u030b\u0309\3\2\2\2\u030b\u030c\3\2\2\2\u030c\u030f\3\2\2\2\u030d"+
+		"\u030e\7\63\2\2\u030e\u0310\5\u008aF\2\u030f\u030d\3\2\2\2\u030f\u0310"+
+		"\3\2\2\2\u0310\u0311\3\2\2\2\u0311\u0312\7\64\2\2\u0312\u0357\3\2\2\2"+
+		"\u0313\u0314\7L\2\2\u0314\u0315\7\3\2\2\u0315\u0316\5\u008aF\2\u0316\u0317"+
+		"\7\17\2\2\u0317\u0318\5\u00a8U\2\u0318\u0319\7\4\2\2\u0319\u0357\3\2\2"+
+		"\2\u031a\u031b\7?\2\2\u031b\u031c\7\3\2\2\u031c\u031f\5\u008aF\2\u031d"+
+		"\u031e\7c\2\2\u031e\u0320\7*\2\2\u031f\u031d\3\2\2\2\u031f\u0320\3\2\2"+
+		"\2\u0320\u0321\3\2\2\2\u0321\u0322\7\4\2\2\u0322\u0357\3\2\2\2\u0323\u0324"+
+		"\7A\2\2\u0324\u0325\7\3\2\2\u0325\u0328\5\u008aF\2\u0326\u0327\7c\2\2"+
+		"\u0327\u0329\7*\2\2\u0328\u0326\3\2\2\2\u0328\u0329\3\2\2\2\u0329\u032a"+
+		"\3\2\2\2\u032a\u032b\7\4\2\2\u032b\u0357\3\2\2\2\u032c\u0357\5\u0098M"+
+		"\2\u032d\u0357\7\u0087\2\2\u032e\u032f\5\u00b4[\2\u032f\u0330\7\n\2\2"+
+		"\u0330\u0331\7\u0087\2\2\u0331\u0357\3\2\2\2\u0332\u0333\7\3\2\2\u0333"+
+		"\u0336\5\u0086D\2\u0334\u0335\7\5\2\2\u0335\u0337\5\u0086D\2\u0336\u0334"+
+		"\3\2\2\2\u0337\u0338\3\2\2\2\u0338\u0336\3\2\2\2\u0338\u0339\3\2\2\2\u0339"+
+		"\u033a\3\2\2\2\u033a\u033b\7\4\2\2\u033b\u0357\3\2\2\2\u033c\u033d\7\3"+
+		"\2\2\u033d\u033e\5X-\2\u033e\u033f\7\4\2\2\u033f\u0357\3\2\2\2\u0340\u0341"+
+		"\5\u00b4[\2\u0341\u034d\7\3\2\2\u0342\u0344\5r:\2\u0343\u0342\3\2\2\2"+
+		"\u0343\u0344\3\2\2\2\u0344\u0345\3\2\2\2\u0345\u034a\5\u0086D\2\u0346"+
+		"\u0347\7\5\2\2\u0347\u0349\5\u0086D\2\u0348\u0346\3\2\2\2\u0349\u034c"+
+		"\3\2\2\2\u034a\u0348\3\2\2\2\u034a\u034b\3\2\2\2\u034b\u034e\3\2\2\2\u034c"+
+		"\u034a\3\2\2\2\u034d\u0343\3\2\2\2\u034d\u034e\3\2\2\2\u034e\u034f\3\2"+
+		"\2\2\u034f\u0350\7\4\2\2\u0350\u0357\3\2\2\2\u0351\u0357\5\u00b6\\\2\u0352"+
+		"\u0353\7\3\2\2\u0353\u0354\5\u008aF\2\u0354\u0355\7\4\2\2\u0355\u0357"+
+		"\3\2\2\2\u0356\u02f8\3\2\2\2\u0356\u02fa\3\2\2\2\u0356\u0306\3\2\2\2\u0356"+
+		"\u0313\3\2\2\2\u0356\u031a\3\2\2\2\u0356\u0323\3\2\2\2\u0356\u032c\3\2"+
+		"\2\2\u0356\u032d\3\2\2\2\u0356\u032e\3\2\2\2\u0356\u0332\3\2\2\2\u0356"+
+		"\u033c\3\2\2\2\u0356\u0340\3\2\2\2\u0356\u0351\3\2\2\2\u0356\u0352\3\2"+
+		"\2\2\u0357\u0362\3\2\2\2\u0358\u0359\f\6\2\2\u0359\u035a\7\7\2\2\u035a"+
+		"\u035b\5\u0092J\2\u035b\u035c\7\b\2\2\u035c\u0361\3\2\2\2\u035d\u035e"+
+		"\f\4\2\2\u035e\u035f\7\n\2\2\u035f\u0361\5\u00b6\\\2\u0360\u0358\3\2\2"+
+		"\2\u0360\u035d\3\2\2\2\u0361\u0364\3\2\2\2\u0362\u0360\3\2\2\2\u0362\u0363"+
+		"\3\2\2\2\u0363\u0097\3\2\2\2\u0364\u0362\3\2\2\2\u0365\u0372\7\'\2\2\u0366"+
+		"\u0372\5\u00a2R\2\u0367\u0368\5\u00b6\\\2\u0368\u0369\7\u00a8\2\2\u0369"+
+		"\u0372\3\2\2\2\u036a\u0372\5\u00bc_\2\u036b\u0372\5\u00a0Q\2\u036c\u036e"+
+		"\7\u00a8\2\2\u036d\u036c\3\2\2\2\u036e\u036f\3\2\2\2\u036f\u036d\3\2\2"+
+		"\2\u036f\u0370\3\2\2\2\u0370\u0372\3\2\2\2\u0371\u0365\3\2\2\2\u0371\u0366"+
+		"\3\2\2\2\u0371\u0367\3\2\2\2\u0371\u036a\3\2\2\2\u0371\u036b\3\2\2\2\u0371"+
+		"\u036d\3\2\2\2\u0372\u0099\3\2\2\2\u0373\u0374\t\21\2\2\u0374\u009b\3"+
+		"\2\2\2\u0375\u0376\t\22\2\2\u0376\u009d\3\2\2\2\u0377\u0378\t\23\2\2\u0378"+
+		"\u009f\3\2\2\2\u0379\u037a\t\24\2\2\u037a\u00a1\3\2\2\2\u037b\u037f\7"+
+		"/\2\2\u037c\u037e\5\u00a4S\2\u037d\u037c\3\2\2\2\u037e\u0381\3\2\2\2\u037f"+
+		"\u037d\3\2\2\2\u037f\u0380\3\2\2\2\u0380\u00a3\3\2\2\2\u0381\u037f\3\2"+
+		"\2\2\u0382\u0383\5\u00a6T\2\u0383\u0386\5\u00b6\\\2\u0384\u0385\7X\2\2"+
+		"\u0385\u0387\5\u00b6\\\2\u0386\u0384\3\2\2\2\u0386\u0387\3\2\2\2\u0387"+
+		"\u00a5\3\2\2\2\u0388\u038a\t\17\2\2\u0389\u0388\3\2\2\2\u0389\u038a\3"+
+		"\2\2\2\u038a\u038b\3\2\2\2\u038b\u038e\t\25\2\2\u038c\u038e\7\u00a8\2"+
+		"\2\u038d\u0389\3\2\2\2\u038d\u038c\3\2\2\2\u038e\u00a7\3\2\2\2\u038f\u0390"+
+		"\7[\2\2\u0390\u0391\7\u0081\2\2\u0391\u0392\5\u00a8U\2\u0392\u0393\7\u0083"+
+		"\2\2\u0393\u03b2\3\2\2\2\u0394\u0395\7\\\2\2\u0395\u0396\7\u0081\2\2\u0396"+
+		"\u0397\5\u00a8U\2\u0397\u0398\7\5\2\2\u0398\u0399\5\u00a8U\2\u0399\u039a"+
+		"\7\u0083\2\2\u039a\u03b2\3\2\2\2\u039b\u03a2\7]\2\2\u039c\u039e\7\u0081"+
+		"\2\2\u039d\u039f\5\u00aeX\2\u039e\u039d\3\2\2\2\u039e\u039f\3\2\2\2\u039f"+
+		"\u03a0\3\2\2\2\u03a0\u03a3\7\u0083\2\2\u03a1\u03a3\7\177\2\2\u03a2\u039c"+
+		"\3\2\2\2\u03a2\u03a1\3\2\2\2\u03a3\u03b2\3\2\2\2\u03a4\u03af\5\u00b6\\"+
+		"\2\u03a5\u03a6\7\3\2\2\u03a6\u03ab\7\u00ad\2\2\u03a7\u03a8\7\5\2\2\u03a8"+
+		"\u03aa\7\u00ad\2\2\u03a9\u03a7\3\2\2\2\u03aa\u03ad\3\2\2\2\u03ab\u03a9"+
+		"\3\2\2\2\u03ab\u03ac\3\2\2\2\u03ac\u03ae\3\2\2\2\u03ad\u03ab\3\2\2\2\u03ae"+
+		"\u03b0\7\4\2\2\u03af\u03a5\3\2\2\2\u03af\u03b0\3\2\2\2\u03b0\u03b2\3\2"+
+		"\2\2\u03b1\u038f\3\2\2\2\u03b1\u0394\3\2\2\2\u03b1\u039b\3\2\2\2\u03b1"+
+		"\u03a4\3\2\2\2\u03b2\u00a9\3\2\2\2\u03b3\u03b8\5\u00acW\2\u03b4\u03b5"+
+		"\7\5\2\2\u03b5\u03b7\5\u00acW\2\u03b6\u03b4\3\2\2\2\u03b7\u03ba\3\2\2"+
+		"\2\u03b8\u03b6\3\2\2\2\u03b8\u03b9\3\2\2\2\u03b9\u00ab\3\2\2\2\u03ba\u03b8"+
+		"\3\2\2\2\u03bb\u03bc\5\u00b6\\\2\u03bc\u03bf\5\u00a8U\2\u03bd\u03be\7"+
+		"^\2\2\u03be\u03c0\7\u00a8\2\2\u03bf\u03bd\3\2\2\2\u03bf\u03c0\3\2\2\2"+
+		"\u03c0\u00ad\3\2\2\2\u03c1\u03c6\5\u00b0Y\2\u03c2\u03c3\7\5\2\2\u03c3"+
+		"\u03c5\5\u00b0Y\2\u03c4\u03c2\3\2\2\2\u03c5\u03c8\3\2\2\2\u03c6\u03c4"+
+		"\3\2\2\2\u03c6\u03c7\3\2\2\2\u03c7\u00af\3\2\2\2\u03c8\u03c6\3\2\2\2\u03c9"+
+		"\u03ca\5\u00b6\\\2\u03ca\u03cb\7\13\2\2\u03cb\u03ce\5\u00a8U\2\u03cc\u03cd"+
+		"\7^\2\2\u03cd\u03cf\7\u00a8\2\2\u03ce\u03cc\3\2\2\2\u03ce\u03cf\3\2\2"+
+		"\2\u03cf\u00b1\3\2\2\2\u03d0\u03d1\7\61\2\2\u03d1\u03d2\5\u008aF\2\u03d2"+
+		"\u03d3\7\62\2\2\u03d3\u03d4\5\u008aF\2\u03d4\u00b3\3\2\2\2\u03d5\u03da"+
+		"\5\u00b6\\\2\u03d6\u03d7\7\n\2\2\u03d7\u03d9\5\u00b6\\\2\u03d8\u03d6\3"+
+		"\2\2\2\u03d9\u03dc\3\2\2\2\u03da\u03d8\3\2\2\2\u03da\u03db\3\2\2\2\u03db"+
+		"\u00b5\3\2\2\2\u03dc\u03da\3\2\2\2\u03dd\u03ec\5\u00b8]\2\u03de\u03ec"+
+		"\7<\2\2\u03df\u03ec\78\2\2\u03e0\u03ec\79\2\2\u03e1\u03ec\7:\2\2\u03e2"+
+		"\u03ec\7;\2\2\u03e3\u03ec\7=\2\2\u03e4\u03ec\7\65\2\2\u03e5\u03ec\7\66"+
+		"\2\2\u03e6\u03ec\7>\2\2\u03e7\u03ec\7T\2\2\u03e8\u03ec\7W\2\2\u03e9\u03ec"+
+		"\7U\2\2\u03ea\u03ec\7V\2\2\u03eb\u03dd\3\2\2\2\u03eb\u03de\3\2\2\2\u03eb"+
+		"\u03df\3\2\2\2\u03eb\u03e0\3\2\2\2\u03eb\u03e1\3\2\2\2\u03eb\u03e2\3\2"+
+		"\2\2\u03eb\u03e3\3\2\2\2\u03eb\u03e4\3\2\2\2\u03eb\u03e5\3\2\2\2\u03eb"+
+		"\u03e6\3\2\2\2\u03eb\u03e7\3\2\2\2\u03eb\u03e8\3\2\2\2\u03eb\u03e9\3\2"+
+		"\2\2\u03eb\u03ea\3\2\2\2\u03ec\u00b7\3\2\2\2\u03ed\u03f1\7\u00b1\2\2\u03ee"+
+		"\u03f1\5\u00ba^\2\u03ef\u03f1\5\u00be`\2\u03f0\u03ed\3\2\2\2\u03f0\u03ee"+
+		"\3\2\2\2\u03f0\u03ef\3\2\2\2\u03f1\u00b9\3\2\2\2\u03f2\u03f3\7\u00b3\2"+
+		"\2\u03f3\u00bb\3\2\2\2\u03f4\u03f6\7\u0086\2\2\u03f5\u03f4\3\2\2\2\u03f5"+
+		"\u03f6\3\2\2\2\u03f6\u03f7\3\2\2\2\u03f7\u0411\7\u00ae\2\2\u03f8\u03fa"+
+		"\7\u0086\2\2\u03f9\u03f8\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u03fb\3\2\2"+
+		"\2\u03fb\u0411\7\u00ad\2\2\u03fc\u03fe\7\u0086\2\2\u03fd\u03fc\3\2\2\2"+
+		"\u03fd\u03fe\3\2\2\2\u03fe\u03ff\3\2\2\2\u03ff\u0411\7\u00a9\2\2\u0400"+
+		"\u0402\7\u0086\2\2\u0401\u0400\3\2\2\2\u0401\u0402\3\2\2\2\u0402\u0403"+
+		"\3\2\2\2\u0403\u0411\7\u00aa\2\2\u0404\u0406\7\u0086\2\2\u0405\u0404\3"+
+		"\2\2\2\u0405\u0406\3\2\2\2\u0406\u0407\3\2\2\2\u0407\u0411\7\u00ab\2\2"+
+		"\u0408\u040a\7\u0086\2\2\u0409\u0408\3\2\2\2\u0409\u040a\3\2\2\2\u040a"+
+		"\u040b\3\2\2\2\u040b\u0411\7\u00af\2\2\u040c\u040e\7\u0086\2\2\u040d\u040c"+
+		"\3\2\2\2\u040d\u040e\3\2\2\2\u040e\u040f\3\2\2\2\u040f\u0411\7\u00b0\2"+
+		"\2\u0410\u03f5\3\2\2\2\u0410\u03f9\3\2\2\2\u0410\u03fd\3\2\2\2\u0410\u0401"+
+		"\3\2\2\2\u0410\u0405\3\2\2\2\u0410\u0409\3\2\2\2\u0410\u040d\3\2\2\2\u0411"+
+		"\u00bd\3\2\2\2\u0412\u0413\t\26\2\2\u0413\u00bf\3\2\2\2z\u00ce\u00dc\u00eb"+
+		"\u00f9\u00fe\u0106\u0109\u010c\u010f\u0117\u011a\u011d\u0120\u0129\u0130"+
+		"\u0133\u013a\u0140\u0158\u0177\u017c\u0180\u0187\u018b\u0199\u019e\u01a7"+
+		"\u01aa\u01af\u01c3\u01c6\u01cf\u01db\u01e0\u01e8\u01ec\u01f0\u01f5\u01f8"+
+		"\u01fb\u01ff\u020f\u0219\u0222\u0229\u022c\u0231\u0235\u0239\u023b\u0249"+
+		"\u024e\u0251\u0257\u025a\u0261\u0264\u0266\u026e\u0272\u0276\u0278\u027d"+
+		"\u0283\u0287\u0289\u0290\u0299\u02a1\u02a3\u02a8\u02ab\u02b3\u02bc\u02c2"+
+		"\u02ca\u02d0\u02d3\u02da\u02f1\u02f3\u02fe\u0302\u030b\u030f\u031f\u0328"+
+		"\u0338\u0343\u034a\u034d\u0356\u0360\u0362\u036f\u0371\u037f\u0386\u0389"+
+		"\u038d\u039e\u03a2\u03ab\u03af\u03b1\u03b8\u03bf\u03c6\u03ce\u03da\u03eb"+
+		"\u03f0\u03f5\u03f9\u03fd\u0401\u0405\u0409\u040d\u0410";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -87,12 +87,25 @@ public interface BlkchnSqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCreateUserRule(BlkchnSqlParser.CreateUserRuleContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code explainRule}
+	 * labeled alternative in {@link BlkchnSqlParser#statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExplainRule(BlkchnSqlParser.ExplainRuleContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link BlkchnSqlParser#createUser}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitCreateUser(BlkchnSqlParser.CreateUserContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link BlkchnSqlParser#explain}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExplain(BlkchnSqlParser.ExplainContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link BlkchnSqlParser#secret}.
 	 * @param ctx the parse tree
@@ -38,7 +38,20 @@ class BlkchnRDD[R: ClassTag](@transient sc: SparkContext,
                              private[impetus] val readConf: ReadConf) extends RDD[R](sc, Nil) {
 
   override protected def getPartitions: Array[Partition] = {
-    readConf.partitioner.getPartitions(connector.value, readConf).asInstanceOf[Array[Partition]]
+    val partitions = readConf.partitioner.getPartitions(connector.value, readConf)
+    // pages the query can not match are dropped before any task is scheduled for them
+    val nonEmpty = connector.value.withStatementDo {
+      stat =>
+        partitions.filterNot(partition => stat.isEmptyPage(readConf.query, partition.range))
+    }
+    if (nonEmpty.length == partitions.length) {
+      partitions.asInstanceOf[Array[Partition]]
+    } else {
+      logInfo(s"Skipping ${partitions.length - nonEmpty.length} of ${partitions.length} pages as empty")
+      nonEmpty.zipWithIndex.map {
+        case (partition, index) => new BlkchnPartition(index, partition.range, partition.readConf)
+      }.asInstanceOf[Array[Partition]]
+    }
   }
 
   def getSchema(meta: ResultSetMetaData = null):StructType = {
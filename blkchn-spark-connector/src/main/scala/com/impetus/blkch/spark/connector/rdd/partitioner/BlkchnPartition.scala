@@ -15,10 +15,34 @@
 ******************************************************************************/
 package com.impetus.blkch.spark.connector.rdd.partitioner
 
+import java.io.{IOException, ObjectInputStream, ObjectOutputStream}
+
 import com.impetus.blkch.spark.connector.rdd.ReadConf
 import com.impetus.blkch.spark.connector.util.Logging
 import com.impetus.blkch.sql.query.RangeNode
+import com.impetus.blkch.util.codec.PlanCodec
 import org.apache.spark.Partition
 import java.{lang => jl}
 
-class BlkchnPartition(val index: Int, val range: RangeNode[_], val readConf: ReadConf) extends Partition with Logging
\ No newline at end of file
+class BlkchnPartition(val index: Int, @transient private var _range: RangeNode[_], val readConf: ReadConf)
+  extends Partition with Logging {
+
+  def range: RangeNode[_] = _range
+
+  // partitions travel with every task through Java serialization, so the range goes in the compact encoding
+  @throws(classOf[IOException])
+  private def writeObject(out: ObjectOutputStream): Unit = {
+    out.defaultWriteObject()
+    val bytes = PlanCodec.encode(_range)
+    out.writeInt(bytes.length)
+    out.write(bytes)
+  }
+
+  @throws(classOf[IOException])
+  private def readObject(in: ObjectInputStream): Unit = {
+    in.defaultReadObject()
+    val bytes = new Array[Byte](in.readInt())
+    in.readFully(bytes)
+    _range = PlanCodec.decode(bytes, classOf[RangeNode[_]])
+  }
+}
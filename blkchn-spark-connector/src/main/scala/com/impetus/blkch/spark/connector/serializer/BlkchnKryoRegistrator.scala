@@ -0,0 +1,38 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.spark.connector.serializer
+
+import com.esotericsoftware.kryo.Kryo
+import com.impetus.blkch.sql.parser.LogicalPlan
+import com.impetus.blkch.sql.query.{DataNode, RangeNode}
+import com.impetus.blkch.util.{Range, RangeList}
+import org.apache.spark.serializer.KryoRegistrator
+
+/**
+ * Registers the PlanCodec backed serializers, enable it with
+ * spark.serializer=org.apache.spark.serializer.KryoSerializer and
+ * spark.kryo.registrator=com.impetus.blkch.spark.connector.serializer.BlkchnKryoRegistrator
+ */
+class BlkchnKryoRegistrator extends KryoRegistrator {
+
+  override def registerClasses(kryo: Kryo): Unit = {
+    kryo.register(classOf[LogicalPlan], new PlanCodecSerializer[LogicalPlan])
+    kryo.register(classOf[RangeNode[_]], new PlanCodecSerializer[RangeNode[_]])
+    kryo.register(classOf[DataNode[_]], new PlanCodecSerializer[DataNode[_]])
+    kryo.register(classOf[RangeList[_]], new PlanCodecSerializer[RangeList[_]])
+    kryo.register(classOf[Range[_]], new PlanCodecSerializer[Range[_]])
+  }
+}
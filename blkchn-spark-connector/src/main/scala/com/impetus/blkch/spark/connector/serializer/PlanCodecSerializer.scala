@@ -0,0 +1,39 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.spark.connector.serializer
+
+import com.esotericsoftware.kryo.{Kryo, Serializer}
+import com.esotericsoftware.kryo.io.{Input, Output}
+import com.impetus.blkch.util.codec.PlanCodec
+
+/**
+ * Kryo serializer writing plans, range nodes and ranges in the compact
+ * PlanCodec format, length prefixed so that it can be embedded in any Kryo
+ * stream.
+ */
+class PlanCodecSerializer[T] extends Serializer[T] {
+
+  override def write(kryo: Kryo, output: Output, value: T): Unit = {
+    val bytes = PlanCodec.encode(value)
+    output.writeInt(bytes.length, true)
+    output.writeBytes(bytes)
+  }
+
+  override def read(kryo: Kryo, input: Input, clazz: Class[T]): T = {
+    val bytes = input.readBytes(input.readInt(true))
+    PlanCodec.decode(bytes, clazz)
+  }
+}
@@ -43,13 +43,15 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import com.impetus.blkch.BlkchnErrorListener;
 import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser;
-import com.impetus.blkch.sql.parser.AbstractSyntaxTreeVisitor;
-import com.impetus.blkch.sql.parser.BlockchainVisitor;
-import com.impetus.blkch.sql.parser.CaseInsensitiveCharStream;
+import com.impetus.blkch.sql.parser.CaseInsensitiveBufferStream;
 import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.LogicalPlanCache;
+import com.impetus.blkch.sql.parser.StatementParser;
 
 public abstract class AbstractPreparedStatement implements PreparedStatement {
 
+    protected static final StatementParser STATEMENT_PARSER = new StatementParser();
+
     @Override
     public ResultSet executeQuery(String sql) throws SQLException {
         throw new UnsupportedOperationException();
@@ -546,20 +548,41 @@ public abstract class AbstractPreparedStatement implements PreparedStatement {
     }
 
     protected LogicalPlan getLogicalPlan(String sqlText) {
-        LogicalPlan logicalPlan = null;
+        LogicalPlanCache planCache = getLogicalPlanCache();
+        if (planCache != null) {
+            return planCache.get(sqlText, this::parseLogicalPlan);
+        }
+        return parseLogicalPlan(sqlText);
+    }
+
+    // drivers return a shared cache here to skip parsing of repeated statements
+    protected LogicalPlanCache getLogicalPlanCache() {
+        return null;
+    }
 
-        BlkchnSqlParser parser = getParser(sqlText);
+    /*
+     * Statements of drivers whose usesCustomParser returns true are parsed
+     * with the parser getParser returns, the others with the parser
+     * StatementParser keeps for the thread.
+     */
+    protected LogicalPlan parseLogicalPlan(String sqlText) {
+        if (usesCustomParser()) {
+            return STATEMENT_PARSER.parse(sqlText, getParser(sqlText));
+        }
+        return STATEMENT_PARSER.parse(sqlText);
+    }
 
-        parser.removeErrorListeners();
-        parser.addErrorListener(BlkchnErrorListener.INSTANCE);
+    // drivers that override getParser return true here to have their parser used
+    protected boolean usesCustomParser() {
+        return false;
+    }
 
-        AbstractSyntaxTreeVisitor astBuilder = new BlockchainVisitor();
-        logicalPlan = (LogicalPlan) astBuilder.visitSingleStatement(parser.singleStatement());
-        return logicalPlan;
+    public static StatementParser getStatementParser() {
+        return STATEMENT_PARSER;
     }
 
     protected BlkchnSqlParser getParser(String sqlText) {
-        BlkchnSqlLexer lexer = new BlkchnSqlLexer(new CaseInsensitiveCharStream(sqlText));
+        BlkchnSqlLexer lexer = new BlkchnSqlLexer(new CaseInsensitiveBufferStream(sqlText));
 
         lexer.removeErrorListeners();
         lexer.addErrorListener(BlkchnErrorListener.INSTANCE);
@@ -33,4 +33,9 @@ public interface BlkchnStatement extends Statement {
     public default int getArrayElementType(String table, String column) {
         throw new UnsupportedOperationException();
     }
+
+    // true when the query can not match any row in the page, so the page need not be fetched at all
+    public default boolean isEmptyPage(String sql, RangeNode<?> pageRange) {
+        return false;
+    }
 }
@@ -16,17 +16,32 @@
 package com.impetus.blkch.sql.parser;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.DataFrame;
+import com.impetus.blkch.sql.parser.InstrumentationListener.Phase;
+import com.impetus.blkch.sql.parser.LogicalPlan.Explain;
 import com.impetus.blkch.sql.parser.PhysicalPlan.Color;
+import com.impetus.blkch.sql.parser.rewrite.PlanRewriter;
+import com.impetus.blkch.sql.parser.rewrite.RuleBatch;
 import com.impetus.blkch.sql.query.*;
 
 import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.OrderingDirection.Direction;
+import com.impetus.blkch.util.CompositeRangeOperations;
+import com.impetus.blkch.util.Range;
 import com.impetus.blkch.util.RangeOperations;
+import com.impetus.blkch.util.Utilities;
 
 public abstract class AbstractQueryExecutor {
 
@@ -40,27 +55,45 @@ public abstract class AbstractQueryExecutor {
 
     protected Map<String, Map<String, Object>> auxillaryDataMap = new HashMap<>();
 
+    // rows returned by execute so far, counted against the row limit of the plan
+    protected long qualifiedRows = 0;
+
+    private long scanBudget = PhysicalPlan.NO_LIMIT;
+
+    private Direction scanDirection = Direction.ASC;
+
+    private boolean resultOrdered = false;
+
+    private PlanRewriter optimizer;
+
+    // the cost model of the current physical plan, built once by costModel()
+    private CostModel costModel;
+
+    private PhysicalPlan costModelPlan;
+
+    // looked up by the first range cut to it
+    private RangeNode<?> fullRange;
+
+    // created by the first node run for EXPLAIN ANALYZE
+    private PlanProfile profile;
+
     protected TreeNode executeDirectAPIs(String table, TreeNode node) {
         if (node instanceof LogicalOperation) {
             LogicalOperation oper = (LogicalOperation) node;
-            TreeNode first = executeDirectAPIs(table, oper.getChildNode(0));
-            TreeNode second = executeDirectAPIs(table, oper.getChildNode(1));
             LogicalOperation returnOp = new LogicalOperation(oper.isAnd() ? Operator.AND : Operator.OR);
-            returnOp.addChildNode(first);
-            returnOp.addChildNode(second);
+            for (TreeNode child : oper.getChildNodes()) {
+                returnOp.addChildNode(executeDirectAPIs(table, child));
+            }
             return returnOp;
-        } else if (node instanceof DirectAPINode) {
-            DirectAPINode directAPI = (DirectAPINode) node;
-            String column = directAPI.getColumn();
-            String value = directAPI.getValue();
-            return getDataNode(table, column, value);
+        } else if (node instanceof DirectAPINode || node instanceof DirectAPIListNode) {
+            return lookup(table, node);
         } else if (node instanceof RangeNode<?>) {
             RangeNode<?> rangeNode = (RangeNode<?>) node;
-            if (rangeNode.getRangeList().getRanges().size() == 1 && rangeNode.getRangeList().getRanges().get(0)
-                    .getMin() == rangeNode.getRangeList().getRanges().get(0).getMax()) {
-                String column = rangeNode.getColumn();
-                String value = rangeNode.getRangeList().getRanges().get(0).getMin().toString();
-                return getDataNode(table, column, value);
+            // a point of a composite key is no value of a single column to look up
+            if (!rangeNode.isComposite() && rangeNode.getRangeList().getRanges().size() == 1
+                    && rangeNode.getRangeList().getRanges().get(0).getMin() == rangeNode.getRangeList().getRanges()
+                            .get(0).getMax()) {
+                return lookup(table, node);
             }
             return node;
 
@@ -69,165 +102,419 @@ public abstract class AbstractQueryExecutor {
         }
     }
 
+    private TreeNode lookup(String table, TreeNode node) {
+        PlanProfile profile = getProfile();
+        if (profile == null) {
+            return fetchDataNode(table, node);
+        }
+        profile.addRoot(node);
+        return profiled(node, () -> fetchDataNode(table, node));
+    }
+
+    private TreeNode fetchDataNode(String table, TreeNode node) {
+        if (node instanceof DirectAPINode) {
+            DirectAPINode directAPI = (DirectAPINode) node;
+            return getDataNode(table, directAPI.getColumn(), directAPI.getValue());
+        } else if (node instanceof DirectAPIListNode) {
+            DirectAPIListNode directAPIs = (DirectAPIListNode) node;
+            return getDataNode(table, directAPIs.getColumn(), directAPIs.getValues());
+        }
+        RangeNode<?> rangeNode = (RangeNode<?>) node;
+        return getDataNode(table, rangeNode.getColumn(),
+                rangeNode.getRangeList().getRanges().get(0).getMin().toString());
+    }
+
     protected <T> TreeNode optimize(TreeNode node) {
-        if (!(node instanceof LogicalOperation)) {
+        if (optimizer == null) {
+            optimizer = createOptimizer();
+        }
+        return optimizer.rewrite(node);
+    }
+
+    /*
+     * Merges data nodes, ranges and filters of the physical where clause
+     * until nothing more can be merged. Executors can add rules or batches
+     * of their own by overriding this method.
+     */
+    protected PlanRewriter createOptimizer() {
+        return new PlanRewriter(RuleBatch.fixedPoint("merge predicates", node -> {
+            if (node instanceof LogicalOperation && node.hasChildType(GetRowsNode.class)) {
+                throw new BlkchnException(
+                        "Boolean expression in WhereClause with other filter conditions not supported");
+            }
+            return node;
+        }, this::mergeOperands));
+    }
+
+    /*
+     * Merges all operands of an n-ary operation in one application: data
+     * nodes into one, then ranges and, for AND, filters into that data node,
+     * and finally ranges on the same column. Pair by pair this gives the same
+     * result, but would need as many passes as there are operands.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private TreeNode mergeOperands(TreeNode node) {
+        if (!(node instanceof LogicalOperation) || node.getChildNodes().size() < 2) {
             return node;
         }
         LogicalOperation oper = (LogicalOperation) node;
-        TreeNode left = optimize(oper.getChildNode(0));
-        TreeNode right = optimize(oper.getChildNode(1));
-        if (oper.isOr()) {
-            return optimizeOr(left, right);
-        } else {
-            return optimizeAnd(left, right);
+        List<TreeNode> operands = new ArrayList<>(oper.getChildNodes());
+        int dataIndex = -1;
+        for (int i = 0; i < operands.size(); i++) {
+            if (!(operands.get(i) instanceof DataNode)) {
+                continue;
+            }
+            if (dataIndex < 0) {
+                dataIndex = i;
+            } else {
+                operands.set(dataIndex, mergeDataNodes((DataNode) operands.get(dataIndex),
+                        (DataNode) operands.get(i), oper.getOperation()));
+                operands.remove(i--);
+            }
         }
+        for (int i = 0; dataIndex >= 0 && i < operands.size(); i++) {
+            TreeNode operand = operands.get(i);
+            TreeNode merged;
+            if (operand instanceof RangeNode) {
+                merged = combineRangeAndDataNodes((RangeNode) operand, (DataNode<?>) operands.get(dataIndex),
+                        new LogicalOperation(oper.getOperation()));
+            } else if (operand instanceof FilterItem && oper.isAnd()) {
+                merged = combineFilterItemAndDataNodes((FilterItem) operand, (DataNode<?>) operands.get(dataIndex));
+            } else {
+                continue;
+            }
+            operands.set(dataIndex, merged);
+            operands.remove(i);
+            if (i < dataIndex) {
+                dataIndex--;
+            }
+            i--;
+            if (!(merged instanceof DataNode)) {
+                dataIndex = -1;
+            }
+        }
+        operands = mergeRangeNodes(oper, operands);
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        for (int i = 0; i < operands.size(); i++) {
+            if (operands.size() != oper.getChildNodes().size() || operands.get(i) != oper.getChildNode(i)) {
+                return oper.withChildNodes(operands);
+            }
+        }
+        return node;
     }
 
-    @SuppressWarnings("unchecked")
-    protected <T> DataNode<T> execute(TreeNode node) {
-        if (node instanceof LogicalOperation) {
-            LogicalOperation oper = (LogicalOperation) node;
-            if (physicalPlan.validateNode(oper.getChildNode(0)) == Color.GREEN) {
-                DataNode<T> first = execute(oper.getChildNode(0));
-                if (physicalPlan.validateNode(oper.getChildNode(1)) == Color.GREEN && oper.isOr()) {
-                    DataNode<T> second = execute(oper.getChildNode(1));
-                    return mergeDataNodes(first, second, Operator.OR);
-                } else {
-                    return filterWithValue(oper.getChildNode(1), first);
-                }
+    private List<TreeNode> mergeRangeNodes(LogicalOperation oper, List<TreeNode> operands) {
+        Map<String, List<RangeNode<?>>> rangesByColumn = new LinkedHashMap<>();
+        for (TreeNode operand : operands) {
+            if (operand instanceof RangeNode) {
+                RangeNode<?> rangeNode = (RangeNode<?>) operand;
+                rangesByColumn.computeIfAbsent(rangeNode.getTable() + "." + rangeNode.getColumn(),
+                        k -> new ArrayList<>()).add(rangeNode);
+            }
+        }
+        if (rangesByColumn.values().stream().allMatch(ranges -> ranges.size() == 1)) {
+            return operands;
+        }
+        List<TreeNode> merged = new ArrayList<>(operands.size());
+        for (TreeNode operand : operands) {
+            if (!(operand instanceof RangeNode)) {
+                merged.add(operand);
+                continue;
+            }
+            RangeNode<?> rangeNode = (RangeNode<?>) operand;
+            List<RangeNode<?>> ranges = rangesByColumn.remove(rangeNode.getTable() + "." + rangeNode.getColumn());
+            if (ranges == null) {
+                continue;
+            } else if (ranges.size() == 1) {
+                merged.add(rangeNode);
             } else {
-                DataNode<T> second = execute(oper.getChildNode(1));
-                return filterWithValue(oper.getChildNode(0), second);
+                RangeOperations<?> rangeOps = physicalPlan.getKeyRangeOperations(rangeNode.getTable(),
+                        rangeNode.getColumn());
+                LogicalOperation operation = new LogicalOperation(oper.getOperation());
+                merged.add(ranges.size() == 2 ? rangeOps.processRangeNodes(ranges.get(0), ranges.get(1), operation)
+                        : rangeOps.processRangeNodes(ranges, operation));
             }
-        } else if (node instanceof DataNode<?>) {
-            return (DataNode<T>) node;
-        } else if (node instanceof RangeNode<?>) {
-            return (DataNode<T>) executeRangeNode((RangeNode<?>) node);
         }
-        throw new BlkchnException("can not execute for node: " + node);
+        return merged;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> TreeNode optimizeAnd(TreeNode left, TreeNode right) {
-        if (left instanceof GetRowsNode || right instanceof GetRowsNode)
-            throw new BlkchnException("Boolean expression in WhereClause with other filter conditions not supported");
-        if (left instanceof DataNode<?>) {
-            DataNode<T> dataNode = (DataNode<T>) left;
-            if (right instanceof LogicalOperation) {
-                LogicalOperation newOper = new LogicalOperation(Operator.AND);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
-            } else if (right instanceof RangeNode<?>) {
-                RangeNode<?> rangeNode = (RangeNode<?>) right;
-                return combineRangeAndDataNodes(rangeNode, dataNode, new LogicalOperation(Operator.AND));
-            } else if (right instanceof FilterItem) {
-                FilterItem filterItem = (FilterItem) right;
-                return combineFilterItemAndDataNodes(filterItem, dataNode);
-            } else {
-                // check for table name if joins are implemented
-                DataNode<T> rightDataNode = (DataNode<T>) right;
-                return mergeDataNodes(dataNode, rightDataNode, Operator.AND);
+    // estimates come from the physical plan, which drivers extend with statistics of their own
+    protected CostModel getCostModel() {
+        return new CostModel(physicalPlan);
+    }
+
+    /*
+     * Ranges are estimated within the full range, and paginate swaps the
+     * physical plan, so the model is built again for the new one.
+     */
+    private CostModel costModel() {
+        if (costModel == null || costModelPlan != physicalPlan) {
+            costModel = getCostModel();
+            costModel.setRangeBounds(this::withinFullRange);
+            costModelPlan = physicalPlan;
+        }
+        return costModel;
+    }
+
+    /*
+     * A range on the column of getFullRange cut to the values the chain has,
+     * so that an open range like blocknumber > 5000000 is counted and
+     * estimated up to the last block instead of the largest value of its
+     * type. Other ranges are returned as they are.
+     */
+    private RangeNode<?> withinFullRange(RangeNode<?> rangeNode) {
+        if (rangeNode.isComposite()) {
+            return rangeNode;
+        }
+        if (fullRange == null) {
+            fullRange = getFullRange();
+        }
+        if (fullRange == null || !fullRange.getColumn().equals(rangeNode.getColumn())) {
+            return rangeNode;
+        }
+        return physicalPlan.getKeyRangeOperations(rangeNode.getTable(), rangeNode.getColumn())
+                .processRangeNodes(rangeNode, fullRange, new LogicalOperation(Operator.AND));
+    }
+
+    /*
+     * With a row limit pushed down by the plan, the result is cut to the rows
+     * the limit has left, and the rows returned count against it. Operands
+     * whose rows all qualify are executed with that budget too, see
+     * getScanBudget.
+     *
+     * When the plan orders by its range column and the node is driven by a
+     * range on it, the ranges are executed one after the other in that order
+     * and the result is returned in order, see isResultOrdered. Otherwise the
+     * rows are sorted afterwards, so the row limit can not be applied here.
+     */
+    protected <T> DataNode<T> execute(TreeNode node) {
+        long start = Instrumentation.start();
+        try {
+            PlanProfile profile = getProfile();
+            if (profile != null) {
+                profile.addRoot(node);
             }
-        } else if (right instanceof DataNode<?>) {
-            DataNode<T> dataNode = (DataNode<T>) right;
-            if (left instanceof LogicalOperation) {
-                LogicalOperation newOper = new LogicalOperation(Operator.AND);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
-            } else if (left instanceof RangeNode<?>) {
-                RangeNode<?> rangeNode = (RangeNode<?>) left;
-                return combineRangeAndDataNodes(rangeNode, dataNode, new LogicalOperation(Operator.AND));
+            long budget = getRowBudget();
+            Direction order = physicalPlan.getRangeScanOrder();
+            RangeNode<?> orderedRange = order != null && supportsScanDirection(order) ? getOrderedRange(node) : null;
+            resultOrdered = orderedRange != null;
+            DataNode<T> result;
+            if (resultOrdered) {
+                result = executeInRangeOrder(node, orderedRange, order, budget);
             } else {
-                FilterItem filterItem = (FilterItem) left;
-                return combineFilterItemAndDataNodes(filterItem, dataNode);
+                if (order != null) {
+                    budget = PhysicalPlan.NO_LIMIT;
+                }
+                result = executeNode(node, budget);
             }
-        } else if (left instanceof RangeNode<?> && right instanceof RangeNode<?>) {
-            RangeNode<?> leftRangeNode = (RangeNode<?>) left;
-            RangeNode<?> rightRangeNode = (RangeNode<?>) right;
-            if (leftRangeNode.getColumn().equals(rightRangeNode.getColumn())
-                    && leftRangeNode.getTable().equals(rightRangeNode.getTable())) {
-                RangeOperations<?> rangeOps = physicalPlan.getRangeOperations(leftRangeNode.getTable(),
-                        leftRangeNode.getColumn());
-                return rangeOps.processRangeNodes(leftRangeNode, rightRangeNode, new LogicalOperation(Operator.AND));
-            } else {
-                LogicalOperation newOper = new LogicalOperation(Operator.AND);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
+            if (budget != PhysicalPlan.NO_LIMIT) {
+                if (result.getKeys().size() > budget) {
+                    result = new DataNode<>(result.getTable(),
+                            new ArrayList<>(result.getKeys().subList(0, (int) budget)));
+                }
+                qualifiedRows += result.getKeys().size();
             }
-        } else {
-            LogicalOperation newOper = new LogicalOperation(Operator.AND);
-            newOper.addChildNode(left);
-            newOper.addChildNode(right);
-            return newOper;
+            if (profile != null) {
+                profile.rowsReturned(result.getKeys().size());
+            }
+            return result;
+        } finally {
+            Instrumentation.end(Phase.EXECUTE, start);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> TreeNode optimizeOr(TreeNode left, TreeNode right) {
-        if (left instanceof GetRowsNode || right instanceof GetRowsNode)
-            throw new BlkchnException("Boolean expression in WhereClause with other filter conditions not supported");
-        if (left instanceof DataNode<?>) {
-            DataNode<T> dataNode = (DataNode<T>) left;
-            if (right instanceof LogicalOperation || right instanceof FilterItem) {
-                LogicalOperation newOper = new LogicalOperation(Operator.OR);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
-            } else if (right instanceof RangeNode<?>) {
-                RangeNode<?> rangeNode = (RangeNode<?>) right;
-                return combineRangeAndDataNodes(rangeNode, dataNode, new LogicalOperation(Operator.OR));
-            } else {
-                // check for table name if joins are implemented
-                DataNode<T> rightDataNode = (DataNode<T>) right;
-                return mergeDataNodes(dataNode, rightDataNode, Operator.OR);
+    /*
+     * Answers a plan for which PhysicalPlan.isCountOnly holds without turning
+     * any key into a record. The node is the one execute would be given, null
+     * when the query has no where clause. A range on a key column, see
+     * PhysicalPlan.isKeyColumn, is counted from its bounds within the full
+     * range; anything else is executed and its keys are counted.
+     */
+    public long count(TreeNode node) {
+        if (node == null) {
+            node = getFullRange();
+        }
+        if (node instanceof RangeNode<?>) {
+            RangeNode<?> rangeNode = (RangeNode<?>) node;
+            if (physicalPlan.isKeyColumn(rangeNode.getTable(), rangeNode.getColumn())) {
+                return physicalPlan.getKeyRangeOperations(rangeNode.getTable(), rangeNode.getColumn())
+                        .countValues(withinFullRange(rangeNode));
             }
-        } else if (right instanceof DataNode<?>) {
-            DataNode<T> dataNode = (DataNode<T>) right;
-            if (left instanceof LogicalOperation || left instanceof FilterItem) {
-                LogicalOperation newOper = new LogicalOperation(Operator.OR);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
-            } else {
-                RangeNode<?> rangeNode = (RangeNode<?>) left;
-                return combineRangeAndDataNodes(rangeNode, dataNode, new LogicalOperation(Operator.OR));
+        }
+        return execute(node).getKeys().size();
+    }
+
+    // the single row of a count only query, under the column name DataFrame gives the aggregate
+    public DataFrame createCountDataFrame(long count) {
+        FunctionNode function = physicalPlan.getSelectItems().get(0).getChildType(FunctionNode.class, 0);
+        // an int like AggregationFunctions.count, so both paths give the caller the same type
+        if (count > Integer.MAX_VALUE) {
+            throw new BlkchnException("Count " + count + " doesn't fit the int of count(*)");
+        }
+        List<Object> row = Collections.singletonList((Object) (int) count);
+        return new DataFrame(Collections.singletonList(row),
+                Collections.singletonList(Utilities.createFunctionColName(function)),
+                physicalPlan.getColumnAliasMapping());
+    }
+
+    private RangeNode<?> getOrderedRange(TreeNode node) {
+        String column = physicalPlan.getRangeScanColumn();
+        if (node instanceof RangeNode<?>) {
+            return column.equals(((RangeNode<?>) node).getColumn()) ? (RangeNode<?>) node : null;
+        } else if (node instanceof LogicalOperation && ((LogicalOperation) node).isAnd()) {
+            for (TreeNode child : node.getChildNodes()) {
+                if (child instanceof RangeNode<?> && column.equals(((RangeNode<?>) child).getColumn())) {
+                    return (RangeNode<?>) child;
+                }
             }
-        } else if (left instanceof RangeNode<?> && right instanceof RangeNode<?>) {
-            RangeNode<?> leftRangeNode = (RangeNode<?>) left;
-            RangeNode<?> rightRangeNode = (RangeNode<?>) right;
-            if (leftRangeNode.getColumn().equals(rightRangeNode.getColumn())
-                    && leftRangeNode.getTable().equals(rightRangeNode.getTable())) {
-                RangeOperations<?> rangeOps = physicalPlan.getRangeOperations(leftRangeNode.getTable(),
-                        leftRangeNode.getColumn());
-                return rangeOps.processRangeNodes(leftRangeNode, rightRangeNode, new LogicalOperation(Operator.OR));
-            } else {
-                LogicalOperation newOper = new LogicalOperation(Operator.OR);
-                newOper.addChildNode(left);
-                newOper.addChildNode(right);
-                return newOper;
+        }
+        return null;
+    }
+
+    private <T> DataNode<T> executeInRangeOrder(TreeNode node, RangeNode<?> rangeNode, Direction direction,
+            long budget) {
+        if (node == rangeNode || getProfile() == null) {
+            return scanInRangeOrder(node, rangeNode, direction, budget);
+        }
+        return profiled(node, () -> scanInRangeOrder(node, rangeNode, direction, budget));
+    }
+
+    // the range drives, whatever its cost, and the other operands of an AND filter each of its parts
+    private <T> DataNode<T> scanInRangeOrder(TreeNode node, RangeNode<?> rangeNode, Direction direction,
+            long budget) {
+        List<TreeNode> filters = new ArrayList<>();
+        for (TreeNode child : node.getChildNodes()) {
+            if (child != rangeNode) {
+                filters.add(child);
             }
-        } else {
-            LogicalOperation newOper = new LogicalOperation(Operator.OR);
-            newOper.addChildNode(left);
-            newOper.addChildNode(right);
-            return newOper;
         }
+        List<T> keys = new ArrayList<>();
+        Set<T> seen = new HashSet<>();
+        scanDirection = direction;
+        try {
+            for (RangeNode<?> part : splitRanges(rangeNode, direction)) {
+                long partBudget = budget == PhysicalPlan.NO_LIMIT || !filters.isEmpty() ? PhysicalPlan.NO_LIMIT
+                        : budget - keys.size();
+                // the parts are profiled as the range they were split from
+                DataNode<T> rows = getProfile() == null ? executeOperand(part, partBudget)
+                        : profiled(rangeNode, () -> executeOperand(part, partBudget));
+                for (TreeNode filter : filters) {
+                    rows = filterWithValue(filter, rows);
+                }
+                for (T key : rows.getKeys()) {
+                    if (seen.add(key)) {
+                        keys.add(key);
+                    }
+                }
+                if (keys.size() >= budget) {
+                    break;
+                }
+            }
+        } finally {
+            scanDirection = Direction.ASC;
+        }
+        return new DataNode<>(rangeNode.getTable(), keys);
     }
 
     @SuppressWarnings("unchecked")
+    private static <T extends Number & Comparable<T>> List<RangeNode<T>> splitRanges(RangeNode<?> rangeNode,
+            Direction direction) {
+        List<Range<T>> ranges = new ArrayList<>(((RangeNode<T>) rangeNode).getRangeList().getRanges());
+        ranges.sort((r1, r2) -> r1.getMin().compareTo(r2.getMin()));
+        if (direction == Direction.DESC) {
+            Collections.reverse(ranges);
+        }
+        List<RangeNode<T>> parts = new ArrayList<>(ranges.size());
+        for (Range<T> range : ranges) {
+            RangeNode<T> part = new RangeNode<>(rangeNode.getTable(), rangeNode.getColumn());
+            part.getRangeList().addRange(range);
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    private <T> DataNode<T> executeNode(TreeNode node, long budget) {
+        if (getProfile() == null) {
+            return executeOperand(node, budget);
+        }
+        return profiled(node, () -> executeOperand(node, budget));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> DataNode<T> executeOperand(TreeNode node, long budget) {
+        if (node instanceof LogicalOperation) {
+            boolean isOr = ((LogicalOperation) node).isOr();
+            /*
+             * Rows are fetched for the first executable operand, or the last
+             * one when there is none. The operands of an AND are taken from the
+             * cheapest on, so the most selective access path drives and the
+             * others only filter its rows.
+             */
+            List<TreeNode> operands = isOr ? node.getChildNodes() : costModel().orderByCost(node.getChildNodes());
+            int start = operands.size() - 1;
+            for (int i = 0; i < operands.size(); i++) {
+                if (physicalPlan.validateNode(operands.get(i)) == Color.GREEN) {
+                    start = i;
+                    break;
+                }
+            }
+            /*
+             * Rows of an AND operand still have to pass the others, and so do
+             * the rows of an OR that has operands to filter with, so only an
+             * OR of executable operands passes the budget on.
+             */
+            long operandBudget = isOr && physicalPlan.validateNode(node) == Color.GREEN ? budget
+                    : PhysicalPlan.NO_LIMIT;
+            DataNode<T> result = executeNode(operands.get(start), operandBudget);
+            for (int i = 0; i < operands.size(); i++) {
+                if (i == start) {
+                    continue;
+                }
+                TreeNode operand = operands.get(i);
+                if (isOr && i > start && physicalPlan.validateNode(operand) == Color.GREEN) {
+                    if (result.getKeys().size() < operandBudget) {
+                        result = mergeDataNodes(result, executeNode(operand, operandBudget), Operator.OR);
+                    }
+                } else {
+                    result = filterWithValue(operand, result);
+                }
+            }
+            return result;
+        } else if (node instanceof DataNode<?>) {
+            return (DataNode<T>) node;
+        } else if (node instanceof RangeNode<?>) {
+            scanBudget = budget;
+            try {
+                return (DataNode<T>) executeRangeNode((RangeNode<?>) node);
+            } finally {
+                scanBudget = PhysicalPlan.NO_LIMIT;
+            }
+        }
+        throw new BlkchnException("can not execute for node: " + node);
+    }
+
     private <T> DataNode<T> filterWithValue(TreeNode node, DataNode<T> dataNode) {
+        if (getProfile() == null) {
+            return filterOperand(node, dataNode);
+        }
+        return profiled(node, () -> filterOperand(node, dataNode));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> DataNode<T> filterOperand(TreeNode node, DataNode<T> dataNode) {
         if (node instanceof LogicalOperation) {
             LogicalOperation oper = (LogicalOperation) node;
-            DataNode<T> first = filterWithValue(oper.getChildNode(0), dataNode);
-            DataNode<T> second = filterWithValue(oper.getChildNode(1), dataNode);
-            if (oper.isAnd()) {
-                return mergeDataNodes(first, second, Operator.AND);
-            } else {
-                return mergeDataNodes(first, second, Operator.OR);
+            DataNode<T> result = filterWithValue(oper.getChildNode(0), dataNode);
+            for (int i = 1; i < oper.getChildNodes().size(); i++) {
+                if (oper.isAnd()) {
+                    result = filterWithValue(oper.getChildNode(i), result);
+                } else {
+                    result = mergeDataNodes(result, filterWithValue(oper.getChildNode(i), dataNode), Operator.OR);
+                }
             }
+            return result;
         } else if (node instanceof DataNode<?>) {
             return mergeDataNodes(dataNode, (DataNode<T>) node, Operator.AND);
         } else if (node instanceof RangeNode<?>) {
@@ -268,18 +555,17 @@ public abstract class AbstractQueryExecutor {
     protected <T> DataNode<T> mergeDataNodes(DataNode<T> first, DataNode<T> second, Operator op) {
         List<T> newKeys = new ArrayList<>();
         if (op == Operator.AND) {
+            Set<T> secondKeys = new HashSet<>(second.getKeys());
             for (T firstKey : first.getKeys()) {
-                for (T secondKey : second.getKeys()) {
-                    if (firstKey.equals(secondKey)) {
-                        newKeys.add(secondKey);
-                        break;
-                    }
+                if (secondKeys.contains(firstKey)) {
+                    newKeys.add(firstKey);
                 }
             }
         } else {
             newKeys.addAll(first.getKeys());
+            Set<T> seen = new HashSet<>(first.getKeys());
             for (T key : second.getKeys()) {
-                if (!newKeys.contains(key)) {
+                if (seen.add(key)) {
                     newKeys.add(key);
                 }
             }
@@ -287,6 +573,63 @@ public abstract class AbstractQueryExecutor {
         return new DataNode<>(first.getTable(), newKeys);
     }
 
+    private PlanProfile getProfile() {
+        if (profile == null && logicalPlan != null && logicalPlan.getExplain() == Explain.ANALYZE) {
+            profile = new PlanProfile();
+        }
+        return profile;
+    }
+
+    // only for EXPLAIN ANALYZE; callers check getProfile() first so a plain run allocates no action
+    private <R> R profiled(TreeNode node, Supplier<R> action) {
+        PlanProfile profile = getProfile();
+        long start = profile.start(node);
+        R result = null;
+        try {
+            result = action.get();
+            return result;
+        } finally {
+            profile.end(start, result instanceof DataNode<?> ? ((DataNode<?>) result).getKeys().size() : 0);
+        }
+    }
+
+    /*
+     * Answers EXPLAIN without running anything: the physical where clause,
+     * or the full range when there is none, with the access path and the
+     * estimated rows of each node.
+     */
+    public DataFrame explain() {
+        WhereClause whereClause = physicalPlan.getWhereClause();
+        TreeNode root = whereClause == null ? getFullRange() : whereClause.getChildNode(0);
+        return PlanProfile.explain(root, costModel());
+    }
+
+    /*
+     * Answers EXPLAIN ANALYZE once the driver has run the query as usual:
+     * the direct API lookups and the trees given to execute, each node with
+     * its estimated rows, the keys it produced, the driver calls and bytes
+     * reported through recordDriverCall while it ran and the time it took.
+     */
+    public DataFrame explainAnalyze() {
+        PlanProfile profile = getProfile();
+        if (profile == null) {
+            throw new BlkchnException("Query was not run for EXPLAIN ANALYZE");
+        }
+        return profile.analyze(costModel());
+    }
+
+    /*
+     * Drivers call this for each round trip to the blockchain, with the bytes
+     * it returned when known, so that EXPLAIN ANALYZE can attribute it to the
+     * node being run. It does nothing for other statements.
+     */
+    protected void recordDriverCall(long bytesFetched) {
+        PlanProfile profile = getProfile();
+        if (profile != null) {
+            profile.driverCalled(bytesFetched);
+        }
+    }
+
     public RangeNode getProbableRange(){
         WhereClause whereClause = this.physicalPlan.getWhereClause();
         if(whereClause != null) {
@@ -296,8 +639,11 @@ public abstract class AbstractQueryExecutor {
                 return processLogicalOperationForRange(logOpr);
             } else if (this.physicalPlan.getWhereClause().hasChildType(DirectAPINode.class)) {
                 return processDirectAPINodeForRange(this.physicalPlan.getWhereClause().getChildType(DirectAPINode.class, 0));
+            } else if (this.physicalPlan.getWhereClause().hasChildType(DirectAPIListNode.class)) {
+                DirectAPIListNode node = this.physicalPlan.getWhereClause().getChildType(DirectAPIListNode.class, 0);
+                return getRangeNodeFromDataNode(getDataNode(node.getTable(), node.getColumn(), node.getValues()));
             } else if (this.physicalPlan.getWhereClause().hasChildType(RangeNode.class)) {
-                return this.physicalPlan.getWhereClause().getChildType(RangeNode.class, 0);
+                return getLeadingRange(this.physicalPlan.getWhereClause().getChildType(RangeNode.class, 0));
             } else {
                 return getFullRange();
             }
@@ -306,36 +652,41 @@ public abstract class AbstractQueryExecutor {
         }
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     private RangeNode processLogicalOperationForRange(LogicalOperation logicalOperation){
-        TreeNode firstChild = logicalOperation.getChildNode(0);
-        TreeNode secondChild = logicalOperation.getChildNode(1);
-
-        if (firstChild instanceof LogicalOperation) {
-            firstChild = processLogicalOperationForRange((LogicalOperation) firstChild);
-        } else if (firstChild instanceof DirectAPINode) {
-            firstChild = processDirectAPINodeForRange((DirectAPINode) firstChild);
-        } else if (firstChild instanceof FilterItem) {
-            firstChild = getFullRange();
-        }
-
-        if (secondChild instanceof LogicalOperation) {
-            secondChild = processLogicalOperationForRange((LogicalOperation) secondChild);
-        } else if (secondChild instanceof DirectAPINode) {
-            secondChild = processDirectAPINodeForRange((DirectAPINode) secondChild);
-        } else if (secondChild instanceof FilterItem) {
-            secondChild = getFullRange();
-        }
-
-        if(firstChild instanceof RangeNode && secondChild instanceof RangeNode) {
-            RangeNode<?> firstRange = (RangeNode<?>)firstChild;
-            RangeNode<?> secondRange = (RangeNode<?>)secondChild;
-            String table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0).
-                    getChildType(IdentifierNode.class, 0).getValue();
-            RangeOperations<?> rangeOperations = this.physicalPlan.getRangeOperations(table, firstRange.getColumn());
-            return rangeOperations.processRangeNodes(firstRange, secondRange, logicalOperation);
-        }else{
-            return getFullRange();
+        List<RangeNode<?>> ranges = new ArrayList<>(logicalOperation.getChildNodes().size());
+        for (TreeNode child : logicalOperation.getChildNodes()) {
+            if (child instanceof LogicalOperation) {
+                child = processLogicalOperationForRange((LogicalOperation) child);
+            } else if (child instanceof DirectAPINode) {
+                child = processDirectAPINodeForRange((DirectAPINode) child);
+            } else if (child instanceof DirectAPIListNode) {
+                DirectAPIListNode node = (DirectAPIListNode) child;
+                child = getRangeNodeFromDataNode(getDataNode(node.getTable(), node.getColumn(), node.getValues()));
+            } else if (child instanceof FilterItem) {
+                child = getFullRange();
+            }
+            if (!(child instanceof RangeNode)) {
+                return getFullRange();
+            }
+            ranges.add(getLeadingRange((RangeNode<?>) child));
+        }
+        String table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0).
+                getChildType(IdentifierNode.class, 0).getValue();
+        RangeOperations<?> rangeOperations = this.physicalPlan.getRangeOperations(table, ranges.get(0).getColumn());
+        if (ranges.size() == 2) {
+            return rangeOperations.processRangeNodes(ranges.get(0), ranges.get(1), logicalOperation);
+        }
+        return rangeOperations.processRangeNodes(ranges, logicalOperation);
+    }
+
+    // probable ranges are on a single column, a range on a composite key contributes the range on its first column
+    private RangeNode<?> getLeadingRange(RangeNode<?> rangeNode) {
+        if (!rangeNode.isComposite()) {
+            return rangeNode;
         }
+        return ((CompositeRangeOperations) physicalPlan.getKeyRangeOperations(rangeNode.getTable(),
+                rangeNode.getColumn())).getLeadingRange(rangeNode);
     }
 
     public RangeNode processDirectAPINodeForRange(DirectAPINode node) {
@@ -347,11 +698,76 @@ public abstract class AbstractQueryExecutor {
     public abstract RangeNode getRangeNodeFromDataNode(DataNode dataNode);
 
     public void paginate(RangeNode<?> rangeNode) {
-        this.physicalPlan = originalPhysicalPlan.paginate(rangeNode);
+        this.physicalPlan = originalPhysicalPlan.paginate(rangeNode, getRowBudget());
+    }
+
+    // rows that may still be returned, NO_LIMIT when the plan has no row limit
+    public long getRowBudget() {
+        long rowLimit = physicalPlan.getRowLimit();
+        return rowLimit == PhysicalPlan.NO_LIMIT ? rowLimit : Math.max(0, rowLimit - qualifiedRows);
+    }
+
+    public boolean isLimitReached() {
+        return getRowBudget() == 0;
+    }
+
+    /*
+     * Rows a range scan in executeRangeNode may stop after, because every row
+     * it returns qualifies and the rest would be cut by the row limit anyway.
+     * NO_LIMIT when the scanned rows are still filtered, e.g. in an AND.
+     */
+    protected long getScanBudget() {
+        return scanBudget;
+    }
+
+    /*
+     * The direction executeRangeNode has to return the rows of its range in
+     * for isResultOrdered to hold. Drivers that can only scan upwards keep the
+     * default of supportsScanDirection, and descending orders are then sorted
+     * after reading.
+     */
+    protected Direction getScanDirection() {
+        return scanDirection;
+    }
+
+    protected boolean supportsScanDirection(Direction direction) {
+        return direction == Direction.ASC;
+    }
+
+    /*
+     * Whether the last result of execute is already in the order of the ORDER
+     * BY, so that the driver can skip DataFrame.order for it. Pages have to be
+     * visited in the same direction for the whole result to be in order.
+     */
+    public boolean isResultOrdered() {
+        return resultOrdered;
+    }
+
+    // true when the current page can not match any row, drivers skip executing it
+    public boolean isEmptyPage() {
+        return physicalPlan.isEmptyPage();
+    }
+
+    public boolean isEmptyPage(RangeNode<?> rangeNode) {
+        return originalPhysicalPlan.isEmptyPage(rangeNode);
     }
 
     protected abstract DataNode<?> getDataNode(String table, String column, String value);
 
+    /*
+     * Resolves the values of a DirectAPIListNode. This falls back to one call
+     * per value; drivers that can fetch many keys at once override it to do
+     * so in a single round trip. The keys are gathered in one set, the rows
+     * are left in auxillaryDataMap by each call.
+     */
+    protected DataNode<?> getDataNode(String table, String column, List<String> values) {
+        Set<Object> keys = new LinkedHashSet<>();
+        for (String value : values) {
+            keys.addAll(getDataNode(table, column, value).getKeys());
+        }
+        return new DataNode<>(table, new ArrayList<>(keys));
+    }
+
     protected abstract <T extends Number & Comparable<T>> DataNode<?> executeRangeNode(RangeNode<T> rangeNode);
 
     protected abstract <T extends Number & Comparable<T>> TreeNode combineRangeAndDataNodes(RangeNode<T> rangeNode,
@@ -15,6 +15,7 @@
 ******************************************************************************/
 package com.impetus.blkch.sql.parser;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,955 +28,974 @@ public abstract class AbstractSyntaxTreeVisitor extends AbstractParseTreeVisitor
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractSyntaxTreeVisitor.class);
 
+    // ctx.getText() rebuilds the text of the whole subtree, so only pay for it when tracing is on
+    protected static void traceVisit(Logger logger, String visit, ParserRuleContext ctx) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("In " + visit + " " + ctx.getText());
+        }
+    }
+
     @Override
     public LogicalPlan visitSingleStatement(SingleStatementContext ctx) {
-        logger.trace("In visitSingleStatement " + ctx.getText());
+        traceVisit(logger, "visitSingleStatement", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitStatementDefault(StatementDefaultContext ctx) {
-        logger.trace("In visitStatementDefault " + ctx.getText());
+        traceVisit(logger, "visitStatementDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQueryTermDefault(QueryTermDefaultContext ctx) {
-        logger.trace("In visitQueryTermDefault " + ctx.getText());
+        traceVisit(logger, "visitQueryTermDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQueryPrimaryDefault(QueryPrimaryDefaultContext ctx) {
-        logger.trace("In visitQueryPrimaryDefault " + ctx.getText());
+        traceVisit(logger, "visitQueryPrimaryDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitListTypeDec(ListTypeDecContext ctx) {
-        logger.trace("In visitListTypeDec " + ctx.getText());
+        traceVisit(logger, "visitListTypeDec", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAddressOption(AddressOptionContext ctx) {
-        logger.trace("In visitAddressOption " + ctx.getText());
+        traceVisit(logger, "visitAddressOption", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCollection(CollectionContext ctx) {
-        logger.trace("In visitCollection " + ctx.getText());
+        traceVisit(logger, "visitCollection", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSubquery(SubqueryContext ctx) {
-        logger.trace("In visitSubquery " + ctx.getText());
+        traceVisit(logger, "visitSubquery", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSortItem(SortItemContext ctx) {
-        logger.trace("In visitSortItem " + ctx.getText());
+        traceVisit(logger, "visitSortItem", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQuerySpecification(QuerySpecificationContext ctx) {
-        logger.trace("In visitQuerySpecification " + ctx.getText());
+        traceVisit(logger, "visitQuerySpecification", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitFromClause(FromClauseContext ctx) {
-        logger.trace("In visitFromClause " + ctx.getText());
+        traceVisit(logger, "visitFromClause", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSetQuantifier(SetQuantifierContext ctx) {
-        logger.trace("In visitSetQuantifier " + ctx.getText());
+        traceVisit(logger, "visitSetQuantifier", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitRelation(RelationContext ctx) {
-        logger.trace("In visitRelation " + ctx.getText());
+        traceVisit(logger, "visitRelation", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitJoinRelation(JoinRelationContext ctx) {
-        logger.trace("In visitJoinRelation " + ctx.getText());
+        traceVisit(logger, "visitJoinRelation", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitJoinType(JoinTypeContext ctx) {
-        logger.trace("In visitJoinType " + ctx.getText());
+        traceVisit(logger, "visitJoinType", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitJoinCriteria(JoinCriteriaContext ctx) {
-        logger.trace("In visitJoinCriteria " + ctx.getText());
+        traceVisit(logger, "visitJoinCriteria", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIdentifierList(IdentifierListContext ctx) {
-        logger.trace("In visitIdentifierList " + ctx.getText());
+        traceVisit(logger, "visitIdentifierList", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIdentifierSeq(IdentifierSeqContext ctx) {
-        logger.trace("In visitIdentifierSeq " + ctx.getText());
+        traceVisit(logger, "visitIdentifierSeq", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitTableName(TableNameContext ctx) {
-        logger.trace("In visitTableName " + ctx.getText());
+        traceVisit(logger, "visitTableName", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitAliasedQuery(AliasedQueryContext ctx) {
-        logger.trace("In visitAliasedQuery " + ctx.getText());
+        traceVisit(logger, "visitAliasedQuery", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitAliasedRelation(AliasedRelationContext ctx) {
-        logger.trace("In visitAliasedRelation " + ctx.getText());
+        traceVisit(logger, "visitAliasedRelation", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitInlineTable(InlineTableContext ctx) {
-        logger.trace("In visitInlineTable " + ctx.getText());
+        traceVisit(logger, "visitInlineTable", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitTableIdentifier(TableIdentifierContext ctx) {
-        logger.trace("In visitTableIdentifier " + ctx.getText());
+        traceVisit(logger, "visitTableIdentifier", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitNamedExpression(NamedExpressionContext ctx) {
-        logger.trace("In visitNamedExpression " + ctx.getText());
+        traceVisit(logger, "visitNamedExpression", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitNamedExpressionSeq(NamedExpressionSeqContext ctx) {
-        logger.trace("In visitNamedExpressionSeq " + ctx.getText());
+        traceVisit(logger, "visitNamedExpressionSeq", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitExpression(ExpressionContext ctx) {
-        logger.trace("In visitExpression " + ctx.getText());
+        traceVisit(logger, "visitExpression", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitLogicalNot(LogicalNotContext ctx) {
-        logger.trace("In visitLogicalNot " + ctx.getText());
+        traceVisit(logger, "visitLogicalNot", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitBooleanDefault(BooleanDefaultContext ctx) {
-        logger.trace("In visitBooleanDefault " + ctx.getText());
+        traceVisit(logger, "visitBooleanDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitLogicalBinary(LogicalBinaryContext ctx) {
-        logger.trace("In visitLogicalBinary " + ctx.getText());
+        traceVisit(logger, "visitLogicalBinary", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitPredicated(PredicatedContext ctx) {
-        logger.trace("In visitPredicated " + ctx.getText());
+        traceVisit(logger, "visitPredicated", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitValueExpressionDefault(ValueExpressionDefaultContext ctx) {
-        logger.trace("In visitValueExpressionDefault " + ctx.getText());
+        traceVisit(logger, "visitValueExpressionDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitComparison(ComparisonContext ctx) {
-        logger.trace("In visitComparison " + ctx.getText());
+        traceVisit(logger, "visitComparison", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitArithmeticBinary(ArithmeticBinaryContext ctx) {
-        logger.trace("In visitArithmeticBinary " + ctx.getText());
+        traceVisit(logger, "visitArithmeticBinary", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitArithmeticUnary(ArithmeticUnaryContext ctx) {
-        logger.trace("In visitArithmeticUnary " + ctx.getText());
+        traceVisit(logger, "visitArithmeticUnary", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitDereference(DereferenceContext ctx) {
-        logger.trace("In visitDereference " + ctx.getText());
+        traceVisit(logger, "visitDereference", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSimpleCase(SimpleCaseContext ctx) {
-        logger.trace("In visitSimpleCase " + ctx.getText());
+        traceVisit(logger, "visitSimpleCase", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitColumnReference(ColumnReferenceContext ctx) {
-        logger.trace("In visitColumnReference " + ctx.getText());
+        traceVisit(logger, "visitColumnReference", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitRowConstructor(RowConstructorContext ctx) {
-        logger.trace("In visitRowConstructor " + ctx.getText());
+        traceVisit(logger, "visitRowConstructor", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitLast(LastContext ctx) {
-        logger.trace("In visitLast " + ctx.getText());
+        traceVisit(logger, "visitLast", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitStar(StarContext ctx) {
-        logger.trace("In visitStar " + ctx.getText());
+        traceVisit(logger, "visitStar", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSubscript(SubscriptContext ctx) {
-        logger.trace("In visitSubscript " + ctx.getText());
+        traceVisit(logger, "visitSubscript", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitTimeFunctionCall(TimeFunctionCallContext ctx) {
-        logger.trace("In visitTimeFunctionCall " + ctx.getText());
+        traceVisit(logger, "visitTimeFunctionCall", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSubqueryExpression(SubqueryExpressionContext ctx) {
-        logger.trace("In visitSubqueryExpression " + ctx.getText());
+        traceVisit(logger, "visitSubqueryExpression", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitCast(CastContext ctx) {
-        logger.trace("In visitCast " + ctx.getText());
+        traceVisit(logger, "visitCast", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitConstantDefault(ConstantDefaultContext ctx) {
-        logger.trace("In visitConstantDefault " + ctx.getText());
+        traceVisit(logger, "visitConstantDefault", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitParenthesizedExpression(ParenthesizedExpressionContext ctx) {
-        logger.trace("In visitParenthesizedExpression " + ctx.getText());
+        traceVisit(logger, "visitParenthesizedExpression", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitFunctionCall(FunctionCallContext ctx) {
-        logger.trace("In visitFunctionCall " + ctx.getText());
+        traceVisit(logger, "visitFunctionCall", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSearchedCase(SearchedCaseContext ctx) {
-        logger.trace("In visitSearchedCase " + ctx.getText());
+        traceVisit(logger, "visitSearchedCase", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitFirst(FirstContext ctx) {
-        logger.trace("In visitFirst " + ctx.getText());
+        traceVisit(logger, "visitFirst", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitNullLiteral(NullLiteralContext ctx) {
-        logger.trace("In visitNullLiteral " + ctx.getText());
+        traceVisit(logger, "visitNullLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIntervalLiteral(IntervalLiteralContext ctx) {
-        logger.trace("In visitIntervalLiteral " + ctx.getText());
+        traceVisit(logger, "visitIntervalLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitTypeConstructor(TypeConstructorContext ctx) {
-        logger.trace("In visitTypeConstructor " + ctx.getText());
+        traceVisit(logger, "visitTypeConstructor", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitNumericLiteral(NumericLiteralContext ctx) {
-        logger.trace("In visitNumericLiteral " + ctx.getText());
+        traceVisit(logger, "visitNumericLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitBooleanLiteral(BooleanLiteralContext ctx) {
-        logger.trace("In visitBooleanLiteral " + ctx.getText());
+        traceVisit(logger, "visitBooleanLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitStringLiteral(StringLiteralContext ctx) {
-        logger.trace("In visitStringLiteral " + ctx.getText());
+        traceVisit(logger, "visitStringLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitComparisonOperator(ComparisonOperatorContext ctx) {
-        logger.trace("In visitComparisonOperator " + ctx.getText());
+        traceVisit(logger, "visitComparisonOperator", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitArithmeticOperator(ArithmeticOperatorContext ctx) {
-        logger.trace("In visitArithmeticOperator " + ctx.getText());
+        traceVisit(logger, "visitArithmeticOperator", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitPredicateOperator(PredicateOperatorContext ctx) {
-        logger.trace("In visitPredicateOperator " + ctx.getText());
+        traceVisit(logger, "visitPredicateOperator", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitBooleanValue(BooleanValueContext ctx) {
-        logger.trace("In visitBooleanValue " + ctx.getText());
+        traceVisit(logger, "visitBooleanValue", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitInterval(IntervalContext ctx) {
-        logger.trace("In visitInterval " + ctx.getText());
+        traceVisit(logger, "visitInterval", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIntervalField(IntervalFieldContext ctx) {
-        logger.trace("In visitIntervalField " + ctx.getText());
+        traceVisit(logger, "visitIntervalField", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIntervalValue(IntervalValueContext ctx) {
-        logger.trace("In visitIntervalValue " + ctx.getText());
+        traceVisit(logger, "visitIntervalValue", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitComplexDataType(ComplexDataTypeContext ctx) {
-        logger.trace("In visitComplexDataType " + ctx.getText());
+        traceVisit(logger, "visitComplexDataType", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitPrimitiveDataType(PrimitiveDataTypeContext ctx) {
-        logger.trace("In visitPrimitiveDataType " + ctx.getText());
+        traceVisit(logger, "visitPrimitiveDataType", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitComplexColTypeList(ComplexColTypeListContext ctx) {
-        logger.trace("In visitComplexColTypeList " + ctx.getText());
+        traceVisit(logger, "visitComplexColTypeList", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitComplexColType(ComplexColTypeContext ctx) {
-        logger.trace("In visitComplexColType " + ctx.getText());
+        traceVisit(logger, "visitComplexColType", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitWhenClause(WhenClauseContext ctx) {
-        logger.trace("In visitWhenClause " + ctx.getText());
+        traceVisit(logger, "visitWhenClause", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQualifiedName(QualifiedNameContext ctx) {
-        logger.trace("In visitQualifiedName " + ctx.getText());
+        traceVisit(logger, "visitQualifiedName", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIdentifier(IdentifierContext ctx) {
-        logger.trace("In visitIdentifier " + ctx.getText());
+        traceVisit(logger, "visitIdentifier", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitUnquotedIdentifier(UnquotedIdentifierContext ctx) {
-        logger.trace("In visitUnquotedIdentifier " + ctx.getText());
+        traceVisit(logger, "visitUnquotedIdentifier", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQuotedIdentifierAlternative(QuotedIdentifierAlternativeContext ctx) {
-        logger.trace("In visitQuotedIdentifierAlternative " + ctx.getText());
+        traceVisit(logger, "visitQuotedIdentifierAlternative", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitQuotedIdentifier(QuotedIdentifierContext ctx) {
-        logger.trace("In visitQuotedIdentifier " + ctx.getText());
+        traceVisit(logger, "visitQuotedIdentifier", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitDecimalLiteral(DecimalLiteralContext ctx) {
-        logger.trace("In visitDecimalLiteral " + ctx.getText());
+        traceVisit(logger, "visitDecimalLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitIntegerLiteral(IntegerLiteralContext ctx) {
-        logger.trace("In visitIntegerLiteral " + ctx.getText());
+        traceVisit(logger, "visitIntegerLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitBigIntLiteral(BigIntLiteralContext ctx) {
-        logger.trace("In visitBigIntLiteral " + ctx.getText());
+        traceVisit(logger, "visitBigIntLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSmallIntLiteral(SmallIntLiteralContext ctx) {
-        logger.trace("In visitSmallIntLiteral " + ctx.getText());
+        traceVisit(logger, "visitSmallIntLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitTinyIntLiteral(TinyIntLiteralContext ctx) {
-        logger.trace("In visitTinyIntLiteral " + ctx.getText());
+        traceVisit(logger, "visitTinyIntLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitDoubleLiteral(DoubleLiteralContext ctx) {
-        logger.trace("In visitDoubleLiteral " + ctx.getText());
+        traceVisit(logger, "visitDoubleLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitBigDecimalLiteral(BigDecimalLiteralContext ctx) {
-        logger.trace("In visitBigDecimalLiteral " + ctx.getText());
+        traceVisit(logger, "visitBigDecimalLiteral", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitNonReserved(NonReservedContext ctx) {
-        logger.trace("In visitNonReserved " + ctx.getText());
+        traceVisit(logger, "visitNonReserved", ctx);
         return visitChildren(ctx);
 
     }
 
     @Override
     public LogicalPlan visitSimpleQuery(SimpleQueryContext ctx) {
-        logger.trace("In visitSimpleQuery " + ctx.getText());
+        traceVisit(logger, "visitSimpleQuery", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSelectClause(SelectClauseContext ctx) {
-        logger.trace("In visitSelectClause " + ctx.getText());
+        traceVisit(logger, "visitSelectClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitWhereClause(WhereClauseContext ctx) {
-        logger.trace("In visitWhereClause " + ctx.getText());
+        traceVisit(logger, "visitWhereClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitGroupByClause(GroupByClauseContext ctx) {
-        logger.trace("In visitGroupByClause " + ctx.getText());
+        traceVisit(logger, "visitGroupByClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitHavingClause(HavingClauseContext ctx) {
-        logger.trace("In visitHavingClause " + ctx.getText());
+        traceVisit(logger, "visitHavingClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitQueryOrganization(QueryOrganizationContext ctx) {
-        logger.trace("In visitQueryOrganization " + ctx.getText());
+        traceVisit(logger, "visitQueryOrganization", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitOrderByClause(OrderByClauseContext ctx) {
-        logger.trace("In visitOrderByClause " + ctx.getText());
+        traceVisit(logger, "visitOrderByClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitLimitClause(LimitClauseContext ctx) {
-        logger.trace("In visitLimitClause " + ctx.getText());
+        traceVisit(logger, "visitLimitClause", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitInlineTableDefault2(InlineTableDefault2Context ctx) {
-        logger.trace("In visitInlineTableDefault2 " + ctx.getText());
+        traceVisit(logger, "visitInlineTableDefault2", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSetOperation(SetOperationContext ctx) {
-        logger.trace("In visitSetOperation " + ctx.getText());
+        traceVisit(logger, "visitSetOperation", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSingleInsert(SingleInsertContext ctx) {
-        logger.trace("In visitSingleInsert " + ctx.getText());
+        traceVisit(logger, "visitSingleInsert", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateFunction(CreateFunctionContext ctx) {
-        logger.trace("In visitCreateFunction " + ctx.getText());
+        traceVisit(logger, "visitCreateFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitClassName(ClassNameContext ctx) {
-        logger.trace("In visitClassName " + ctx.getText());
+        traceVisit(logger, "visitClassName", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCallFunction(CallFunctionContext ctx) {
-        logger.trace("In visitCallFunction " + ctx.getText());
+        traceVisit(logger, "visitCallFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitInsertInto(InsertIntoContext ctx) {
-        logger.trace("In visitInsertInto " + ctx.getText());
+        traceVisit(logger, "visitInsertInto", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitColumnNames(ColumnNamesContext ctx) {
-        logger.trace("In visitColumnNames " + ctx.getText());
+        traceVisit(logger, "visitColumnNames", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitColumnValues(ColumnValuesContext ctx) {
-        logger.trace("In visitColumnValues " + ctx.getText());
+        traceVisit(logger, "visitColumnValues", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateFunctionRule(CreateFunctionRuleContext ctx) {
-        logger.trace("In visitCreateFunctionRule " + ctx.getText());
+        traceVisit(logger, "visitCreateFunctionRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCallFunctionRule(CallFunctionRuleContext ctx) {
-        logger.trace("In visitCallFunctionRule " + ctx.getText());
+        traceVisit(logger, "visitCallFunctionRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitParameterValues(ParameterValuesContext ctx) {
-        logger.trace("In visitParameterValues " + ctx.getText());
+        traceVisit(logger, "visitParameterValues", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitVersion(VersionContext ctx) {
-        logger.trace("In visitVersion " + ctx.getText());
+        traceVisit(logger, "visitVersion", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitArgs(ArgsContext ctx) {
-        logger.trace("In visitArgs " + ctx.getText());
+        traceVisit(logger, "visitArgs", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitArgParamSeq(ArgParamSeqContext ctx) {
-        logger.trace("In visitArgParamSeq " + ctx.getText());
+        traceVisit(logger, "visitArgParamSeq", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitArgParam(ArgParamContext ctx) {
-        logger.trace("In visitArgParam " + ctx.getText());
+        traceVisit(logger, "visitArgParam", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateAssetRule(CreateAssetRuleContext ctx) {
-        logger.trace("In visitCreateAssetRule " + ctx.getText());
+        traceVisit(logger, "visitCreateAssetRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateAsset(CreateAssetContext ctx) {
-        logger.trace("In visitCreateAsset " + ctx.getText());
+        traceVisit(logger, "visitCreateAsset", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAsset(AssetContext ctx) {
-        logger.trace("In visitAsset " + ctx.getText());
+        traceVisit(logger, "visitAsset", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitStorageType(StorageTypeContext ctx) {
-        logger.trace("In visitStorageType " + ctx.getText());
+        traceVisit(logger, "visitStorageType", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitFieldDelimiter(FieldDelimiterContext ctx) {
-        logger.trace("In visitFieldDelimiter " + ctx.getText());
+        traceVisit(logger, "visitFieldDelimiter", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitRecordDelimiter(RecordDelimiterContext ctx) {
-        logger.trace("In visitRecordDelimiter " + ctx.getText());
+        traceVisit(logger, "visitRecordDelimiter", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitColTypeList(ColTypeListContext ctx) {
-        logger.trace("In visitColTypeList " + ctx.getText());
+        traceVisit(logger, "visitColTypeList", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitColType(ColTypeContext ctx) {
-        logger.trace("In visitColType " + ctx.getText());
+        traceVisit(logger, "visitColType", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDeleteFunctionRule(DeleteFunctionRuleContext ctx) {
-        logger.trace("In visitDeleteFunctionRule " + ctx.getText());
+        traceVisit(logger, "visitDeleteFunctionRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDeleteFunction(DeleteFunctionContext ctx) {
-        logger.trace("In visitDeleteFunction " + ctx.getText());
+        traceVisit(logger, "visitDeleteFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDropAssetRule(DropAssetRuleContext ctx) {
-        logger.trace("In visitDropAssetRule " + ctx.getText());
+        traceVisit(logger, "visitDropAssetRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDropAsset(DropAssetContext ctx) {
-        logger.trace("In visitDropAsset " + ctx.getText());
+        traceVisit(logger, "visitDropAsset", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitUpgradeFunctionRule(UpgradeFunctionRuleContext ctx) {
-        logger.trace("In visitUpgradeFunctionRule " + ctx.getText());
+        traceVisit(logger, "visitUpgradeFunctionRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitUpgradeFunction(UpgradeFunctionContext ctx) {
-        logger.trace("In visitUpgradeFunction " + ctx.getText());
+        traceVisit(logger, "visitUpgradeFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitEndorsersFile(EndorsersFileContext ctx) {
-        logger.trace("In visitEndorsersFile " + ctx.getText());
+        traceVisit(logger, "visitEndorsersFile", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitPolicyFile(PolicyFileContext ctx) {
-        logger.trace("In visitPolicyFile " + ctx.getText());
+        traceVisit(logger, "visitPolicyFile", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitColumnValue(ColumnValueContext ctx) {
-        logger.trace("In visitColumnValue " + ctx.getText());
+        traceVisit(logger, "visitColumnValue", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateUserRule(CreateUserRuleContext ctx) {
-        logger.trace("In visitCreateUserRule " + ctx.getText());
+        traceVisit(logger, "visitCreateUserRule", ctx);
+        return visitChildren(ctx);
+    }
+
+    @Override
+    public LogicalPlan visitExplainRule(ExplainRuleContext ctx) {
+        traceVisit(logger, "visitExplainRule", ctx);
+        return visitChildren(ctx);
+    }
+
+    @Override
+    public LogicalPlan visitExplain(ExplainContext ctx) {
+        traceVisit(logger, "visitExplain", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitQuestionMark(QuestionMarkContext ctx) {
-        logger.trace("In visitQuestionMark " + ctx.getText());
+        traceVisit(logger, "visitQuestionMark", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateUser(CreateUserContext ctx) {
-        logger.trace("In visitCreateUser " + ctx.getText());
+        traceVisit(logger, "visitCreateUser", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAssetFunction(AssetFunctionContext ctx) {
-        logger.trace("In visitAssetFunction " + ctx.getText());
+        traceVisit(logger, "visitAssetFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDeploySmartContract(DeploySmartContractContext ctx) {
-        logger.trace("In visitDeploySmartContract " + ctx.getText());
+        traceVisit(logger, "visitDeploySmartContract", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitPlaceholder(PlaceholderContext ctx) {
-        logger.trace("In visitPlaceholder " + ctx.getText());
+        traceVisit(logger, "visitPlaceholder", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitDeploySmartContractRule(DeploySmartContractRuleContext ctx) {
-        logger.trace("In visitDeploySmartContractRule " + ctx.getText());
+        traceVisit(logger, "visitDeploySmartContractRule", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitBytes(BytesContext ctx) {
-        logger.trace("In visitBytes " + ctx.getText());
+        traceVisit(logger, "visitBytes", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitList(ListContext ctx) {
-        logger.trace("In visitList " + ctx.getText());
+        traceVisit(logger, "visitList", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitListType(ListTypeContext ctx) {
-        logger.trace("In visitListType " + ctx.getText());
+        traceVisit(logger, "visitListType", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSmartFunction(SmartFunctionContext ctx) {
-        logger.trace("In visitSmartFunction " + ctx.getText());
+        traceVisit(logger, "visitSmartFunction", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCheckIsValid(CheckIsValidContext ctx) {
-        logger.trace("In visitCheckIsValid " + ctx.getText());
+        traceVisit(logger, "visitCheckIsValid", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitClassOption(ClassOptionContext ctx) {
-        logger.trace("In visitClassOption " + ctx.getText());
+        traceVisit(logger, "visitClassOption", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAddressVlaue(AddressVlaueContext ctx) {
-        logger.trace("In visitAddressVlaue " + ctx.getText());
+        traceVisit(logger, "visitAddressVlaue", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAsyncOption(AsyncOptionContext ctx) {
-        logger.trace("In visitAsyncOption " + ctx.getText());
+        traceVisit(logger, "visitAsyncOption", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitAffiliation(AffiliationContext ctx) {
-        logger.trace("In visitAffiliation " + ctx.getText());
+        traceVisit(logger, "visitAffiliation", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitCreateFlag(CreateFlagContext ctx) {
-        logger.trace("In visitCreateFlag " + ctx.getText());
+        traceVisit(logger, "visitCreateFlag", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitUpgradeFlag(UpgradeFlagContext ctx) {
-        logger.trace("In visitUpgradeFlag " + ctx.getText());
+        traceVisit(logger, "visitUpgradeFlag", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSecret(SecretContext ctx) {
-        logger.trace("In visitSecret " + ctx.getText());
+        traceVisit(logger, "visitSecret", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitNotBetween(NotBetweenContext ctx) {
-        logger.trace("In visitNotBetween " + ctx.getText());
+        traceVisit(logger, "visitNotBetween", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitNotIn(NotInContext ctx) {
-        logger.trace("In visitNotIn " + ctx.getText());
+        traceVisit(logger, "visitNotIn", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitNotInSubQuery(NotInSubQueryContext ctx) {
-        logger.trace("In visitNotInSubQuery " + ctx.getText());
+        traceVisit(logger, "visitNotInSubQuery", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitNotLike(NotLikeContext ctx) {
-        logger.trace("In visitNotLike " + ctx.getText());
+        traceVisit(logger, "visitNotLike", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitIsNotNULL(IsNotNULLContext ctx) {
-        logger.trace("In visitIsNotNULL " + ctx.getText());
+        traceVisit(logger, "visitIsNotNULL", ctx);
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitPredicateExpression(PredicateExpressionContext ctx) {
-        logger.trace("In visitPredicateExpression " + ctx.getText());
+        traceVisit(logger, "visitPredicateExpression", ctx);
         return visitChildren(ctx);
     }
 
@@ -0,0 +1,145 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.v4.runtime.Token;
+
+import com.impetus.blkch.BlkchnErrorListener;
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.IdentifierNode.IdentType;
+
+/*
+ * Replaces the numeric and string literals of the WHERE, HAVING and LIMIT
+ * clauses with placeholders, working on the token stream only. Statements
+ * that differ just in those constants get the same shape, so one compiled
+ * PreparedTemplate can serve all of them. The extracted literals are
+ * returned as IdentifierNodes equal to the ones the visitor would build.
+ *
+ * The shape keeps the text of every other token as written. Most keywords
+ * of the grammar are non-reserved and may be identifiers, so folding their
+ * case would change the identifiers of the plan.
+ */
+public final class AutoParameterizer {
+
+    private AutoParameterizer() {
+    }
+
+    public static ParameterizedStatement parameterize(String sqlText) {
+        BlkchnSqlLexer lexer = new BlkchnSqlLexer(new CaseInsensitiveBufferStream(sqlText));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(BlkchnErrorListener.INSTANCE);
+        List<? extends Token> tokens;
+        try {
+            tokens = lexer.getAllTokens();
+        } catch (BlkchnException e) {
+            // leave the error to the regular parse
+            return new ParameterizedStatement(sqlText, new IdentifierNode[0]);
+        }
+        StringBuilder shape = new StringBuilder(sqlText.length());
+        List<IdentifierNode> parameters = new ArrayList<>();
+        boolean inParameterizedClause = false;
+        for (Token token : tokens) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            int type = token.getType();
+            if (type == BlkchnSqlLexer.QUESTIONMARK) {
+                // explicit placeholders are bound by the caller, do not mix them with extracted ones
+                return new ParameterizedStatement(sqlText, new IdentifierNode[0]);
+            }
+            switch (type) {
+            case BlkchnSqlLexer.WHERE:
+            case BlkchnSqlLexer.HAVING:
+            case BlkchnSqlLexer.LIMIT:
+                inParameterizedClause = true;
+                break;
+            case BlkchnSqlLexer.SELECT:
+            case BlkchnSqlLexer.FROM:
+            case BlkchnSqlLexer.GROUP:
+            case BlkchnSqlLexer.ORDER:
+                inParameterizedClause = false;
+                break;
+            default:
+                break;
+            }
+            if (shape.length() > 0) {
+                shape.append(' ');
+            }
+            IdentifierNode literal = inParameterizedClause ? toLiteral(token) : null;
+            if (literal != null) {
+                parameters.add(literal);
+                shape.append('?');
+            } else {
+                shape.append(token.getText());
+            }
+        }
+        return new ParameterizedStatement(shape.toString(), parameters.toArray(new IdentifierNode[parameters.size()]));
+    }
+
+    private static IdentifierNode toLiteral(Token token) {
+        String text = token.getText();
+        switch (token.getType()) {
+        case BlkchnSqlLexer.INTEGER_VALUE:
+            Long typedValue = null;
+            try {
+                typedValue = Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                // too large for a long, consumers parse the text
+            }
+            return new IdentifierNode(text, IdentType.NUMBER, typedValue);
+        case BlkchnSqlLexer.DECIMAL_VALUE:
+        case BlkchnSqlLexer.BIGINT_LITERAL:
+        case BlkchnSqlLexer.SMALLINT_LITERAL:
+        case BlkchnSqlLexer.TINYINT_LITERAL:
+        case BlkchnSqlLexer.DOUBLE_LITERAL:
+        case BlkchnSqlLexer.BIGDECIMAL_LITERAL:
+            return new IdentifierNode(text, IdentType.NUMBER);
+        case BlkchnSqlLexer.STRING:
+            return new IdentifierNode(text, IdentType.STRING);
+        default:
+            return null;
+        }
+    }
+
+    public static final class ParameterizedStatement {
+
+        private final String shape;
+
+        private final IdentifierNode[] parameters;
+
+        private ParameterizedStatement(String shape, IdentifierNode[] parameters) {
+            this.shape = shape;
+            this.parameters = parameters;
+        }
+
+        public String getShape() {
+            return shape;
+        }
+
+        public IdentifierNode[] getParameters() {
+            return parameters;
+        }
+
+        public int getParameterCount() {
+            return parameters.length;
+        }
+    }
+}
@@ -15,6 +15,12 @@
 ******************************************************************************/
 package com.impetus.blkch.sql.parser;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.antlr.v4.runtime.tree.RuleNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +53,7 @@ import com.impetus.blkch.sql.generated.BlkchnSqlParser.AffiliationContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.ArgsContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.AssetContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.AsyncOptionContext;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser.BooleanExpressionContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.BooleanLiteralContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.BytesContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.CallFunctionContext;
@@ -67,6 +74,8 @@ import com.impetus.blkch.sql.generated.BlkchnSqlParser.DeploySmartContractRuleCo
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.DereferenceContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.DropAssetContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.EndorsersFileContext;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser.ExplainContext;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser.ExpressionContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.FieldDelimiterContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.FromClauseContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.FunctionCallContext;
@@ -103,9 +112,11 @@ import com.impetus.blkch.sql.generated.BlkchnSqlParser.TableIdentifierContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.UnquotedIdentifierContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.UpgradeFlagContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.UpgradeFunctionContext;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser.ValueExpressionContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.VersionContext;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser.WhereClauseContext;
 import com.impetus.blkch.sql.insert.*;
+import com.impetus.blkch.sql.parser.LogicalPlan.Explain;
 import com.impetus.blkch.sql.parser.LogicalPlan.SQLType;
 import com.impetus.blkch.sql.query.*;
 import com.impetus.blkch.sql.query.Comparator.ComparisionOperator;
@@ -152,9 +163,53 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     SmartCnrtDeploy smartCnrtDeploy;
     CreateUser createUser;
 
+    SchemaCatalog schemaCatalog;
+
+    // set only while the WHERE clause of a query is visited with a schema catalog
+    private PhysicalPredicateBuilder predicateBuilder;
+
+    private Map<TreeNode, TreeNode> physicalPredicates;
+
+    /*
+     * With a catalog set, the physical WHERE clause is built bottom up while
+     * visiting and stored on the logical plan, so PhysicalPlan does not walk
+     * and clone the logical predicates again. Statements with placeholders in
+     * the WHERE clause are left to PhysicalPlan, since their values are only
+     * known after binding.
+     */
+    public void setSchemaCatalog(SchemaCatalog schemaCatalog) {
+        this.schemaCatalog = schemaCatalog;
+    }
+
+    public SchemaCatalog getSchemaCatalog() {
+        return schemaCatalog;
+    }
+
+    /*
+     * Clears the state built while visiting a statement so that the same
+     * visitor can be used for the next one.
+     */
+    public void reset() {
+        logicalPlan = new LogicalPlan("BlockchainVisitor");
+        query = null;
+        crtFunction = null;
+        className = null;
+        insert = null;
+        callFunction = null;
+        createAsset = null;
+        deleteFunction = null;
+        dropAsset = null;
+        upgradeFunction = null;
+        smartContractFunction = null;
+        smartCnrtDeploy = null;
+        createUser = null;
+        predicateBuilder = null;
+        physicalPredicates = null;
+    }
+
     @Override
     public LogicalPlan visitSimpleQuery(SimpleQueryContext ctx) {
-        logger.trace("In visitSimpleQuery " + ctx.getText());
+        traceVisit(logger, "visitSimpleQuery", ctx);
         query = new Query();
         logicalPlan.setQuery(query);
         logicalPlan.setCurrentNode(query);
@@ -164,7 +219,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitSingleInsert(SingleInsertContext ctx) {
-        logger.trace("In visitSingleInsert " + ctx.getText());
+        traceVisit(logger, "visitSingleInsert", ctx);
         insert = new Insert();
         logicalPlan.setInsert(insert);
         logicalPlan.setCurrentNode(insert);
@@ -174,7 +229,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitCreateFunctionRule(BlkchnSqlParser.CreateFunctionRuleContext ctx) {
-        logger.trace("In visitCreateFunctionRule " + ctx.getText());
+        traceVisit(logger, "visitCreateFunctionRule", ctx);
         crtFunction = new CreateFunction();
         logicalPlan.setCreateFunction(crtFunction);
         logicalPlan.setCurrentNode(crtFunction);
@@ -184,7 +239,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitCallFunction(CallFunctionContext ctx) {
-        logger.trace("In visitCallFunction " + ctx.getText());
+        traceVisit(logger, "visitCallFunction", ctx);
         callFunction = new CallFunction();
         logicalPlan.setCallFunction(callFunction);
         logicalPlan.setCurrentNode(callFunction);
@@ -194,7 +249,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitClassName(BlkchnSqlParser.ClassNameContext ctx) {
-        logger.trace("In visitClassName " + ctx.getText());
+        traceVisit(logger, "visitClassName", ctx);
         className = new ClassName(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(className);
         logicalPlan.setCurrentNode(className);
@@ -203,7 +258,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitSelectClause(SelectClauseContext ctx) {
-        logger.trace("In visitSelectClause " + ctx.getText());
+        traceVisit(logger, "visitSelectClause", ctx);
         TreeNode selectClause = new SelectClause();
         logicalPlan.getCurrentNode().addChildNode(selectClause);
         logicalPlan.setCurrentNode(selectClause);
@@ -212,7 +267,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitFromClause(FromClauseContext ctx) {
-        logger.trace("In visitFromClause " + ctx.getText());
+        traceVisit(logger, "visitFromClause", ctx);
         TreeNode fromItem = new FromItem();
         logicalPlan.getCurrentNode().addChildNode(fromItem);
         logicalPlan.setCurrentNode(fromItem);
@@ -221,16 +276,39 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitWhereClause(WhereClauseContext ctx) {
-        logger.trace("In visitWhereClause " + ctx.getText());
+        traceVisit(logger, "visitWhereClause", ctx);
         TreeNode whereClause = new WhereClause();
+        boolean singlePass = schemaCatalog != null && query != null && logicalPlan.getCurrentNode() == query
+                && query.hasChildType(FromItem.class);
         logicalPlan.getCurrentNode().addChildNode(whereClause);
         logicalPlan.setCurrentNode(whereClause);
-        return visitChildrenAndResetNode(ctx);
+        if (!singlePass) {
+            return visitChildrenAndResetNode(ctx);
+        }
+        String table = query.getChildType(FromItem.class, 0).getChildType(Table.class, 0)
+                .getChildType(IdentifierNode.class, 0).getValue();
+        predicateBuilder = new PhysicalPredicateBuilder(schemaCatalog, table,
+                PhysicalPredicateBuilder.getColumnAliasMapping(query.getChildType(SelectClause.class, 0)));
+        physicalPredicates = new IdentityHashMap<>();
+        try {
+            LogicalPlan result = visitChildrenAndResetNode(ctx);
+            TreeNode physical = whereClause.getChildNodes().size() == 1
+                    ? physicalPredicates.get(whereClause.getChildNode(0)) : null;
+            if (physical != null) {
+                WhereClause physicalWhereClause = new WhereClause();
+                physicalWhereClause.addChildNode(physical);
+                logicalPlan.setPhysicalWhereClause(physicalWhereClause);
+            }
+            return result;
+        } finally {
+            predicateBuilder = null;
+            physicalPredicates = null;
+        }
     }
 
     @Override
     public LogicalPlan visitGroupByClause(GroupByClauseContext ctx) {
-        logger.trace("In visitGroupByClause " + ctx.getText());
+        traceVisit(logger, "visitGroupByClause", ctx);
         TreeNode groupByClause = new GroupByClause();
         logicalPlan.getCurrentNode().addChildNode(groupByClause);
         logicalPlan.setCurrentNode(groupByClause);
@@ -239,7 +317,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitHavingClause(HavingClauseContext ctx) {
-        logger.trace("In visitHavingClause " + ctx.getText());
+        traceVisit(logger, "visitHavingClause", ctx);
         TreeNode havingClause = new HavingClause();
         logicalPlan.getCurrentNode().addChildNode(havingClause);
         logicalPlan.setCurrentNode(havingClause);
@@ -248,7 +326,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitOrderByClause(OrderByClauseContext ctx) {
-        logger.trace("In visitOrderByClause " + ctx.getText());
+        traceVisit(logger, "visitOrderByClause", ctx);
         TreeNode orderByClause = new OrderByClause();
         logicalPlan.getCurrentNode().addChildNode(orderByClause);
         logicalPlan.setCurrentNode(orderByClause);
@@ -257,7 +335,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitLimitClause(LimitClauseContext ctx) {
-        logger.trace("In visitLimitClause " + ctx.getText());
+        traceVisit(logger, "visitLimitClause", ctx);
         TreeNode limitClause = new LimitClause();
         logicalPlan.getCurrentNode().addChildNode(limitClause);
         logicalPlan.setCurrentNode(limitClause);
@@ -266,7 +344,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitNamedExpression(NamedExpressionContext ctx) {
-        logger.trace("In visitNamedExpression " + ctx.getText());
+        traceVisit(logger, "visitNamedExpression", ctx);
         if (logicalPlan.getCurrentNode() instanceof SelectClause) {
             TreeNode selectItem = new SelectItem();
             logicalPlan.getCurrentNode().addChildNode(selectItem);
@@ -279,7 +357,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitColumnReference(ColumnReferenceContext ctx) {
-        logger.trace("In visitColumnReference " + ctx.getText());
+        traceVisit(logger, "visitColumnReference", ctx);
         TreeNode column = new Column();
         logicalPlan.getCurrentNode().addChildNode(column);
         logicalPlan.setCurrentNode(column);
@@ -288,7 +366,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitStar(StarContext ctx) {
-        logger.trace("In visitStar " + ctx.getText());
+        traceVisit(logger, "visitStar", ctx);
         if (ctx.qualifiedName() != null) {
             logicalPlan.getCurrentNode().addChildNode(new StarNode(ctx.qualifiedName().getText()));
         } else {
@@ -299,7 +377,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitFunctionCall(FunctionCallContext ctx) {
-        logger.trace("In visitFunctionCall " + ctx.getText());
+        traceVisit(logger, "visitFunctionCall", ctx);
         TreeNode functionNode = new FunctionNode();
         logicalPlan.getCurrentNode().addChildNode(functionNode);
         logicalPlan.setCurrentNode(functionNode);
@@ -308,7 +386,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitSetQuantifier(SetQuantifierContext ctx) {
-        logger.trace("In visitSetQuantifier " + ctx.getText());
+        traceVisit(logger, "visitSetQuantifier", ctx);
         if (ctx.DISTINCT() != null) {
             logicalPlan.getCurrentNode().addChildNode(new QuantifierNode(Quantifier.DISTINCT));
         } else {
@@ -319,7 +397,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitUnquotedIdentifier(UnquotedIdentifierContext ctx) {
-        logger.trace("In visitUnquotedIdentifier " + ctx.getText());
+        traceVisit(logger, "visitUnquotedIdentifier", ctx);
         TreeNode node = new IdentifierNode(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(node);
         return visitChildren(ctx);
@@ -327,7 +405,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitTableIdentifier(TableIdentifierContext ctx) {
-        logger.trace("In visitTableIdentifier " + ctx.getText());
+        traceVisit(logger, "visitTableIdentifier", ctx);
         TreeNode table = new Table();
         logicalPlan.getCurrentNode().addChildNode(table);
         logicalPlan.setCurrentNode(table);
@@ -336,7 +414,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitDereference(DereferenceContext ctx) {
-        logger.trace("In visitDereference " + ctx.getText());
+        traceVisit(logger, "visitDereference", ctx);
         TreeNode node = new DereferenceNode();
         logicalPlan.getCurrentNode().addChildNode(node);
         logicalPlan.setCurrentNode(node);
@@ -345,31 +423,58 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitLogicalBinary(LogicalBinaryContext ctx) {
-        logger.trace("In visitLogicalBinary " + ctx.getText());
-        if (ctx.AND() != null) {
-            TreeNode andNode = new LogicalOperation(Operator.AND);
-            logicalPlan.getCurrentNode().addChildNode(andNode);
-            logicalPlan.setCurrentNode(andNode);
-        } else if (ctx.OR() != null) {
-            TreeNode orNode = new LogicalOperation(Operator.OR);
-            logicalPlan.getCurrentNode().addChildNode(orNode);
-            logicalPlan.setCurrentNode(orNode);
+        traceVisit(logger, "visitLogicalBinary", ctx);
+        /*
+         * The grammar makes "a or b or c" a left-deep chain of contexts. The
+         * chain is walked in a loop rather than by recursion, so a generated
+         * predicate with thousands of terms can not overflow the stack. The
+         * logical tree built is the same binary tree as before.
+         */
+        List<LogicalBinaryContext> chain = new ArrayList<>();
+        for (BooleanExpressionContext expr = ctx; expr instanceof LogicalBinaryContext
+                && ((LogicalBinaryContext) expr).operator.getType() == ctx.operator.getType();
+                expr = ((LogicalBinaryContext) expr).left) {
+            chain.add((LogicalBinaryContext) expr);
         }
-        return visitChildrenAndResetNode(ctx);
+        TreeNode currentNode = logicalPlan.getCurrentNode();
+        Operator operator = ctx.AND() != null ? Operator.AND : Operator.OR;
+        List<LogicalOperation> operations = new ArrayList<>(chain.size());
+        TreeNode parent = currentNode;
+        for (int i = 0; i < chain.size(); i++) {
+            LogicalOperation operation = new LogicalOperation(operator);
+            parent.addChildNode(operation);
+            operations.add(operation);
+            parent = operation;
+        }
+        try {
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                logicalPlan.setCurrentNode(operations.get(i));
+                if (i == chain.size() - 1) {
+                    chain.get(i).left.accept(this);
+                }
+                chain.get(i).right.accept(this);
+            }
+        } finally {
+            logicalPlan.setCurrentNode(currentNode);
+        }
+        translateLogicalOperations(operations);
+        return logicalPlan;
     }
 
     @Override
     public LogicalPlan visitComparison(ComparisonContext ctx) {
-        logger.trace("In visitComparison " + ctx.getText());
-        TreeNode filterItem = new FilterItem();
+        traceVisit(logger, "visitComparison", ctx);
+        FilterItem filterItem = new FilterItem();
         logicalPlan.getCurrentNode().addChildNode(filterItem);
         logicalPlan.setCurrentNode(filterItem);
-        return visitChildrenAndResetNode(ctx);
+        LogicalPlan result = visitChildrenAndResetNode(ctx);
+        translateFilterItem(filterItem);
+        return result;
     }
 
     @Override
     public LogicalPlan visitComparisonOperator(ComparisonOperatorContext ctx) {
-        logger.trace("In visitComparisonOperator " + ctx.getText());
+        traceVisit(logger, "visitComparisonOperator", ctx);
         TreeNode node = new Comparator(ComparisionOperator.getOp(ctx.getText().trim()));
         node.addChildNode(new IdentifierNode(ctx.getText()));
         logicalPlan.getCurrentNode().addChildNode(node);
@@ -378,28 +483,28 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitNumericLiteral(NumericLiteralContext ctx) {
-        logger.trace("In visitNumericLiteral " + ctx.getText());
+        traceVisit(logger, "visitNumericLiteral", ctx);
         logicalPlan.getCurrentNode().addChildNode(new IdentifierNode(ctx.getText(), IdentType.NUMBER));
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitStringLiteral(StringLiteralContext ctx) {
-        logger.trace("In visitStringLiteral " + ctx.getText());
+        traceVisit(logger, "visitStringLiteral", ctx);
         logicalPlan.getCurrentNode().addChildNode(new IdentifierNode(ctx.getText(), IdentType.STRING));
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitBooleanLiteral(BooleanLiteralContext ctx) {
-        logger.trace("In visitBooleanLiteral " + ctx.getText());
+        traceVisit(logger, "visitBooleanLiteral", ctx);
         logicalPlan.getCurrentNode().addChildNode(new IdentifierNode(ctx.getText(), IdentType.BOOLEAN));
         return visitChildren(ctx);
     }
 
     @Override
     public LogicalPlan visitSortItem(SortItemContext ctx) {
-        logger.trace("In visitSortItem " + ctx.getText());
+        traceVisit(logger, "visitSortItem", ctx);
         TreeNode orderItem = new OrderItem();
         logicalPlan.getCurrentNode().addChildNode(orderItem);
         logicalPlan.setCurrentNode(orderItem);
@@ -413,7 +518,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitVersion(VersionContext ctx) {
-        logger.trace("In visitVersion " + ctx.getText());
+        traceVisit(logger, "visitVersion", ctx);
         Version version = new Version(ctx.STRING().getText());
         logicalPlan.getCurrentNode().addChildNode(version);
         logicalPlan.setCurrentNode(version);
@@ -422,7 +527,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitEndorsersFile(EndorsersFileContext ctx) {
-        logger.trace("In visitEndorsersFile " + ctx.getText());
+        traceVisit(logger, "visitEndorsersFile", ctx);
         Endorsers endorsers = new Endorsers();
         logicalPlan.getCurrentNode().addChildNode(endorsers);
         logicalPlan.setCurrentNode(endorsers);
@@ -431,7 +536,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitPolicyFile(PolicyFileContext ctx) {
-        logger.trace("In visitPolicyFile " + ctx.getText());
+        traceVisit(logger, "visitPolicyFile", ctx);
         PolicyFile policyFile = new PolicyFile(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(policyFile);
         logicalPlan.setCurrentNode(policyFile);
@@ -440,7 +545,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitArgs(ArgsContext ctx) {
-        logger.trace("In visitArgs " + ctx.getText());
+        traceVisit(logger, "visitArgs", ctx);
         Args args = new Args();
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -449,7 +554,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitColumnNames(ColumnNamesContext ctx) {
-        logger.trace("In visitColumnNames " + ctx.getText());
+        traceVisit(logger, "visitColumnNames", ctx);
         ColumnName columnName = new ColumnName();
         logicalPlan.getCurrentNode().addChildNode(columnName);
         logicalPlan.setCurrentNode(columnName);
@@ -458,7 +563,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitColumnValues(ColumnValuesContext ctx) {
-        logger.trace("In visitColumnValues " + ctx.getText());
+        traceVisit(logger, "visitColumnValues", ctx);
         ColumnValue columnValue = new ColumnValue();
         logicalPlan.getCurrentNode().addChildNode(columnValue);
         logicalPlan.setCurrentNode(columnValue);
@@ -467,7 +572,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitParameterValues(ParameterValuesContext ctx) {
-        logger.trace("In visitParameterValues " + ctx.getText());
+        traceVisit(logger, "visitParameterValues", ctx);
         Parameters parameters = new Parameters();
         logicalPlan.getCurrentNode().addChildNode(parameters);
         logicalPlan.setCurrentNode(parameters);
@@ -476,7 +581,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitCreateAsset(CreateAssetContext ctx) {
-        logger.trace("In visitCreateAsset " + ctx.getText());
+        traceVisit(logger, "visitCreateAsset", ctx);
         createAsset = new CreateAsset();
         logicalPlan.setCreateAsset(createAsset);
         logicalPlan.setCurrentNode(createAsset);
@@ -486,7 +591,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitAsset(AssetContext ctx) {
-        logger.trace("In visitAsset " + ctx.getText());
+        traceVisit(logger, "visitAsset", ctx);
         Asset asset = new Asset();
         logicalPlan.getCurrentNode().addChildNode(asset);
         logicalPlan.setCurrentNode(asset);
@@ -495,7 +600,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitColTypeList(ColTypeListContext ctx) {
-        logger.trace("In visitColTypeList " + ctx.getText());
+        traceVisit(logger, "visitColTypeList", ctx);
         ColumnTypeList columnTypeList = new ColumnTypeList();
         logicalPlan.getCurrentNode().addChildNode(columnTypeList);
         logicalPlan.setCurrentNode(columnTypeList);
@@ -504,7 +609,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitColType(ColTypeContext ctx) {
-        logger.trace("In visitColType " + ctx.getText());
+        traceVisit(logger, "visitColType", ctx);
         ColumnType columnType = new ColumnType();
         logicalPlan.getCurrentNode().addChildNode(columnType);
         logicalPlan.setCurrentNode(columnType);
@@ -513,7 +618,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitStorageType(StorageTypeContext ctx) {
-        logger.trace("In visitStorageType " + ctx.getText());
+        traceVisit(logger, "visitStorageType", ctx);
         StorageType storageType = new StorageType();
         if (ctx.JSON() != null) {
             storageType.addChildNode(new IdentifierNode("JSON"));
@@ -526,7 +631,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitFieldDelimiter(FieldDelimiterContext ctx) {
-        logger.trace("In visitFieldDelimiter " + ctx.getText());
+        traceVisit(logger, "visitFieldDelimiter", ctx);
         FieldDelimiter fieldDelimiter = new FieldDelimiter();
         fieldDelimiter.addChildNode(new IdentifierNode(ctx.STRING().getText().replace("'", "").replace("\"", "")));
         logicalPlan.getCurrentNode().addChildNode(fieldDelimiter);
@@ -535,7 +640,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitRecordDelimiter(RecordDelimiterContext ctx) {
-        logger.trace("In visitRecordDelimiter " + ctx.getText());
+        traceVisit(logger, "visitRecordDelimiter", ctx);
         RecordDelimiter recordDelimiter = new RecordDelimiter();
         recordDelimiter.addChildNode(new IdentifierNode(ctx.STRING().getText().replace("'", "").replace("\"", "")));
         logicalPlan.getCurrentNode().addChildNode(recordDelimiter);
@@ -544,7 +649,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitDeleteFunction(DeleteFunctionContext ctx) {
-        logger.trace("In visitDeleteFunction " + ctx.getText());
+        traceVisit(logger, "visitDeleteFunction", ctx);
         deleteFunction = new DeleteFunction();
         logicalPlan.setDeleteFunction(deleteFunction);
         logicalPlan.setCurrentNode(deleteFunction);
@@ -554,7 +659,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitDeploySmartContractRule(DeploySmartContractRuleContext ctx) {
-        logger.trace("In visitDeploySmartContractRule " + ctx.getText());
+        traceVisit(logger, "visitDeploySmartContractRule", ctx);
         smartCnrtDeploy = new SmartCnrtDeploy();
         logicalPlan.setSmartCnrtDeploy(smartCnrtDeploy);
         logicalPlan.setCurrentNode(smartCnrtDeploy);
@@ -564,7 +669,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     
     @Override
     public LogicalPlan visitDropAsset(DropAssetContext ctx) {
-        logger.trace("In visitDropAsset " + ctx.getText());
+        traceVisit(logger, "visitDropAsset", ctx);
         dropAsset = new DropAsset();
         logicalPlan.setDropAsset(dropAsset);
         logicalPlan.setCurrentNode(dropAsset);
@@ -574,7 +679,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitUpgradeFunction(UpgradeFunctionContext ctx) {
-        logger.trace("In visitUpgradeFunction " + ctx.getText());
+        traceVisit(logger, "visitUpgradeFunction", ctx);
         upgradeFunction = new UpgradeFunction();
         logicalPlan.setUpgradeFunction(upgradeFunction);
         logicalPlan.setCurrentNode(upgradeFunction);
@@ -584,7 +689,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     
     @Override
     public LogicalPlan visitCreateUser(CreateUserContext ctx) {
-        logger.trace("In visitCreateUser " + ctx.getText());
+        traceVisit(logger, "visitCreateUser", ctx);
         createUser = new CreateUser();
         logicalPlan.setCreateUser(createUser);
         logicalPlan.setCurrentNode(createUser);
@@ -592,9 +697,16 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
         return visitChildrenAndResetNode(ctx);
     }
     
+    @Override
+    public LogicalPlan visitExplain(ExplainContext ctx) {
+        traceVisit(logger, "visitExplain", ctx);
+        logicalPlan.setExplain(ctx.ANALYZE() == null ? Explain.PLAN : Explain.ANALYZE);
+        return visitChildren(ctx);
+    }
+
     @Override
     public LogicalPlan visitSecret(SecretContext ctx) {
-        logger.trace("In visitSecret " + ctx.getText());
+        traceVisit(logger, "visitSecret", ctx);
         Secret secret = new Secret(Utilities.unquote(ctx.getText()));
         logicalPlan.getCurrentNode().addChildNode(secret);
         logicalPlan.setCurrentNode(secret);
@@ -603,7 +715,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     
     @Override
     public LogicalPlan visitAffiliation(AffiliationContext ctx) {
-        logger.trace("In visitAffiliation " + ctx.getText());
+        traceVisit(logger, "visitAffiliation", ctx);
         Affiliation affiliation = new Affiliation(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(affiliation);
         logicalPlan.setCurrentNode(affiliation);
@@ -612,7 +724,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     
     @Override
     public LogicalPlan visitCreateFlag(CreateFlagContext ctx) {
-        logger.trace("In visitCreateFlag " + ctx.getText());
+        traceVisit(logger, "visitCreateFlag", ctx);
         if(ctx.INSTALL_ONLY() != null) {
             InstallOnly installOnly = new InstallOnly();
             logicalPlan.getCurrentNode().addChildNode(installOnly);
@@ -627,7 +739,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     
     @Override
     public LogicalPlan visitUpgradeFlag(UpgradeFlagContext ctx) {
-        logger.trace("In visitUpgradeFlag " + ctx.getText());
+        traceVisit(logger, "visitUpgradeFlag", ctx);
         if(ctx.INSTALL_ONLY() != null) {
             InstallOnly installOnly = new InstallOnly();
             logicalPlan.getCurrentNode().addChildNode(installOnly);
@@ -642,7 +754,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitQuestionMark(QuestionMarkContext ctx) {
-        logger.trace("In visitQuestionMark " + ctx.getText());
+        traceVisit(logger, "visitQuestionMark", ctx);
         TreeNode node = new Placeholder(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(node);
         return defaultResult();
@@ -650,7 +762,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitIsNotNULL(IsNotNULLContext ctx) {
-        logger.trace("In visitIsNotNULL " + ctx.getText());
+        traceVisit(logger, "visitIsNotNULL", ctx);
         TreeNode comparator;
         TreeNode compIdent;
         if (ctx.getText().toLowerCase().equals("isnotnull")) {
@@ -672,11 +784,96 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitPredicateExpression(PredicateExpressionContext ctx) {
-        logger.trace("In visitPredicateExpression " + ctx.getText());
-        TreeNode filterItem = new FilterItem();
+        traceVisit(logger, "visitPredicateExpression", ctx);
+        if (ctx.predicate() instanceof NotInContext) {
+            return visitInList(ctx.valueExpression(), (NotInContext) ctx.predicate());
+        }
+        FilterItem filterItem = new FilterItem();
         logicalPlan.getCurrentNode().addChildNode(filterItem);
         logicalPlan.setCurrentNode(filterItem);
-        return visitChildrenAndResetNode(ctx);
+        LogicalPlan result = visitChildrenAndResetNode(ctx);
+        translateFilterItem(filterItem);
+        return result;
+    }
+
+    /*
+     * "col IN (a, b)" is planned as "col = a OR col = b" and "col NOT IN (a, b)"
+     * as "col != a AND col != b", so ranges, direct API lookups and filters
+     * treat IN lists like the equalities users write by hand.
+     */
+    private LogicalPlan visitInList(ValueExpressionContext column, NotInContext ctx) {
+        boolean negated = ctx.NOT() != null;
+        TreeNode currentNode = logicalPlan.getCurrentNode();
+        List<FilterItem> filterItems = new ArrayList<>(ctx.expression().size());
+        try {
+            for (ExpressionContext value : ctx.expression()) {
+                FilterItem filterItem = new FilterItem();
+                logicalPlan.setCurrentNode(filterItem);
+                column.accept(this);
+                Comparator comparator = new Comparator(negated ? ComparisionOperator.NEQ : ComparisionOperator.EQ);
+                comparator.addChildNode(new IdentifierNode(negated ? "!=" : "="));
+                filterItem.addChildNode(comparator);
+                value.accept(this);
+                filterItems.add(filterItem);
+            }
+        } finally {
+            logicalPlan.setCurrentNode(currentNode);
+        }
+        // built bottom up into the same left-deep chain the parser makes of "a or b or c"
+        TreeNode predicate = filterItems.get(0);
+        List<LogicalOperation> operations = new ArrayList<>(filterItems.size() - 1);
+        for (int i = 1; i < filterItems.size(); i++) {
+            LogicalOperation operation = new LogicalOperation(negated ? Operator.AND : Operator.OR);
+            operation.addChildNode(predicate);
+            operation.addChildNode(filterItems.get(i));
+            operations.add(operation);
+            predicate = operation;
+        }
+        currentNode.addChildNode(predicate);
+        for (FilterItem filterItem : filterItems) {
+            translateFilterItem(filterItem);
+        }
+        if (!operations.isEmpty()) {
+            Collections.reverse(operations);
+            translateLogicalOperations(operations);
+        }
+        return logicalPlan;
+    }
+
+    private void translateFilterItem(FilterItem filterItem) {
+        if (physicalPredicates != null && !filterItem.hasChildType(Placeholder.class)) {
+            physicalPredicates.put(filterItem, predicateBuilder.processFilterItem(filterItem));
+        }
+    }
+
+    // translates a chain of the same operator as one n-ary operation, stored for the outermost node
+    private void translateLogicalOperations(List<LogicalOperation> operations) {
+        if (physicalPredicates == null) {
+            return;
+        }
+        List<TreeNode> operands = new ArrayList<>(operations.size() + 1);
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            LogicalOperation operation = operations.get(i);
+            if (operation.getChildNodes().size() != 2) {
+                return;
+            }
+            if (i == operations.size() - 1) {
+                operands.add(getPhysicalPredicate(operation.getChildNode(0)));
+            }
+            operands.add(getPhysicalPredicate(operation.getChildNode(1)));
+        }
+        if (!operands.contains(null)) {
+            physicalPredicates.put(operations.get(0), predicateBuilder.combineAll(operations.get(0), operands));
+        }
+    }
+
+    // null when a predicate below could not be translated, which leaves the whole clause to PhysicalPlan
+    private TreeNode getPhysicalPredicate(TreeNode child) {
+        TreeNode physical = physicalPredicates.get(child);
+        if (physical != null || child instanceof LogicalOperation || child instanceof FilterItem) {
+            return physical;
+        }
+        return (TreeNode) child.clone();
     }
 
     @Override
@@ -700,7 +897,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
     }
     @Override
     public LogicalPlan visitList(ListContext ctx) {
-        logger.trace("In visitList " + ctx.getText());
+        traceVisit(logger, "visitList", ctx);
         ListAgrs args = new ListAgrs();
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -709,7 +906,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitSmartFunction(SmartFunctionContext ctx) {
-        logger.trace("In visitSmartFunction " + ctx.getText());
+        traceVisit(logger, "visitSmartFunction", ctx);
         smartContractFunction = new SmartContractFunction();
         logicalPlan.getCurrentNode().addChildNode(smartContractFunction);
         logicalPlan.setCurrentNode(smartContractFunction);
@@ -718,7 +915,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitBytes(BytesContext ctx) {
-        logger.trace("In visitBytes " + ctx.getText());
+        traceVisit(logger, "visitBytes", ctx);
         BytesArgs args = new BytesArgs(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -727,7 +924,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitClassOption(ClassOptionContext ctx) {
-        logger.trace("In visitClassOption " + ctx.getText());
+        traceVisit(logger, "visitClassOption", ctx);
         SmartCnrtClassOption args = new SmartCnrtClassOption(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -736,7 +933,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitAsyncOption(AsyncOptionContext ctx) {
-        logger.trace("In visitAsyncOption " + ctx.getText());
+        traceVisit(logger, "visitAsyncOption", ctx);
         SmartCnrtAsyncOption args = new SmartCnrtAsyncOption(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -745,7 +942,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitListType(ListTypeContext ctx) {
-        logger.trace("In visitListType " + ctx.getText());
+        traceVisit(logger, "visitListType", ctx);
         SmartCnrtListType args = new SmartCnrtListType(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -754,7 +951,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitAddressVlaue(AddressVlaueContext ctx) {
-        logger.trace("In visitAddressVlaue " + ctx.getText());
+        traceVisit(logger, "visitAddressVlaue", ctx);
         SmartCnrtAddressOption args = new SmartCnrtAddressOption(ctx.getText());
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
@@ -763,7 +960,7 @@ public class BlockchainVisitor extends AbstractSyntaxTreeVisitor {
 
     @Override
     public LogicalPlan visitCheckIsValid(CheckIsValidContext ctx) {
-        logger.trace("In visitCheckIsValid " + ctx.getText());
+        traceVisit(logger, "visitCheckIsValid", ctx);
         SmartCnrtIsValidFlag args = new SmartCnrtIsValidFlag();
         logicalPlan.getCurrentNode().addChildNode(args);
         logicalPlan.setCurrentNode(args);
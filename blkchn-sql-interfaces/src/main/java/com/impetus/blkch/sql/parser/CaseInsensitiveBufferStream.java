@@ -0,0 +1,118 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/*
+ * Drop-in replacement for CaseInsensitiveCharStream that upper-cases the
+ * input once up front instead of on every LA call. The buffer keeps one
+ * entry per UTF-16 unit, exactly like ANTLRInputStream, so token offsets
+ * are unchanged, and getText still returns the text as it was written.
+ */
+public class CaseInsensitiveBufferStream implements CharStream {
+
+    private final String input;
+
+    private final int[] data;
+
+    private final int n;
+
+    private int p = 0;
+
+    public CaseInsensitiveBufferStream(String input) {
+        this.input = input;
+        this.n = input.length();
+        this.data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = Character.toUpperCase((int) input.charAt(i));
+        }
+    }
+
+    @Override
+    public void consume() {
+        if (p >= n) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        p++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) {
+            return 0;
+        }
+        if (i < 0) {
+            i++;
+            if ((p + i - 1) < 0) {
+                return IntStream.EOF;
+            }
+        }
+        if ((p + i - 1) >= n) {
+            return IntStream.EOF;
+        }
+        return data[p + i - 1];
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public void seek(int index) {
+        p = Math.min(index, n);
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public String getSourceName() {
+        return IntStream.UNKNOWN_SOURCE_NAME;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = interval.b;
+        if (stop >= n) {
+            stop = n - 1;
+        }
+        if (start >= n || stop < start) {
+            return "";
+        }
+        return input.substring(start, stop + 1);
+    }
+
+    @Override
+    public String toString() {
+        return input;
+    }
+}
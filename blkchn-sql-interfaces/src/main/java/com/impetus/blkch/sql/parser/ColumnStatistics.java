@@ -0,0 +1,54 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.math.BigDecimal;
+
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.util.CompositeKey;
+import com.impetus.blkch.util.Range;
+
+/*
+ * Row estimates for the access paths of a table, used by CostModel to pick
+ * the operand that drives an AND. PhysicalPlan implements it with the
+ * defaults below: one row per value of a range column and one row per direct
+ * API lookup. Drivers that know better, e.g. the number of transactions per
+ * block or the size of an index, override the estimates in their plan.
+ */
+public interface ColumnStatistics {
+
+    long UNKNOWN = Long.MAX_VALUE;
+
+    default long estimateRows(RangeNode<?> rangeNode) {
+        BigDecimal rows = BigDecimal.ZERO;
+        for (Range<?> range : rangeNode.getRangeList().getRanges()) {
+            BigDecimal width;
+            if (range.getMin() instanceof CompositeKey) {
+                // as many rows as a range on the first column the bounds differ in would have
+                width = new BigDecimal(((CompositeKey) range.getMin()).leadingWidth((CompositeKey) range.getMax()));
+            } else {
+                width = new BigDecimal(range.getMax().toString()).subtract(new BigDecimal(range.getMin().toString()))
+                        .add(BigDecimal.ONE);
+            }
+            rows = rows.add(width.max(BigDecimal.ZERO));
+        }
+        return rows.compareTo(BigDecimal.valueOf(UNKNOWN)) >= 0 ? UNKNOWN : rows.longValue();
+    }
+
+    default long estimateRows(String table, String column, String value) {
+        return 1;
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
+import com.impetus.blkch.sql.query.DirectAPINode;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.RangeNode;
+
+/*
+ * Estimates how many rows a node of the physical WHERE clause fetches. An AND
+ * fetches at most as many rows as its cheapest operand and an OR the sum of
+ * its operands. Plain filters and anything else that can not be fetched on
+ * its own are ColumnStatistics.UNKNOWN.
+ */
+public class CostModel {
+
+    private final ColumnStatistics statistics;
+
+    // set by the executor to cut open ranges to the values the chain has before they are estimated
+    private UnaryOperator<RangeNode<?>> rangeBounds = UnaryOperator.identity();
+
+    public CostModel(ColumnStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    void setRangeBounds(UnaryOperator<RangeNode<?>> rangeBounds) {
+        this.rangeBounds = rangeBounds;
+    }
+
+    public long estimateRows(TreeNode node) {
+        if (node instanceof DataNode<?>) {
+            return ((DataNode<?>) node).getKeys().size();
+        } else if (node instanceof RangeNode<?>) {
+            return statistics.estimateRows(rangeBounds.apply((RangeNode<?>) node));
+        } else if (node instanceof DirectAPINode) {
+            DirectAPINode directAPI = (DirectAPINode) node;
+            return statistics.estimateRows(directAPI.getTable(), directAPI.getColumn(), directAPI.getValue());
+        } else if (node instanceof DirectAPIListNode) {
+            DirectAPIListNode directAPIs = (DirectAPIListNode) node;
+            long rows = 0;
+            for (String value : directAPIs.getValues()) {
+                rows = add(rows, statistics.estimateRows(directAPIs.getTable(), directAPIs.getColumn(), value));
+            }
+            return rows;
+        } else if (node instanceof LogicalOperation) {
+            boolean isAnd = ((LogicalOperation) node).isAnd();
+            long rows = isAnd ? ColumnStatistics.UNKNOWN : 0;
+            for (TreeNode child : node.getChildNodes()) {
+                long childRows = estimateRows(child);
+                if (isAnd) {
+                    rows = Math.min(rows, childRows);
+                } else {
+                    rows = add(rows, childRows);
+                }
+            }
+            return rows;
+        }
+        return ColumnStatistics.UNKNOWN;
+    }
+
+    // saturates at UNKNOWN instead of overflowing
+    private static long add(long rows, long moreRows) {
+        return moreRows >= ColumnStatistics.UNKNOWN - rows ? ColumnStatistics.UNKNOWN : rows + moreRows;
+    }
+
+    /*
+     * The operands from the cheapest to the most expensive, keeping the
+     * original order for operands with the same estimate.
+     */
+    public List<TreeNode> orderByCost(List<TreeNode> operands) {
+        Map<TreeNode, Long> estimates = new IdentityHashMap<>();
+        for (TreeNode operand : operands) {
+            estimates.put(operand, estimateRows(operand));
+        }
+        List<TreeNode> ordered = new ArrayList<>(operands);
+        ordered.sort((first, second) -> Long.compare(estimates.get(first), estimates.get(second)));
+        return ordered;
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import com.impetus.blkch.sql.parser.InstrumentationListener.Phase;
+
+/*
+ * Process wide hook for per-phase timings. Phases of one statement are
+ * reported on the thread that runs them, right after statementStarted, so a
+ * listener can correlate them with a thread local. With no listener installed
+ * start returns 0 and end returns immediately, so the hooks cost a volatile
+ * read each.
+ */
+public final class Instrumentation {
+
+    private static volatile InstrumentationListener listener;
+
+    private Instrumentation() {
+    }
+
+    public static void setListener(InstrumentationListener instrumentationListener) {
+        listener = instrumentationListener;
+    }
+
+    public static InstrumentationListener getListener() {
+        return listener;
+    }
+
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+    public static void statementStarted(String sqlText) {
+        InstrumentationListener current = listener;
+        if (current != null) {
+            current.statementStarted(sqlText);
+        }
+    }
+
+    public static long start() {
+        return listener == null ? 0L : System.nanoTime();
+    }
+
+    public static void end(Phase phase, long start) {
+        InstrumentationListener current = listener;
+        // a listener installed after start was taken has nothing to measure against
+        if (current != null && start != 0L) {
+            current.phaseCompleted(phase, System.nanoTime() - start);
+        }
+    }
+}
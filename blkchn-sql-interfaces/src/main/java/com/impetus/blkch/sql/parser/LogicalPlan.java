@@ -25,6 +25,7 @@ import com.impetus.blkch.sql.function.UpgradeFunction;
 import com.impetus.blkch.sql.insert.Insert;
 import com.impetus.blkch.sql.query.Query;
 import com.impetus.blkch.sql.query.QueryItemInterface;
+import com.impetus.blkch.sql.query.WhereClause;
 import com.impetus.blkch.sql.smartcontract.SmartCnrtDeploy;
 import com.impetus.blkch.sql.user.CreateUser;
 
@@ -56,6 +57,11 @@ public class LogicalPlan extends TreeNode implements QueryItemInterface {
 
     private SmartCnrtDeploy smartCnrtDeploy;
 
+    private WhereClause physicalWhereClause;
+
+    // null unless the query is to be explained rather than answered
+    private Explain explain;
+
     public LogicalPlan(String description) {
         super(description);
     }
@@ -157,6 +163,22 @@ public class LogicalPlan extends TreeNode implements QueryItemInterface {
         return createUser;
     }
     
+    public WhereClause getPhysicalWhereClause() {
+        return physicalWhereClause;
+    }
+
+    public void setPhysicalWhereClause(WhereClause physicalWhereClause) {
+        this.physicalWhereClause = physicalWhereClause;
+    }
+
+    public Explain getExplain() {
+        return explain;
+    }
+
+    public void setExplain(Explain explain) {
+        this.explain = explain;
+    }
+
     public SQLType getType() {
         return type;
     }
@@ -171,10 +193,34 @@ public class LogicalPlan extends TreeNode implements QueryItemInterface {
         if(this.getType() != null && this.getType().equals(SQLType.QUERY)) {
             plan.query = (Query) this.query.clone();
         }
-
+        plan.createFunction = this.createFunction == null ? null : (CreateFunction) this.createFunction.clone();
+        plan.className = this.className == null ? null : (ClassName) this.className.clone();
+        plan.insert = this.insert == null ? null : (Insert) this.insert.clone();
+        plan.callFunction = this.callFunction == null ? null : (CallFunction) this.callFunction.clone();
+        plan.createAsset = this.createAsset == null ? null : (CreateAsset) this.createAsset.clone();
+        plan.deleteFunction = this.deleteFunction == null ? null : (DeleteFunction) this.deleteFunction.clone();
+        plan.dropAsset = this.dropAsset == null ? null : (DropAsset) this.dropAsset.clone();
+        plan.upgradeFunction = this.upgradeFunction == null ? null : (UpgradeFunction) this.upgradeFunction.clone();
+        plan.createUser = this.createUser == null ? null : (CreateUser) this.createUser.clone();
+        plan.smartCnrtDeploy = this.smartCnrtDeploy == null ? null : (SmartCnrtDeploy) this.smartCnrtDeploy.clone();
+        plan.physicalWhereClause = this.physicalWhereClause == null ? null
+                : (WhereClause) this.physicalWhereClause.clone();
         return plan;
     }
 
+    /*
+     * PLAN describes the access path of each predicate of the physical where
+     * clause with its estimated rows, see AbstractQueryExecutor.explain.
+     * ANALYZE runs the query and reports what each node actually did, see
+     * AbstractQueryExecutor.explainAnalyze.
+     */
+    public static enum Explain {
+
+        PLAN,
+
+        ANALYZE
+    }
+
     public static enum SQLType {
         
         QUERY,
@@ -0,0 +1,249 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.AutoParameterizer.ParameterizedStatement;
+import com.impetus.blkch.util.placeholder.PreparedTemplate;
+
+public class LogicalPlanCache {
+
+    public static final int DEFAULT_MAX_SIZE = 512;
+
+    private final int maxSize;
+
+    private final Map<String, LogicalPlan> plans;
+
+    // keyed by statement shape, empty when the shape could not be turned into a template
+    private final Map<String, Optional<PreparedTemplate>> templates;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LogicalPlanCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public LogicalPlanCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new BlkchnException("Plan cache size should be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.plans = newLruMap();
+        this.templates = newLruMap();
+    }
+
+    private <V> Map<String, V> newLruMap() {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                if (size() > maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /*
+     * Returns a private copy of the cached plan for the statement, invoking
+     * the parser only on a miss. The cached instance itself is never handed
+     * out, so callers are free to bind placeholders or paginate the returned
+     * plan.
+     */
+    public LogicalPlan get(String sql, Function<String, LogicalPlan> parser) {
+        String key = normalize(sql);
+        LogicalPlan cached;
+        synchronized (plans) {
+            cached = plans.get(key);
+        }
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return (LogicalPlan) cached.clone();
+        }
+        missCount.incrementAndGet();
+        // parse outside the lock, a concurrent miss on the same key only costs a duplicate parse
+        LogicalPlan parsed = parser.apply(sql);
+        synchronized (plans) {
+            plans.put(key, (LogicalPlan) parsed.clone());
+        }
+        return parsed;
+    }
+
+    /*
+     * Like get, but statements that only differ in the literals of their
+     * WHERE, HAVING and LIMIT clauses share one cached template, which is
+     * re-bound with the literals of each statement. The template is compiled
+     * from the parse of the first statement of a shape; shapes whose literals
+     * can not be told apart in that plan, see PreparedTemplate.compile, are
+     * cached by their text as before. As with get, the returned plan is a
+     * private copy: the bound plan, which shares the subtrees without
+     * literals with the template, see PreparedTemplate, is cloned.
+     */
+    public LogicalPlan getAutoParameterized(String sql, Function<String, LogicalPlan> parser) {
+        ParameterizedStatement statement = AutoParameterizer.parameterize(sql);
+        if (statement.getParameterCount() == 0) {
+            return get(sql, parser);
+        }
+        Optional<PreparedTemplate> template;
+        synchronized (templates) {
+            template = templates.get(statement.getShape());
+        }
+        if (template == null) {
+            missCount.incrementAndGet();
+            LogicalPlan parsed = parser.apply(sql);
+            template = Optional.ofNullable(PreparedTemplate.compile(parsed, statement.getParameters()));
+            synchronized (templates) {
+                templates.put(statement.getShape(), template);
+            }
+            if (!template.isPresent()) {
+                put(sql, parsed);
+            }
+            return parsed;
+        } else if (template.isPresent()) {
+            hitCount.incrementAndGet();
+            return (LogicalPlan) template.get().bind((Object[]) statement.getParameters()).clone();
+        }
+        return get(sql, parser);
+    }
+
+    public LogicalPlan getIfPresent(String sql) {
+        String key = normalize(sql);
+        LogicalPlan cached;
+        synchronized (plans) {
+            cached = plans.get(key);
+        }
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return (LogicalPlan) cached.clone();
+    }
+
+    public void put(String sql, LogicalPlan logicalPlan) {
+        String key = normalize(sql);
+        synchronized (plans) {
+            plans.put(key, (LogicalPlan) logicalPlan.clone());
+        }
+    }
+
+    public void invalidate(String sql) {
+        String key = normalize(sql);
+        synchronized (plans) {
+            plans.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (plans) {
+            plans.clear();
+        }
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /*
+     * Collapses whitespace runs outside quotes to a single space. Case is
+     * kept as it is: almost every keyword of the grammar is non-reserved and
+     * may be used as an identifier, whose text ends up verbatim in an
+     * IdentifierNode of the plan, so telling keywords apart would take a
+     * parse.
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            throw new BlkchnException("SQL text can not be null");
+        }
+        StringBuilder sb = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < length) {
+            char ch = sql.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                pendingSpace = sb.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            if (ch == '\'' || ch == '"' || ch == '`') {
+                int end = skipQuoted(sql, i, ch);
+                sb.append(sql, i, end);
+                i = end;
+            } else {
+                sb.append(ch);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char ch = sql.charAt(i);
+            if (ch == '\\' && quote != '`') {
+                i += 2;
+                continue;
+            }
+            i++;
+            if (ch == quote) {
+                break;
+            }
+        }
+        return Math.min(i, sql.length());
+    }
+
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.util.CompositeKey;
+import com.impetus.blkch.util.CompositeRangeOperations;
+import com.impetus.blkch.util.RangeOperations;
+
+/*
+ * The page WHERE clause of a physical plan, compiled once per page column.
+ * It is built by paginating and reducing the WHERE clause against a slot
+ * instead of a real page range, so it already holds everything a page needs
+ * except the page itself. Each AND holding the slot remembers the position of
+ * the slot and of the range on the page column next to it; binding a page
+ * only intersects the page range with that range and rebuilds the operations
+ * above the slots. Everything else is shared by all pages. A range on a
+ * composite key led by the page column counts as a range on the page column;
+ * the page is lifted to keys of that composite key before it is intersected.
+ *
+ * An AND whose intersection is empty can not match any row, and neither can
+ * an OR all of whose operands are empty. bind returns null when this holds
+ * for the whole page, so that the page can be skipped without executing it.
+ */
+class PageTemplate {
+
+    private final String column;
+
+    private final TreeNode slot;
+
+    private final RangeOperations<?> rangeOperations;
+
+    private final SchemaCatalog catalog;
+
+    private final String table;
+
+    private final TreeNode root;
+
+    private final Map<TreeNode, Binding> bindings = new IdentityHashMap<>();
+
+    PageTemplate(String column, TreeNode slot, TreeNode page, RangeOperations<?> rangeOperations,
+            SchemaCatalog catalog, String table) {
+        this.column = column;
+        this.slot = slot;
+        this.rangeOperations = rangeOperations;
+        this.catalog = catalog;
+        this.table = table;
+        this.root = compile(page);
+    }
+
+    String getColumn() {
+        return column;
+    }
+
+    TreeNode bind(RangeNode<?> rangeNode) {
+        return bind(root, rangeNode);
+    }
+
+    // drops the slots that flattening left twice in one AND, and records where the remaining ones are
+    private TreeNode compile(TreeNode node) {
+        if (!(node instanceof LogicalOperation)) {
+            return node;
+        }
+        LogicalOperation oper = (LogicalOperation) node;
+        List<TreeNode> children = new ArrayList<>(oper.getChildNodes().size());
+        List<Integer> paths = new ArrayList<>();
+        boolean changed = false;
+        int slotIndex = -1;
+        int rangeIndex = -1;
+        RangeOperations<?> operations = rangeOperations;
+        for (TreeNode child : oper.getChildNodes()) {
+            if (child == slot) {
+                if (slotIndex >= 0) {
+                    changed = true;
+                    continue;
+                }
+                slotIndex = children.size();
+            } else if (oper.isAnd() && isPageRange(child)) {
+                rangeIndex = children.size();
+                operations = rangeOperations;
+            } else if (oper.isAnd() && rangeIndex < 0 && isPageKeyRange(child)) {
+                rangeIndex = children.size();
+                operations = catalog.getKeyRangeOperations(table, ((RangeNode<?>) child).getColumn());
+            }
+            TreeNode compiled = compile(child);
+            changed |= compiled != child;
+            if (bindings.containsKey(compiled)) {
+                paths.add(children.size());
+            }
+            children.add(compiled);
+        }
+        TreeNode compiled = changed ? oper.withChildNodes(children) : oper;
+        if (slotIndex >= 0 || !paths.isEmpty()) {
+            int[] pathIndexes = new int[paths.size()];
+            for (int i = 0; i < pathIndexes.length; i++) {
+                pathIndexes[i] = paths.get(i);
+            }
+            bindings.put(compiled, new Binding(slotIndex, slotIndex >= 0 ? rangeIndex : -1, operations, pathIndexes));
+        }
+        return compiled;
+    }
+
+    private boolean isPageRange(TreeNode node) {
+        return node instanceof RangeNode<?> && column.equals(((RangeNode<?>) node).getColumn());
+    }
+
+    // a range on a prefix of a composite key whose leading column is the page column
+    private boolean isPageKeyRange(TreeNode node) {
+        if (!(node instanceof RangeNode<?>) || !((RangeNode<?>) node).isComposite()) {
+            return false;
+        }
+        return column.equals(CompositeKey.columns(((RangeNode<?>) node).getColumn()).get(0));
+    }
+
+    private TreeNode bind(TreeNode node, RangeNode<?> rangeNode) {
+        if (node == slot) {
+            return isEmpty(rangeNode) ? null : rangeNode;
+        }
+        Binding binding = bindings.get(node);
+        if (binding == null) {
+            return node;
+        }
+        boolean isAnd = ((LogicalOperation) node).isAnd();
+        List<TreeNode> children = new ArrayList<>(node.getChildNodes());
+        boolean pruned = false;
+        for (int path : binding.paths) {
+            TreeNode child = bind(children.get(path), rangeNode);
+            if (child == null && isAnd) {
+                return null;
+            }
+            pruned |= child == null;
+            children.set(path, child);
+        }
+        if (binding.range >= 0) {
+            // the ranges are merged at the first of the two, as reducing the page would do
+            RangeNode<?> range = (RangeNode<?>) children.get(binding.range);
+            RangeNode<?> page = binding.operations instanceof CompositeRangeOperations
+                    ? ((CompositeRangeOperations) binding.operations).getKeyRange(rangeNode) : rangeNode;
+            LogicalOperation and = new LogicalOperation(Operator.AND);
+            RangeNode<?> merged = binding.slot < binding.range ? binding.operations.processRangeNodes(page, range, and)
+                    : binding.operations.processRangeNodes(range, page, and);
+            if (isEmpty(merged)) {
+                return null;
+            }
+            children.set(Math.min(binding.slot, binding.range), merged);
+            children.remove(Math.max(binding.slot, binding.range));
+        } else if (binding.slot >= 0) {
+            if (isEmpty(rangeNode)) {
+                return null;
+            }
+            children.set(binding.slot, rangeNode);
+        }
+        if (pruned) {
+            children.removeIf(child -> child == null);
+            if (children.isEmpty()) {
+                return null;
+            }
+        }
+        return children.size() == 1 ? children.get(0) : node.withChildNodes(children);
+    }
+
+    static boolean isEmpty(RangeNode<?> rangeNode) {
+        return rangeNode.getRangeList().getRanges().isEmpty();
+    }
+
+    private static class Binding {
+
+        private final int slot;
+
+        private final int range;
+
+        // the operations of the range, composite ones for a range on a composite key
+        private final RangeOperations<?> operations;
+
+        private final int[] paths;
+
+        private Binding(int slot, int range, RangeOperations<?> operations, int[] paths) {
+            this.slot = slot;
+            this.range = range;
+            this.operations = operations;
+            this.paths = paths;
+        }
+    }
+}
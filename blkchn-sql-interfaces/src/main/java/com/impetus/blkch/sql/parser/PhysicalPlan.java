@@ -15,34 +15,50 @@
 ******************************************************************************/
 package com.impetus.blkch.sql.parser;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.InstrumentationListener.Phase;
 import com.impetus.blkch.sql.parser.LogicalPlan.SQLType;
 import com.impetus.blkch.sql.query.Column;
 import com.impetus.blkch.sql.query.Comparator;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
 import com.impetus.blkch.sql.query.DirectAPINode;
 import com.impetus.blkch.sql.query.FilterItem;
 import com.impetus.blkch.sql.query.FromItem;
 import com.impetus.blkch.sql.query.FunctionNode;
-import com.impetus.blkch.sql.query.GetRowsNode;
+import com.impetus.blkch.sql.query.GroupByClause;
+import com.impetus.blkch.sql.query.HavingClause;
 import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.LimitClause;
 import com.impetus.blkch.sql.query.LogicalOperation;
 import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.OrderByClause;
+import com.impetus.blkch.sql.query.OrderItem;
+import com.impetus.blkch.sql.query.OrderingDirection;
+import com.impetus.blkch.sql.query.OrderingDirection.Direction;
+import com.impetus.blkch.sql.query.Query;
 import com.impetus.blkch.sql.query.RangeNode;
 import com.impetus.blkch.sql.query.SelectClause;
 import com.impetus.blkch.sql.query.SelectItem;
+import com.impetus.blkch.sql.query.StarNode;
 import com.impetus.blkch.sql.query.Table;
 import com.impetus.blkch.sql.query.WhereClause;
-import com.impetus.blkch.sql.query.GetRowsNode.NumRows;
 import com.impetus.blkch.util.RangeOperations;
-import com.impetus.blkch.util.Utilities;
 
-public abstract class PhysicalPlan extends TreeNode {
+public abstract class PhysicalPlan extends TreeNode implements SchemaCatalog, ColumnStatistics {
+
+    public static final long NO_LIMIT = Long.MAX_VALUE;
 
     private LogicalPlan logicalPlan;
 
@@ -52,134 +68,241 @@ public abstract class PhysicalPlan extends TreeNode {
 
     private Map<String, String> columnAliasMapping = new HashMap<>();
 
+    // compiled on the first page, pages of a plan are normally all on the same column
+    private volatile PageTemplate pageTemplate;
+
+    private boolean emptyPage = false;
+
+    private volatile Set<String> requiredColumns;
+
+    private String rangeScanColumn;
+
+    private Direction rangeScanOrder;
+
+    private boolean countOnly = false;
+
+    private long rowLimit = NO_LIMIT;
+
+    private long rowBudget = NO_LIMIT;
+
     public PhysicalPlan(String description, LogicalPlan logicalPlan) {
         super(description);
-        this.logicalPlan = logicalPlan;
-        if (logicalPlan.getType() == SQLType.QUERY) {
-            String table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0)
-                    .getChildType(IdentifierNode.class, 0).getValue();
-            if (!tableExists(table)) {
-                throw new BlkchnException(String.format("Table %s doesn't exist", table));
-            }
-            // process aliases and add to map
-            processAliasMapping(logicalPlan.getQuery().getChildType(SelectClause.class, 0));
-            if (logicalPlan.getQuery().hasChildType(WhereClause.class)) {
-                this.whereClause = getPhysicalWhereClause();
+        long start = Instrumentation.start();
+        try {
+            this.logicalPlan = logicalPlan;
+            if (logicalPlan.getType() == SQLType.QUERY) {
+                String table = getTableName();
+                if (!tableExists(table)) {
+                    throw new BlkchnException(String.format("Table %s doesn't exist", table));
+                }
+                // process aliases and add to map
+                processAliasMapping(logicalPlan.getQuery().getChildType(SelectClause.class, 0));
+                rangeScanOrder = getRangeScanOrder(logicalPlan.getQuery());
+                countOnly = isCountOnly(logicalPlan.getQuery());
+                rowLimit = getPushedDownLimit(logicalPlan.getQuery());
+                if (logicalPlan.getPhysicalWhereClause() != null) {
+                    // already built by a visitor running with a schema catalog
+                    this.whereClause = logicalPlan.getPhysicalWhereClause();
+                } else if (logicalPlan.getQuery().hasChildType(WhereClause.class)) {
+                    this.whereClause = getPhysicalWhereClause();
+                }
             }
+        } finally {
+            Instrumentation.end(Phase.PHYSICAL_PLAN, start);
         }
     }
 
     private void processAliasMapping(SelectClause selectClause) {
-        for (SelectItem item : selectClause.getChildType(SelectItem.class)) {
-            selectItems.add(item);
-            if (item.getChildType(IdentifierNode.class, 0) != null && item.hasChildType(Column.class)) {
-                columnAliasMapping.put(item.getChildType(IdentifierNode.class, 0).getValue(),
-                        item.getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0).getValue());
-            } else if (item.getChildType(IdentifierNode.class, 0) != null && item.hasChildType(FunctionNode.class)) {
-                columnAliasMapping.put(item.getChildType(IdentifierNode.class, 0).getValue(),
-                        Utilities.createFunctionColName(item.getChildType(FunctionNode.class, 0)));
-            }
-        }
+        selectItems.addAll(selectClause.getChildType(SelectItem.class));
+        columnAliasMapping.putAll(PhysicalPredicateBuilder.getColumnAliasMapping(selectClause));
     }
 
     public WhereClause getWhereClause() {
         return whereClause;
     }
 
-    public Map<String, String> getColumnAliasMapping() {
-        return columnAliasMapping;
+    /*
+     * The LIMIT of the query when any rows matching the WHERE clause may be
+     * returned, i.e. when there is no GROUP BY, HAVING or function in the
+     * select list, and no ORDER BY other than one a range scan can produce.
+     * The executor then stops once that many rows have qualified. NO_LIMIT
+     * otherwise.
+     */
+    public long getRowLimit() {
+        return rowLimit;
     }
 
-    public List<SelectItem> getSelectItems() {
-        return selectItems;
+    // rows this page may still return, see paginate(RangeNode, long)
+    public long getRowBudget() {
+        return rowBudget;
     }
 
-    private WhereClause getPhysicalWhereClause() {
-        WhereClause whereClause = new WhereClause();
-        if (logicalPlan.getQuery().getChildType(WhereClause.class, 0).hasChildType(FilterItem.class)) {
-            whereClause.addChildNode(processFilterItem(
-                    logicalPlan.getQuery().getChildType(WhereClause.class, 0).getChildType(FilterItem.class, 0)));
-        } else {
-            TreeNode whereClauseNodes = processLogicalOperation(
-                    logicalPlan.getQuery().getChildType(WhereClause.class, 0).getChildType(LogicalOperation.class, 0));
-            whereClause.addChildNode(whereClauseNodes);
+    private long getPushedDownLimit(Query query) {
+        if (!query.hasChildType(LimitClause.class) || !isPlainSelection(query)
+                || (query.hasChildType(OrderByClause.class) && rangeScanOrder == null)) {
+            return NO_LIMIT;
+        }
+        IdentifierNode limit = query.getChildType(LimitClause.class, 0).getChildType(IdentifierNode.class, 0);
+        try {
+            long value = limit == null ? -1 : Long.parseLong(limit.getValue());
+            return value < 0 ? NO_LIMIT : value;
+        } catch (NumberFormatException e) {
+            // left to DataFrame.limit, which reports it
+            return NO_LIMIT;
         }
-        return whereClause;
     }
 
-    private TreeNode processLogicalOperation(LogicalOperation logicalOperation) {
-        if (logicalOperation.getChildNodes().size() != 2) {
-            throw new BlkchnException("Logical operation should have two boolean expressions");
+    /*
+     * The direction of the ORDER BY when it sorts on nothing but the range
+     * column of the table, so that scanning the ranges of the WHERE clause in
+     * that direction already returns the rows in order, see
+     * AbstractQueryExecutor.isResultOrdered. Null otherwise.
+     */
+    public Direction getRangeScanOrder() {
+        return rangeScanOrder;
+    }
+
+    public String getRangeScanColumn() {
+        return rangeScanColumn;
+    }
+
+    private Direction getRangeScanOrder(Query query) {
+        if (!query.hasChildType(OrderByClause.class) || !isPlainSelection(query)) {
+            return null;
         }
-        TreeNode firstChild;
-        TreeNode secondChild;
-        if (logicalOperation.getChildNode(0) instanceof LogicalOperation) {
-            firstChild = processLogicalOperation((LogicalOperation) logicalOperation.getChildNode(0));
-        } else if (logicalOperation.getChildNode(0) instanceof FilterItem) {
-            firstChild = processFilterItem((FilterItem) logicalOperation.getChildNode(0));
-        } else {
-            firstChild = (TreeNode) logicalOperation.getChildNode(0).clone();
+        List<OrderItem> orderItems = query.getChildType(OrderByClause.class, 0).getChildType(OrderItem.class);
+        if (orderItems.size() != 1 || !orderItems.get(0).hasChildType(Column.class)) {
+            return null;
+        }
+        String column = orderItems.get(0).getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0)
+                .getValue();
+        column = columnAliasMapping.getOrDefault(column, column);
+        if (!getRangeCols(getTableName()).contains(column)) {
+            return null;
         }
+        rangeScanColumn = column;
+        return orderItems.get(0).getChildType(OrderingDirection.class, 0).getDirection();
+    }
 
-        if (logicalOperation.getChildNode(1) instanceof LogicalOperation) {
-            secondChild = processLogicalOperation((LogicalOperation) logicalOperation.getChildNode(1));
-        } else if (logicalOperation.getChildNode(1) instanceof FilterItem) {
-            secondChild = processFilterItem((FilterItem) logicalOperation.getChildNode(1));
-        } else {
-            secondChild = (TreeNode) logicalOperation.getChildNode(1).clone();
+    // rows are returned as they are read, not grouped or aggregated
+    private boolean isPlainSelection(Query query) {
+        if (query.hasChildType(GroupByClause.class) || query.hasChildType(HavingClause.class)) {
+            return false;
         }
-        if ((firstChild instanceof RangeNode<?>) && (secondChild instanceof RangeNode<?>)) {
-            RangeNode<?> firstRange = (RangeNode<?>) firstChild;
-            RangeNode<?> secondRange = (RangeNode<?>) secondChild;
-            if (firstRange.getColumn().equals(secondRange.getColumn())
-                    && firstRange.getTable().equals(secondRange.getTable())) {
-                String table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0)
-                        .getChildType(IdentifierNode.class, 0).getValue();
-                RangeOperations<?> rangeOperations = getRangeOperations(table, firstRange.getColumn());
-                return rangeOperations.processRangeNodes(firstRange, secondRange, logicalOperation);
+        for (SelectItem selectItem : selectItems) {
+            if (selectItem.hasChildType(FunctionNode.class)) {
+                return false;
             }
         }
+        return true;
+    }
+
+    /*
+     * Whether the query selects nothing but COUNT(*), without GROUP BY or
+     * HAVING, so that AbstractQueryExecutor.count can answer it from keys or
+     * ranges without reading any record.
+     */
+    public boolean isCountOnly() {
+        return countOnly;
+    }
 
-        if (firstChild instanceof FilterItem && isFilterWithNull((FilterItem) firstChild)) {
-            return secondChild;
+    private boolean isCountOnly(Query query) {
+        if (query.hasChildType(GroupByClause.class) || query.hasChildType(HavingClause.class)
+                || selectItems.size() != 1) {
+            return false;
         }
+        FunctionNode function = selectItems.get(0).getChildType(FunctionNode.class, 0);
+        return function != null && function.hasChildType(StarNode.class)
+                && "count".equalsIgnoreCase(function.getChildType(IdentifierNode.class, 0).getValue());
+    }
+
+    public Map<String, String> getColumnAliasMapping() {
+        return columnAliasMapping;
+    }
+
+    public List<SelectItem> getSelectItems() {
+        return selectItems;
+    }
 
-        if (secondChild instanceof FilterItem && isFilterWithNull((FilterItem) secondChild)) {
-            return firstChild;
+    /*
+     * Columns of the table that the select, where, group by, having and order
+     * by clauses refer to, with aliases resolved. A star selects every column
+     * of getColumnTypeMap. Drivers can fetch and decode only these fields of
+     * the rows they read. Other tables and statements other than queries need
+     * no columns.
+     */
+    public Set<String> getRequiredColumns(String table) {
+        if (logicalPlan.getType() != SQLType.QUERY || !getTableName().equals(table)) {
+            return Collections.emptySet();
         }
-        LogicalOperation physicalLogicalOperation = new LogicalOperation(
-                logicalOperation.isAnd() ? Operator.AND : Operator.OR);
-        physicalLogicalOperation.addChildNode(firstChild);
-        physicalLogicalOperation.addChildNode(secondChild);
-        return physicalLogicalOperation;
+        Set<String> columns = requiredColumns;
+        if (columns == null) {
+            columns = Collections.unmodifiableSet(collectRequiredColumns(table));
+            requiredColumns = columns;
+        }
+        return columns;
     }
 
-    private TreeNode processFilterItem(FilterItem filterItem) {
-        String table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0)
-                .getChildType(IdentifierNode.class, 0).getValue();
-        if (filterItem.hasChildType(Column.class)) {
-            String column = filterItem.getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0).getValue();
-            if (columnAliasMapping.get(column) != null) {
-                column = columnAliasMapping.get(column);
+    private Set<String> collectRequiredColumns(String table) {
+        Set<String> columns = new LinkedHashSet<>();
+        Set<String> functionAliases = new HashSet<>();
+        for (SelectItem selectItem : selectItems) {
+            if (selectItem.hasChildType(StarNode.class)) {
+                columns.addAll(getColumnTypeMap(table).keySet());
+            } else if (selectItem.hasChildType(FunctionNode.class) && selectItem.hasChildType(IdentifierNode.class)) {
+                functionAliases.add(selectItem.getChildType(IdentifierNode.class, 0).getValue());
+            }
+        }
+        // walked with a stack, where clauses of generated queries can be thousands of levels deep
+        Query query = logicalPlan.getQuery();
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        for (Class<? extends TreeNode> clause : Arrays.asList(OrderByClause.class, HavingClause.class,
+                GroupByClause.class, WhereClause.class, SelectClause.class)) {
+            if (query.hasChildType(clause)) {
+                stack.push(query.getChildType(clause, 0));
             }
-            if (!columnExists(table, column)) {
-                throw new BlkchnException(String.format("Column %s doesn't exist in table %s", column, table));
+        }
+        while (!stack.isEmpty()) {
+            TreeNode node = stack.pop();
+            if (node instanceof Column) {
+                String column = node.getChildType(IdentifierNode.class, 0).getValue();
+                if (functionAliases.contains(column)) {
+                    continue;
+                }
+                column = columnAliasMapping.getOrDefault(column, column);
+                if (columnExists(table, column)) {
+                    columns.add(column);
+                }
+                continue;
             }
-            if (isFilterWithNull(filterItem)) {
-                return filterItem;
-            } else if (getRangeCols(table).contains(column)) {
-                RangeOperations<?> rangeOperations = getRangeOperations(table, column);
-                return rangeOperations.processFilterItem(filterItem, table, column);
-            } else if (getQueryCols(table).contains(column) && filterItem.getChildType(Comparator.class, 0).isEQ()) {
-                String value = filterItem.getChildType(IdentifierNode.class, 0).getValue();
-                return new DirectAPINode(table, column, value);
-            } else {
-                return createFilterItem(column, filterItem.getChildType(Comparator.class, 0),
-                        filterItem.getChildType(IdentifierNode.class, 0).getValue());
+            for (int i = node.getChildNodes().size() - 1; i >= 0; i--) {
+                stack.push(node.getChildNode(i));
             }
+        }
+        return columns;
+    }
+
+    private String getTableName() {
+        return logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0)
+                .getChildType(IdentifierNode.class, 0).getValue();
+    }
+
+    private PhysicalPredicateBuilder getPredicateBuilder() {
+        return new PhysicalPredicateBuilder(this, getTableName(), columnAliasMapping);
+    }
+
+    private WhereClause getPhysicalWhereClause() {
+        WhereClause whereClause = new WhereClause();
+        WhereClause logicalWhereClause = logicalPlan.getQuery().getChildType(WhereClause.class, 0);
+        if (logicalWhereClause.hasChildType(FilterItem.class)) {
+            whereClause.addChildNode(
+                    getPredicateBuilder().processFilterItem(logicalWhereClause.getChildType(FilterItem.class, 0)));
         } else {
-            return createGetRowsNode(filterItem);
+            TreeNode whereClauseNodes = getPredicateBuilder().processLogicalOperation(
+                    logicalWhereClause.getChildType(LogicalOperation.class, 0));
+            whereClause.addChildNode(whereClauseNodes);
         }
+        return whereClause;
     }
 
     public boolean validateLogicalPlan() {
@@ -194,13 +317,13 @@ public abstract class PhysicalPlan extends TreeNode {
 
     public Color validateNode(TreeNode node) {
         if (node instanceof LogicalOperation) {
-            Color first = validateNode(node.getChildNode(0));
-            Color second = validateNode(node.getChildNode(1));
-            if (((LogicalOperation) node).isAnd()) {
-                return Color.and(first, second);
-            } else {
-                return Color.or(first, second);
+            boolean isAnd = ((LogicalOperation) node).isAnd();
+            Color color = validateNode(node.getChildNode(0));
+            for (int i = 1; i < node.getChildNodes().size(); i++) {
+                Color next = validateNode(node.getChildNode(i));
+                color = isAnd ? Color.and(color, next) : Color.or(color, next);
             }
+            return color;
         } else {
             if (node instanceof FilterItem && node.hasChildType(Column.class)) {
                 return Color.RED;
@@ -210,88 +333,111 @@ public abstract class PhysicalPlan extends TreeNode {
         }
     }
 
-    private Column createColumn(String colName) {
-        Column column = new Column();
-        IdentifierNode identifierNode = new IdentifierNode(colName);
-        column.addChildNode(identifierNode);
-        return column;
-    }
-
-    private FilterItem createFilterItem(String colName, Comparator cmp, String value) {
-        FilterItem filterItem = new FilterItem();
-        filterItem.addChildNode(createColumn(colName));
-        filterItem.addChildNode(cmp);
-        filterItem.addChildNode(new IdentifierNode(value));
-        return filterItem;
+    /*
+     * Pages are derived without copying the plan: the logical plan, select
+     * items and alias mapping are shared with this plan, and the page WHERE
+     * clause is bound from a PageTemplate compiled on the first page, which
+     * only allocates the logical operations on the paths to the new range.
+     * Everything else in it is shared with this plan's WHERE clause, so plans
+     * must not be modified once they are paginated.
+     *
+     * When the page range does not intersect the ranges the WHERE clause
+     * allows, the page is marked empty and its WHERE clause is an empty range,
+     * which executes without fetching anything.
+     */
+    public PhysicalPlan paginate(RangeNode<?> rangeNode) {
+        return paginate(rangeNode, rowLimit);
     }
 
-    public PhysicalPlan paginate(RangeNode<?> rangeNode) {
+    /*
+     * Paginates with the number of rows the page may return at most, e.g. the
+     * part of the row limit earlier pages left. A page without budget is
+     * empty.
+     */
+    public PhysicalPlan paginate(RangeNode<?> rangeNode, long rowBudget) {
         if (!logicalPlan.getType().equals(SQLType.QUERY)) {
             return this;
         }
-        Table table = logicalPlan.getQuery().getChildType(FromItem.class, 0).getChildType(Table.class, 0);
-        String tableName = table.getChildType(IdentifierNode.class, 0).getValue();
-        rangeNode.setTable(tableName);
-        PhysicalPlan paginatedPlan = (PhysicalPlan) this.clone();
-        if (whereClause == null) {
-            paginatedPlan.whereClause = new WhereClause();
-            paginatedPlan.whereClause.addChildNode(rangeNode);
+        rangeNode.setTable(getTableName());
+        PhysicalPlan paginatedPlan = (PhysicalPlan) super.clone();
+        paginatedPlan.pageTemplate = null;
+        paginatedPlan.rowBudget = Math.min(rowBudget, rowLimit);
+        WhereClause pageWhereClause = new WhereClause();
+        TreeNode pageNode;
+        if (paginatedPlan.rowBudget <= 0) {
+            pageNode = null;
+        } else if (whereClause == null) {
+            pageNode = PageTemplate.isEmpty(rangeNode) ? null : rangeNode;
         } else {
-            TreeNode whereClassNode = generatePage(whereClause.getChildNode(0), rangeNode,
-                    paginatedPlan.validateLogicalPlan());
-            TreeNode reducedWhereClassNode = processLogicalOperation((LogicalOperation) whereClassNode);
-            paginatedPlan.whereClause.setChildNodes(Arrays.asList(reducedWhereClassNode));
+            pageNode = getPageTemplate(rangeNode.getColumn()).bind(rangeNode);
         }
+        if (pageNode == null) {
+            paginatedPlan.emptyPage = true;
+            pageNode = new RangeNode<>(rangeNode.getTable(), rangeNode.getColumn());
+        }
+        if (pageNode.getParent() == null) {
+            pageWhereClause.addChildNode(pageNode);
+        } else {
+            pageWhereClause.addSharedChildNode(pageNode);
+        }
+        paginatedPlan.whereClause = pageWhereClause;
         return paginatedPlan;
     }
 
-    private TreeNode generatePage(TreeNode currentNode, RangeNode<?> rangeNode, boolean isExecutable) {
+    // checks the page against the WHERE clause without paginating, e.g. to skip partitions up front
+    public boolean isEmptyPage(RangeNode<?> rangeNode) {
+        if (!logicalPlan.getType().equals(SQLType.QUERY)) {
+            return false;
+        } else if (whereClause == null) {
+            return PageTemplate.isEmpty(rangeNode);
+        }
+        return getPageTemplate(rangeNode.getColumn()).bind(rangeNode) == null;
+    }
+
+    public boolean isEmptyPage() {
+        return emptyPage;
+    }
+
+    private PageTemplate getPageTemplate(String column) {
+        PageTemplate template = pageTemplate;
+        if (template == null || !template.getColumn().equals(column)) {
+            TreeNode slot = new TreeNode("PAGE_SLOT");
+            TreeNode page = generatePage(whereClause.getChildNode(0), slot, validateLogicalPlan());
+            RangeOperations<?> rangeOperations = getRangeCols(getTableName()).contains(column)
+                    ? getRangeOperations(getTableName(), column) : null;
+            template = new PageTemplate(column, slot, getPredicateBuilder().reduce(page), rangeOperations, this,
+                    getTableName());
+            pageTemplate = template;
+        }
+        return template;
+    }
+
+    private TreeNode generatePage(TreeNode currentNode, TreeNode rangeNode, boolean isExecutable) {
         if (currentNode instanceof LogicalOperation) {
             LogicalOperation oper = (LogicalOperation) currentNode;
-            if (oper.isAnd()) {
-                TreeNode left = generatePage(oper.getChildNode(0), rangeNode, isExecutable);
-                TreeNode right = generatePage(oper.getChildNode(1), rangeNode, true);
-                LogicalOperation returnOper = new LogicalOperation(Operator.AND);
-                returnOper.addChildNode(left);
-                returnOper.addChildNode(right);
-                return returnOper;
-            } else {
-                TreeNode left = generatePage(oper.getChildNode(0), rangeNode, isExecutable);
-                TreeNode right = generatePage(oper.getChildNode(1), rangeNode, isExecutable);
-                LogicalOperation returnOper = new LogicalOperation(Operator.OR);
-                returnOper.addChildNode(left);
-                returnOper.addChildNode(right);
-                return returnOper;
+            // only the first operand of an AND decides whether the rows are fetched at all
+            LogicalOperation page = new LogicalOperation(oper.isAnd() ? Operator.AND : Operator.OR);
+            for (int i = 0; i < oper.getChildNodes().size(); i++) {
+                page.addSharedChildNode(
+                        generatePage(oper.getChildNode(i), rangeNode, (oper.isAnd() && i > 0) || isExecutable));
             }
-        } else if ((currentNode instanceof RangeNode<?>) || (currentNode instanceof DirectAPINode)) {
-            LogicalOperation oper = new LogicalOperation(Operator.AND);
-            oper.addChildNode((TreeNode) rangeNode.clone());
-            oper.addChildNode((TreeNode) currentNode.clone());
-            return oper;
+            return page;
+        } else if ((currentNode instanceof RangeNode<?>) || (currentNode instanceof DirectAPINode)
+                || (currentNode instanceof DirectAPIListNode)) {
+            return createPageOperation(Operator.AND, rangeNode, currentNode);
         } else {
             if (!isExecutable) {
-                LogicalOperation oper = new LogicalOperation(Operator.AND);
-                oper.addChildNode((TreeNode) rangeNode.clone());
-                oper.addChildNode((TreeNode) currentNode.clone());
-                return oper;
+                return createPageOperation(Operator.AND, rangeNode, currentNode);
             }
-            return (TreeNode) currentNode.clone();
+            return currentNode;
         }
     }
 
-    private GetRowsNode createGetRowsNode(FilterItem filterItem) {
-        filterItem.traverse();
-        GetRowsNode getRows;
-        if (filterItem.getChildType(IdentifierNode.class, 0).getValue()
-                .equals(filterItem.getChildType(IdentifierNode.class, 1).getValue()))
-            getRows = new GetRowsNode(NumRows.ALL);
-        else if (!filterItem.getChildType(IdentifierNode.class, 0).getValue()
-                .equals(filterItem.getChildType(IdentifierNode.class, 1).getValue()))
-            getRows = new GetRowsNode(NumRows.NONE);
-        else
-            throw new BlkchnException("Query not Supported");
-        return getRows;
-
+    private LogicalOperation createPageOperation(Operator operator, TreeNode left, TreeNode right) {
+        LogicalOperation oper = new LogicalOperation(operator);
+        oper.addSharedChildNode(left);
+        oper.addSharedChildNode(right);
+        return oper;
     }
 
     public abstract List<String> getRangeCols(String table);
@@ -306,6 +452,16 @@ public abstract class PhysicalPlan extends TreeNode {
 
     public abstract Map<String, Integer> getColumnTypeMap(String table);
 
+    /*
+     * Whether each value of the range column is the key of exactly one row,
+     * like the number of a block. COUNT(*) over ranges of such a column is
+     * then computed from the ranges alone. Range columns shared by many rows,
+     * like the block number of a transaction, must keep the default.
+     */
+    public boolean isKeyColumn(String table, String column) {
+        return false;
+    }
+
     public static enum Color {
         RED, GREEN;
 
@@ -329,6 +485,7 @@ public abstract class PhysicalPlan extends TreeNode {
     @Override
     public Object clone() {
         PhysicalPlan root = (PhysicalPlan) super.clone();
+        root.pageTemplate = null;
         root.logicalPlan = (LogicalPlan) this.logicalPlan.clone();
         root.whereClause = this.whereClause == null ? null : (WhereClause) this.whereClause.clone();
         root.selectItems = new ArrayList<>();
@@ -351,12 +508,6 @@ public abstract class PhysicalPlan extends TreeNode {
     }
 
     public boolean isFilterWithNull(FilterItem filterItem) {
-        Comparator cmp = filterItem.getChildType(Comparator.class, 0);
-        String value = filterItem.getChildType(IdentifierNode.class, 0).getValue();
-        if ((cmp.isEQ() || cmp.isNEQ()) && value == null) {
-            return true;
-        } else {
-            return false;
-        }
+        return PhysicalPredicateBuilder.isFilterWithNull(filterItem);
     }
 }
@@ -0,0 +1,414 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.rewrite.PlanRewriter;
+import com.impetus.blkch.sql.parser.rewrite.RewriteRule;
+import com.impetus.blkch.sql.parser.rewrite.RuleBatch;
+import com.impetus.blkch.sql.query.Column;
+import com.impetus.blkch.sql.query.Comparator;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
+import com.impetus.blkch.sql.query.DirectAPINode;
+import com.impetus.blkch.sql.query.FilterItem;
+import com.impetus.blkch.sql.query.FunctionNode;
+import com.impetus.blkch.sql.query.GetRowsNode;
+import com.impetus.blkch.sql.query.GetRowsNode.NumRows;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.sql.query.SelectClause;
+import com.impetus.blkch.sql.query.SelectItem;
+import com.impetus.blkch.util.CompositeKey;
+import com.impetus.blkch.util.CompositeRangeOperations;
+import com.impetus.blkch.util.RangeOperations;
+import com.impetus.blkch.util.Utilities;
+
+/*
+ * Translates logical filter items and logical operations of one table into
+ * their physical counterparts. processLogicalOperation walks a whole tree,
+ * while processFilterItem and combineAll can be driven bottom up by a visitor.
+ */
+class PhysicalPredicateBuilder {
+
+    private final SchemaCatalog catalog;
+
+    private final String table;
+
+    private final Map<String, String> columnAliasMapping;
+
+    private final PlanRewriter reducer;
+
+    PhysicalPredicateBuilder(SchemaCatalog catalog, String table, Map<String, String> columnAliasMapping) {
+        this.catalog = catalog;
+        this.table = table;
+        this.columnAliasMapping = columnAliasMapping;
+        this.reducer = new PlanRewriter(
+                new RuleBatch("reduce predicates", RuleBatch.DEFAULT_MAX_ITERATIONS, combineOperations()));
+    }
+
+    static Map<String, String> getColumnAliasMapping(SelectClause selectClause) {
+        Map<String, String> columnAliasMapping = new HashMap<>();
+        for (SelectItem item : selectClause.getChildType(SelectItem.class)) {
+            if (item.getChildType(IdentifierNode.class, 0) != null && item.hasChildType(Column.class)) {
+                columnAliasMapping.put(item.getChildType(IdentifierNode.class, 0).getValue(),
+                        item.getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0).getValue());
+            } else if (item.getChildType(IdentifierNode.class, 0) != null && item.hasChildType(FunctionNode.class)) {
+                columnAliasMapping.put(item.getChildType(IdentifierNode.class, 0).getValue(),
+                        Utilities.createFunctionColName(item.getChildType(FunctionNode.class, 0)));
+            }
+        }
+        return columnAliasMapping;
+    }
+
+    static boolean isFilterWithNull(FilterItem filterItem) {
+        Comparator cmp = filterItem.getChildType(Comparator.class, 0);
+        String value = filterItem.getChildType(IdentifierNode.class, 0).getValue();
+        return (cmp.isEQ() || cmp.isNEQ()) && value == null;
+    }
+
+    /*
+     * Walks the logical tree with an explicit stack, so that generated
+     * predicates of any depth can be translated. Nested operations with the
+     * same operator as their parent are flattened into a single n-ary
+     * operation, e.g. "a or (b or c)" becomes one OR with three children.
+     */
+    TreeNode processLogicalOperation(LogicalOperation logicalOperation) {
+        Deque<PendingOperation> stack = new ArrayDeque<>();
+        stack.push(new PendingOperation(logicalOperation));
+        TreeNode result = null;
+        while (!stack.isEmpty()) {
+            PendingOperation current = stack.peek();
+            if (current.children.isEmpty()) {
+                stack.pop();
+                TreeNode combined = combineAll(current.operation, current.operands);
+                if (stack.isEmpty()) {
+                    result = combined;
+                } else {
+                    stack.peek().operands.add(combined);
+                }
+                continue;
+            }
+            TreeNode child = current.children.pollFirst();
+            if (child instanceof LogicalOperation) {
+                LogicalOperation childOperation = (LogicalOperation) child;
+                if (childOperation.isAnd() == current.operation.isAnd()) {
+                    current.expand(childOperation);
+                } else {
+                    stack.push(new PendingOperation(childOperation));
+                }
+            } else if (child instanceof FilterItem) {
+                current.operands.add(processFilterItem((FilterItem) child));
+            } else {
+                current.operands.add((TreeNode) child.clone());
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Merges ranges again in a tree that is already physical, e.g. after a
+     * page range was and-ed into it. Leaves are shared with the given tree
+     * rather than copied.
+     */
+    TreeNode reduce(TreeNode node) {
+        return reducer.rewrite(node);
+    }
+
+    /*
+     * Joins the already translated operands of a logical operation into one
+     * n-ary operation. Operands with the same operator are flattened into it,
+     * ranges on the same column are merged in one pass and null filters are
+     * dropped. A single remaining operand is returned as is.
+     */
+    TreeNode combineAll(LogicalOperation logicalOperation, List<TreeNode> operands) {
+        List<TreeNode> combined = combineOperands(logicalOperation, operands);
+        if (combined.size() == 1) {
+            return combined.get(0);
+        }
+        return createOperation(logicalOperation.isAnd() ? Operator.AND : Operator.OR, combined);
+    }
+
+    private List<TreeNode> combineOperands(LogicalOperation logicalOperation, List<TreeNode> operands) {
+        List<TreeNode> flattened = new ArrayList<>(operands.size());
+        for (TreeNode operand : operands) {
+            if (operand instanceof LogicalOperation
+                    && ((LogicalOperation) operand).isAnd() == logicalOperation.isAnd()) {
+                flattened.addAll(operand.getChildNodes());
+            } else {
+                flattened.add(operand);
+            }
+        }
+        // ranges on the same column, and for OR also lookups on the same column, are merged at the first of them
+        Map<String, List<TreeNode>> groups = new LinkedHashMap<>();
+        TreeNode nullFilter = null;
+        List<TreeNode> others = new ArrayList<>(flattened.size());
+        for (TreeNode operand : flattened) {
+            if (operand instanceof FilterItem && isFilterWithNull((FilterItem) operand)) {
+                nullFilter = operand;
+                continue;
+            }
+            String key = getGroupKey(logicalOperation, operand);
+            if (key != null) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(operand);
+            }
+            others.add(operand);
+        }
+        if (others.isEmpty()) {
+            return Collections.singletonList(nullFilter);
+        }
+        List<TreeNode> result = new ArrayList<>(others.size());
+        for (TreeNode operand : others) {
+            String key = getGroupKey(logicalOperation, operand);
+            if (key == null) {
+                result.add(operand);
+                continue;
+            }
+            List<TreeNode> group = groups.remove(key);
+            if (group == null) {
+                continue;
+            } else if (group.size() == 1) {
+                result.add(operand);
+            } else if (operand instanceof RangeNode) {
+                result.add(mergeRanges(logicalOperation, group));
+            } else {
+                result.add(mergeLookups(group));
+            }
+        }
+        return logicalOperation.isAnd() ? combineKeyRanges(result) : result;
+    }
+
+    /*
+     * Ranges on a prefix of a composite key become one range node on the
+     * prefix, at the first of them. The combined ranges allow exactly the
+     * rows the ranges they are built from do, so those are dropped.
+     */
+    private List<TreeNode> combineKeyRanges(List<TreeNode> operands) {
+        List<List<String>> keys = catalog.getCompositeRangeCols(table);
+        if (keys.isEmpty()) {
+            return operands;
+        }
+        Map<String, RangeNode<?>> rangesByColumn = new HashMap<>();
+        for (TreeNode operand : operands) {
+            if (operand instanceof RangeNode && table.equals(((RangeNode<?>) operand).getTable())) {
+                rangesByColumn.put(((RangeNode<?>) operand).getColumn(), (RangeNode<?>) operand);
+            }
+        }
+        List<TreeNode> result = operands;
+        for (List<String> key : keys) {
+            if (!rangesByColumn.containsKey(key.get(0)) || !rangesByColumn.containsKey(key.get(1))) {
+                continue;
+            }
+            CompositeRangeOperations keyOperations = (CompositeRangeOperations) catalog.getKeyRangeOperations(table,
+                    CompositeKey.columnName(key));
+            RangeNode<CompositeKey> combined = keyOperations.combine(table, rangesByColumn);
+            if (combined == null) {
+                continue;
+            }
+            List<String> columns = CompositeKey.columns(combined.getColumn());
+            List<TreeNode> remaining = new ArrayList<>(result.size());
+            boolean added = false;
+            for (TreeNode operand : result) {
+                if (!(operand instanceof RangeNode) || !columns.contains(((RangeNode<?>) operand).getColumn())) {
+                    remaining.add(operand);
+                } else if (!added) {
+                    remaining.add(combined);
+                    added = true;
+                }
+            }
+            rangesByColumn.keySet().removeAll(columns);
+            result = remaining;
+        }
+        return result;
+    }
+
+    private static String getGroupKey(LogicalOperation logicalOperation, TreeNode operand) {
+        if (operand instanceof RangeNode) {
+            RangeNode<?> rangeNode = (RangeNode<?>) operand;
+            return "range:" + rangeNode.getTable() + "." + rangeNode.getColumn();
+        } else if (logicalOperation.isOr() && operand instanceof DirectAPINode) {
+            DirectAPINode directAPI = (DirectAPINode) operand;
+            return "lookup:" + directAPI.getTable() + "." + directAPI.getColumn();
+        } else if (logicalOperation.isOr() && operand instanceof DirectAPIListNode) {
+            DirectAPIListNode directAPIs = (DirectAPIListNode) operand;
+            return "lookup:" + directAPIs.getTable() + "." + directAPIs.getColumn();
+        }
+        return null;
+    }
+
+    private TreeNode mergeRanges(LogicalOperation logicalOperation, List<TreeNode> group) {
+        List<RangeNode<?>> ranges = new ArrayList<>(group.size());
+        for (TreeNode rangeNode : group) {
+            ranges.add((RangeNode<?>) rangeNode);
+        }
+        RangeOperations<?> rangeOperations = catalog.getKeyRangeOperations(table, ranges.get(0).getColumn());
+        if (ranges.size() == 2) {
+            return rangeOperations.processRangeNodes(ranges.get(0), ranges.get(1), logicalOperation);
+        }
+        return rangeOperations.processRangeNodes(ranges, logicalOperation);
+    }
+
+    // or-ed lookups of one column become a single batched lookup of the distinct values
+    private static DirectAPIListNode mergeLookups(List<TreeNode> group) {
+        Set<String> values = new LinkedHashSet<>();
+        String lookupTable = null;
+        String column = null;
+        for (TreeNode lookup : group) {
+            if (lookup instanceof DirectAPINode) {
+                DirectAPINode directAPI = (DirectAPINode) lookup;
+                lookupTable = directAPI.getTable();
+                column = directAPI.getColumn();
+                values.add(directAPI.getValue());
+            } else {
+                DirectAPIListNode directAPIs = (DirectAPIListNode) lookup;
+                lookupTable = directAPIs.getTable();
+                column = directAPIs.getColumn();
+                values.addAll(directAPIs.getValues());
+            }
+        }
+        return new DirectAPIListNode(lookupTable, column, new ArrayList<>(values));
+    }
+
+    private static LogicalOperation createOperation(Operator operator, List<TreeNode> operands) {
+        LogicalOperation operation = new LogicalOperation(operator);
+        for (TreeNode operand : operands) {
+            if (operand.getParent() == null) {
+                operation.addChildNode(operand);
+            } else {
+                operation.addSharedChildNode(operand);
+            }
+        }
+        return operation;
+    }
+
+    // rewrites an operation only when combining its operands changes anything
+    private RewriteRule combineOperations() {
+        return node -> {
+            if (!(node instanceof LogicalOperation)) {
+                return node;
+            }
+            LogicalOperation operation = (LogicalOperation) node;
+            List<TreeNode> combined = combineOperands(operation, operation.getChildNodes());
+            if (combined.size() == operation.getChildNodes().size()) {
+                boolean changed = false;
+                for (int i = 0; i < combined.size() && !changed; i++) {
+                    changed = combined.get(i) != operation.getChildNode(i);
+                }
+                if (!changed) {
+                    return node;
+                }
+            }
+            return combined.size() == 1 ? combined.get(0) : createOperation(operation.getOperation(), combined);
+        };
+    }
+
+    TreeNode processFilterItem(FilterItem filterItem) {
+        if (filterItem.hasChildType(Column.class)) {
+            String column = filterItem.getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0).getValue();
+            if (columnAliasMapping.get(column) != null) {
+                column = columnAliasMapping.get(column);
+            }
+            if (!catalog.columnExists(table, column)) {
+                throw new BlkchnException(String.format("Column %s doesn't exist in table %s", column, table));
+            }
+            if (isFilterWithNull(filterItem)) {
+                return filterItem;
+            } else if (catalog.getRangeCols(table).contains(column)) {
+                RangeOperations<?> rangeOperations = catalog.getRangeOperations(table, column);
+                return rangeOperations.processFilterItem(filterItem, table, column);
+            } else if (catalog.getQueryCols(table).contains(column)
+                    && filterItem.getChildType(Comparator.class, 0).isEQ()) {
+                String value = filterItem.getChildType(IdentifierNode.class, 0).getValue();
+                return new DirectAPINode(table, column, value);
+            } else {
+                return createFilterItem(column, filterItem.getChildType(Comparator.class, 0),
+                        filterItem.getChildType(IdentifierNode.class, 0).getValue());
+            }
+        } else {
+            return createGetRowsNode(filterItem);
+        }
+    }
+
+    private Column createColumn(String colName) {
+        Column column = new Column();
+        IdentifierNode identifierNode = new IdentifierNode(colName);
+        column.addChildNode(identifierNode);
+        return column;
+    }
+
+    private FilterItem createFilterItem(String colName, Comparator cmp, String value) {
+        FilterItem filterItem = new FilterItem();
+        filterItem.addChildNode(createColumn(colName));
+        filterItem.addChildNode(cmp);
+        filterItem.addChildNode(new IdentifierNode(value));
+        return filterItem;
+    }
+
+    private GetRowsNode createGetRowsNode(FilterItem filterItem) {
+        filterItem.traverse();
+        GetRowsNode getRows;
+        if (filterItem.getChildType(IdentifierNode.class, 0).getValue()
+                .equals(filterItem.getChildType(IdentifierNode.class, 1).getValue()))
+            getRows = new GetRowsNode(NumRows.ALL);
+        else if (!filterItem.getChildType(IdentifierNode.class, 0).getValue()
+                .equals(filterItem.getChildType(IdentifierNode.class, 1).getValue()))
+            getRows = new GetRowsNode(NumRows.NONE);
+        else
+            throw new BlkchnException("Query not Supported");
+        return getRows;
+
+    }
+
+    private static class PendingOperation {
+
+        private final LogicalOperation operation;
+
+        private final Deque<TreeNode> children;
+
+        private final List<TreeNode> operands = new ArrayList<>();
+
+        private PendingOperation(LogicalOperation operation) {
+            if (operation.getChildNodes().size() < 2) {
+                throw new BlkchnException("Logical operation should have at least two boolean expressions");
+            }
+            this.operation = operation;
+            this.children = new ArrayDeque<>(operation.getChildNodes());
+        }
+
+        // the children of a nested operation with the same operator take its place
+        private void expand(LogicalOperation nested) {
+            if (nested.getChildNodes().size() < 2) {
+                throw new BlkchnException("Logical operation should have at least two boolean expressions");
+            }
+            List<TreeNode> nestedChildren = nested.getChildNodes();
+            for (int i = nestedChildren.size() - 1; i >= 0; i--) {
+                children.addFirst(nestedChildren.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.impetus.blkch.sql.DataFrame;
+import com.impetus.blkch.sql.query.Column;
+import com.impetus.blkch.sql.query.Comparator;
+import com.impetus.blkch.sql.query.FilterItem;
+import com.impetus.blkch.sql.query.FunctionNode;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.util.Utilities;
+
+/*
+ * Rows of EXPLAIN and EXPLAIN ANALYZE: one row for the whole query, and one
+ * row per node of the plan below it, indented by depth. For EXPLAIN ANALYZE
+ * AbstractQueryExecutor records, for each node it resolves or executes, the
+ * keys it produced, the driver calls and bytes the driver reported while it
+ * ran and the time it took. Times include those of the children, and a node
+ * run more than once, like a filter applied to each part of an ordered range
+ * scan, adds up.
+ */
+class PlanProfile {
+
+    static final List<String> PLAN_COLUMNS = Arrays.asList("plan", "node", "estimated_rows");
+
+    static final List<String> ANALYZE_COLUMNS = Arrays.asList("plan", "node", "estimated_rows", "actual_keys",
+            "driver_calls", "bytes_fetched", "elapsed_ms");
+
+    private static final String INDENT = "  ";
+
+    private final Map<TreeNode, NodeStatistics> statistics = new IdentityHashMap<>();
+
+    // the lookups of executeDirectAPIs and the trees given to execute, in the order they ran
+    private final List<TreeNode> roots = new ArrayList<>();
+
+    private final Deque<NodeStatistics> running = new ArrayDeque<>();
+
+    private final NodeStatistics query = new NodeStatistics();
+
+    private final long startTime = System.nanoTime();
+
+    void addRoot(TreeNode root) {
+        roots.add(root);
+    }
+
+    long start(TreeNode node) {
+        running.push(statistics.computeIfAbsent(node, key -> new NodeStatistics()));
+        return System.nanoTime();
+    }
+
+    void end(long start, int keys) {
+        NodeStatistics nodeStatistics = running.pop();
+        nodeStatistics.keys += keys;
+        nodeStatistics.elapsedTime += System.nanoTime() - start;
+    }
+
+    // calls made while no node runs, like fetching the records of the result, only count for the query
+    void driverCalled(long bytes) {
+        NodeStatistics nodeStatistics = running.peek();
+        if (nodeStatistics != null) {
+            nodeStatistics.driverCalls++;
+            nodeStatistics.bytes += bytes;
+        }
+        query.driverCalls++;
+        query.bytes += bytes;
+    }
+
+    void rowsReturned(int rows) {
+        query.keys += rows;
+    }
+
+    DataFrame analyze(CostModel costModel) {
+        query.elapsedTime = System.nanoTime() - startTime;
+        List<List<Object>> rows = new ArrayList<>();
+        rows.add(analyzedRow("Query", "Query", null, query));
+        for (TreeNode root : roots) {
+            addRows(root, 1, costModel, true, rows);
+        }
+        return new DataFrame(rows, ANALYZE_COLUMNS, new HashMap<>());
+    }
+
+    static DataFrame explain(TreeNode root, CostModel costModel) {
+        List<List<Object>> rows = new ArrayList<>();
+        rows.add(Arrays.<Object> asList("Query", "Query", estimate(root, costModel)));
+        new PlanProfile().addRows(root, 1, costModel, false, rows);
+        return new DataFrame(rows, PLAN_COLUMNS, new HashMap<>());
+    }
+
+    private void addRows(TreeNode node, int depth, CostModel costModel, boolean analyzed, List<List<Object>> rows) {
+        StringBuilder plan = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            plan.append(INDENT);
+        }
+        plan.append(describe(node));
+        String type = node.getClass().getSimpleName();
+        Long estimate = estimate(node, costModel);
+        rows.add(analyzed ? analyzedRow(plan.toString(), type, estimate, statistics.get(node))
+                : Arrays.<Object> asList(plan.toString(), type, estimate));
+        if (node instanceof LogicalOperation) {
+            for (TreeNode child : node.getChildNodes()) {
+                addRows(child, depth + 1, costModel, analyzed, rows);
+            }
+        }
+    }
+
+    // nodes that never ran, like the operands of an OR skipped once the row limit was reached, have no actuals
+    private static List<Object> analyzedRow(String plan, String type, Long estimate, NodeStatistics stats) {
+        if (stats == null) {
+            return Arrays.<Object> asList(plan, type, estimate, null, null, null, null);
+        }
+        return Arrays.<Object> asList(plan, type, estimate, stats.keys, stats.driverCalls, stats.bytes,
+                stats.elapsedTime / 1000000.0);
+    }
+
+    private static Long estimate(TreeNode node, CostModel costModel) {
+        long rows = costModel.estimateRows(node);
+        return rows == ColumnStatistics.UNKNOWN ? null : rows;
+    }
+
+    // a filter is a subtree of its own, printed on one line as the condition it tests
+    private static String describe(TreeNode node) {
+        if (!(node instanceof FilterItem)) {
+            return node.getDescription();
+        }
+        StringBuilder sb = new StringBuilder(FilterItem.DESCRIPTION).append(':');
+        for (TreeNode child : node.getChildNodes()) {
+            if (sb.length() > FilterItem.DESCRIPTION.length() + 1) {
+                sb.append(' ');
+            }
+            if (child instanceof Column) {
+                sb.append(child.getChildType(IdentifierNode.class, 0).getValue());
+            } else if (child instanceof FunctionNode) {
+                sb.append(Utilities.createFunctionColName((FunctionNode) child));
+            } else if (child instanceof Comparator) {
+                sb.append(((Comparator) child).getOperator().getOpValue());
+            } else if (child instanceof IdentifierNode) {
+                sb.append(((IdentifierNode) child).getValue());
+            } else {
+                sb.append(child.getDescription());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class NodeStatistics {
+
+        private long keys;
+
+        private long driverCalls;
+
+        private long bytes;
+
+        private long elapsedTime;
+    }
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.util.CompositeKey;
+import com.impetus.blkch.util.CompositeRangeOperations;
+import com.impetus.blkch.util.RangeOperations;
+
+/*
+ * The per-table metadata needed to turn filter items into range, direct API
+ * and plain filter nodes. PhysicalPlan implements it for the second pass, and
+ * BlockchainVisitor can take one to build the physical WHERE clause while
+ * parsing.
+ */
+public interface SchemaCatalog {
+
+    List<String> getRangeCols(String table);
+
+    List<String> getQueryCols(String table);
+
+    RangeOperations<?> getRangeOperations(String table, String column);
+
+    boolean columnExists(String table, String column);
+
+    /*
+     * Keys made of several range columns, most significant first, e.g. the
+     * block number and the index of a transaction. Each of their columns is
+     * a range column of its own as well. Ranges and-ed on a prefix of such a
+     * key are combined into one range node on that prefix, whose column is
+     * the column names joined by CompositeKey.COLUMN_SEPARATOR and whose
+     * bounds are CompositeKey values.
+     */
+    default List<List<String>> getCompositeRangeCols(String table) {
+        return Collections.emptyList();
+    }
+
+    // the operations for the column of any range node, including nodes on a prefix of a composite key
+    default RangeOperations<?> getKeyRangeOperations(String table, String column) {
+        List<String> columns = CompositeKey.columns(column);
+        if (columns.size() == 1) {
+            return getRangeOperations(table, column);
+        }
+        for (List<String> key : getCompositeRangeCols(table)) {
+            if (key.size() >= columns.size() && key.subList(0, columns.size()).equals(columns)) {
+                List<RangeOperations<?>> componentOperations = new ArrayList<>(columns.size());
+                for (String keyColumn : columns) {
+                    componentOperations.add(getRangeOperations(table, keyColumn));
+                }
+                return new CompositeRangeOperations(columns, componentOperations);
+            }
+        }
+        throw new BlkchnException(
+                String.format("Columns %s are not a prefix of a composite key of table %s", column, table));
+    }
+}
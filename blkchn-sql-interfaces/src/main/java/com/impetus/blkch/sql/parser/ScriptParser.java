@@ -0,0 +1,248 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.impetus.blkch.BlkchnException;
+
+/*
+ * Reads a script of ';' separated statements and hands out one LogicalPlan
+ * at a time. Only the statement being parsed is held in memory, so the size
+ * of the script does not matter. Separators inside quoted strings, backquoted
+ * identifiers and comments are ignored, and statements containing nothing but
+ * comments are skipped.
+ */
+public class ScriptParser implements Iterator<LogicalPlan>, Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // statement buffers that grew past this are not kept for the next statement
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final Reader reader;
+
+    private final StatementParser statementParser;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int bufferPos = 0;
+
+    private int bufferLimit = 0;
+
+    private boolean endOfInput = false;
+
+    private StringBuilder statement = new StringBuilder();
+
+    private int line = 1;
+
+    private int statementLine;
+
+    private int statementCount = 0;
+
+    private LogicalPlan nextPlan;
+
+    public ScriptParser(Reader reader) {
+        this(reader, new StatementParser());
+    }
+
+    public ScriptParser(Reader reader, StatementParser statementParser) {
+        this.reader = reader;
+        this.statementParser = statementParser;
+    }
+
+    public static ScriptParser fromChannel(ReadableByteChannel channel, Charset charset) {
+        return new ScriptParser(Channels.newReader(channel, charset.newDecoder(), -1));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPlan == null) {
+            String sqlText = nextStatement();
+            if (sqlText != null) {
+                try {
+                    nextPlan = statementParser.parse(sqlText);
+                } catch (BlkchnException e) {
+                    throw new BlkchnException(String.format("Error in statement %d at line %d: %s",
+                            statementCount + 1, statementLine, e.getMessage()), e);
+                }
+                statementCount++;
+            }
+        }
+        return nextPlan != null;
+    }
+
+    @Override
+    public LogicalPlan next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        LogicalPlan plan = nextPlan;
+        nextPlan = null;
+        return plan;
+    }
+
+    /*
+     * Returns up to batchSize plans, an empty list once the script is
+     * exhausted.
+     */
+    public List<LogicalPlan> nextBatch(int batchSize) {
+        if (batchSize <= 0) {
+            throw new BlkchnException("Batch size should be greater than zero");
+        }
+        List<LogicalPlan> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && hasNext()) {
+            batch.add(next());
+        }
+        return batch;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextStatement() {
+        while (true) {
+            if (statement.capacity() > MAX_RETAINED_CAPACITY) {
+                statement = new StringBuilder();
+            } else {
+                statement.setLength(0);
+            }
+            boolean significant = false;
+            int ch;
+            while ((ch = read()) != -1 && ch != ';') {
+                if (ch == '-' && peek() == '-') {
+                    appendLineComment(ch);
+                    continue;
+                } else if (ch == '/' && peek() == '*') {
+                    appendBlockComment(ch);
+                    continue;
+                }
+                if (!significant && !Character.isWhitespace(ch)) {
+                    significant = true;
+                    statementLine = line;
+                }
+                if (ch == '\'' || ch == '"') {
+                    appendQuoted(ch, true);
+                } else if (ch == '`') {
+                    appendQuoted(ch, false);
+                } else {
+                    statement.append((char) ch);
+                }
+            }
+            if (significant) {
+                return statement.toString();
+            }
+            if (ch == -1) {
+                return null;
+            }
+        }
+    }
+
+    private void appendQuoted(int quote, boolean escapes) {
+        statement.append((char) quote);
+        int ch;
+        while ((ch = read()) != -1) {
+            statement.append((char) ch);
+            if (escapes && ch == '\\') {
+                int escaped = read();
+                if (escaped == -1) {
+                    break;
+                }
+                statement.append((char) escaped);
+            } else if (ch == quote) {
+                return;
+            }
+        }
+    }
+
+    private void appendLineComment(int first) {
+        statement.append((char) first);
+        int ch;
+        while ((ch = read()) != -1) {
+            statement.append((char) ch);
+            if (ch == '\n') {
+                return;
+            }
+        }
+    }
+
+    private void appendBlockComment(int first) {
+        statement.append((char) first).append((char) read());
+        int previous = 0;
+        int ch;
+        while ((ch = read()) != -1) {
+            statement.append((char) ch);
+            if (previous == '*' && ch == '/') {
+                return;
+            }
+            previous = ch;
+        }
+    }
+
+    private int read() {
+        if (!fill()) {
+            return -1;
+        }
+        char ch = buffer[bufferPos++];
+        if (ch == '\n') {
+            line++;
+        }
+        return ch;
+    }
+
+    private int peek() {
+        return fill() ? buffer[bufferPos] : -1;
+    }
+
+    private boolean fill() {
+        if (bufferPos < bufferLimit) {
+            return true;
+        }
+        if (endOfInput) {
+            return false;
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, 0, BUFFER_SIZE);
+            } while (read == 0);
+            if (read == -1) {
+                endOfInput = true;
+                return false;
+            }
+            bufferPos = 0;
+            bufferLimit = read;
+            return true;
+        } catch (IOException e) {
+            throw new BlkchnException("Error reading script", e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.blkch.BlkchnErrorListener;
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser.SingleStatementContext;
+import com.impetus.blkch.sql.parser.InstrumentationListener.Phase;
+import com.impetus.blkch.util.Tuple2;
+
+/*
+ * Parses a single statement with SLL prediction first and retries with full
+ * LL prediction only when SLL bails out. SLL is enough for almost every
+ * statement, so the LL pass is only paid for the rare input that needs full
+ * context and for real syntax errors, which are then reported through
+ * BlkchnErrorListener as before.
+ *
+ * The lexer, parser and visitor are kept per thread and reset between
+ * statements instead of being rebuilt for each one. Lex, parse and visit
+ * timings are reported to the Instrumentation listener when one is set.
+ */
+public class StatementParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementParser.class);
+
+    private final AtomicLong sllCount = new AtomicLong();
+
+    private final AtomicLong llCount = new AtomicLong();
+
+    private final ThreadLocal<ParserComponents> components = ThreadLocal.withInitial(ParserComponents::new);
+
+    public LogicalPlan parse(String sqlText) {
+        return parseWithStage(sqlText).getFirst();
+    }
+
+    /*
+     * Also builds the physical WHERE clause while visiting, see
+     * BlockchainVisitor.setSchemaCatalog.
+     */
+    public LogicalPlan parse(String sqlText, SchemaCatalog schemaCatalog) {
+        return parseWithStage(sqlText, schemaCatalog).getFirst();
+    }
+
+    public Tuple2<LogicalPlan, PredictionStage> parseWithStage(String sqlText) {
+        return parseWithStage(sqlText, null);
+    }
+
+    public Tuple2<LogicalPlan, PredictionStage> parseWithStage(String sqlText, SchemaCatalog schemaCatalog) {
+        Instrumentation.statementStarted(sqlText);
+        return visit(parseTree(sqlText), schemaCatalog);
+    }
+
+    /*
+     * Parses with a parser the caller built, e.g. one with error listeners or
+     * a lexer of its own, instead of the parser kept for the thread. The
+     * parser has to read the given statement.
+     */
+    public LogicalPlan parse(String sqlText, BlkchnSqlParser parser) {
+        Instrumentation.statementStarted(sqlText);
+        long start = Instrumentation.start();
+        Tuple2<SingleStatementContext, PredictionStage> tree;
+        try {
+            tree = parseTree(parser);
+        } finally {
+            Instrumentation.end(Phase.PARSE, start);
+        }
+        return visit(tree, null).getFirst();
+    }
+
+    private Tuple2<LogicalPlan, PredictionStage> visit(Tuple2<SingleStatementContext, PredictionStage> tree,
+            SchemaCatalog schemaCatalog) {
+        long start = Instrumentation.start();
+        BlockchainVisitor astBuilder = components.get().visitor;
+        astBuilder.reset();
+        astBuilder.setSchemaCatalog(schemaCatalog);
+        try {
+            LogicalPlan logicalPlan = astBuilder.visitSingleStatement(tree.getFirst());
+            return new Tuple2<>(logicalPlan, tree.getSecond());
+        } finally {
+            astBuilder.setSchemaCatalog(null);
+            Instrumentation.end(Phase.VISIT, start);
+        }
+    }
+
+    public Tuple2<SingleStatementContext, PredictionStage> parseTree(String sqlText) {
+        ParserComponents parts = components.get();
+        parts.lexer.setInputStream(new CaseInsensitiveBufferStream(sqlText));
+        // a fresh token stream is cheap, and BufferedTokenStream can not be rewound to a new source
+        CommonTokenStream tokens = new CommonTokenStream(parts.lexer);
+        long start = Instrumentation.start();
+        if (start != 0L) {
+            // lex everything up front so that lexing is not folded into the parse timing
+            try {
+                tokens.fill();
+            } finally {
+                Instrumentation.end(Phase.LEX, start);
+            }
+            start = Instrumentation.start();
+        }
+        parts.parser.setTokenStream(tokens);
+        try {
+            return parseTree(parts.parser);
+        } finally {
+            Instrumentation.end(Phase.PARSE, start);
+        }
+    }
+
+    /*
+     * Parses the given statements once so that the lexer and parser DFA
+     * caches, which are shared by all threads, are populated before user
+     * queries arrive. Statements that fail to parse are logged and skipped.
+     */
+    public int warmUp(Iterable<String> corpus) {
+        int parsed = 0;
+        for (String sqlText : corpus) {
+            try {
+                parseWithStage(sqlText);
+                parsed++;
+            } catch (BlkchnException e) {
+                logger.warn("Skipping warm up statement " + sqlText + ": " + e.getMessage());
+            }
+        }
+        return parsed;
+    }
+
+    public Tuple2<SingleStatementContext, PredictionStage> parseTree(BlkchnSqlParser parser) {
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            SingleStatementContext tree = parser.singleStatement();
+            sllCount.incrementAndGet();
+            return new Tuple2<>(tree, PredictionStage.SLL);
+        } catch (ParseCancellationException e) {
+            logger.debug("SLL prediction failed, retrying with full LL prediction");
+        }
+        parser.reset();
+        // the listeners the parser came with see the errors of the LL pass, BlkchnErrorListener then fails the parse
+        for (ANTLRErrorListener listener : listeners) {
+            if (listener != ConsoleErrorListener.INSTANCE && listener != BlkchnErrorListener.INSTANCE) {
+                parser.addErrorListener(listener);
+            }
+        }
+        parser.addErrorListener(BlkchnErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        SingleStatementContext tree = parser.singleStatement();
+        llCount.incrementAndGet();
+        return new Tuple2<>(tree, PredictionStage.LL);
+    }
+
+    public long getSllCount() {
+        return sllCount.get();
+    }
+
+    public long getLlCount() {
+        return llCount.get();
+    }
+
+    public double getFallbackRate() {
+        long sll = sllCount.get();
+        long ll = llCount.get();
+        return sll + ll == 0 ? 0.0 : (double) ll / (sll + ll);
+    }
+
+    public static enum PredictionStage {
+        SLL, LL
+    }
+
+    private static class ParserComponents {
+
+        private final BlkchnSqlLexer lexer;
+
+        private final BlkchnSqlParser parser;
+
+        private final BlockchainVisitor visitor = new BlockchainVisitor();
+
+        private ParserComponents() {
+            lexer = new BlkchnSqlLexer(null);
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(BlkchnErrorListener.INSTANCE);
+            parser = new BlkchnSqlParser(null);
+        }
+    }
+}
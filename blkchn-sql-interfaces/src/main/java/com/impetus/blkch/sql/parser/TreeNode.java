@@ -16,8 +16,14 @@
 package com.impetus.blkch.sql.parser;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,20 +38,50 @@ public class TreeNode implements Cloneable, Serializable {
 
     private static final Logger logger = LoggerFactory.getLogger(TreeNode.class);
 
+    public static final int MAX_DESCRIPTION_LENGTH = 256;
+
+    // classes whose clone is the one of this class, and can therefore be deep copied without recursion
+    private static final ClassValue<Boolean> PLAIN_CLONE = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("clone").getDeclaringClass() == TreeNode.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private List<TreeNode> childNodes = new ArrayList<TreeNode>();
 
+    // the read-only view getChildNodes returns, so the children only change through the mutators below
+    private transient List<TreeNode> childNodesView;
+
     private TreeNode parent = null;
 
     private boolean isRootNode = false;
 
     private String description;
 
+    /*
+     * Children matching each class asked for in getChildType and hasChildType,
+     * and the structural hash. Both are built lazily and dropped whenever the
+     * children or description change; the hash of the ancestors is dropped as
+     * well. That only reaches ancestors through parent links, so the hash is
+     * kept only by nodes that own their whole subtree, see hashCode.
+     */
+    private transient volatile Map<Class<?>, List<TreeNode>> childIndex;
+
+    private transient int hash;
+
     public String getDescription() {
         return description;
     }
 
     public void setDescription(String description) {
         this.description = description;
+        nodeChanged();
     }
 
     public TreeNode(String description) {
@@ -55,6 +91,17 @@ public class TreeNode implements Cloneable, Serializable {
     public void addChildNode(TreeNode child) {
         this.childNodes.add(child);
         child.setParent(this);
+        nodeChanged();
+    }
+
+    /*
+     * Adds a child that also belongs to another tree. The child keeps its
+     * parent, which lets trees that are no longer modified, such as the pages
+     * of a physical plan, reference the same subtrees instead of copying them.
+     */
+    public void addSharedChildNode(TreeNode child) {
+        this.childNodes.add(child);
+        nodeChanged();
     }
 
     public TreeNode setChildNode(TreeNode child, int i) {
@@ -69,11 +116,43 @@ public class TreeNode implements Cloneable, Serializable {
     }
 
     public List<TreeNode> getChildNodes() {
-        return childNodes;
+        List<TreeNode> view = childNodesView;
+        if (view == null) {
+            view = Collections.unmodifiableList(childNodes);
+            childNodesView = view;
+        }
+        return view;
     }
 
     public void setChildNodes(List<TreeNode> childNodes) {
-        this.childNodes = childNodes;
+        this.childNodes = new ArrayList<>(childNodes);
+        childNodesView = null;
+        nodeChanged();
+    }
+
+    private void nodeChanged() {
+        childIndex = null;
+        for (TreeNode node = this; node != null; node = node.parent) {
+            node.hash = 0;
+        }
+    }
+
+    private List<TreeNode> getIndexedChildren(Class<?> clazz) {
+        Map<Class<?>, List<TreeNode>> index = childIndex;
+        List<TreeNode> children = index == null ? null : index.get(clazz);
+        if (children == null) {
+            children = new ArrayList<>();
+            for (TreeNode child : childNodes) {
+                if (child.getClass().isAssignableFrom(clazz)) {
+                    children.add(child);
+                }
+            }
+            // copy on write, so that readers on other threads never see a map being filled
+            Map<Class<?>, List<TreeNode>> newIndex = index == null ? new HashMap<>(4) : new HashMap<>(index);
+            newIndex.put(clazz, children);
+            childIndex = newIndex;
+        }
+        return children;
     }
 
     public TreeNode getParent() {
@@ -101,6 +180,9 @@ public class TreeNode implements Cloneable, Serializable {
     }
 
     private void traverseDepthFirst(TreeNode node, int level) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
         logger.debug(addspace(level * 2, node.getDescription()));
         for (TreeNode childNode : node.getChildNodes()) {
             traverseDepthFirst(childNode, level + 1);
@@ -111,6 +193,29 @@ public class TreeNode implements Cloneable, Serializable {
         return this.getDescription();
     }
 
+    /*
+     * Describes a collection held by a node, such as the keys of a DataNode.
+     * Items are only stringified until the text reaches MAX_DESCRIPTION_LENGTH,
+     * the rest is summarised by its count, so nodes holding millions of keys
+     * cost no more to print than small ones.
+     */
+    protected static String describeItems(String prefix, Collection<?> items, String separator) {
+        StringBuilder sb = new StringBuilder(prefix).append('[');
+        int count = 0;
+        for (Object item : items) {
+            if (count > 0) {
+                sb.append(separator);
+            }
+            if (sb.length() >= MAX_DESCRIPTION_LENGTH) {
+                sb.append("...").append(items.size() - count).append(" more");
+                break;
+            }
+            sb.append(item);
+            count++;
+        }
+        return sb.append(']').toString();
+    }
+
     private String addspace(int i, String str) {
         StringBuilder str1 = new StringBuilder();
         for (int j = 0; j < i; j++) {
@@ -121,35 +226,18 @@ public class TreeNode implements Cloneable, Serializable {
     }
 
     public boolean hasChildType(Class<? extends TreeNode> clazz) {
-        for (TreeNode child : childNodes) {
-            if (child.getClass().isAssignableFrom(clazz)) {
-                return true;
-            }
-        }
-        return false;
+        return !getIndexedChildren(clazz).isEmpty();
     }
 
+    @SuppressWarnings("unchecked")
     public <T extends TreeNode> List<T> getChildType(Class<T> clazz) {
-        List<T> children = new ArrayList<>();
-        for (TreeNode child : childNodes) {
-            if (child.getClass().isAssignableFrom(clazz)) {
-                children.add((T) child);
-            }
-        }
-        return children;
+        return new ArrayList<>((List<T>) getIndexedChildren(clazz));
     }
 
+    @SuppressWarnings("unchecked")
     public <T extends TreeNode> T getChildType(Class<T> clazz, int index) {
-        int i = -1;
-        for (TreeNode child : childNodes) {
-            if (child.getClass().isAssignableFrom(clazz)) {
-                i++;
-                if (i == index) {
-                    return (T) child;
-                }
-            }
-        }
-        return null;
+        List<TreeNode> children = getIndexedChildren(clazz);
+        return index >= 0 && index < children.size() ? (T) children.get(index) : null;
     }
 
     @Override
@@ -165,11 +253,11 @@ public class TreeNode implements Cloneable, Serializable {
         if ((this.description == null) ? (other.description != null) : !this.description.equals(other.description)) {
             return false;
         }
-        if (this.getChildNodes().size() != other.getChildNodes().size()) {
+        if (this.childNodes.size() != other.childNodes.size()) {
             return false;
         }
-        for (int i = 0; i < this.getChildNodes().size(); i++) {
-            if (!this.getChildNode(i).equals(other.getChildNode(i))) {
+        for (int i = 0; i < this.childNodes.size(); i++) {
+            if (!this.childNodes.get(i).equals(other.childNodes.get(i))) {
                 return false;
             }
         }
@@ -178,41 +266,98 @@ public class TreeNode implements Cloneable, Serializable {
 
     @Override
     public int hashCode() {
-        return hashWithDepth(0);
-    }
-
-    private int hashWithDepth(int level) {
-        int hash = 3;
-        hash = 53 * (hash + (this.description != null ? this.description.hashCode() : 0)) * (level + 1);
-        for (int i = 0; i < this.getChildNodes().size(); i++) {
-            hash += this.getChildNode(i).hashWithDepth(level + 1) * (i + 1);
+        int h = hash;
+        if (h == 0) {
+            h = 53 * (3 + (this.description != null ? this.description.hashCode() : 0));
+            /*
+             * A change below a shared child, or in a node hashing fields of its
+             * own, never reaches this node through nodeChanged, so the hash is
+             * only kept when every child is owned and keeps its hash as well.
+             */
+            boolean owned = true;
+            for (TreeNode child : childNodes) {
+                // the child weight keeps nodes swapped between levels from hashing alike
+                h = 31 * h + 37 * child.hashCode();
+                owned &= child.parent == this && child.hash != 0;
+            }
+            if (owned) {
+                hash = h;
+            }
         }
-        return hash;
+        return h;
     }
 
     private TreeNode setPlaceHolderNode(TreeNode child, int i) {
         if (i < childNodes.size() && (child instanceof Placeholder || child instanceof IdentifierNode)) {
             this.childNodes.set(i, child);
+            nodeChanged();
             return child;
         }
         throw new BlkchnException("Index out of Bounds " + i);
     }
 
+    /*
+     * Deep copy. Descendants that do not override clone are copied with an
+     * explicit stack rather than by recursion, so that a logical plan for a
+     * predicate with thousands of terms can be copied as well.
+     */
     @Override
     public Object clone() {
-        TreeNode root;
+        TreeNode root = copyNode();
+        Deque<TreeNode> originals = new ArrayDeque<>();
+        Deque<TreeNode> copies = new ArrayDeque<>();
+        originals.push(this);
+        copies.push(root);
+        while (!originals.isEmpty()) {
+            TreeNode original = originals.pop();
+            TreeNode copy = copies.pop();
+            for (TreeNode child : original.childNodes) {
+                TreeNode newChild;
+                if (PLAIN_CLONE.get(child.getClass())) {
+                    newChild = child.copyNode();
+                    originals.push(child);
+                    copies.push(newChild);
+                } else {
+                    newChild = (TreeNode) child.clone();
+                }
+                // the copy is not reachable yet, so there are no cached hashes to drop
+                copy.childNodes.add(newChild);
+                newChild.parent = copy;
+            }
+        }
+        return root;
+    }
+
+    private TreeNode copyNode() {
+        TreeNode copy;
         try {
-            root = (TreeNode) super.clone();
+            copy = (TreeNode) super.clone();
         } catch (CloneNotSupportedException e) {
             throw new BlkchnException("Cannot perform clone of " + this.getClass().getName() + " class", e);
         }
-        root.parent = null;
-        root.childNodes = new ArrayList<>();
-        for (TreeNode child : childNodes) {
-            TreeNode newChild = (TreeNode) child.clone();
-            root.addChildNode(newChild);
-            newChild.setParent(root);
+        copy.parent = null;
+        copy.childIndex = null;
+        copy.hash = 0;
+        copy.childNodes = new ArrayList<>(childNodes.size());
+        copy.childNodesView = null;
+        return copy;
+    }
+
+    /*
+     * Shallow copy of this node with the given children, for rewrites that
+     * replace some children and keep the rest of the tree. Children that
+     * already have a parent are shared rather than reparented, and the fields
+     * of subclasses are shared with this node.
+     */
+    public TreeNode withChildNodes(List<TreeNode> children) {
+        TreeNode copy = copyNode();
+        for (TreeNode child : children) {
+            if (child.getParent() == null) {
+                copy.addChildNode(child);
+            } else {
+                copy.addSharedChildNode(child);
+            }
         }
-        return root;
+        return copy;
     }
 }
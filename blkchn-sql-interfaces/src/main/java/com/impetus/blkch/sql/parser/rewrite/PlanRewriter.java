@@ -0,0 +1,93 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser.rewrite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.impetus.blkch.sql.parser.TreeNode;
+
+/*
+ * Runs rule batches over a tree. Each pass visits the tree bottom up and
+ * applies the rules of the batch at every node once its children have been
+ * rewritten. A node whose children changed is copied with
+ * TreeNode.withChildNodes, so the input tree is never modified and unchanged
+ * subtrees are shared with the result. A batch is repeated until a pass
+ * returns the same root or its iteration limit is reached.
+ */
+public class PlanRewriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlanRewriter.class);
+
+    private final List<RuleBatch> batches;
+
+    public PlanRewriter(RuleBatch... batches) {
+        this(Arrays.asList(batches));
+    }
+
+    public PlanRewriter(List<RuleBatch> batches) {
+        this.batches = Collections.unmodifiableList(new ArrayList<>(batches));
+    }
+
+    public List<RuleBatch> getBatches() {
+        return batches;
+    }
+
+    public TreeNode rewrite(TreeNode node) {
+        TreeNode current = node;
+        for (RuleBatch batch : batches) {
+            int iteration = 0;
+            while (iteration < batch.getMaxIterations()) {
+                iteration++;
+                TreeNode next = transformUp(current, batch);
+                if (next == current) {
+                    break;
+                }
+                current = next;
+                if (iteration == batch.getMaxIterations() && batch.getMaxIterations() != RuleBatch.ONCE) {
+                    logger.warn("Rule batch " + batch.getName() + " did not reach a fixpoint in " + iteration
+                            + " iterations");
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Rule batch " + batch.getName() + " ran " + iteration + " iteration(s)");
+            }
+        }
+        return current;
+    }
+
+    private TreeNode transformUp(TreeNode node, RuleBatch batch) {
+        List<TreeNode> children = node.getChildNodes();
+        List<TreeNode> newChildren = null;
+        for (int i = 0; i < children.size(); i++) {
+            TreeNode child = children.get(i);
+            TreeNode newChild = transformUp(child, batch);
+            if (newChild != child && newChildren == null) {
+                newChildren = new ArrayList<>(children.subList(0, i));
+            }
+            if (newChildren != null) {
+                newChildren.add(newChild);
+            }
+        }
+        TreeNode current = newChildren == null ? node : node.withChildNodes(newChildren);
+        return batch.applyAt(current);
+    }
+}
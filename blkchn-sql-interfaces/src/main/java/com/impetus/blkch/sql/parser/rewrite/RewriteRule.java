@@ -0,0 +1,82 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser.rewrite;
+
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+
+/*
+ * A single local rewrite. apply returns the replacement of the node, or the
+ * very same node when the rule does not match; PlanRewriter relies on that
+ * identity to detect the fixpoint, so a rule must never return an equal copy
+ * of a node it did not change.
+ */
+@FunctionalInterface
+public interface RewriteRule {
+
+    TreeNode apply(TreeNode node);
+
+    /*
+     * Matches a logical operation with the given operator, or any operator
+     * when it is null, whose two children are of the given types.
+     */
+    static <L extends TreeNode, R extends TreeNode> RewriteRule binary(Operator operator, Class<L> leftType,
+            Class<R> rightType, BinaryRewrite<L, R> rewrite) {
+        return node -> {
+            if (!matches(node, operator)) {
+                return node;
+            }
+            TreeNode left = node.getChildNode(0);
+            TreeNode right = node.getChildNode(1);
+            if (leftType.isInstance(left) && rightType.isInstance(right)) {
+                TreeNode result = rewrite.apply((LogicalOperation) node, leftType.cast(left), rightType.cast(right));
+                return result == null ? node : result;
+            }
+            return node;
+        };
+    }
+
+    /*
+     * Like binary, but also matches the children in the opposite order. The
+     * rewrite always gets them in the declared order.
+     */
+    static <L extends TreeNode, R extends TreeNode> RewriteRule commutative(Operator operator, Class<L> leftType,
+            Class<R> rightType, BinaryRewrite<L, R> rewrite) {
+        RewriteRule inOrder = binary(operator, leftType, rightType, rewrite);
+        RewriteRule swapped = binary(operator, rightType, leftType,
+                (logicalOperation, right, left) -> rewrite.apply(logicalOperation, left, right));
+        return node -> {
+            TreeNode result = inOrder.apply(node);
+            return result != node ? result : swapped.apply(node);
+        };
+    }
+
+    static boolean matches(TreeNode node, Operator operator) {
+        if (!(node instanceof LogicalOperation) || node.getChildNodes().size() != 2) {
+            return false;
+        }
+        LogicalOperation logicalOperation = (LogicalOperation) node;
+        return operator == null || logicalOperation.getOperation() == operator;
+    }
+
+    @FunctionalInterface
+    interface BinaryRewrite<L extends TreeNode, R extends TreeNode> {
+
+        // returning null leaves the operation unchanged
+        TreeNode apply(LogicalOperation logicalOperation, L left, R right);
+    }
+}
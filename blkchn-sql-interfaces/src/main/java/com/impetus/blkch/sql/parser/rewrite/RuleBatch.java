@@ -0,0 +1,87 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser.rewrite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.TreeNode;
+
+/*
+ * Rules that are run together, either once or repeatedly until the tree
+ * stops changing. maxIterations bounds a fixpoint batch whose rules keep
+ * rewriting each other's output.
+ */
+public final class RuleBatch {
+
+    public static final int ONCE = 1;
+
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private final String name;
+
+    private final int maxIterations;
+
+    private final List<RewriteRule> rules;
+
+    public RuleBatch(String name, int maxIterations, RewriteRule... rules) {
+        this(name, maxIterations, Arrays.asList(rules));
+    }
+
+    public RuleBatch(String name, int maxIterations, List<RewriteRule> rules) {
+        if (maxIterations <= 0) {
+            throw new BlkchnException("Rule batch " + name + " should run at least once");
+        }
+        this.name = name;
+        this.maxIterations = maxIterations;
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    public static RuleBatch fixedPoint(String name, RewriteRule... rules) {
+        return new RuleBatch(name, DEFAULT_MAX_ITERATIONS, rules);
+    }
+
+    public static RuleBatch once(String name, RewriteRule... rules) {
+        return new RuleBatch(name, ONCE, rules);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public List<RewriteRule> getRules() {
+        return rules;
+    }
+
+    /*
+     * Applies the rules in order to this node alone, for callers that build a
+     * tree bottom up and have already rewritten the children.
+     */
+    public TreeNode applyAt(TreeNode node) {
+        TreeNode current = node;
+        for (RewriteRule rule : rules) {
+            current = rule.apply(current);
+        }
+        return current;
+    }
+}
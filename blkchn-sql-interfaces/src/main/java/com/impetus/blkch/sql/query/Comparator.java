@@ -28,6 +28,10 @@ public class Comparator extends TreeNode {
         this.op = op;
     }
 
+    public ComparisionOperator getOperator() {
+        return op;
+    }
+
     public boolean isEQ() {
         return this.op == ComparisionOperator.EQ;
     }
@@ -62,6 +66,10 @@ public class Comparator extends TreeNode {
             this.opValue = val;
         }
 
+        public String getOpValue() {
+            return opValue;
+        }
+
         public static ComparisionOperator getOp(String val) {
             for (ComparisionOperator op : ComparisionOperator.values()) {
                 if (op.opValue.equals(val)) {
@@ -29,7 +29,8 @@ public class DataNode<T> extends TreeNode {
     private List<T> keys;
 
     public DataNode(String table, List<T> keys) {
-        super(DESCRIPTION + ":" + table + "," + keys);
+        // the keys are only stringified when the description is asked for
+        super(DESCRIPTION + ":" + table);
         this.table = table;
         this.keys = keys;
     }
@@ -42,6 +43,11 @@ public class DataNode<T> extends TreeNode {
         return table;
     }
 
+    @Override
+    public String getDescription() {
+        return describeItems(super.getDescription() + ",", keys, ", ");
+    }
+
     @Override
     public boolean equals(Object obj) {
         if(!(obj instanceof DataNode<?>)) {
@@ -0,0 +1,86 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.impetus.blkch.sql.parser.TreeNode;
+
+/*
+ * Several direct API lookups on the same column, from "col IN (...)" or a
+ * chain of "col = x OR col = y", resolved with one batched call instead of
+ * one call per value.
+ */
+public class DirectAPIListNode extends TreeNode {
+
+    public static final String DESCRIPTION = "DirectAPIListNode";
+
+    private String table;
+
+    private String column;
+
+    private List<String> values;
+
+    public DirectAPIListNode(String table, String column, List<String> values) {
+        super(DESCRIPTION + ":" + table + "." + column);
+        this.table = table;
+        this.column = column;
+        this.values = values;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    @Override
+    public String getDescription() {
+        return describeItems(super.getDescription() + " IN ", values, ", ");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof DirectAPIListNode)) {
+            return false;
+        }
+        return super.equals(obj) && this.values.equals(((DirectAPIListNode) obj).values);
+    }
+
+    @Override
+    public int hashCode() {
+        int prime = 31;
+        int hashCode = 1;
+        hashCode = prime * hashCode + table.hashCode();
+        hashCode = prime * hashCode + column.hashCode();
+        hashCode = prime * hashCode + values.hashCode();
+        return hashCode;
+    }
+
+    @Override
+    public Object clone() {
+        DirectAPIListNode root = (DirectAPIListNode) super.clone();
+        root.values = new ArrayList<>(this.values);
+        return root;
+    }
+}
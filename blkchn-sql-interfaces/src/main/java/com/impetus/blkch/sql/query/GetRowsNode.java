@@ -28,6 +28,10 @@ public class GetRowsNode extends TreeNode {
         this.numRows = numRows;
     }
 
+    public NumRows getNumRows() {
+        return numRows;
+    }
+
     public boolean isNone() {
         return numRows == NumRows.NONE;
     }
@@ -23,6 +23,7 @@ public class IdentifierNode extends TreeNode {
 
     private String value;
     private IdentType type;
+    private Object typedValue;
 
     public IdentifierNode(String value) {
         super(DESCRIPTION + ":" + value);
@@ -35,6 +36,19 @@ public class IdentifierNode extends TreeNode {
         this.type = type;
     }
 
+    /*
+     * For values bound from Java objects, which keep the original object next
+     * to its string form so that consumers do not have to parse it back.
+     */
+    public IdentifierNode(String value, IdentType type, Object typedValue) {
+        this(value, type);
+        this.typedValue = typedValue;
+    }
+
+    public Object getTypedValue() {
+        return typedValue == null ? value : typedValue;
+    }
+
     public String getValue() {
         return value;
     }
@@ -28,6 +28,10 @@ public class LogicalOperation extends TreeNode {
         this.operation = operation;
     }
 
+    public Operator getOperation() {
+        return operation;
+    }
+
     public boolean isAnd() {
         return operation == Operator.AND;
     }
@@ -28,6 +28,10 @@ public class OrderingDirection extends TreeNode {
         this.direction = direction;
     }
 
+    public Direction getDirection() {
+        return direction;
+    }
+
     public boolean isAsc() {
         return direction == Direction.ASC;
     }
@@ -28,6 +28,10 @@ public class QuantifierNode extends TreeNode {
         this.quantifier = quantifier;
     }
 
+    public Quantifier getQuantifier() {
+        return quantifier;
+    }
+
     public boolean isDistinct() {
         return quantifier == Quantifier.DISTINCT;
     }
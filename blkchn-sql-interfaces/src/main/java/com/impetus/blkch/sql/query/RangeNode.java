@@ -16,6 +16,7 @@
 package com.impetus.blkch.sql.query;
 
 import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.util.CompositeKey;
 import com.impetus.blkch.util.Range;
 import com.impetus.blkch.util.RangeList;
 
@@ -46,6 +47,11 @@ public class RangeNode<T extends Number & Comparable<T>> extends TreeNode {
     public String getColumn() {
         return column;
     }
+
+    // whether the node is on a prefix of a composite key, see SchemaCatalog.getCompositeRangeCols
+    public boolean isComposite() {
+        return column.contains(CompositeKey.COLUMN_SEPARATOR);
+    }
     
     public void setRangeList(RangeList<T> rangeList) {
         this.rangeList = rangeList;
@@ -76,15 +82,7 @@ public class RangeNode<T extends Number & Comparable<T>> extends TreeNode {
     
     @Override
     public String getDescription() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(super.getDescription() + ":[");
-        for(Range<T> range : rangeList.getRanges()) {
-            sb.append("[" + range.getMin() + "-" + range.getMax() + "]");
-            sb.append(",");
-        }
-        sb.deleteCharAt(sb.length() - 1);
-        sb.append("]");
-        return sb.toString();
+        return describeItems(super.getDescription() + ":", rangeList.getRanges(), ",");
     }
     
     @Override
@@ -24,6 +24,17 @@ public class BigIntegerRangeOperations extends RangeOperations<BigInteger> {
         return new BigInteger(valueString);
     }
 
+    @Override
+    public BigInteger getValue(Number number) {
+        if (number instanceof BigInteger) {
+            return (BigInteger) number;
+        } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+                || number instanceof Byte) {
+            return BigInteger.valueOf(number.longValue());
+        }
+        return null;
+    }
+
     @Override
     public BigInteger getMinValue() {
         return new BigInteger("0");
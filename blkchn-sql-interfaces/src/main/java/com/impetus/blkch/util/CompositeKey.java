@@ -0,0 +1,149 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * A value of a composite range key: one component per key column, most
+ * significant first, compared lexicographically. It is a Number so that it
+ * fits Range and RangeNode; the Number conversions return those of the
+ * leading component.
+ */
+public final class CompositeKey extends Number implements Comparable<CompositeKey> {
+
+    private static final long serialVersionUID = 1L;
+
+    // separates the columns in the column name of a range node on a composite key
+    public static final String COLUMN_SEPARATOR = ",";
+
+    private final Number[] components;
+
+    public CompositeKey(Number... components) {
+        if (components.length == 0) {
+            throw new IllegalArgumentException("A composite key needs at least one component");
+        }
+        this.components = components.clone();
+    }
+
+    public CompositeKey(List<? extends Number> components) {
+        this(components.toArray(new Number[components.size()]));
+    }
+
+    public static String columnName(List<String> columns) {
+        return String.join(COLUMN_SEPARATOR, columns);
+    }
+
+    public static List<String> columns(String columnName) {
+        return columnName.contains(COLUMN_SEPARATOR) ? Arrays.asList(columnName.split(COLUMN_SEPARATOR))
+                : Collections.singletonList(columnName);
+    }
+
+    public int size() {
+        return components.length;
+    }
+
+    public Number getComponent(int i) {
+        return components[i];
+    }
+
+    public List<Number> getComponents() {
+        return Collections.unmodifiableList(Arrays.asList(components));
+    }
+
+    // the key with the given component in place of the i-th one
+    public CompositeKey withComponent(int i, Number component) {
+        Number[] copy = components.clone();
+        copy[i] = component;
+        return new CompositeKey(copy);
+    }
+
+    /*
+     * Values between this key and the given greater one on the first
+     * component the two differ in, or one when they are equal. For ranges
+     * on a fixed prefix, as CompositeRangeOperations builds them, this is
+     * the width of the range on the last column.
+     */
+    public BigInteger leadingWidth(CompositeKey max) {
+        for (int i = 0; i < components.length; i++) {
+            BigInteger from = new BigInteger(components[i].toString());
+            BigInteger to = new BigInteger(max.components[i].toString());
+            if (!from.equals(to)) {
+                return to.subtract(from).add(BigInteger.ONE);
+            }
+        }
+        return BigInteger.ONE;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public int compareTo(CompositeKey other) {
+        int length = Math.min(components.length, other.components.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = ((Comparable) components[i]).compareTo(other.components[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(components.length, other.components.length);
+    }
+
+    @Override
+    public int intValue() {
+        return components[0].intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return components[0].longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return components[0].floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return components[0].doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CompositeKey)) {
+            return false;
+        }
+        return Arrays.equals(components, ((CompositeKey) obj).components);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(components);
+    }
+
+    @Override
+    public String toString() {
+        List<String> values = new ArrayList<>(components.length);
+        for (Number component : components) {
+            values.add(String.valueOf(component));
+        }
+        return "(" + String.join(COLUMN_SEPARATOR, values) + ")";
+    }
+}
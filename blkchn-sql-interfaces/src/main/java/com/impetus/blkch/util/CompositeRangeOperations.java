@@ -0,0 +1,290 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.RangeNode;
+
+/*
+ * Range operations on CompositeKey values of a key made of several range
+ * columns, most significant first, e.g. the block number and the index of a
+ * transaction. The ranges of such a key are ordered lexicographically, so
+ * "blocknumber = 100 and txindex >= 5 and txindex <= 9" is the single range
+ * [(100,5)-(100,9)], which a driver can fetch without reading any other
+ * transaction of the block.
+ *
+ * The operations of the component columns bound each component, and the
+ * successor of a key carries into the previous component like a counter.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class CompositeRangeOperations extends RangeOperations<CompositeKey> {
+
+    // combinations of leading values combine enumerates at most, more leave the ranges separate
+    public static final int MAX_PREFIX_VALUES = 1024;
+
+    private final List<String> columns;
+
+    private final List<RangeOperations<?>> componentOperations;
+
+    public CompositeRangeOperations(List<String> columns, List<RangeOperations<?>> componentOperations) {
+        if (columns.size() < 2 || columns.size() != componentOperations.size()) {
+            throw new BlkchnException("A composite key needs range operations for each of at least two columns");
+        }
+        this.columns = new ArrayList<>(columns);
+        this.componentOperations = new ArrayList<>(componentOperations);
+    }
+
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    public String getColumnName() {
+        return CompositeKey.columnName(columns);
+    }
+
+    @Override
+    public CompositeKey getValue(String valueString) {
+        String values = valueString.trim();
+        if (values.startsWith("(") && values.endsWith(")")) {
+            values = values.substring(1, values.length() - 1);
+        }
+        String[] parts = values.split(CompositeKey.COLUMN_SEPARATOR);
+        if (parts.length != columns.size()) {
+            throw new BlkchnException("Value " + valueString + " does not have a component for each of the columns "
+                    + columns);
+        }
+        Number[] components = new Number[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            components[i] = componentOperations.get(i).getValue(parts[i].trim());
+        }
+        return new CompositeKey(components);
+    }
+
+    @Override
+    public CompositeKey getValue(Number number) {
+        return number instanceof CompositeKey && ((CompositeKey) number).size() == columns.size()
+                ? (CompositeKey) number : null;
+    }
+
+    @Override
+    public CompositeKey getMinValue() {
+        Number[] components = new Number[columns.size()];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = componentOperations.get(i).getMinValue();
+        }
+        return new CompositeKey(components);
+    }
+
+    @Override
+    public CompositeKey getMaxValue() {
+        Number[] components = new Number[columns.size()];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = componentOperations.get(i).getMaxValue();
+        }
+        return new CompositeKey(components);
+    }
+
+    @Override
+    public CompositeKey add(CompositeKey value, int step) {
+        CompositeKey result = value;
+        for (int i = 0; i < step; i++) {
+            result = next(result);
+        }
+        return result;
+    }
+
+    @Override
+    public CompositeKey subtract(CompositeKey value, int step) {
+        CompositeKey result = value;
+        for (int i = 0; i < step; i++) {
+            result = previous(result);
+        }
+        return result;
+    }
+
+    private CompositeKey next(CompositeKey value) {
+        CompositeKey result = value;
+        for (int i = columns.size() - 1; i >= 0; i--) {
+            RangeOperations ops = componentOperations.get(i);
+            Comparable component = (Comparable) result.getComponent(i);
+            if (component.compareTo(ops.getMaxValue()) < 0) {
+                return result.withComponent(i, (Number) ops.add((Number) component, 1));
+            }
+            result = result.withComponent(i, (Number) ops.getMinValue());
+        }
+        throw new BlkchnException("Value " + value + " is the greatest value of the columns " + columns);
+    }
+
+    private CompositeKey previous(CompositeKey value) {
+        CompositeKey result = value;
+        for (int i = columns.size() - 1; i >= 0; i--) {
+            RangeOperations ops = componentOperations.get(i);
+            Comparable component = (Comparable) result.getComponent(i);
+            if (component.compareTo(ops.getMinValue()) > 0) {
+                return result.withComponent(i, (Number) ops.subtract((Number) component, 1));
+            }
+            result = result.withComponent(i, (Number) ops.getMaxValue());
+        }
+        throw new BlkchnException("Value " + value + " is the least value of the columns " + columns);
+    }
+
+    @Override
+    protected BigInteger width(CompositeKey min, CompositeKey max) {
+        return rank(max).subtract(rank(min)).add(BigInteger.ONE);
+    }
+
+    // position of the key among all keys of the columns, the components being the digits of a mixed radix number
+    private BigInteger rank(CompositeKey key) {
+        BigInteger rank = BigInteger.ZERO;
+        for (int i = 0; i < columns.size(); i++) {
+            RangeOperations ops = componentOperations.get(i);
+            BigInteger min = toBigInteger(ops.getMinValue());
+            BigInteger radix = toBigInteger(ops.getMaxValue()).subtract(min).add(BigInteger.ONE);
+            rank = rank.multiply(radix).add(toBigInteger(key.getComponent(i)).subtract(min));
+        }
+        return rank;
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        return new BigInteger(value.toString());
+    }
+
+    /*
+     * Combines the ranges of an AND on the leading columns of the key into
+     * one range node on the longest prefix they cover. Every column but the
+     * last of the prefix needs ranges of few enough values to enumerate them,
+     * the last one adds its ranges to each combination of those values, so
+     * the combined ranges allow exactly the rows the separate ranges do.
+     * Returns null when fewer than two columns can be combined.
+     */
+    public RangeNode<CompositeKey> combine(String table, Map<String, RangeNode<?>> rangesByColumn) {
+        RangeNode<?> last = rangesByColumn.get(columns.get(0));
+        if (last == null) {
+            return null;
+        }
+        List<List<Comparable>> prefixes = Collections.singletonList(Collections.emptyList());
+        int lastColumn = 0;
+        for (int i = 1; i < columns.size(); i++) {
+            RangeNode<?> next = rangesByColumn.get(columns.get(i));
+            if (next == null) {
+                break;
+            }
+            List<Comparable> values = enumerate(componentOperations.get(i - 1), last,
+                    MAX_PREFIX_VALUES / Math.max(1, prefixes.size()));
+            if (values == null) {
+                break;
+            }
+            List<List<Comparable>> extended = new ArrayList<>(prefixes.size() * values.size());
+            for (List<Comparable> prefix : prefixes) {
+                for (Comparable value : values) {
+                    List<Comparable> components = new ArrayList<>(prefix);
+                    components.add(value);
+                    extended.add(components);
+                }
+            }
+            prefixes = extended;
+            last = next;
+            lastColumn = i;
+        }
+        if (lastColumn == 0) {
+            return null;
+        }
+        RangeNode<CompositeKey> rangeNode = new RangeNode<>(table,
+                CompositeKey.columnName(columns.subList(0, lastColumn + 1)));
+        List<Range> lastRanges = sorted(componentOperations.get(lastColumn), last);
+        for (List<Comparable> prefix : prefixes) {
+            for (Range range : lastRanges) {
+                rangeNode.getRangeList().addRange(
+                        new Range<>(createKey(prefix, range.getMin()), createKey(prefix, range.getMax())));
+            }
+        }
+        return rangeNode;
+    }
+
+    /*
+     * The range on the leading column that contains the ranges of a node on
+     * a prefix of the key, for callers that only work with single columns.
+     */
+    public RangeNode<?> getLeadingRange(RangeNode<?> rangeNode) {
+        RangeNode leading = new RangeNode<>(rangeNode.getTable(), columns.get(0));
+        for (Range<?> range : rangeNode.getRangeList().getRanges()) {
+            leading.getRangeList().addRange(new Range(((CompositeKey) range.getMin()).getComponent(0),
+                    ((CompositeKey) range.getMax()).getComponent(0)));
+        }
+        return sortedNode(componentOperations.get(0), leading);
+    }
+
+    /*
+     * The reverse of getLeadingRange: the keys whose leading column lies in
+     * the ranges of a node on that column, e.g. to intersect a page of block
+     * numbers with a range on the block number and the index of a transaction.
+     */
+    public RangeNode<CompositeKey> getKeyRange(RangeNode<?> leadingRange) {
+        RangeNode<CompositeKey> rangeNode = new RangeNode<>(leadingRange.getTable(), getColumnName());
+        CompositeKey min = getMinValue();
+        CompositeKey max = getMaxValue();
+        for (Range<?> range : leadingRange.getRangeList().getRanges()) {
+            rangeNode.getRangeList().addRange(new Range<>(min.withComponent(0, (Number) range.getMin()),
+                    max.withComponent(0, (Number) range.getMax())));
+        }
+        return rangeNode;
+    }
+
+    private static CompositeKey createKey(List<Comparable> prefix, Object last) {
+        Number[] components = new Number[prefix.size() + 1];
+        for (int i = 0; i < prefix.size(); i++) {
+            components[i] = (Number) prefix.get(i);
+        }
+        components[prefix.size()] = (Number) last;
+        return new CompositeKey(components);
+    }
+
+    // the distinct values of the ranges in order, null when there are more than the limit
+    private static List<Comparable> enumerate(RangeOperations ops, RangeNode<?> rangeNode, long limit) {
+        if (ops.countValues(rangeNode) > limit) {
+            return null;
+        }
+        TreeSet<Comparable> values = new TreeSet<>();
+        for (Range range : sorted(ops, rangeNode)) {
+            Comparable value = (Comparable) range.getMin();
+            values.add(value);
+            // stepping stops at the bound itself, so the greatest value of a column never overflows
+            while (!value.equals(range.getMax())) {
+                value = (Comparable) ops.add((Number) value, 1);
+                values.add(value);
+            }
+        }
+        return new ArrayList<>(values);
+    }
+
+    private static List<Range> sorted(RangeOperations ops, RangeNode<?> rangeNode) {
+        return (List) sortedNode(ops, rangeNode).getRangeList().getRanges();
+    }
+
+    // the n-ary AND of a single node sorts its ranges and merges the overlapping ones
+    private static RangeNode<?> sortedNode(RangeOperations ops, RangeNode<?> rangeNode) {
+        return ops.processRangeNodes(Collections.singletonList(rangeNode), new LogicalOperation(Operator.AND));
+    }
+}
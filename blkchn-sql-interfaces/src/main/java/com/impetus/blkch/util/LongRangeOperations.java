@@ -22,6 +22,14 @@ public class LongRangeOperations extends RangeOperations<Long> {
         return Long.parseLong(valueString);
     }
 
+    @Override
+    public Long getValue(Number number) {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        return null;
+    }
+
     @Override
     public Long getMinValue() {
         return Long.MIN_VALUE;
@@ -15,6 +15,7 @@
 ******************************************************************************/
 package com.impetus.blkch.util;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -73,9 +74,12 @@ public abstract class RangeOperations<T extends Number & Comparable<T>> {
         String column = columnName == null
                 ? filterItem.getChildType(Column.class, 0).getChildType(IdentifierNode.class, 0).getValue()
                 : columnName;
-        String valueString = filterItem.getChildType(IdentifierNode.class, 0).getValue();
+        IdentifierNode ident = filterItem.getChildType(IdentifierNode.class, 0);
         RangeNode<T> rangeNode = new RangeNode<>(table, column);
-        T value = getValue(valueString.replaceAll("'", ""));
+        T value = ident.getTypedValue() instanceof Number ? getValue((Number) ident.getTypedValue()) : null;
+        if (value == null) {
+            value = getValue(ident.getValue().replaceAll("'", ""));
+        }
         if (value.compareTo(getMinValue()) < 0 || value.compareTo(getMaxValue()) > 0) {
             String errMsg = "Value: " + value + " is not in valid range";
             logger.error(errMsg);
@@ -184,6 +188,102 @@ public abstract class RangeOperations<T extends Number & Comparable<T>> {
         }
     }
 
+    /*
+     * N-ary form of processRangeNodes for the operands of a flattened logical
+     * operation. The ranges are sorted once and merged or intersected in a
+     * single sweep, instead of combining the nodes pair by pair.
+     */
+    @SuppressWarnings("unchecked")
+    public RangeNode<T> processRangeNodes(List<? extends RangeNode<?>> rangeNodes, LogicalOperation logicalOperation) {
+        if (rangeNodes.isEmpty()) {
+            throw new BlkchnException("No range nodes to combine");
+        }
+        RangeNode<T> first = (RangeNode<T>) rangeNodes.get(0);
+        RangeNode<T> resultNode = new RangeNode<>(first.getTable(), first.getColumn());
+        if (logicalOperation.isOr()) {
+            List<Range<T>> ranges = new ArrayList<>();
+            for (RangeNode<?> rangeNode : rangeNodes) {
+                ranges.addAll(((RangeNode<T>) rangeNode).getRangeList().getRanges());
+            }
+            resultNode.getRangeList().addAllRanges(normalize(ranges));
+            return resultNode;
+        }
+        List<Range<T>> ranges = normalize(first.getRangeList().getRanges());
+        for (int i = 1; i < rangeNodes.size() && !ranges.isEmpty(); i++) {
+            ranges = intersect(ranges, normalize(((RangeNode<T>) rangeNodes.get(i)).getRangeList().getRanges()));
+        }
+        resultNode.getRangeList().addAllRanges(ranges);
+        return resultNode;
+    }
+
+    /*
+     * Number of distinct values in the ranges of the node, values of
+     * overlapping ranges counted once. Long.MAX_VALUE when there are more.
+     */
+    @SuppressWarnings("unchecked")
+    public long countValues(RangeNode<?> rangeNode) {
+        BigInteger count = BigInteger.ZERO;
+        for (Range<T> range : normalize(((RangeNode<T>) rangeNode).getRangeList().getRanges())) {
+            count = count.add(width(range.getMin(), range.getMax()).max(BigInteger.ZERO));
+        }
+        return count.bitLength() < Long.SIZE ? count.longValue() : Long.MAX_VALUE;
+    }
+
+    // number of values from min to max, both included
+    protected BigInteger width(T min, T max) {
+        return new BigInteger(max.toString()).subtract(new BigInteger(min.toString())).add(BigInteger.ONE);
+    }
+
+    // sorts by lower bound and merges overlapping ranges, the same ranges processOrList ends up with
+    private List<Range<T>> normalize(List<Range<T>> ranges) {
+        List<Range<T>> sorted = new ArrayList<>(ranges);
+        sorted.sort((r1, r2) -> r1.getMin().compareTo(r2.getMin()));
+        List<Range<T>> merged = new ArrayList<>();
+        Range<T> current = null;
+        for (Range<T> range : sorted) {
+            if (current == null) {
+                current = range;
+            } else if (range.getMin().compareTo(current.getMax()) <= 0) {
+                if (range.getMax().compareTo(current.getMax()) > 0) {
+                    current = new Range<T>(current.getMin(), range.getMax());
+                }
+            } else {
+                merged.add(current);
+                current = range;
+            }
+        }
+        if (current != null) {
+            merged.add(current);
+        }
+        return merged;
+    }
+
+    // both lists sorted and free of overlaps
+    private List<Range<T>> intersect(List<Range<T>> left, List<Range<T>> right) {
+        List<Range<T>> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < left.size() && j < right.size()) {
+            Range<T> r1 = left.get(i);
+            Range<T> r2 = right.get(j);
+            RangeList<T> common = and(r1, r2);
+            if (common != null) {
+                result.addAll(common.getRanges());
+            }
+            if (r1.getMax().compareTo(r2.getMax()) < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // for bound values that are already numbers, null when the number has to be parsed from its string form
+    public T getValue(Number number) {
+        return null;
+    }
+
     public abstract T getValue(String valueString);
 
     public abstract T getMinValue();
@@ -0,0 +1,148 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.util.CompositeKey;
+
+/*
+ * Reading side of CodecOutput.
+ */
+final class CodecInput {
+
+    private final InputStream in;
+
+    private final List<String> strings = new ArrayList<>();
+
+    CodecInput(InputStream in) {
+        this.in = in;
+    }
+
+    int readByte() throws IOException {
+        int value = in.read();
+        if (value < 0) {
+            throw new EOFException();
+        }
+        return value;
+    }
+
+    boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BlkchnException("Malformed variable length integer in encoded plan");
+    }
+
+    long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        int offset = 0;
+        while (offset < bytes.length) {
+            int read = in.read(bytes, offset, bytes.length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    String readString() throws IOException {
+        int index = readVarInt();
+        if (index == 0) {
+            return null;
+        }
+        if (index == 1) {
+            String value = new String(readBytes(), StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+        if (index - 2 >= strings.size()) {
+            throw new BlkchnException("Malformed string reference in encoded plan");
+        }
+        return strings.get(index - 2);
+    }
+
+    <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = readVarInt();
+        if (ordinal == 0) {
+            return null;
+        }
+        if (ordinal > values.length) {
+            throw new BlkchnException("Malformed enum value in encoded plan");
+        }
+        return values[ordinal - 1];
+    }
+
+    Object readValue() throws IOException {
+        int tag = readByte();
+        switch (tag) {
+        case CodecOutput.TAG_NULL:
+            return null;
+        case CodecOutput.TAG_INTEGER:
+            return (int) readSignedVarLong();
+        case CodecOutput.TAG_LONG:
+            return readSignedVarLong();
+        case CodecOutput.TAG_BIG_INTEGER:
+            return new BigInteger(readBytes());
+        case CodecOutput.TAG_DOUBLE:
+            return Double.longBitsToDouble(Long.reverseBytes(readVarLong()));
+        case CodecOutput.TAG_FLOAT:
+            return Float.intBitsToFloat(Integer.reverseBytes(readVarInt()));
+        case CodecOutput.TAG_BIG_DECIMAL:
+            int scale = (int) readSignedVarLong();
+            return new BigDecimal(new BigInteger(readBytes()), scale);
+        case CodecOutput.TAG_STRING:
+            return readString();
+        case CodecOutput.TAG_BOOLEAN:
+            return readBoolean();
+        case CodecOutput.TAG_COMPOSITE_KEY:
+            Number[] components = new Number[readVarInt()];
+            for (int i = 0; i < components.length; i++) {
+                components[i] = (Number) readValue();
+            }
+            return new CompositeKey(components);
+        default:
+            throw new BlkchnException("Unknown value tag " + tag + " in encoded plan");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.util.CompositeKey;
+
+/*
+ * Variable length integers, a string table so that repeated table, column
+ * and description strings are written once per stream, and tagged scalar
+ * values for keys, range bounds and typed identifier values.
+ */
+final class CodecOutput {
+
+    static final int TAG_NULL = 0;
+
+    static final int TAG_INTEGER = 1;
+
+    static final int TAG_LONG = 2;
+
+    static final int TAG_BIG_INTEGER = 3;
+
+    static final int TAG_DOUBLE = 4;
+
+    static final int TAG_FLOAT = 5;
+
+    static final int TAG_BIG_DECIMAL = 6;
+
+    static final int TAG_STRING = 7;
+
+    static final int TAG_BOOLEAN = 8;
+
+    static final int TAG_COMPOSITE_KEY = 9;
+
+    private final OutputStream out;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    CodecOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    void writeByte(int value) throws IOException {
+        out.write(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        out.write(value ? 1 : 0);
+    }
+
+    void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // 0 is null, 1 is a new string that follows, n is the (n - 2)th string seen
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarInt(index + 2);
+            return;
+        }
+        strings.put(value, strings.size());
+        writeVarInt(1);
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    <E extends Enum<E>> void writeEnum(E value) throws IOException {
+        writeVarInt(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write(TAG_NULL);
+        } else if (value instanceof Integer) {
+            out.write(TAG_INTEGER);
+            writeSignedVarLong((Integer) value);
+        } else if (value instanceof Long) {
+            out.write(TAG_LONG);
+            writeSignedVarLong((Long) value);
+        } else if (value instanceof BigInteger) {
+            out.write(TAG_BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof Double) {
+            out.write(TAG_DOUBLE);
+            writeVarLong(Long.reverseBytes(Double.doubleToLongBits((Double) value)));
+        } else if (value instanceof Float) {
+            out.write(TAG_FLOAT);
+            writeVarInt(Integer.reverseBytes(Float.floatToIntBits((Float) value)));
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.write(TAG_BIG_DECIMAL);
+            writeSignedVarLong(decimal.scale());
+            writeBytes(decimal.unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            out.write(TAG_STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            out.write(TAG_BOOLEAN);
+            writeBoolean((Boolean) value);
+        } else if (value instanceof CompositeKey) {
+            CompositeKey key = (CompositeKey) value;
+            out.write(TAG_COMPOSITE_KEY);
+            writeVarInt(key.size());
+            for (int i = 0; i < key.size(); i++) {
+                writeValue(key.getComponent(i));
+            }
+        } else {
+            throw new BlkchnException("No binary encoding for values of type " + value.getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,548 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.insert.ColumnName;
+import com.impetus.blkch.sql.insert.ColumnValue;
+import com.impetus.blkch.sql.insert.Insert;
+import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.LogicalPlan.Explain;
+import com.impetus.blkch.sql.parser.LogicalPlan.SQLType;
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.query.Column;
+import com.impetus.blkch.sql.query.Comparator;
+import com.impetus.blkch.sql.query.Comparator.ComparisionOperator;
+import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.DereferenceNode;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
+import com.impetus.blkch.sql.query.DirectAPINode;
+import com.impetus.blkch.sql.query.FilterItem;
+import com.impetus.blkch.sql.query.FromItem;
+import com.impetus.blkch.sql.query.FunctionNode;
+import com.impetus.blkch.sql.query.GetRowsNode;
+import com.impetus.blkch.sql.query.GetRowsNode.NumRows;
+import com.impetus.blkch.sql.query.GroupByClause;
+import com.impetus.blkch.sql.query.HavingClause;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.IdentifierNode.IdentType;
+import com.impetus.blkch.sql.query.LimitClause;
+import com.impetus.blkch.sql.query.ListAgrs;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.OrderByClause;
+import com.impetus.blkch.sql.query.OrderItem;
+import com.impetus.blkch.sql.query.OrderingDirection;
+import com.impetus.blkch.sql.query.OrderingDirection.Direction;
+import com.impetus.blkch.sql.query.Placeholder;
+import com.impetus.blkch.sql.query.QuantifierNode;
+import com.impetus.blkch.sql.query.QuantifierNode.Quantifier;
+import com.impetus.blkch.sql.query.Query;
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.sql.query.SelectClause;
+import com.impetus.blkch.sql.query.SelectItem;
+import com.impetus.blkch.sql.query.StarNode;
+import com.impetus.blkch.sql.query.Table;
+import com.impetus.blkch.sql.query.WhereClause;
+import com.impetus.blkch.util.Range;
+import com.impetus.blkch.util.RangeList;
+
+/*
+ * Compact binary form of query and insert plans, RangeNode, DataNode, Range
+ * and RangeList, used instead of default Java serialization when these are
+ * shipped around, e.g. inside Spark partitions.
+ *
+ * The stream starts with a magic number and the format version. Every node
+ * is written as a type id from the registry below, its own fields, a flags
+ * byte and its children. Strings go through a per stream string table and
+ * numbers are variable length, so a range of block numbers takes a few bytes
+ * instead of a serialized Long object graph. Only the node types of the
+ * registry can be encoded; the registry is append only, a new node type gets
+ * the next id and changing the layout of an existing one bumps VERSION.
+ */
+public final class PlanCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0xB1C7;
+
+    private static final int KIND_NODE = 1;
+
+    private static final int KIND_RANGE_LIST = 2;
+
+    private static final int KIND_RANGE = 3;
+
+    private static final int FLAG_ROOT = 1;
+
+    private static final int PLAN_QUERY = 1;
+
+    private static final int PLAN_INSERT = 2;
+
+    private static final int PLAN_PHYSICAL_WHERE = 4;
+
+    private static final int PLAN_EXPLAIN = 8;
+
+    private static final List<NodeCodec<?>> codecs = new ArrayList<>();
+
+    private static final Map<Class<?>, Integer> typeIds = new IdentityHashMap<>();
+
+    static {
+        register(LogicalPlan.class, new LogicalPlanCodec());
+        register(Query.class, new SimpleNodeCodec<>(Query::new));
+        register(SelectClause.class, new SimpleNodeCodec<>(SelectClause::new));
+        register(SelectItem.class, new SimpleNodeCodec<>(SelectItem::new));
+        register(Column.class, new SimpleNodeCodec<>(Column::new));
+        register(FromItem.class, new SimpleNodeCodec<>(FromItem::new));
+        register(Table.class, new SimpleNodeCodec<>(Table::new));
+        register(WhereClause.class, new SimpleNodeCodec<>(WhereClause::new));
+        register(FilterItem.class, new SimpleNodeCodec<>(FilterItem::new));
+        register(GroupByClause.class, new SimpleNodeCodec<>(GroupByClause::new));
+        register(HavingClause.class, new SimpleNodeCodec<>(HavingClause::new));
+        register(OrderByClause.class, new SimpleNodeCodec<>(OrderByClause::new));
+        register(OrderItem.class, new SimpleNodeCodec<>(OrderItem::new));
+        register(LimitClause.class, new SimpleNodeCodec<>(LimitClause::new));
+        register(FunctionNode.class, new SimpleNodeCodec<>(FunctionNode::new));
+        register(DereferenceNode.class, new SimpleNodeCodec<>(DereferenceNode::new));
+        register(ListAgrs.class, new SimpleNodeCodec<>(ListAgrs::new));
+        register(Insert.class, new SimpleNodeCodec<>(Insert::new));
+        register(ColumnName.class, new SimpleNodeCodec<>(ColumnName::new));
+        register(ColumnValue.class, new SimpleNodeCodec<>(ColumnValue::new));
+        register(IdentifierNode.class, new IdentifierNodeCodec());
+        register(Placeholder.class, new PlaceholderCodec());
+        register(StarNode.class, new StarNodeCodec());
+        register(Comparator.class, new NodeCodec<Comparator>() {
+
+            @Override
+            public void write(Comparator node, CodecOutput out) throws IOException {
+                out.writeEnum(node.getOperator());
+            }
+
+            @Override
+            public Comparator read(CodecInput in) throws IOException {
+                return new Comparator(in.readEnum(ComparisionOperator.values()));
+            }
+        });
+        register(LogicalOperation.class, new NodeCodec<LogicalOperation>() {
+
+            @Override
+            public void write(LogicalOperation node, CodecOutput out) throws IOException {
+                out.writeEnum(node.getOperation());
+            }
+
+            @Override
+            public LogicalOperation read(CodecInput in) throws IOException {
+                return new LogicalOperation(in.readEnum(Operator.values()));
+            }
+        });
+        register(QuantifierNode.class, new NodeCodec<QuantifierNode>() {
+
+            @Override
+            public void write(QuantifierNode node, CodecOutput out) throws IOException {
+                out.writeEnum(node.getQuantifier());
+            }
+
+            @Override
+            public QuantifierNode read(CodecInput in) throws IOException {
+                return new QuantifierNode(in.readEnum(Quantifier.values()));
+            }
+        });
+        register(OrderingDirection.class, new NodeCodec<OrderingDirection>() {
+
+            @Override
+            public void write(OrderingDirection node, CodecOutput out) throws IOException {
+                out.writeEnum(node.getDirection());
+            }
+
+            @Override
+            public OrderingDirection read(CodecInput in) throws IOException {
+                return new OrderingDirection(in.readEnum(Direction.values()));
+            }
+        });
+        register(GetRowsNode.class, new NodeCodec<GetRowsNode>() {
+
+            @Override
+            public void write(GetRowsNode node, CodecOutput out) throws IOException {
+                out.writeEnum(node.getNumRows());
+            }
+
+            @Override
+            public GetRowsNode read(CodecInput in) throws IOException {
+                return new GetRowsNode(in.readEnum(NumRows.values()));
+            }
+        });
+        register(DirectAPINode.class, new NodeCodec<DirectAPINode>() {
+
+            @Override
+            public void write(DirectAPINode node, CodecOutput out) throws IOException {
+                out.writeString(node.getTable());
+                out.writeString(node.getColumn());
+                out.writeString(node.getValue());
+            }
+
+            @Override
+            public DirectAPINode read(CodecInput in) throws IOException {
+                return new DirectAPINode(in.readString(), in.readString(), in.readString());
+            }
+        });
+        register(RangeNode.class, new RangeNodeCodec());
+        register(DataNode.class, new DataNodeCodec());
+        register(DirectAPIListNode.class, new NodeCodec<DirectAPIListNode>() {
+
+            @Override
+            public void write(DirectAPIListNode node, CodecOutput out) throws IOException {
+                out.writeString(node.getTable());
+                out.writeString(node.getColumn());
+                out.writeVarInt(node.getValues().size());
+                for (String value : node.getValues()) {
+                    out.writeString(value);
+                }
+            }
+
+            @Override
+            public DirectAPIListNode read(CodecInput in) throws IOException {
+                String table = in.readString();
+                String column = in.readString();
+                int count = in.readVarInt();
+                List<String> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(in.readString());
+                }
+                return new DirectAPIListNode(table, column, values);
+            }
+        });
+    }
+
+    private PlanCodec() {
+    }
+
+    private static <T extends TreeNode> void register(Class<T> type, NodeCodec<T> codec) {
+        typeIds.put(type, codecs.size());
+        codecs.add(codec);
+    }
+
+    public static boolean canEncode(Class<?> type) {
+        return typeIds.containsKey(type) || type == RangeList.class || type == Range.class;
+    }
+
+    public static byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        encode(value, bytes);
+        return bytes.toByteArray();
+    }
+
+    public static void encode(Object value, OutputStream stream) {
+        CodecOutput out = new CodecOutput(stream);
+        try {
+            out.writeByte(MAGIC >>> 8);
+            out.writeByte(MAGIC & 0xFF);
+            out.writeVarInt(VERSION);
+            if (value instanceof TreeNode) {
+                out.writeByte(KIND_NODE);
+                writeNode((TreeNode) value, out);
+            } else if (value instanceof RangeList) {
+                out.writeByte(KIND_RANGE_LIST);
+                writeRangeList((RangeList<?>) value, out);
+            } else if (value instanceof Range) {
+                out.writeByte(KIND_RANGE);
+                writeRange((Range<?>) value, out);
+            } else {
+                throw new BlkchnException("No binary encoding for "
+                        + (value == null ? "null" : value.getClass().getName()));
+            }
+        } catch (IOException e) {
+            throw new BlkchnException("Error encoding " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public static <T> T decode(byte[] bytes, Class<T> type) {
+        return decode(new ByteArrayInputStream(bytes), type);
+    }
+
+    public static <T> T decode(InputStream stream, Class<T> type) {
+        CodecInput in = new CodecInput(stream);
+        Object value;
+        try {
+            int magic = (in.readByte() << 8) | in.readByte();
+            if (magic != MAGIC) {
+                throw new BlkchnException("Input is not an encoded plan");
+            }
+            int version = in.readVarInt();
+            if (version != VERSION) {
+                throw new BlkchnException(
+                        String.format("Unsupported plan encoding version %d, expected %d", version, VERSION));
+            }
+            int kind = in.readByte();
+            if (kind == KIND_NODE) {
+                value = readNode(in);
+            } else if (kind == KIND_RANGE_LIST) {
+                value = readRangeList(in);
+            } else if (kind == KIND_RANGE) {
+                value = readRange(in);
+            } else {
+                throw new BlkchnException("Unknown kind " + kind + " in encoded plan");
+            }
+        } catch (IOException e) {
+            throw new BlkchnException("Error decoding " + type.getSimpleName(), e);
+        }
+        if (!type.isInstance(value)) {
+            throw new BlkchnException(String.format("Encoded %s is not a %s", value.getClass().getSimpleName(),
+                    type.getSimpleName()));
+        }
+        return type.cast(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void writeNode(TreeNode node, CodecOutput out) throws IOException {
+        Integer typeId = typeIds.get(node.getClass());
+        if (typeId == null) {
+            throw new BlkchnException("No binary encoding for node type " + node.getClass().getName());
+        }
+        out.writeVarInt(typeId);
+        ((NodeCodec<TreeNode>) codecs.get(typeId)).write(node, out);
+        out.writeByte(node.isRootNode() ? FLAG_ROOT : 0);
+        List<TreeNode> children = node.getChildNodes();
+        out.writeVarInt(children.size());
+        for (TreeNode child : children) {
+            writeNode(child, out);
+        }
+    }
+
+    static TreeNode readNode(CodecInput in) throws IOException {
+        int typeId = in.readVarInt();
+        if (typeId >= codecs.size()) {
+            throw new BlkchnException("Unknown node type " + typeId + " in encoded plan");
+        }
+        TreeNode node = codecs.get(typeId).read(in);
+        node.setRootNode((in.readByte() & FLAG_ROOT) != 0);
+        int childCount = in.readVarInt();
+        for (int i = 0; i < childCount; i++) {
+            node.addChildNode(readNode(in));
+        }
+        return node;
+    }
+
+    static void writeRangeList(RangeList<?> rangeList, CodecOutput out) throws IOException {
+        out.writeVarInt(rangeList.getRanges().size());
+        for (Range<?> range : rangeList.getRanges()) {
+            writeRange(range, out);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static RangeList readRangeList(CodecInput in) throws IOException {
+        int count = in.readVarInt();
+        RangeList rangeList = new RangeList();
+        for (int i = 0; i < count; i++) {
+            rangeList.addRange(readRange(in));
+        }
+        return rangeList;
+    }
+
+    static void writeRange(Range<?> range, CodecOutput out) throws IOException {
+        out.writeValue(range.getMin());
+        out.writeValue(range.getMax());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static Range readRange(CodecInput in) throws IOException {
+        Object min = in.readValue();
+        Object max = in.readValue();
+        if (!(min instanceof Comparable) || !(max instanceof Comparable)) {
+            throw new BlkchnException("Range bounds in encoded plan are not comparable numbers");
+        }
+        return new Range((Number & Comparable) min, (Number & Comparable) max);
+    }
+
+    private interface NodeCodec<T extends TreeNode> {
+
+        void write(T node, CodecOutput out) throws IOException;
+
+        T read(CodecInput in) throws IOException;
+    }
+
+    private static class SimpleNodeCodec<T extends TreeNode> implements NodeCodec<T> {
+
+        private final Supplier<T> constructor;
+
+        private SimpleNodeCodec(Supplier<T> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public void write(T node, CodecOutput out) throws IOException {
+            out.writeString(node.getDescription());
+        }
+
+        @Override
+        public T read(CodecInput in) throws IOException {
+            String description = in.readString();
+            T node = constructor.get();
+            if (description == null ? node.getDescription() != null : !description.equals(node.getDescription())) {
+                node.setDescription(description);
+            }
+            return node;
+        }
+    }
+
+    private static class LogicalPlanCodec implements NodeCodec<LogicalPlan> {
+
+        @Override
+        public void write(LogicalPlan plan, CodecOutput out) throws IOException {
+            if (plan.getType() != null && plan.getType() != SQLType.QUERY && plan.getType() != SQLType.INSERT) {
+                throw new BlkchnException("No binary encoding for " + plan.getType() + " plans");
+            }
+            out.writeString(plan.getDescription());
+            out.writeEnum(plan.getType());
+            int parts = (plan.getQuery() != null ? PLAN_QUERY : 0) | (plan.getInsert() != null ? PLAN_INSERT : 0)
+                    | (plan.getPhysicalWhereClause() != null ? PLAN_PHYSICAL_WHERE : 0)
+                    | (plan.getExplain() != null ? PLAN_EXPLAIN : 0);
+            out.writeByte(parts);
+            if (plan.getQuery() != null) {
+                writeNode(plan.getQuery(), out);
+            }
+            if (plan.getInsert() != null) {
+                writeNode(plan.getInsert(), out);
+            }
+            if (plan.getPhysicalWhereClause() != null) {
+                writeNode(plan.getPhysicalWhereClause(), out);
+            }
+            if (plan.getExplain() != null) {
+                out.writeEnum(plan.getExplain());
+            }
+        }
+
+        @Override
+        public LogicalPlan read(CodecInput in) throws IOException {
+            LogicalPlan plan = new LogicalPlan(in.readString());
+            plan.setType(in.readEnum(SQLType.values()));
+            int parts = in.readByte();
+            if ((parts & PLAN_QUERY) != 0) {
+                plan.setQuery((Query) readNode(in));
+            }
+            if ((parts & PLAN_INSERT) != 0) {
+                plan.setInsert((Insert) readNode(in));
+            }
+            if ((parts & PLAN_PHYSICAL_WHERE) != 0) {
+                plan.setPhysicalWhereClause((WhereClause) readNode(in));
+            }
+            if ((parts & PLAN_EXPLAIN) != 0) {
+                plan.setExplain(in.readEnum(Explain.values()));
+            }
+            return plan;
+        }
+    }
+
+    private static class IdentifierNodeCodec implements NodeCodec<IdentifierNode> {
+
+        @Override
+        public void write(IdentifierNode node, CodecOutput out) throws IOException {
+            out.writeString(node.getValue());
+            out.writeEnum(node.getType());
+            Object typedValue = node.getTypedValue();
+            // getTypedValue falls back to the string value, which is not written twice
+            out.writeValue(typedValue == node.getValue() ? null : typedValue);
+        }
+
+        @Override
+        public IdentifierNode read(CodecInput in) throws IOException {
+            return new IdentifierNode(in.readString(), in.readEnum(IdentType.values()), in.readValue());
+        }
+    }
+
+    private static class PlaceholderCodec implements NodeCodec<Placeholder> {
+
+        private static final String PREFIX = Placeholder.DESCRIPTION + ":";
+
+        @Override
+        public void write(Placeholder node, CodecOutput out) throws IOException {
+            out.writeString(node.getDescription().substring(PREFIX.length()));
+        }
+
+        @Override
+        public Placeholder read(CodecInput in) throws IOException {
+            return new Placeholder(in.readString());
+        }
+    }
+
+    private static class StarNodeCodec implements NodeCodec<StarNode> {
+
+        @Override
+        public void write(StarNode node, CodecOutput out) throws IOException {
+            out.writeString(node.getTableIdentifier());
+        }
+
+        @Override
+        public StarNode read(CodecInput in) throws IOException {
+            return new StarNode(in.readString());
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static class RangeNodeCodec implements NodeCodec<RangeNode> {
+
+        @Override
+        public void write(RangeNode node, CodecOutput out) throws IOException {
+            out.writeString(node.getTable());
+            out.writeString(node.getColumn());
+            writeRangeList(node.getRangeList(), out);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public RangeNode read(CodecInput in) throws IOException {
+            RangeNode node = new RangeNode(in.readString(), in.readString());
+            node.setRangeList(readRangeList(in));
+            return node;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static class DataNodeCodec implements NodeCodec<DataNode> {
+
+        @Override
+        public void write(DataNode node, CodecOutput out) throws IOException {
+            out.writeString(node.getTable());
+            List<?> keys = node.getKeys();
+            out.writeVarInt(keys.size());
+            for (Object key : keys) {
+                out.writeValue(key);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public DataNode read(CodecInput in) throws IOException {
+            String table = in.readString();
+            int count = in.readVarInt();
+            List keys = new ArrayList(count);
+            for (int i = 0; i < count; i++) {
+                keys.add(in.readValue());
+            }
+            return new DataNode(table, keys);
+        }
+    }
+}
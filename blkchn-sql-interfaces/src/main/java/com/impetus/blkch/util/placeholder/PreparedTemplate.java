@@ -0,0 +1,214 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.placeholder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.LogicalPlan.SQLType;
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.insert.Insert;
+import com.impetus.blkch.sql.query.HavingClause;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.IdentifierNode.IdentType;
+import com.impetus.blkch.sql.query.LimitClause;
+import com.impetus.blkch.sql.query.Placeholder;
+import com.impetus.blkch.sql.query.Query;
+import com.impetus.blkch.sql.query.WhereClause;
+
+/*
+ * A prepared statement compiled once. The placeholders of the query or insert
+ * are located a single time and remembered as child index paths from the
+ * statement root, in the order they appear in the statement. bind only copies
+ * the nodes on the paths to the slots, see TreeNode.withChildNodes, and shares
+ * every other subtree with the private template, so binding costs the number
+ * of parameters times the depth of the slots. The template is never modified
+ * and can be bound from many threads at once; the shared subtrees of bound
+ * plans must not be modified either, clone a bound plan to change it.
+ *
+ * Unlike QueryPlaceholderHandler and InsertPlaceholderHandler, values keep
+ * their Java type in IdentifierNode.getTypedValue next to the string form.
+ */
+public final class PreparedTemplate {
+
+    private final LogicalPlan template;
+
+    private final int[][] slotPaths;
+
+    private PreparedTemplate(LogicalPlan template, int[][] slotPaths) {
+        this.template = template;
+        this.slotPaths = slotPaths;
+    }
+
+    public static PreparedTemplate compile(LogicalPlan logicalPlan) {
+        LogicalPlan template = (LogicalPlan) logicalPlan.clone();
+        TreeNode root = getRoot(template);
+        List<int[]> slots = new ArrayList<>();
+        if (root != null) {
+            collectSlots(root, new int[0], slots);
+        }
+        return new PreparedTemplate(template, slots.toArray(new int[slots.size()][]));
+    }
+
+    /*
+     * Compiles a parsed statement whose WHERE, HAVING and LIMIT literals are
+     * the slots, for statements AutoParameterizer extracted the literals of.
+     * The literals of those clauses have to be the given ones in the same
+     * order, otherwise null is returned, e.g. for a negative number, which
+     * the visitor keeps with its sign.
+     */
+    public static PreparedTemplate compile(LogicalPlan logicalPlan, IdentifierNode[] literals) {
+        if (logicalPlan.getType() != SQLType.QUERY) {
+            return null;
+        }
+        List<int[]> slots = new ArrayList<>();
+        List<IdentifierNode> values = new ArrayList<>();
+        collectLiterals(logicalPlan.getQuery(), new int[0], false, slots, values);
+        if (values.size() != literals.length) {
+            return null;
+        }
+        for (int i = 0; i < literals.length; i++) {
+            if (!literals[i].getValue().equals(values.get(i).getValue())
+                    || literals[i].getType() != values.get(i).getType()) {
+                return null;
+            }
+        }
+        LogicalPlan template = (LogicalPlan) logicalPlan.clone();
+        // built for the literals of this statement, not for the ones bound later
+        template.setPhysicalWhereClause(null);
+        return new PreparedTemplate(template, slots.toArray(new int[slots.size()][]));
+    }
+
+    public int getParameterCount() {
+        return slotPaths.length;
+    }
+
+    public LogicalPlan bind(Object... values) {
+        int count = values == null ? 0 : values.length;
+        if (count != slotPaths.length) {
+            throw new BlkchnException(String.format("Expected %d parameter values but got %d", slotPaths.length,
+                    count));
+        }
+        IdentifierNode[] idents = new IdentifierNode[count];
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                throw new BlkchnException("Can't set NULL value");
+            }
+            idents[i] = toIdentifier(values[i]);
+        }
+        LogicalPlan plan = (LogicalPlan) template.withChildNodes(template.getChildNodes());
+        TreeNode root = getRoot(template);
+        if (root == null || count == 0) {
+            // nothing is written, so the whole statement can be shared
+            return plan;
+        }
+        TreeNode boundRoot = bind(root, 0, 0, count, idents);
+        if (template.getType() == SQLType.QUERY) {
+            plan.setQuery((Query) boundRoot);
+        } else {
+            plan.setInsert((Insert) boundRoot);
+        }
+        return plan;
+    }
+
+    /*
+     * Copy of the node with the slots from..to-1, whose paths all pass
+     * through it at the given depth, filled in. Slot paths are in tree order,
+     * so the slots below one child are next to each other.
+     */
+    private TreeNode bind(TreeNode node, int depth, int from, int to, IdentifierNode[] idents) {
+        List<TreeNode> children = new ArrayList<>(node.getChildNodes());
+        int i = from;
+        while (i < to) {
+            int index = slotPaths[i][depth];
+            int end = i + 1;
+            while (end < to && slotPaths[end][depth] == index) {
+                end++;
+            }
+            if (slotPaths[i].length == depth + 1) {
+                children.set(index, idents[i]);
+            } else {
+                children.set(index, bind(children.get(index), depth + 1, i, end, idents));
+            }
+            i = end;
+        }
+        return node.withChildNodes(children);
+    }
+
+    private static TreeNode getRoot(LogicalPlan logicalPlan) {
+        if (logicalPlan.getType() == SQLType.QUERY) {
+            return logicalPlan.getQuery();
+        } else if (logicalPlan.getType() == SQLType.INSERT) {
+            return logicalPlan.getInsert();
+        }
+        return null;
+    }
+
+    private static void collectSlots(TreeNode node, int[] path, List<int[]> slots) {
+        List<TreeNode> children = node.getChildNodes();
+        for (int i = 0; i < children.size(); i++) {
+            int[] childPath = new int[path.length + 1];
+            System.arraycopy(path, 0, childPath, 0, path.length);
+            childPath[path.length] = i;
+            if (children.get(i) instanceof Placeholder) {
+                slots.add(childPath);
+            } else {
+                collectSlots(children.get(i), childPath, slots);
+            }
+        }
+    }
+
+    private static void collectLiterals(TreeNode node, int[] path, boolean inClause, List<int[]> slots,
+            List<IdentifierNode> literals) {
+        List<TreeNode> children = node.getChildNodes();
+        for (int i = 0; i < children.size(); i++) {
+            TreeNode child = children.get(i);
+            int[] childPath = new int[path.length + 1];
+            System.arraycopy(path, 0, childPath, 0, path.length);
+            childPath[path.length] = i;
+            if (inClause && child instanceof IdentifierNode && (((IdentifierNode) child).getType() == IdentType.NUMBER
+                    || ((IdentifierNode) child).getType() == IdentType.STRING)) {
+                slots.add(childPath);
+                literals.add((IdentifierNode) child);
+            } else {
+                collectLiterals(child, childPath, inClause || child instanceof WhereClause
+                        || child instanceof HavingClause || child instanceof LimitClause, slots, literals);
+            }
+        }
+    }
+
+    private static IdentifierNode toIdentifier(Object value) {
+        if (value instanceof IdentifierNode) {
+            // literals extracted by AutoParameterizer are bound as they are
+            return (IdentifierNode) ((IdentifierNode) value).clone();
+        }
+        IdentType type;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal || value instanceof Double
+                || value instanceof Float) {
+            type = IdentType.NUMBER;
+        } else if (value instanceof Boolean) {
+            type = IdentType.BOOLEAN;
+        } else {
+            type = IdentType.STRING;
+        }
+        return new IdentifierNode(value.toString(), type, value);
+    }
+}
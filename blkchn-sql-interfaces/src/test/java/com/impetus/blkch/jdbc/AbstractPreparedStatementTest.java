@@ -0,0 +1,62 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.jdbc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import com.impetus.blkch.sql.generated.BlkchnSqlParser;
+
+public class AbstractPreparedStatementTest extends TestCase {
+
+    @Test
+    public void testCustomParser() {
+        String sql = "select blocknumber from block where blocknumber = 5";
+        AtomicInteger parsers = new AtomicInteger();
+        AbstractPreparedStatement statement = new AbstractPreparedStatement() {
+
+            @Override
+            protected BlkchnSqlParser getParser(String sqlText) {
+                parsers.incrementAndGet();
+                return super.getParser(sqlText);
+            }
+        };
+        assertEquals(AbstractPreparedStatement.getStatementParser().parse(sql).getQuery(),
+                statement.getLogicalPlan(sql).getQuery());
+        // an override of getParser alone is not picked up
+        assertEquals(0, parsers.get());
+
+        AbstractPreparedStatement customStatement = new AbstractPreparedStatement() {
+
+            @Override
+            protected BlkchnSqlParser getParser(String sqlText) {
+                parsers.incrementAndGet();
+                return super.getParser(sqlText);
+            }
+
+            @Override
+            protected boolean usesCustomParser() {
+                return true;
+            }
+        };
+        assertEquals(AbstractPreparedStatement.getStatementParser().parse(sql).getQuery(),
+                customStatement.getLogicalPlan(sql).getQuery());
+        assertEquals(1, parsers.get());
+    }
+}
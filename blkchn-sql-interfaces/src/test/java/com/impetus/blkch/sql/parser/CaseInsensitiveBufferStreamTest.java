@@ -0,0 +1,70 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.Test;
+
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+
+public class CaseInsensitiveBufferStreamTest extends TestCase {
+
+    @Test
+    public void testSameTokensAsCharStream() {
+        String[] statements = { "select BlockNumber, hash from Block where blockNumber >= 10 and hash = 'AbC'",
+                "insert into transaction (toAddress, value) values ('0xAbCdEf', 10.5D)",
+                "CALL mycc('ärger', \"Ünïcode\", 10L) AS ASSET asset1" };
+        for (String sql : statements) {
+            List<Token> expected = lex(new CaseInsensitiveCharStream(sql));
+            List<Token> actual = lex(new CaseInsensitiveBufferStream(sql));
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getType(), actual.get(i).getType());
+                assertEquals(expected.get(i).getText(), actual.get(i).getText());
+                assertEquals(expected.get(i).getStartIndex(), actual.get(i).getStartIndex());
+            }
+        }
+    }
+
+    @Test
+    public void testLookAheadAndText() {
+        CaseInsensitiveBufferStream stream = new CaseInsensitiveBufferStream("seLect");
+        assertEquals('S', stream.LA(1));
+        assertEquals(IntStream.EOF, stream.LA(-1));
+        stream.consume();
+        assertEquals('S', stream.LA(-1));
+        assertEquals('E', stream.LA(1));
+        stream.seek(10);
+        assertEquals(6, stream.index());
+        assertEquals(IntStream.EOF, stream.LA(1));
+        assertEquals("seLect", stream.getText(Interval.of(0, 10)));
+        assertEquals("Le", stream.getText(Interval.of(2, 3)));
+    }
+
+    private List<Token> lex(CharStream stream) {
+        CommonTokenStream tokens = new CommonTokenStream(new BlkchnSqlLexer(stream));
+        tokens.fill();
+        return tokens.getTokens();
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+
+/*
+ * Lexing benchmark of CaseInsensitiveCharStream against
+ * CaseInsensitiveBufferStream on INSERT statements with 1 KB, 64 KB and 1 MB
+ * literal payloads. Not picked up by surefire, run it through its main method.
+ */
+public class CharStreamBenchmark {
+
+    private static final int[] SIZES = { 1024, 64 * 1024, 1024 * 1024 };
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            String sql = buildInsert(size);
+            int iterations = Math.max(5, (8 * 1024 * 1024) / size);
+            double charStream = measure(sql, iterations, CaseInsensitiveCharStream::new);
+            double bufferStream = measure(sql, iterations, CaseInsensitiveBufferStream::new);
+            System.out.println(String.format("%8d bytes: CaseInsensitiveCharStream %10.3f ms, "
+                    + "CaseInsensitiveBufferStream %10.3f ms", size, charStream, bufferStream));
+        }
+    }
+
+    private static double measure(String sql, int iterations, Function<String, CharStream> streamFactory) {
+        for (int i = 0; i < iterations; i++) {
+            lex(streamFactory.apply(sql));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            lex(streamFactory.apply(sql));
+        }
+        return (System.nanoTime() - start) / 1e6 / iterations;
+    }
+
+    private static int lex(CharStream stream) {
+        CommonTokenStream tokens = new CommonTokenStream(new BlkchnSqlLexer(stream));
+        tokens.fill();
+        return tokens.size();
+    }
+
+    private static String buildInsert(int payloadSize) {
+        StringBuilder sb = new StringBuilder(payloadSize + 128);
+        sb.append("INSERT INTO transaction (toAddress, value, data) VALUES ('0xAbCdEf0123', 10, '");
+        String chunk = "Lorem ipsum dolor sit amet 0123456789 ";
+        while (sb.length() < payloadSize) {
+            sb.append(chunk);
+        }
+        sb.append("')");
+        return sb.toString();
+    }
+}
@@ -74,7 +74,7 @@ public class DummyPhysicalPlan extends PhysicalPlan
         columnTypeMap.put("column2", Types.BIGINT);
         columnTypeMap.put("qcol1", Types.VARCHAR);
         columnTypeMap.put("qcol2", Types.VARCHAR);
-        return null;
+        return columnTypeMap;
     }
     
 
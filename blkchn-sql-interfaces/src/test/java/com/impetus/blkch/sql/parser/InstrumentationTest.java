@@ -0,0 +1,90 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.InstrumentationListener.Phase;
+import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.WhereClause;
+import com.impetus.blkch.util.DummyQueryExecutor;
+
+public class InstrumentationTest extends TestCase {
+
+    private List<String> statements = new ArrayList<>();
+
+    private List<Phase> phases = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        Instrumentation.setListener(null);
+    }
+
+    @Test
+    public void testPhasesReported() {
+        Instrumentation.setListener(createListener());
+        String sql = "select column1 from myTable where column1 >= 2 and column1 <= 5";
+        LogicalPlan logicalPlan = new StatementParser().parse(sql);
+        DummyQueryExecutor executor = new DummyQueryExecutor(logicalPlan);
+        DataNode<Long> result = executor.execute(executor.physicalPlan.getWhereClause().getChildNode(0));
+        assertEquals(Arrays.asList(2l, 3l, 4l, 5l), result.getKeys());
+        assertEquals(Arrays.asList(sql), statements);
+        assertEquals(Arrays.asList(Phase.LEX, Phase.PARSE, Phase.VISIT, Phase.PHYSICAL_PLAN, Phase.EXECUTE), phases);
+    }
+
+    @Test
+    public void testFailedPhaseReported() {
+        Instrumentation.setListener(createListener());
+        try {
+            new StatementParser().parse("select from where");
+            fail("Syntax error should be reported");
+        } catch (BlkchnException e) {
+            assertEquals(Arrays.asList(Phase.LEX, Phase.PARSE), phases);
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse(Instrumentation.isEnabled());
+        assertEquals(0L, Instrumentation.start());
+        LogicalPlan logicalPlan = new StatementParser().parse("select column1 from myTable where column1 = 2");
+        assertTrue(new DummyPhysicalPlan("dummyPlan", logicalPlan).getWhereClause() instanceof WhereClause);
+    }
+
+    private InstrumentationListener createListener() {
+        return new InstrumentationListener() {
+
+            @Override
+            public void statementStarted(String sqlText) {
+                statements.add(sqlText);
+            }
+
+            @Override
+            public void phaseCompleted(Phase phase, long elapsedNanos) {
+                assertTrue(elapsedNanos >= 0);
+                phases.add(phase);
+            }
+        };
+    }
+}
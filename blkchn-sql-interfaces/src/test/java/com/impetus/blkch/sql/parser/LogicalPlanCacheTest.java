@@ -0,0 +1,186 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.function.Function;
+
+import junit.framework.TestCase;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnErrorListener;
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser;
+import com.impetus.blkch.sql.parser.AutoParameterizer.ParameterizedStatement;
+import com.impetus.blkch.sql.query.FilterItem;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.SelectClause;
+import com.impetus.blkch.sql.query.WhereClause;
+
+public class LogicalPlanCacheTest extends TestCase {
+
+    @Test
+    public void testNormalize() {
+        assertEquals("select a from t where a = 'Hello  World'",
+                LogicalPlanCache.normalize("  select a\n\tfrom   t where a = 'Hello  World' "));
+        assertEquals(LogicalPlanCache.normalize("select blocknumber from block"),
+                LogicalPlanCache.normalize("select   blocknumber\nfrom block"));
+        assertFalse(LogicalPlanCache.normalize("select A from t").equals(LogicalPlanCache.normalize("select a from t")));
+    }
+
+    @Test
+    public void testIdentifierCase() {
+        // comment is a keyword of the grammar, but a plain column name here
+        LogicalPlanCache cache = new LogicalPlanCache(4);
+        LogicalPlan first = cache.get("select Comment from block", this::getLogicalPlan);
+        LogicalPlan second = cache.get("select comment from block", this::getLogicalPlan);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(getLogicalPlan("select Comment from block").getQuery(), first.getQuery());
+        assertEquals(getLogicalPlan("select comment from block").getQuery(), second.getQuery());
+        assertFalse(first.getQuery().equals(second.getQuery()));
+    }
+
+    @Test
+    public void testHitMissAndCopy() {
+        LogicalPlanCache cache = new LogicalPlanCache(4);
+        String sql = "select a from transaction where a = 10";
+        LogicalPlan first = cache.get(sql, this::getLogicalPlan);
+        LogicalPlan second = cache.get("select a   from transaction\nwhere a = 10", this::getLogicalPlan);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertNotSame(first, second);
+        assertEquals(first.getQuery(), second.getQuery());
+
+        FilterItem filterItem = second.getQuery().getChildType(WhereClause.class, 0).getChildType(FilterItem.class, 0);
+        filterItem.setChildNode(new IdentifierNode("20"), 2);
+        LogicalPlan third = cache.get(sql, this::getLogicalPlan);
+        assertEquals(first.getQuery(), third.getQuery());
+    }
+
+    @Test
+    public void testEviction() {
+        LogicalPlanCache cache = new LogicalPlanCache(2);
+        cache.get("select a from t1", this::getLogicalPlan);
+        cache.get("select a from t2", this::getLogicalPlan);
+        cache.get("select a from t1", this::getLogicalPlan);
+        cache.get("select a from t3", this::getLogicalPlan);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.getIfPresent("select a from t1"));
+        assertNull(cache.getIfPresent("select a from t2"));
+    }
+
+    @Test
+    public void testAutoParameterize() {
+        ParameterizedStatement statement = AutoParameterizer
+                .parameterize("select 1, hash from block where blocknumber = 123456 and hash = 'Ab' limit 5");
+        assertEquals("select 1 , hash from block where blocknumber = ? and hash = ? limit ?", statement.getShape());
+        assertEquals(3, statement.getParameterCount());
+        assertEquals(123456l, statement.getParameters()[0].getTypedValue());
+        assertEquals("'Ab'", statement.getParameters()[1].getValue());
+        assertEquals(0, AutoParameterizer.parameterize("select a from block where a = ?").getParameterCount());
+    }
+
+    @Test
+    public void testAutoParameterizedPlans() {
+        LogicalPlanCache cache = new LogicalPlanCache(4);
+        String[] statements = { "select * from block where blocknumber = 123456 and hash = 'abc' limit 10",
+                "select * from block where blocknumber = 654321 and hash = 'xyz' limit 20",
+                "select * from block where blocknumber = 1 and hash = 'a' limit 1",
+                "SELECT * FROM block WHERE blocknumber = 1 AND hash = 'a' LIMIT 1" };
+        for (String sql : statements) {
+            assertEquals(getLogicalPlan(sql).getQuery(), cache.getAutoParameterized(sql, this::getLogicalPlan).getQuery());
+        }
+        // keyword case is part of the shape
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+
+        String sql = "select blocknumber, count(*) from block where blocknumber > 10 group by blocknumber having count(*) > 2";
+        assertEquals(getLogicalPlan(sql).getQuery(), cache.getAutoParameterized(sql, this::getLogicalPlan).getQuery());
+
+        // a negative number is part of the literal in the grammar, so the shape falls back to the text cache
+        cache = new LogicalPlanCache(4);
+        int[] parses = new int[1];
+        Function<String, LogicalPlan> parser = text -> {
+            parses[0]++;
+            return getLogicalPlan(text);
+        };
+        sql = "select * from block where blocknumber > -5";
+        assertEquals(getLogicalPlan(sql).getQuery(), cache.getAutoParameterized(sql, parser).getQuery());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, parses[0]);
+        assertEquals(getLogicalPlan(sql).getQuery(), cache.getAutoParameterized(sql, parser).getQuery());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, parses[0]);
+        sql = "select * from block where blocknumber > -7";
+        assertEquals(getLogicalPlan(sql).getQuery(), cache.getAutoParameterized(sql, parser).getQuery());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, parses[0]);
+    }
+
+    @Test
+    public void testAutoParameterizedIdentifierCase() {
+        // comment, index and analyze are keywords of the grammar, but plain column names here
+        LogicalPlanCache cache = new LogicalPlanCache(4);
+        String[] statements = { "select comment, Index from block where blocknumber = 5 and analyze = 'x'",
+                "select comment, Index from block where blocknumber = 6 and analyze = 'y'" };
+        for (String sql : statements) {
+            LogicalPlan plan = cache.getAutoParameterized(sql, this::getLogicalPlan);
+            assertEquals(getLogicalPlan(sql).getQuery(), plan.getQuery());
+            assertEquals("IDENT:comment", plan.getQuery().getChildType(SelectClause.class, 0).getChildNode(0)
+                    .getChildNode(0).getChildNode(0).getDescription());
+        }
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testAutoParameterizedCopies() {
+        LogicalPlanCache cache = new LogicalPlanCache(4);
+        String[] statements = { "select hash from block where blocknumber = 5",
+                "select hash from block where blocknumber = 6", "select hash from block where blocknumber = 7" };
+        for (String sql : statements) {
+            LogicalPlan plan = cache.getAutoParameterized(sql, this::getLogicalPlan);
+            assertEquals(getLogicalPlan(sql).getQuery(), plan.getQuery());
+            // changes to a returned plan, bound or not, never reach the template
+            plan.getQuery().getChildType(SelectClause.class, 0).addChildNode(new IdentifierNode("extra"));
+            plan.getQuery().getChildType(WhereClause.class, 0).getChildType(FilterItem.class, 0)
+                    .setDescription("changed");
+        }
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    public LogicalPlan getLogicalPlan(String sqlText) {
+        LogicalPlan logicalPlan = null;
+        BlkchnSqlParser parser = getParser(sqlText);
+        parser.removeErrorListeners();
+        parser.addErrorListener(BlkchnErrorListener.INSTANCE);
+        AbstractSyntaxTreeVisitor astBuilder = new BlockchainVisitor();
+        logicalPlan = (LogicalPlan) astBuilder.visitSingleStatement(parser.singleStatement());
+        return logicalPlan;
+    }
+
+    public BlkchnSqlParser getParser(String sqlText) {
+        BlkchnSqlLexer lexer = new BlkchnSqlLexer(new CaseInsensitiveCharStream(sqlText));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(BlkchnErrorListener.INSTANCE);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        BlkchnSqlParser parser = new BlkchnSqlParser(tokens);
+        return parser;
+    }
+}
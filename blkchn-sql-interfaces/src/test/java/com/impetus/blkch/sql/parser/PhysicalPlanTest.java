@@ -16,24 +16,35 @@
 package com.impetus.blkch.sql.parser;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 import junit.framework.TestCase;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 
 import com.impetus.blkch.BlkchnErrorListener;
 import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser;
 import com.impetus.blkch.sql.query.Column;
 import com.impetus.blkch.sql.query.Comparator;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
 import com.impetus.blkch.sql.query.DirectAPINode;
 import com.impetus.blkch.sql.query.FilterItem;
 import com.impetus.blkch.sql.query.IdentifierNode;
 import com.impetus.blkch.sql.query.LogicalOperation;
 import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.OrderingDirection.Direction;
 import com.impetus.blkch.sql.query.RangeNode;
 import com.impetus.blkch.sql.query.WhereClause;
+import com.impetus.blkch.util.CompositeKey;
 import com.impetus.blkch.util.Range;
 
 public class PhysicalPlanTest extends TestCase
@@ -48,6 +59,103 @@ public class PhysicalPlanTest extends TestCase
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testSinglePassWhereClause() {
+        SchemaCatalog catalog = new DummyPhysicalPlan("catalog", getLogicalPlan("select column1 from myTable"));
+        StatementParser statementParser = new StatementParser();
+        String sql = "SELECT column1 as rcol1, column2 as rcol2, column3, qcol1 as direct1 FROM myTable tbl where rcol1 > 10 and column2 < 30 or (column3 != 25 and direct1 = 30)";
+        LogicalPlan plan = statementParser.parse(sql, catalog);
+        assertEquals(buildRangeAndDirectWhereClause(), plan.getPhysicalWhereClause());
+        assertEquals(buildRangeAndDirectWhereClause(), new DummyPhysicalPlan("dummyPlan", plan).getWhereClause());
+        assertEquals(getLogicalPlan(sql).getQuery(), plan.getQuery());
+
+        sql = "SELECT column1 as rcol1, column2 as rcol2, column3, qcol1 as direct1 FROM myTable tbl where rcol1 > 10 and rcol1 < 25 and (column2 <= 30 and "
+                + "column2 >= 20 and rcol2 != 25) or (column3 != 25 and direct1 < 30)";
+        plan = statementParser.parse(sql, catalog);
+        assertEquals(buildComplexRangeQueryWhereClause(), plan.getPhysicalWhereClause());
+
+        plan = statementParser.parse("select * from myTable where column1 > ? and qcol1 = 30", catalog);
+        assertNull(plan.getPhysicalWhereClause());
+        assertNull(statementParser.parse(sql).getPhysicalWhereClause());
+    }
+
+    @Test
+    public void testWidePredicate() {
+        // tracing every visit of a statement this size would take minutes
+        Logger rootLogger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Level level = rootLogger.getLevel();
+        rootLogger.setLevel(Level.INFO);
+        try {
+            StringBuilder sql = new StringBuilder("select * from myTable where column2 < 30 or column1 = 0");
+            RangeNode<Long> expectedRange = new RangeNode<>("myTable", "column1");
+            expectedRange.getRangeList().addRange(new Range<>(0l, 0l));
+            for (long i = 1; i < 5000; i++) {
+                sql.append(" or column1 = ").append(2 * i);
+                expectedRange.getRangeList().addRange(new Range<>(2 * i, 2 * i));
+            }
+            WhereClause expected = new WhereClause();
+            LogicalOperation or = new LogicalOperation(Operator.OR);
+            RangeNode<BigInteger> rangeNode2 = new RangeNode<>("myTable", "column2");
+            rangeNode2.getRangeList().addRange(new Range<>(new BigInteger("0"), new BigInteger("29")));
+            or.addChildNode(rangeNode2);
+            or.addChildNode(expectedRange);
+            expected.addChildNode(or);
+
+            StatementParser statementParser = new StatementParser();
+            LogicalPlan plan = statementParser.parse(sql.toString());
+            DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan", plan);
+            assertEquals(expected, physicalPlan.getWhereClause());
+            assertTrue(physicalPlan.validateLogicalPlan());
+            assertEquals(plan.getQuery(), ((LogicalPlan) plan.clone()).getQuery());
+
+            SchemaCatalog catalog = new DummyPhysicalPlan("catalog", getLogicalPlan("select column1 from myTable"));
+            assertEquals(expected, statementParser.parse(sql.toString(), catalog).getPhysicalWhereClause());
+
+            RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+            page.getRangeList().addRange(new Range<>(0l, 100l));
+            TreeNode pageNode = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+            assertEquals(2, pageNode.getChildNodes().size());
+            assertEquals(51, ((RangeNode<?>) pageNode.getChildNode(1)).getRangeList().getRanges().size());
+        } finally {
+            rootLogger.setLevel(level);
+        }
+    }
+
+    @Test
+    public void testInList() {
+        WhereClause expected = new WhereClause();
+        expected.addChildNode(new DirectAPIListNode("myTable", "qcol1", Arrays.asList("1", "2", "3")));
+        assertEquals(expected, new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select * from myTable where qcol1 in (1, 2, 3)"))
+                .getWhereClause());
+        assertEquals(expected, new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("select * from myTable where qcol1 = 1 or qcol1 = 2 or qcol1 = 3 or qcol1 = 2")).getWhereClause());
+
+        expected = new WhereClause();
+        RangeNode<Long> rangeNode = new RangeNode<>("myTable", "column1");
+        rangeNode.getRangeList().addRange(new Range<>(5l, 5l));
+        rangeNode.getRangeList().addRange(new Range<>(7l, 7l));
+        rangeNode.getRangeList().addRange(new Range<>(8l, 8l));
+        expected.addChildNode(rangeNode);
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("select * from myTable where column1 in (8, 5, 7)"));
+        assertEquals(expected, physicalPlan.getWhereClause());
+
+        expected = new WhereClause();
+        LogicalOperation and = new LogicalOperation(Operator.AND);
+        and.addChildNode(createFilterItem("column3", "!=", "1"));
+        and.addChildNode(createFilterItem("column3", "!=", "2"));
+        expected.addChildNode(and);
+        assertEquals(expected, new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("select * from myTable where column3 not in (1, 2)")).getWhereClause());
+
+        RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<Long>(0l, Long.MAX_VALUE));
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select * from myTable where qcol1 in (1, 2)"));
+        TreeNode pageNode = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+        assertTrue(pageNode instanceof LogicalOperation && ((LogicalOperation) pageNode).isAnd());
+        assertTrue(pageNode.getChildNode(1) instanceof DirectAPIListNode);
+    }
+
     @Test
     public void testValidateLogicalPlan(){
 
@@ -85,6 +193,222 @@ public class PhysicalPlanTest extends TestCase
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testPaginateSharesUnchangedNodes() {
+        String sql = "Select * from myTable tbl where qcol1 = 30 or column3 != 25";
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+        WhereClause original = (WhereClause) physicalPlan.getWhereClause().clone();
+        TreeNode directAPI = physicalPlan.getWhereClause().getChildNode(0).getChildNode(0);
+        for (long page = 0; page < 10000; page += 100) {
+            RangeNode<Long> rangeNode = new RangeNode<>("myTable", "column1");
+            rangeNode.getRangeList().addRange(new Range<Long>(page, page + 99));
+            PhysicalPlan newPhysicalPlan = physicalPlan.paginate(rangeNode);
+            assertSame(physicalPlan.getSelectItems(), newPhysicalPlan.getSelectItems());
+            TreeNode pageRoot = newPhysicalPlan.getWhereClause().getChildNode(0);
+            assertSame(directAPI, pageRoot.getChildNode(0).getChildNode(1));
+            assertSame(rangeNode, pageRoot.getChildNode(0).getChildNode(0));
+        }
+        assertEquals(original, physicalPlan.getWhereClause());
+        assertSame(physicalPlan.getWhereClause(), directAPI.getParent().getParent());
+    }
+
+    @Test
+    public void testPaginateFromTemplate() {
+        String sql = "select * from myTable where column1 > 10 and column2 < 30 or (column3 != 25 and qcol1 = 30)";
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+        TreeNode rangeNode2 = physicalPlan.getWhereClause().getChildNode(0).getChildNode(0).getChildNode(1);
+        TreeNode filterItem = physicalPlan.getWhereClause().getChildNode(0).getChildNode(1).getChildNode(0);
+        for (long start = 0; start < 1000; start += 100) {
+            RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+            page.getRangeList().addRange(new Range<>(start, start + 99));
+            RangeNode<Long> rangeNode1 = new RangeNode<>("myTable", "column1");
+            rangeNode1.getRangeList().addRange(new Range<>(Math.max(start, 11l), start + 99));
+            WhereClause expected = new WhereClause();
+            LogicalOperation or = new LogicalOperation(Operator.OR);
+            LogicalOperation and1 = new LogicalOperation(Operator.AND);
+            and1.addChildNode(rangeNode1);
+            and1.addChildNode((TreeNode) rangeNode2.clone());
+            or.addChildNode(and1);
+            LogicalOperation and2 = new LogicalOperation(Operator.AND);
+            and2.addChildNode(createFilterItem("column3", "!=", "25"));
+            and2.addChildNode(page);
+            and2.addChildNode(new DirectAPINode("myTable", "qcol1", "30"));
+            or.addChildNode(and2);
+            expected.addChildNode(or);
+
+            TreeNode pageRoot = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+            assertEquals(expected.getChildNode(0), pageRoot);
+            assertSame(rangeNode2, pageRoot.getChildNode(0).getChildNode(1));
+            assertSame(filterItem, pageRoot.getChildNode(1).getChildNode(0));
+        }
+
+        // pages on another column compile a template of their own
+        RangeNode<BigInteger> page = new RangeNode<>("myTable", "column2");
+        page.getRangeList().addRange(new Range<>(new BigInteger("10"), new BigInteger("50")));
+        TreeNode pageRoot = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+        RangeNode<?> rangeNode = (RangeNode<?>) pageRoot.getChildNode(0).getChildNode(0);
+        assertEquals("column2", rangeNode.getColumn());
+        assertEquals(new Range<>(new BigInteger("10"), new BigInteger("29")), rangeNode.getRangeList().getRanges().get(0));
+    }
+
+    @Test
+    public void testEmptyPages() {
+        String sql = "select * from myTable where column1 >= 100 and column1 <= 200 or column1 > 9000000";
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+        int nonEmpty = 0;
+        for (long start = 0; start < 10000000; start += 100000) {
+            RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+            page.getRangeList().addRange(new Range<>(start, start + 99999));
+            PhysicalPlan pagePlan = physicalPlan.paginate(page);
+            assertEquals(physicalPlan.isEmptyPage(page), pagePlan.isEmptyPage());
+            if (pagePlan.isEmptyPage()) {
+                RangeNode<?> empty = (RangeNode<?>) pagePlan.getWhereClause().getChildNode(0);
+                assertTrue(empty.getRangeList().getRanges().isEmpty());
+            } else {
+                nonEmpty++;
+            }
+        }
+        assertEquals(11, nonEmpty);
+        assertFalse(physicalPlan.isEmptyPage());
+
+        // a page is empty only if every operand of an OR is
+        sql = "select * from myTable where column1 < 50 and qcol1 = 30 or column1 > 500 and column3 != 25";
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+        RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<>(100l, 200l));
+        assertTrue(physicalPlan.isEmptyPage(page));
+        page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<>(0l, 200l));
+        assertFalse(physicalPlan.isEmptyPage(page));
+        TreeNode pageRoot = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+        assertTrue(pageRoot instanceof LogicalOperation && ((LogicalOperation) pageRoot).isAnd());
+
+        // filters on other columns are not used to prove a page empty
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select * from myTable where column3 != 25"));
+        assertFalse(physicalPlan.isEmptyPage(page));
+    }
+
+    @Test
+    public void testRequiredColumns() {
+        String sql = "select column1 as c, count(qcol1), sum(column2) as s from myTable where c > 10 and qcol2 = 'x' "
+                + "group by column3 having count(column4) > 2 order by s, qcol1";
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+        assertEquals(new HashSet<>(Arrays.asList("column1", "qcol1", "column2", "qcol2", "column3", "column4")),
+                physicalPlan.getRequiredColumns("myTable"));
+        assertTrue(physicalPlan.getRequiredColumns("otherTable").isEmpty());
+
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select * from myTable where column1 > 10"));
+        assertEquals(physicalPlan.getColumnTypeMap("myTable").keySet(), physicalPlan.getRequiredColumns("myTable"));
+
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select count(*) from myTable"));
+        assertTrue(physicalPlan.getRequiredColumns("myTable").isEmpty());
+    }
+
+    @Test
+    public void testRowLimit() {
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("select * from myTable where qcol1 = 30 limit 10"));
+        assertEquals(10, physicalPlan.getRowLimit());
+        RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<>(0l, 100l));
+        assertEquals(10, physicalPlan.paginate(page).getRowBudget());
+        assertEquals(4, physicalPlan.paginate(page, 4).getRowBudget());
+        assertFalse(physicalPlan.paginate(page, 4).isEmptyPage());
+        assertTrue(physicalPlan.paginate(page, 0).isEmptyPage());
+
+        String[] notPushedDown = { "select * from myTable", "select column1 from myTable order by column3 limit 10",
+                "select column1 from myTable group by column1 limit 10", "select count(*) from myTable limit 1" };
+        for (String sql : notPushedDown) {
+            physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+            assertEquals(PhysicalPlan.NO_LIMIT, physicalPlan.getRowLimit());
+            assertEquals(PhysicalPlan.NO_LIMIT, physicalPlan.paginate(page).getRowBudget());
+        }
+    }
+
+    @Test
+    public void testCountOnly() {
+        String[] countOnly = { "select count(*) from myTable where column1 > 5", "select COUNT(*) as c from myTable",
+                "select count(*) from myTable where qcol1 = 30 limit 1" };
+        for (String sql : countOnly) {
+            assertTrue(sql, new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql)).isCountOnly());
+        }
+        String[] notCountOnly = { "select * from myTable", "select count(column1) from myTable",
+                "select sum(column1) from myTable", "select count(*), sum(column1) from myTable",
+                "select column1, count(*) from myTable group by column1" };
+        for (String sql : notCountOnly) {
+            assertFalse(sql, new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql)).isCountOnly());
+        }
+    }
+
+    @Test
+    public void testRangeScanOrder() {
+        DummyPhysicalPlan physicalPlan = new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("select * from myTable where column3 != 25 order by column1 desc limit 5"));
+        assertEquals(Direction.DESC, physicalPlan.getRangeScanOrder());
+        assertEquals("column1", physicalPlan.getRangeScanColumn());
+        assertEquals(5, physicalPlan.getRowLimit());
+
+        physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan("select column2 as c from myTable order by c"));
+        assertEquals(Direction.ASC, physicalPlan.getRangeScanOrder());
+        assertEquals("column2", physicalPlan.getRangeScanColumn());
+
+        String[] notOrderedByRange = { "select * from myTable order by qcol1 limit 5",
+                "select * from myTable order by column1, column2 limit 5",
+                "select column1, count(*) from myTable group by column1 order by column1 limit 5" };
+        for (String sql : notOrderedByRange) {
+            physicalPlan = new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql));
+            assertNull(physicalPlan.getRangeScanOrder());
+            assertEquals(PhysicalPlan.NO_LIMIT, physicalPlan.getRowLimit());
+        }
+    }
+
+    @Test
+    public void testCompositeRangeKey() {
+        String sql = "select * from myTable where column1 = 100 and column2 >= 5 and column2 <= 9 and column3 != 25";
+        TreeNode root = getCompositeKeyPlan(sql).getWhereClause().getChildNode(0);
+        assertEquals(2, root.getChildNodes().size());
+        RangeNode<?> rangeNode = root.getChildType(RangeNode.class, 0);
+        assertEquals("column1,column2", rangeNode.getColumn());
+        assertEquals(Arrays.asList(new Range<>(new CompositeKey(100l, BigInteger.valueOf(5)),
+                new CompositeKey(100l, BigInteger.valueOf(9)))), rangeNode.getRangeList().getRanges());
+        assertEquals(5, getCompositeKeyPlan(sql).estimateRows(rangeNode));
+
+        // pages on the leading column are intersected into the range of the key, so pages outside it are skipped
+        DummyPhysicalPlan physicalPlan = getCompositeKeyPlan(sql);
+        RangeNode<Long> page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<>(0l, 99l));
+        assertTrue(physicalPlan.isEmptyPage(page));
+        assertTrue(physicalPlan.paginate(page).isEmptyPage());
+        page = new RangeNode<>("myTable", "column1");
+        page.getRangeList().addRange(new Range<>(50l, 149l));
+        TreeNode pageRoot = physicalPlan.paginate(page).getWhereClause().getChildNode(0);
+        assertEquals(2, pageRoot.getChildNodes().size());
+        assertEquals(1, pageRoot.getChildType(RangeNode.class).size());
+        assertEquals("RANGE:myTable:column1,column2:[[(100,5)-(100,9)]]",
+                pageRoot.getChildType(RangeNode.class, 0).getDescription());
+
+        // or-ed ranges of the key are merged like ranges of a single column
+        sql = "select * from myTable where column1 = 100 and column2 < 3 or column1 = 200 and column2 < 3";
+        rangeNode = (RangeNode<?>) getCompositeKeyPlan(sql).getWhereClause().getChildNode(0);
+        assertEquals("RANGE:myTable:column1,column2:[[(100,0)-(100,2)],[(200,0)-(200,2)]]", rangeNode.getDescription());
+
+        // a leading range too wide to enumerate keeps the ranges of the columns apart
+        root = getCompositeKeyPlan("select * from myTable where column1 > 10 and column2 < 30").getWhereClause()
+                .getChildNode(0);
+        assertEquals(2, root.getChildType(RangeNode.class).size());
+        assertEquals("column1", root.getChildType(RangeNode.class, 0).getColumn());
+    }
+
+    private DummyPhysicalPlan getCompositeKeyPlan(String sql) {
+        return new DummyPhysicalPlan("dummyPlan", getLogicalPlan(sql)) {
+
+            @Override
+            public List<List<String>> getCompositeRangeCols(String table) {
+                return Collections.singletonList(Arrays.asList("column1", "column2"));
+            }
+        };
+    }
+
     private WhereClause buildRangeClauseWithDirectAPI() {
         WhereClause whereClause = new WhereClause();
         LogicalOperation and = new LogicalOperation(Operator.AND);
@@ -0,0 +1,85 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.insert.ColumnValue;
+import com.impetus.blkch.sql.parser.LogicalPlan.SQLType;
+import com.impetus.blkch.sql.query.IdentifierNode;
+
+public class ScriptParserTest extends TestCase {
+
+    @Test
+    public void testSplitStatements() {
+        String script = "-- header; comment\n"
+                + "insert into transaction (toAddress, value) values ('a;b', 10);\n"
+                + "/* block ; comment */ select a from block where a = \"x\\\";\";\n"
+                + "  ;  -- only a comment\n"
+                + "select `c;d` from block";
+        ScriptParser scriptParser = new ScriptParser(new StringReader(script));
+        List<LogicalPlan> plans = new ArrayList<>();
+        scriptParser.forEachRemaining(plans::add);
+        assertEquals(3, plans.size());
+        assertEquals(3, scriptParser.getStatementCount());
+        assertEquals(SQLType.INSERT, plans.get(0).getType());
+        assertEquals("'a;b'", plans.get(0).getInsert().getChildType(ColumnValue.class, 0)
+                .getChildType(IdentifierNode.class, 0).getValue());
+        assertEquals(SQLType.QUERY, plans.get(1).getType());
+        assertEquals(SQLType.QUERY, plans.get(2).getType());
+        assertFalse(scriptParser.hasNext());
+    }
+
+    @Test
+    public void testBatchesFromChannel() {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            script.append("insert into transaction (toAddress, value) values ('addr").append(i).append("', ").append(i)
+                    .append(");\n");
+        }
+        ScriptParser scriptParser = ScriptParser.fromChannel(
+                Channels.newChannel(new ByteArrayInputStream(script.toString().getBytes(StandardCharsets.UTF_8))),
+                StandardCharsets.UTF_8);
+        assertEquals(10, scriptParser.nextBatch(10).size());
+        assertEquals(10, scriptParser.nextBatch(10).size());
+        assertEquals(5, scriptParser.nextBatch(10).size());
+        assertTrue(scriptParser.nextBatch(10).isEmpty());
+    }
+
+    @Test
+    public void testErrorReportsStatementLine() {
+        Reader reader = new StringReader("select a from block;\n\nselect from where;\nselect b from block");
+        ScriptParser scriptParser = new ScriptParser(reader);
+        scriptParser.next();
+        try {
+            scriptParser.next();
+            fail("Syntax error should be reported");
+        } catch (BlkchnException e) {
+            assertTrue(e.getMessage().startsWith("Error in statement 2 at line 3"));
+        }
+    }
+}
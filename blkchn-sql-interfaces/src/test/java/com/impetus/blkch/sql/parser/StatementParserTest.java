@@ -0,0 +1,179 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnErrorListener;
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
+import com.impetus.blkch.sql.generated.BlkchnSqlParser;
+import com.impetus.blkch.sql.parser.StatementParser.PredictionStage;
+import com.impetus.blkch.util.Tuple2;
+
+public class StatementParserTest extends TestCase {
+
+    @Test
+    public void testSllStage() {
+        StatementParser statementParser = new StatementParser();
+        String sql = "select blocknumber, hash from block where blocknumber > 10 and blocknumber < 20 or hash = 'abc' "
+                + "group by blocknumber order by blocknumber desc limit 10";
+        Tuple2<LogicalPlan, PredictionStage> result = statementParser.parseWithStage(sql);
+        assertEquals(PredictionStage.SLL, result.getSecond());
+        assertEquals(getLogicalPlan(sql).getQuery(), result.getFirst().getQuery());
+        assertEquals(1, statementParser.getSllCount());
+        assertEquals(0, statementParser.getLlCount());
+    }
+
+    @Test
+    public void testSyntaxErrorAfterFallback() {
+        StatementParser statementParser = new StatementParser();
+        try {
+            statementParser.parse("select from where");
+            fail("Syntax error should be reported");
+        } catch (BlkchnException e) {
+            assertTrue(e.getMessage().startsWith("line 1:"));
+        }
+        assertEquals(0, statementParser.getSllCount());
+        assertEquals(0.0, statementParser.getFallbackRate());
+    }
+
+    @Test
+    public void testCallerParser() {
+        StatementParser statementParser = new StatementParser();
+        String sql = "select blocknumber from block where blocknumber > 10";
+        assertEquals(getLogicalPlan(sql).getQuery(), statementParser.parse(sql, getParser(sql)).getQuery());
+
+        // the listeners of the caller's parser see the syntax errors
+        List<String> errors = new ArrayList<>();
+        BlkchnSqlParser parser = getParser("select from where");
+        parser.addErrorListener(new BaseErrorListener() {
+
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                    int charPositionInLine, String msg, RecognitionException e) {
+                errors.add(msg);
+            }
+        });
+        try {
+            statementParser.parse("select from where", parser);
+            fail("Syntax error should be reported");
+        } catch (BlkchnException e) {
+            assertEquals(1, errors.size());
+        }
+    }
+
+    @Test
+    public void testInsertAndCall() {
+        StatementParser statementParser = new StatementParser();
+        String insert = "insert into transaction (toAddress, value, unit, async) values (?, ?, 'ether', ?)";
+        assertEquals(getLogicalPlan(insert).getInsert(), statementParser.parse(insert).getInsert());
+        String call = "CALL mycc('a', 'b', 10) AS ASSET asset1";
+        assertEquals(getLogicalPlan(call).getCallFunction(), statementParser.parse(call).getCallFunction());
+    }
+
+    @Test
+    public void testExplain() {
+        StatementParser statementParser = new StatementParser();
+        String query = "select blocknumber from block where blocknumber > 10 and hash = 'abc' limit 5";
+        LogicalPlan plan = statementParser.parse("explain " + query);
+        assertEquals(LogicalPlan.Explain.PLAN, plan.getExplain());
+        assertEquals(LogicalPlan.SQLType.QUERY, plan.getType());
+        assertEquals(getLogicalPlan(query).getQuery(), plan.getQuery());
+        plan = statementParser.parse("EXPLAIN ANALYZE " + query);
+        assertEquals(LogicalPlan.Explain.ANALYZE, plan.getExplain());
+        assertEquals(getLogicalPlan(query).getQuery(), plan.getQuery());
+        assertNull(statementParser.parse(query).getExplain());
+    }
+
+    @Test
+    public void testReuseAcrossStatements() {
+        StatementParser statementParser = new StatementParser();
+        String query = "select a, b from transaction where a = 10";
+        String insert = "insert into transaction (toAddress, value) values ('0x1', 10)";
+        LogicalPlan first = statementParser.parse(query);
+        try {
+            statementParser.parse("select a from");
+            fail("Syntax error should be reported");
+        } catch (BlkchnException e) {
+        }
+        LogicalPlan second = statementParser.parse(insert);
+        LogicalPlan third = statementParser.parse(query);
+        assertNotSame(first, third);
+        assertEquals(first.getQuery(), third.getQuery());
+        assertNull(second.getQuery());
+        assertEquals(getLogicalPlan(insert).getInsert(), second.getInsert());
+    }
+
+    @Test
+    public void testWarmUp() {
+        StatementParser statementParser = new StatementParser();
+        int parsed = statementParser.warmUp(Arrays.asList("select * from block where blocknumber > 100",
+                "select count(*) from transaction group by blocknumber", "select from"));
+        assertEquals(2, parsed);
+    }
+
+    @Test
+    public void testParsePerThread() throws Exception {
+        StatementParser statementParser = new StatementParser();
+        String sql = "select a from transaction where a = 10 or b > 20";
+        LogicalPlan expected = getLogicalPlan(sql);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<LogicalPlan>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> statementParser.parse(sql)));
+            }
+            for (Future<LogicalPlan> future : futures) {
+                assertEquals(expected.getQuery(), future.get().getQuery());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public LogicalPlan getLogicalPlan(String sqlText) {
+        LogicalPlan logicalPlan = null;
+        BlkchnSqlParser parser = getParser(sqlText);
+        parser.removeErrorListeners();
+        parser.addErrorListener(BlkchnErrorListener.INSTANCE);
+        AbstractSyntaxTreeVisitor astBuilder = new BlockchainVisitor();
+        logicalPlan = (LogicalPlan) astBuilder.visitSingleStatement(parser.singleStatement());
+        return logicalPlan;
+    }
+
+    public BlkchnSqlParser getParser(String sqlText) {
+        BlkchnSqlLexer lexer = new BlkchnSqlLexer(new CaseInsensitiveCharStream(sqlText));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(BlkchnErrorListener.INSTANCE);
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        BlkchnSqlParser parser = new BlkchnSqlParser(tokens);
+        return parser;
+    }
+}
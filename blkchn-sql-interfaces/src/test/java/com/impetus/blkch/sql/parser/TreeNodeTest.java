@@ -20,11 +20,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.impetus.blkch.sql.query.Column;
+import com.impetus.blkch.sql.query.DataNode;
 import com.impetus.blkch.sql.query.IdentifierNode;
 import com.impetus.blkch.sql.query.SelectClause;
 import com.impetus.blkch.sql.query.SelectItem;
@@ -203,4 +209,81 @@ public class TreeNodeTest {
         lead2.addChildNode(dev5);
         assertTrue(rootNode.equals(otherRootNode));
     }
+
+    @Test
+    public void testChildIndexAndHashAfterChange() {
+        TreeNode selectClause = new SelectClause();
+        TreeNode selectItem = new SelectItem();
+        TreeNode column = new Column();
+        selectClause.addChildNode(selectItem);
+        selectItem.addChildNode(column);
+        int before = selectClause.hashCode();
+        assertFalse(selectItem.hasChildType(IdentifierNode.class));
+
+        column.addChildNode(new IdentifierNode("a"));
+        selectItem.addChildNode(new IdentifierNode("b"));
+        assertTrue(selectItem.hasChildType(IdentifierNode.class));
+        assertEquals(1, selectItem.getChildType(IdentifierNode.class).size());
+        assertFalse(before == selectClause.hashCode());
+
+        TreeNode other = new SelectClause();
+        TreeNode otherItem = new SelectItem();
+        TreeNode otherColumn = new Column();
+        other.addChildNode(otherItem);
+        otherItem.addChildNode(otherColumn);
+        otherColumn.addChildNode(new IdentifierNode("a"));
+        otherItem.addChildNode(new IdentifierNode("b"));
+        assertEquals(other, selectClause);
+        assertEquals(other.hashCode(), selectClause.hashCode());
+    }
+
+    @Test
+    public void testChildNodesReadOnly() {
+        TreeNode selectItem = new SelectItem();
+        selectItem.addChildNode(new Column());
+        assertTrue(selectItem.hasChildType(Column.class));
+        try {
+            selectItem.getChildNodes().clear();
+            fail("Children changed past the index");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        List<TreeNode> children = new ArrayList<>();
+        selectItem.setChildNodes(children);
+        children.add(new Column());
+        assertFalse(selectItem.hasChildType(Column.class));
+    }
+
+    @Test
+    public void testHashAcrossSharedChild() {
+        TreeNode column = new Column();
+        TreeNode owner = new SelectItem();
+        owner.addChildNode(column);
+        TreeNode sharer = new SelectClause();
+        sharer.addSharedChildNode(owner);
+        int before = sharer.hashCode();
+
+        column.addChildNode(new IdentifierNode("a"));
+        assertFalse(before == sharer.hashCode());
+        TreeNode expected = new SelectClause();
+        TreeNode expectedItem = new SelectItem();
+        TreeNode expectedColumn = new Column();
+        expected.addChildNode(expectedItem);
+        expectedItem.addChildNode(expectedColumn);
+        expectedColumn.addChildNode(new IdentifierNode("a"));
+        assertEquals(expected.hashCode(), sharer.hashCode());
+    }
+
+    @Test
+    public void testDataNodeDescription() {
+        assertEquals("DATANODE:block,[1, 2, 3]", new DataNode<>("block", Arrays.asList(1, 2, 3)).getDescription());
+        List<Long> keys = new ArrayList<>();
+        for (long i = 0; i < 1000000; i++) {
+            keys.add(i);
+        }
+        String description = new DataNode<>("block", keys).getDescription();
+        assertTrue(description.length() < 2 * TreeNode.MAX_DESCRIPTION_LENGTH);
+        assertTrue(description.startsWith("DATANODE:block,[0, 1, 2"));
+        assertTrue(description.endsWith(" more]"));
+    }
 }
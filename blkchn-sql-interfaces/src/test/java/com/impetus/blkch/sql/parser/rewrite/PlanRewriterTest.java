@@ -0,0 +1,90 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.sql.parser.rewrite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+
+public class PlanRewriterTest extends TestCase {
+
+    // and of two data nodes becomes the data node of their common keys
+    private static final RewriteRule INTERSECT = RewriteRule.binary(Operator.AND, DataNode.class, DataNode.class,
+            (oper, left, right) -> {
+                DataNode<Object> result = new DataNode<>(left.getTable(), new ArrayList<>(left.getKeys()));
+                result.getKeys().retainAll(right.getKeys());
+                return result;
+            });
+
+    @Test
+    public void testFixpoint() {
+        TreeNode root = and(and(data(1, 2, 3), data(2, 3)), and(data(3, 4), new IdentifierNode("x")));
+        TreeNode copy = (TreeNode) root.clone();
+        TreeNode rewritten = new PlanRewriter(RuleBatch.fixedPoint("intersect", INTERSECT)).rewrite(root);
+
+        TreeNode expected = and(data(2, 3), and(data(3, 4), new IdentifierNode("x")));
+        assertEquals(expected, rewritten);
+        // the input is left alone and the untouched subtree is shared
+        assertEquals(copy, root);
+        assertSame(root.getChildNode(1), rewritten.getChildNode(1));
+    }
+
+    @Test
+    public void testFixpointNeedsSeveralPasses() {
+        // and(and(a, b), c) becomes and(a, and(b, c)), whose new inner operation is only visited on the next pass
+        RewriteRule rotate = RewriteRule.binary(Operator.AND, LogicalOperation.class, TreeNode.class,
+                (oper, left, right) -> left.isAnd() ? and(left.getChildNode(0), and(left.getChildNode(1), right))
+                        : null);
+        TreeNode root = and(and(new IdentifierNode("x"), data(1, 2)), data(2, 5));
+        RuleBatch batch = RuleBatch.fixedPoint("rotate", rotate, INTERSECT);
+        assertEquals(and(new IdentifierNode("x"), data(2)), new PlanRewriter(batch).rewrite(root));
+
+        RuleBatch once = RuleBatch.once("rotate", rotate, INTERSECT);
+        assertEquals(and(new IdentifierNode("x"), and(data(1, 2), data(2, 5))), new PlanRewriter(once).rewrite(root));
+    }
+
+    @Test
+    public void testIterationLimit() {
+        AtomicInteger applied = new AtomicInteger();
+        RewriteRule neverStable = node -> {
+            applied.incrementAndGet();
+            return (TreeNode) node.clone();
+        };
+        new PlanRewriter(new RuleBatch("unstable", 3, neverStable)).rewrite(new IdentifierNode("x"));
+        assertEquals(3, applied.get());
+    }
+
+    private static LogicalOperation and(TreeNode left, TreeNode right) {
+        LogicalOperation oper = new LogicalOperation(Operator.AND);
+        oper.addChildNode(left);
+        oper.addChildNode(right);
+        return oper;
+    }
+
+    private static DataNode<Object> data(Object... keys) {
+        return new DataNode<>("block", Arrays.asList(keys));
+    }
+}
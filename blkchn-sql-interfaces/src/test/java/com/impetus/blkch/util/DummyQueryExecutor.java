@@ -35,7 +35,7 @@ public class DummyQueryExecutor extends AbstractQueryExecutor {
     @Override
     public RangeNode getFullRange() {
         RangeNode<Long> rangeNode = new RangeNode<>("myTable", "column1");
-        rangeNode.getRangeList().addRange(new Range<Long>(0l, Long.MAX_VALUE));
+        rangeNode.getRangeList().addRange(new Range<Long>(0l, 20l));
         return rangeNode;
     }
 
@@ -17,28 +17,41 @@ package com.impetus.blkch.util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import junit.framework.TestCase;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.junit.Test;
 
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.AggregationFunctions;
+import com.impetus.blkch.sql.DataFrame;
 import com.impetus.blkch.sql.generated.BlkchnSqlLexer;
 import com.impetus.blkch.sql.generated.BlkchnSqlParser;
 import com.impetus.blkch.sql.parser.AbstractSyntaxTreeVisitor;
 import com.impetus.blkch.sql.parser.BlockchainVisitor;
 import com.impetus.blkch.sql.parser.CaseInsensitiveCharStream;
+import com.impetus.blkch.sql.parser.CostModel;
+import com.impetus.blkch.sql.parser.DummyPhysicalPlan;
 import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.PhysicalPlan;
 import com.impetus.blkch.sql.parser.TreeNode;
 import com.impetus.blkch.sql.query.Column;
 import com.impetus.blkch.sql.query.Comparator;
 import com.impetus.blkch.sql.query.Comparator.ComparisionOperator;
 import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.DirectAPIListNode;
+import com.impetus.blkch.sql.query.DirectAPINode;
 import com.impetus.blkch.sql.query.FilterItem;
 import com.impetus.blkch.sql.query.IdentifierNode;
 import com.impetus.blkch.sql.query.LogicalOperation;
 import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.OrderingDirection.Direction;
 import com.impetus.blkch.sql.query.RangeNode;
 
 public class TestAbstractQueryExecutor extends TestCase {
@@ -220,6 +233,383 @@ public class TestAbstractQueryExecutor extends TestCase {
         }
     }
     
+    @Test
+    public void testCheapestOperandDrivesAnd() {
+        AtomicInteger rangeScans = new AtomicInteger();
+        AtomicInteger costModels = new AtomicInteger();
+        DummyQueryExecutor dummyQueryExecutor = new DummyQueryExecutor(
+                getLogicalPlan("SELECT * FROM test Where column1 < 12")) {
+
+            @Override
+            protected <T extends Number & Comparable<T>> DataNode<T> executeRangeNode(RangeNode<T> rangeNode) {
+                rangeScans.incrementAndGet();
+                return super.executeRangeNode(rangeNode);
+            }
+
+            @Override
+            protected CostModel getCostModel() {
+                costModels.incrementAndGet();
+                return super.getCostModel();
+            }
+        };
+        LogicalOperation root = new LogicalOperation(Operator.AND);
+        RangeNode<Long> rangeNode = new RangeNode<>("test", "column1");
+        rangeNode.getRangeList().addRange(new Range<>(0l, 20l));
+        root.addChildNode(rangeNode);
+        root.addChildNode(new DataNode<>("test", Arrays.asList(3l, 5l, 30l)));
+
+        CostModel costModel = new CostModel(new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("SELECT * FROM test Where column1 < 12")));
+        assertEquals(21, costModel.estimateRows(rangeNode));
+        assertEquals(3, costModel.estimateRows(root));
+        assertSame(root.getChildNode(1), costModel.orderByCost(root.getChildNodes()).get(0));
+        try {
+            Object actual = ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { root });
+            assertEquals(new DataNode<>("test", Arrays.asList(3l, 5l)), actual);
+            assertEquals(0, rangeScans.get());
+            ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { root });
+            // one model serves every AND node of the executor
+            assertEquals(1, costModels.get());
+
+            // an open range is rated by the keys the chain has, so it drives an AND over more keys
+            RangeNode<Long> openRange = new RangeNode<>("test", "column1");
+            openRange.getRangeList().addRange(new Range<>(6l, Long.MAX_VALUE));
+            List<Long> manyKeys = new ArrayList<>();
+            for (long key = 0; key < 30; key++) {
+                manyKeys.add(key);
+            }
+            LogicalOperation openRoot = new LogicalOperation(Operator.AND);
+            openRoot.addChildNode(new DataNode<>("test", manyKeys));
+            openRoot.addChildNode(openRange);
+            actual = ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { openRoot });
+            assertEquals(15, ((DataNode<?>) actual).getKeys().size());
+            assertEquals(1, rangeScans.get());
+        } catch (Throwable e) {
+            StringWriter stringWriter = new StringWriter();
+            e.printStackTrace(new PrintWriter(stringWriter));
+            fail(stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void testDirectAPIList() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchedCalls = new AtomicInteger();
+        DirectAPIListNode node = new DirectAPIListNode("test", "qcol1", Arrays.asList("1", "20"));
+        DummyQueryExecutor dummyQueryExecutor = new DummyQueryExecutor(
+                getLogicalPlan("SELECT * FROM test Where column1 < 12"));
+        DummyQueryExecutor batchingQueryExecutor = new DummyQueryExecutor(
+                getLogicalPlan("SELECT * FROM test Where column1 < 12")) {
+
+            @Override
+            protected DataNode<?> getDataNode(String table, String column, String value) {
+                singleCalls.incrementAndGet();
+                return super.getDataNode(table, column, value);
+            }
+
+            @Override
+            protected DataNode<?> getDataNode(String table, String column, List<String> values) {
+                batchedCalls.incrementAndGet();
+                return new DataNode<>(table, Arrays.asList(1l, 11l));
+            }
+        };
+        try {
+            Object actual = ReflectionUtils.invoke(dummyQueryExecutor, "executeDirectAPIs",
+                    new Class[] { String.class, TreeNode.class }, new Object[] { "test", node });
+            assertEquals(new DataNode<>("test", Arrays.asList(1l, 3l, 4l, 8l, 11l, 15l, 16l)), actual);
+            // keys found by several values are kept once, in the order first found
+            actual = ReflectionUtils.invoke(dummyQueryExecutor, "executeDirectAPIs",
+                    new Class[] { String.class, TreeNode.class },
+                    new Object[] { "test", new DirectAPIListNode("test", "qcol1", Arrays.asList("20", "1", "5", "30")) });
+            assertEquals(Arrays.asList(11l, 15l, 16l, 1l, 3l, 4l, 8l), ((DataNode<?>) actual).getKeys());
+
+            actual = ReflectionUtils.invoke(batchingQueryExecutor, "executeDirectAPIs",
+                    new Class[] { String.class, TreeNode.class }, new Object[] { "test", node });
+            assertEquals(new DataNode<>("test", Arrays.asList(1l, 11l)), actual);
+            assertEquals(1, batchedCalls.get());
+            assertEquals(0, singleCalls.get());
+        } catch (Throwable e) {
+            StringWriter stringWriter = new StringWriter();
+            e.printStackTrace(new PrintWriter(stringWriter));
+            fail(stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void testRowLimit() {
+        List<Long> scanBudgets = new ArrayList<>();
+        class ScanRecordingQueryExecutor extends DummyQueryExecutor {
+
+            ScanRecordingQueryExecutor() {
+                super(getLogicalPlan("SELECT * FROM test limit 3"));
+                originalPhysicalPlan = physicalPlan;
+            }
+
+            @Override
+            protected <T extends Number & Comparable<T>> DataNode<T> executeRangeNode(RangeNode<T> rangeNode) {
+                scanBudgets.add(getScanBudget());
+                return super.executeRangeNode(rangeNode);
+            }
+        }
+        DummyQueryExecutor dummyQueryExecutor = new ScanRecordingQueryExecutor();
+        LogicalOperation or = new LogicalOperation(Operator.OR);
+        RangeNode<Long> rangeNode1 = new RangeNode<>("test", "column1");
+        rangeNode1.getRangeList().addRange(new Range<>(0l, 1l));
+        or.addChildNode(rangeNode1);
+        RangeNode<Long> rangeNode2 = new RangeNode<>("test", "column1");
+        rangeNode2.getRangeList().addRange(new Range<>(5l, 20l));
+        or.addChildNode(rangeNode2);
+        RangeNode<Long> rangeNode3 = new RangeNode<>("test", "column1");
+        rangeNode3.getRangeList().addRange(new Range<>(10l, 20l));
+        or.addChildNode(rangeNode3);
+
+        LogicalOperation and = new LogicalOperation(Operator.AND);
+        and.addChildNode((TreeNode) rangeNode2.clone());
+        List<Long> keys = new ArrayList<>();
+        for (long i = 0; i < 30; i++) {
+            keys.add(i);
+        }
+        and.addChildNode(new DataNode<>("test", keys));
+        try {
+            Object actual = ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { or });
+            assertEquals(new DataNode<>("test", Arrays.asList(0l, 1l, 5l)), actual);
+            // the third range is not scanned, the first two already return enough rows
+            assertEquals(Arrays.asList(3l, 3l), scanBudgets);
+            assertTrue(dummyQueryExecutor.isLimitReached());
+            RangeNode<Long> page = new RangeNode<>("test", "column1");
+            page.getRangeList().addRange(new Range<>(0l, 100l));
+            dummyQueryExecutor.paginate(page);
+            assertTrue(dummyQueryExecutor.isEmptyPage());
+
+            dummyQueryExecutor = new ScanRecordingQueryExecutor();
+            scanBudgets.clear();
+            actual = ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { and });
+            assertEquals(new DataNode<>("test", Arrays.asList(5l, 6l, 7l)), actual);
+            assertEquals(Arrays.asList(PhysicalPlan.NO_LIMIT), scanBudgets);
+        } catch (Throwable e) {
+            StringWriter stringWriter = new StringWriter();
+            e.printStackTrace(new PrintWriter(stringWriter));
+            fail(stringWriter.toString());
+        }
+    }
+
+    @Test
+    public void testCount() {
+        List<RangeNode<?>> scans = new ArrayList<>();
+        class CountingQueryExecutor extends DummyQueryExecutor {
+
+            CountingQueryExecutor() {
+                super(getLogicalPlan("SELECT count(*) FROM test WHERE column1 > 5"));
+                physicalPlan = new DummyPhysicalPlan("DummyPhysicalPlan", logicalPlan) {
+
+                    @Override
+                    public boolean isKeyColumn(String table, String column) {
+                        return "column1".equals(column);
+                    }
+                };
+            }
+
+            @Override
+            protected <T extends Number & Comparable<T>> DataNode<T> executeRangeNode(RangeNode<T> rangeNode) {
+                scans.add(rangeNode);
+                return super.executeRangeNode(rangeNode);
+            }
+
+            // a chain of 5001 blocks
+            @Override
+            public RangeNode getFullRange() {
+                RangeNode<Long> rangeNode = new RangeNode<>("myTable", "column1");
+                rangeNode.getRangeList().addRange(new Range<Long>(0l, 5000l));
+                return rangeNode;
+            }
+        }
+        CountingQueryExecutor executor = new CountingQueryExecutor();
+        RangeNode<Long> keyRange = new RangeNode<>("test", "column1");
+        keyRange.getRangeList().addAllRanges(new Range<>(6l, 1000l), new Range<>(2000l, 2009l));
+        assertEquals(1005, executor.count(keyRange));
+        assertEquals(5001, executor.count(null));
+        // an open range ends at the last block
+        TreeNode openRange = new DummyPhysicalPlan("dummyPlan",
+                getLogicalPlan("SELECT count(*) FROM test WHERE column1 > 4000")).getWhereClause().getChildNode(0);
+        assertTrue(openRange instanceof RangeNode<?>);
+        assertEquals(1000, executor.count(openRange));
+        assertEquals(Arrays.asList(Arrays.asList((Object) 1000)),
+                executor.createCountDataFrame(executor.count(openRange)).getData());
+        assertTrue(scans.isEmpty());
+
+        RangeNode<Long> otherRange = new RangeNode<>("test", "column2");
+        otherRange.getRangeList().addRange(new Range<>(6l, 1000l));
+        assertEquals(15, executor.count(otherRange));
+        assertEquals(Arrays.asList(otherRange), scans);
+        assertEquals(3, executor.count(new DataNode<>("test", Arrays.asList(4l, 7l, 9l))));
+
+        DataFrame dataFrame = executor.createCountDataFrame(1005);
+        assertEquals(Arrays.asList("count(*)"), dataFrame.getColumns());
+        assertEquals(Arrays.asList(Arrays.asList((Object) 1005)), dataFrame.getData());
+        // the same type as the count of the rows read
+        Object rowCount = AggregationFunctions.count(Arrays.asList((Object) 4l, 7l, 9l));
+        assertEquals(rowCount.getClass(), dataFrame.getData().get(0).get(0).getClass());
+        try {
+            executor.createCountDataFrame(Integer.MAX_VALUE + 1l);
+            fail("Count beyond int accepted");
+        } catch (BlkchnException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testExplain() {
+        DummyQueryExecutor executor = new DummyQueryExecutor(
+                getLogicalPlan("explain select * from test where column1 > 5 and qcol1 = 'abc'"));
+        DataFrame dataFrame = executor.explain();
+        assertEquals(Arrays.asList("plan", "node", "estimated_rows"), dataFrame.getColumns());
+        List<List<Object>> rows = dataFrame.getData();
+        assertEquals(4, rows.size());
+        assertEquals(Arrays.asList("Query", "Query", 1l), rows.get(0));
+        assertEquals(Arrays.asList("  LOGICAL_OPER:AND", "LogicalOperation", 1l), rows.get(1));
+        // the open range is estimated up to the last of the 21 keys the dummy chain has
+        assertEquals(Arrays.asList("    RANGE:test:column1:[[6-9223372036854775807]]", "RangeNode", 15l),
+                rows.get(2));
+        assertEquals(Arrays.asList("    DirectAPINode:test.qcol1='abc'", "DirectAPINode", 1l), rows.get(3));
+    }
+
+    @Test
+    public void testExplainAnalyze() {
+        class ProfiledQueryExecutor extends DummyQueryExecutor {
+
+            ProfiledQueryExecutor() {
+                super(getLogicalPlan("explain analyze select * from test where column1 > 5"));
+            }
+
+            @Override
+            protected DataNode<?> getDataNode(String table, String column, String value) {
+                recordDriverCall(10);
+                return super.getDataNode(table, column, value);
+            }
+
+            @Override
+            protected <T extends Number & Comparable<T>> DataNode<T> executeRangeNode(RangeNode<T> rangeNode) {
+                recordDriverCall(100);
+                return super.executeRangeNode(rangeNode);
+            }
+        }
+        ProfiledQueryExecutor executor = new ProfiledQueryExecutor();
+        LogicalOperation and = new LogicalOperation(Operator.AND);
+        RangeNode<Long> rangeNode = new RangeNode<>("test", "column1");
+        rangeNode.getRangeList().addRange(new Range<>(2l, 20l));
+        and.addChildNode(rangeNode);
+        and.addChildNode(new DirectAPINode("test", "qcol1", "5"));
+        and.addChildNode(createFilterItem("filterField", ComparisionOperator.EQ, "value1"));
+        executor.addToDataMap("3", new TestQueryObject(3, 2, "qval1", "qval2", "value1"));
+        executor.addToDataMap("4", new TestQueryObject(4, 2, "qval1", "qval2", "value2"));
+        executor.addToDataMap("8", new TestQueryObject(8, 2, "qval1", "qval2", "value1"));
+        try {
+            TreeNode resolved = (TreeNode) ReflectionUtils.invoke(executor, "executeDirectAPIs",
+                    new Class[] { String.class, TreeNode.class }, new Object[] { "test", and });
+            Object actual = ReflectionUtils.invoke(executor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { resolved });
+            assertEquals(new DataNode<>("test", Arrays.asList(3l, 8l)), actual);
+            // fetching the records of the result is not part of any node
+            ReflectionUtils.invoke(executor, "recordDriverCall", new Class[] { long.class }, new Object[] { 50l });
+        } catch (Throwable e) {
+            StringWriter stringWriter = new StringWriter();
+            e.printStackTrace(new PrintWriter(stringWriter));
+            fail(stringWriter.toString());
+        }
+        DataFrame dataFrame = executor.explainAnalyze();
+        assertEquals(Arrays.asList("plan", "node", "estimated_rows", "actual_keys", "driver_calls", "bytes_fetched",
+                "elapsed_ms"), dataFrame.getColumns());
+        List<List<Object>> rows = dataFrame.getData();
+        assertEquals(6, rows.size());
+        assertEquals(Arrays.asList("Query", "Query", null, 2l, 2l, 60l), rows.get(0).subList(0, 6));
+        assertEquals(Arrays.asList("  DirectAPINode:test.qcol1=5", "DirectAPINode", 1l, 4l, 1l, 10l),
+                rows.get(1).subList(0, 6));
+        assertEquals(Arrays.asList("  LOGICAL_OPER:AND", "LogicalOperation", 4l, 2l, 0l, 0l),
+                rows.get(2).subList(0, 6));
+        // the data node is the cheapest operand and drives, the range only filters its keys
+        assertEquals(Arrays.asList("    RANGE:test:column1:[[2-20]]", "RangeNode", 19l, 3l, 0l, 0l),
+                rows.get(3).subList(0, 6));
+        assertEquals(Arrays.asList("DataNode", 4l, 4l, 0l, 0l), rows.get(4).subList(1, 6));
+        assertEquals(Arrays.asList("    FILTER_ITEM:filterField = value1", "FilterItem", null, 2l, 0l, 0l),
+                rows.get(5).subList(0, 6));
+        assertTrue((Double) rows.get(0).get(6) >= (Double) rows.get(2).get(6));
+    }
+
+    @Test
+    public void testOrderedRangeScan() {
+        RangeNode<Long> rangeNode = new RangeNode<>("test", "column1");
+        rangeNode.getRangeList().addRange(new Range<>(10l, 20l));
+        rangeNode.getRangeList().addRange(new Range<>(0l, 3l));
+        LogicalOperation and = new LogicalOperation(Operator.AND);
+        and.addChildNode((TreeNode) rangeNode.clone());
+        List<Long> evenKeys = new ArrayList<>();
+        for (long i = 0; i <= 40; i += 2) {
+            evenKeys.add(i);
+        }
+        and.addChildNode(new DataNode<>("test", evenKeys));
+        List<RangeNode<?>> scans = new ArrayList<>();
+        class DescendingQueryExecutor extends DummyQueryExecutor {
+
+            DescendingQueryExecutor(String sql) {
+                super(getLogicalPlan(sql));
+            }
+
+            @Override
+            protected boolean supportsScanDirection(Direction direction) {
+                return true;
+            }
+
+            @Override
+            protected <T extends Number & Comparable<T>> DataNode<T> executeRangeNode(RangeNode<T> rangeNode) {
+                scans.add(rangeNode);
+                DataNode<T> rows = super.executeRangeNode(rangeNode);
+                if (getScanDirection() == Direction.DESC) {
+                    Collections.reverse(rows.getKeys());
+                }
+                return rows;
+            }
+        }
+        try {
+            DescendingQueryExecutor executor = new DescendingQueryExecutor("SELECT * FROM test order by column1 limit 4");
+            Object actual = ReflectionUtils.invoke(executor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { rangeNode });
+            assertEquals(new DataNode<>("test", Arrays.asList(0l, 1l, 2l, 3l)), actual);
+            assertTrue(executor.isResultOrdered());
+            assertEquals(1, scans.size());
+
+            executor = new DescendingQueryExecutor("SELECT * FROM test order by column1 desc limit 4");
+            actual = ReflectionUtils.invoke(executor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { rangeNode });
+            assertEquals(new DataNode<>("test", Arrays.asList(20l, 19l, 18l, 17l)), actual);
+            assertTrue(executor.isResultOrdered());
+
+            // the range drives the AND and the data node only filters it
+            scans.clear();
+            executor = new DescendingQueryExecutor("SELECT * FROM test order by column1 desc limit 7");
+            actual = ReflectionUtils.invoke(executor, "execute", new Class[] { TreeNode.class }, new Object[] { and });
+            assertEquals(new DataNode<>("test", Arrays.asList(20l, 18l, 16l, 14l, 12l, 10l, 2l)), actual);
+            assertEquals(2, scans.size());
+
+            // without descending scans the rows are sorted later, so the limit can not cut them here
+            DummyQueryExecutor dummyQueryExecutor = new DummyQueryExecutor(
+                    getLogicalPlan("SELECT * FROM test order by column1 desc limit 4"));
+            actual = ReflectionUtils.invoke(dummyQueryExecutor, "execute", new Class[] { TreeNode.class },
+                    new Object[] { rangeNode });
+            assertEquals(15, ((DataNode<?>) actual).getKeys().size());
+            assertFalse(dummyQueryExecutor.isResultOrdered());
+            assertFalse(dummyQueryExecutor.isLimitReached());
+        } catch (Throwable e) {
+            StringWriter stringWriter = new StringWriter();
+            e.printStackTrace(new PrintWriter(stringWriter));
+            fail(stringWriter.toString());
+        }
+    }
+
     public void testOptimize() {
         LogicalOperation root = new LogicalOperation(Operator.AND);
         LogicalOperation firstLeft = new LogicalOperation(Operator.AND);
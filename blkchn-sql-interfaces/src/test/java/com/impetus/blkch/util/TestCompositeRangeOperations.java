@@ -0,0 +1,113 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import com.impetus.blkch.sql.query.LogicalOperation;
+import com.impetus.blkch.sql.query.LogicalOperation.Operator;
+import com.impetus.blkch.sql.query.RangeNode;
+
+public class TestCompositeRangeOperations extends TestCase {
+
+    private CompositeRangeOperations rangeOperations = new CompositeRangeOperations(
+            Arrays.asList("blocknumber", "txindex"),
+            Arrays.asList(new LongRangeOperations(), new BigIntegerRangeOperations()));
+
+    @Test
+    public void testCompare() {
+        assertTrue(key(100, 9).compareTo(key(101, 0)) < 0);
+        assertTrue(key(100, 10).compareTo(key(100, 9)) > 0);
+        assertEquals(0, key(100, 9).compareTo(key(100, 9)));
+        assertEquals(key(100, 9), rangeOperations.getValue("(100, 9)"));
+        assertEquals("(100,9)", key(100, 9).toString());
+    }
+
+    @Test
+    public void testAddAndSubtract() {
+        assertEquals(key(100, 10), rangeOperations.add(key(100, 9), 1));
+        assertEquals(key(101, 0), rangeOperations.add(key(100, Long.MAX_VALUE), 1));
+        assertEquals(key(100, Long.MAX_VALUE), rangeOperations.subtract(key(101, 0), 1));
+        assertEquals(new CompositeKey(Long.MIN_VALUE, BigInteger.ZERO), rangeOperations.getMinValue());
+    }
+
+    @Test
+    public void testCombine() {
+        Map<String, RangeNode<?>> rangesByColumn = new HashMap<>();
+        rangesByColumn.put("blocknumber", longRange(100, 100));
+        rangesByColumn.put("txindex", bigRange(5, 9));
+        RangeNode<CompositeKey> combined = rangeOperations.combine("transaction", rangesByColumn);
+        assertEquals("blocknumber,txindex", combined.getColumn());
+        assertTrue(combined.isComposite());
+        assertEquals(Arrays.asList(new Range<>(key(100, 5), key(100, 9))), combined.getRangeList().getRanges());
+        assertEquals(5, rangeOperations.countValues(combined));
+
+        // each value of the leading column gets the ranges of the next one, in key order
+        rangesByColumn.put("blocknumber", longRange(101, 102));
+        combined = rangeOperations.combine("transaction", rangesByColumn);
+        assertEquals(Arrays.asList(new Range<>(key(101, 5), key(101, 9)), new Range<>(key(102, 5), key(102, 9))),
+                combined.getRangeList().getRanges());
+        assertEquals("RANGE:transaction:blocknumber:[[101-101],[102-102]]",
+                rangeOperations.getLeadingRange(combined).getDescription());
+        // and back, every transaction of the leading blocks
+        RangeNode<CompositeKey> keyRange = rangeOperations.getKeyRange(longRange(101, 102));
+        assertEquals("blocknumber,txindex", keyRange.getColumn());
+        assertEquals(Arrays.asList(new Range<>(rangeOperations.getMinValue().withComponent(0, 101l),
+                rangeOperations.getMaxValue().withComponent(0, 102l))), keyRange.getRangeList().getRanges());
+
+        // too many leading values to enumerate, or no range on the next column
+        rangesByColumn.put("blocknumber", longRange(0, 1000000));
+        assertNull(rangeOperations.combine("transaction", rangesByColumn));
+        rangesByColumn.put("blocknumber", longRange(100, 100));
+        rangesByColumn.remove("txindex");
+        assertNull(rangeOperations.combine("transaction", rangesByColumn));
+    }
+
+    @Test
+    public void testProcessRangeNodes() {
+        RangeNode<CompositeKey> left = new RangeNode<>("transaction", "blocknumber,txindex");
+        left.getRangeList().addRange(new Range<>(key(100, 5), key(101, 3)));
+        RangeNode<CompositeKey> right = new RangeNode<>("transaction", "blocknumber,txindex");
+        right.getRangeList().addRange(new Range<>(key(100, 9), key(102, 0)));
+        RangeNode<CompositeKey> and = rangeOperations.processRangeNodes(left, right, new LogicalOperation(Operator.AND));
+        assertEquals(Arrays.asList(new Range<>(key(100, 9), key(101, 3))), and.getRangeList().getRanges());
+        // the rest of block 100 and the first four transactions of block 101
+        assertEquals(Long.MAX_VALUE - 4, rangeOperations.countValues(and));
+    }
+
+    private static CompositeKey key(long blocknumber, long txindex) {
+        return new CompositeKey(blocknumber, BigInteger.valueOf(txindex));
+    }
+
+    private static RangeNode<Long> longRange(long min, long max) {
+        RangeNode<Long> rangeNode = new RangeNode<>("transaction", "blocknumber");
+        rangeNode.getRangeList().addRange(new Range<>(min, max));
+        return rangeNode;
+    }
+
+    private static RangeNode<BigInteger> bigRange(long min, long max) {
+        RangeNode<BigInteger> rangeNode = new RangeNode<>("transaction", "txindex");
+        rangeNode.getRangeList().addRange(new Range<>(BigInteger.valueOf(min), BigInteger.valueOf(max)));
+        return rangeNode;
+    }
+}
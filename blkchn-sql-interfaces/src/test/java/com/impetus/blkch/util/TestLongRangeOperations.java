@@ -19,6 +19,8 @@ import junit.framework.TestCase;
 
 import org.junit.Test;
 
+import com.impetus.blkch.sql.query.RangeNode;
+
 public class TestLongRangeOperations extends TestCase {
     
     private RangeOperations<Long> longRangeOperations = new LongRangeOperations();
@@ -58,4 +60,18 @@ public class TestLongRangeOperations extends TestCase {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testCountValues() {
+        RangeNode<Long> rangeNode = new RangeNode<>("block", "blocknumber");
+        rangeNode.getRangeList().addRange(new Range<>(20l, 29l));
+        rangeNode.getRangeList().addRange(new Range<>(1l, 5l));
+        rangeNode.getRangeList().addRange(new Range<>(25l, 34l));
+        assertEquals(20, longRangeOperations.countValues(rangeNode));
+        assertEquals(0, longRangeOperations.countValues(new RangeNode<>("block", "blocknumber")));
+
+        rangeNode = new RangeNode<>("block", "blocknumber");
+        rangeNode.getRangeList().addRange(new Range<>(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, longRangeOperations.countValues(rangeNode));
+    }
+
 }
@@ -15,6 +15,9 @@
 ******************************************************************************/
 package com.impetus.blkch.util;
 
+import java.util.Arrays;
+import java.util.List;
+
 import junit.framework.TestCase;
 
 import org.junit.Test;
@@ -163,6 +166,25 @@ public class TestRangeOperations extends TestCase {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testProcessManyRangeNodes() {
+        RangeNode<Long> rangeNode1 = new RangeNode<>("table", "column");
+        rangeNode1.getRangeList().addAllRanges(new Range<>(13l, 18l), new Range<>(1l, 5l));
+        RangeNode<Long> rangeNode2 = new RangeNode<>("table", "column");
+        rangeNode2.getRangeList().addAllRanges(new Range<>(4l, 9l), new Range<>(17l, 20l));
+        RangeNode<Long> rangeNode3 = new RangeNode<>("table", "column");
+        rangeNode3.getRangeList().addAllRanges(new Range<>(3l, 15l));
+        List<RangeNode<Long>> rangeNodes = Arrays.asList(rangeNode1, rangeNode2, rangeNode3);
+
+        RangeNode<Long> expected = new RangeNode<Long>("table", "column");
+        expected.getRangeList().addAllRanges(new Range<>(1l, 20l));
+        assertEquals(expected, rangeOperations.processRangeNodes(rangeNodes, new LogicalOperation(Operator.OR)));
+
+        expected = new RangeNode<Long>("table", "column");
+        expected.getRangeList().addAllRanges(new Range<>(4l, 5l));
+        assertEquals(expected, rangeOperations.processRangeNodes(rangeNodes, new LogicalOperation(Operator.AND)));
+    }
+
     @Test
     public void testNullInRange() {
         Range<Long> range1 = new Range<>(1l, 4l);
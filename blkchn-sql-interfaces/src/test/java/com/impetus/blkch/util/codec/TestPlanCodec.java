@@ -0,0 +1,161 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.parser.DummyPhysicalPlan;
+import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.StatementParser;
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.query.DataNode;
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.sql.query.WhereClause;
+import com.impetus.blkch.util.CompositeKey;
+import com.impetus.blkch.util.Range;
+import com.impetus.blkch.util.RangeList;
+
+public class TestPlanCodec extends TestCase {
+
+    private StatementParser statementParser = new StatementParser();
+
+    @Test
+    public void testQueryPlanRoundTrip() {
+        String[] statements = { "select * from block",
+                "select distinct blocknumber as num, hash from block where blocknumber > 10 and hash = 'abc' or timestamp <= 20",
+                "select count(*), blocknumber from transaction where blocknumber = ? group by blocknumber having count(*) > 2 order by blocknumber desc limit 5",
+                "select sum(x), col from tbl where c != 1.5 and d = 'y' group by col",
+                "insert into tbl (a, b) values (?, 'x')", "explain analyze select a from tbl where a > 3" };
+        for (String sql : statements) {
+            LogicalPlan plan = statementParser.parse(sql);
+            LogicalPlan decoded = PlanCodec.decode(PlanCodec.encode(plan), LogicalPlan.class);
+            assertEquals(plan.getType(), decoded.getType());
+            assertEquals(plan.getExplain(), decoded.getExplain());
+            assertEquals(plan.getQuery(), decoded.getQuery());
+            assertEquals(plan.getInsert(), decoded.getInsert());
+            assertParentsLinked(decoded.getType() == LogicalPlan.SQLType.QUERY ? decoded.getQuery()
+                    : decoded.getInsert());
+        }
+    }
+
+    @Test
+    public void testPhysicalWhereClauseRoundTrip() {
+        DummyPhysicalPlan catalog = new DummyPhysicalPlan("catalog", statementParser.parse("select column1 from myTable"));
+        LogicalPlan plan = statementParser.parse(
+                "select column1, qcol1 from myTable where column1 > 10 and column1 < 25 or qcol1 = 30", catalog);
+        assertNotNull(plan.getPhysicalWhereClause());
+        LogicalPlan decoded = PlanCodec.decode(PlanCodec.encode(plan), LogicalPlan.class);
+        assertEquals(plan.getPhysicalWhereClause(), decoded.getPhysicalWhereClause());
+        WhereClause whereClause = new DummyPhysicalPlan("decoded", decoded).getWhereClause();
+        assertEquals(new DummyPhysicalPlan("original", plan).getWhereClause(), whereClause);
+    }
+
+    @Test
+    public void testRangeNodeRoundTrip() {
+        RangeNode<Long> rangeNode = new RangeNode<>("block", "blocknumber");
+        rangeNode.getRangeList().addAllRanges(new Range<>(1l, 100l), new Range<>(-5l, Long.MAX_VALUE));
+        RangeNode<?> decoded = PlanCodec.decode(PlanCodec.encode(rangeNode), RangeNode.class);
+        assertEquals(rangeNode, decoded);
+        assertEquals("blocknumber", decoded.getColumn());
+
+        RangeNode<BigInteger> bigRangeNode = new RangeNode<>("block", "number");
+        bigRangeNode.getRangeList().addRange(new Range<>(BigInteger.ONE, BigInteger.TEN.pow(30)));
+        assertEquals(bigRangeNode, PlanCodec.decode(PlanCodec.encode(bigRangeNode), RangeNode.class));
+
+        RangeNode<CompositeKey> keyRangeNode = new RangeNode<>("transaction", "blocknumber,txindex");
+        keyRangeNode.getRangeList().addRange(new Range<>(new CompositeKey(100l, BigInteger.valueOf(5)),
+                new CompositeKey(100l, BigInteger.valueOf(9))));
+        assertEquals(keyRangeNode, PlanCodec.decode(PlanCodec.encode(keyRangeNode), RangeNode.class));
+
+        RangeList<Long> rangeList = new RangeList<>();
+        rangeList.addRange(new Range<>(3l, 4l));
+        assertEquals(rangeList, PlanCodec.decode(PlanCodec.encode(rangeList), RangeList.class));
+        assertEquals(new Range<>(3l, 4l), PlanCodec.decode(PlanCodec.encode(new Range<>(3l, 4l)), Range.class));
+    }
+
+    @Test
+    public void testDataNodeRoundTrip() {
+        DataNode<Object> dataNode = new DataNode<>("transaction", new ArrayList<>(Arrays.asList("0xab", 7l,
+                BigInteger.valueOf(-9), 2.5d, true)));
+        DataNode<?> decoded = PlanCodec.decode(PlanCodec.encode(dataNode), DataNode.class);
+        assertEquals(dataNode, decoded);
+        assertEquals(dataNode.getKeys(), decoded.getKeys());
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws IOException {
+        RangeNode<Long> rangeNode = new RangeNode<>("block", "blocknumber");
+        for (long i = 0; i < 1000; i++) {
+            rangeNode.getRangeList().addRange(new Range<>(i * 100, i * 100 + 50));
+        }
+        WhereClause whereClause = new WhereClause();
+        whereClause.addChildNode(rangeNode);
+        assertTrue(PlanCodec.encode(whereClause).length * 4 < javaSerializedSize(whereClause));
+
+        LogicalPlan plan = statementParser.parse("select * from block where blocknumber > 10 and hash = 'abc'");
+        assertTrue(PlanCodec.encode(plan).length * 4 < javaSerializedSize(plan));
+    }
+
+    @Test
+    public void testErrors() {
+        byte[] encoded = PlanCodec.encode(new Range<>(1l, 2l));
+        try {
+            PlanCodec.decode(encoded, RangeNode.class);
+            fail("Decoding a range as a node should fail");
+        } catch (BlkchnException e) {
+            assertEquals("Encoded Range is not a RangeNode", e.getMessage());
+        }
+        encoded[2] = 99;
+        try {
+            PlanCodec.decode(encoded, Range.class);
+            fail("Decoding an unknown version should fail");
+        } catch (BlkchnException e) {
+            assertEquals("Unsupported plan encoding version 99, expected " + PlanCodec.VERSION, e.getMessage());
+        }
+        try {
+            PlanCodec.encode(new TreeNode("custom"));
+            fail("Encoding an unregistered node type should fail");
+        } catch (BlkchnException e) {
+            assertEquals("No binary encoding for node type " + TreeNode.class.getName(), e.getMessage());
+        }
+        assertFalse(PlanCodec.canEncode(DummyPhysicalPlan.class));
+    }
+
+    private void assertParentsLinked(TreeNode node) {
+        for (TreeNode child : node.getChildNodes()) {
+            assertSame(node, child.getParent());
+            assertParentsLinked(child);
+        }
+    }
+
+    private int javaSerializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+* * Copyright 2018 Impetus Infotech.
+* *
+* * Licensed under the Apache License, Version 2.0 (the "License");
+* * you may not use this file except in compliance with the License.
+* * You may obtain a copy of the License at
+* *
+* * http://www.apache.org/licenses/LICENSE-2.0
+* *
+* * Unless required by applicable law or agreed to in writing, software
+* * distributed under the License is distributed on an "AS IS" BASIS,
+* * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* * See the License for the specific language governing permissions and
+* * limitations under the License.
+******************************************************************************/
+package com.impetus.blkch.util.placeholder;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.impetus.blkch.BlkchnException;
+import com.impetus.blkch.sql.insert.ColumnValue;
+import com.impetus.blkch.sql.parser.DummyPhysicalPlan;
+import com.impetus.blkch.sql.parser.LogicalPlan;
+import com.impetus.blkch.sql.parser.TreeNode;
+import com.impetus.blkch.sql.query.GroupByClause;
+import com.impetus.blkch.sql.query.IdentifierNode;
+import com.impetus.blkch.sql.query.IdentifierNode.IdentType;
+import com.impetus.blkch.sql.query.Placeholder;
+import com.impetus.blkch.sql.query.RangeNode;
+import com.impetus.blkch.sql.query.SelectClause;
+import com.impetus.blkch.sql.query.WhereClause;
+import com.impetus.blkch.util.Range;
+
+import junit.framework.TestCase;
+
+public class TestPreparedTemplate extends TestCase {
+
+    @Test
+    public void testBindQuery() {
+        String sql = "select * from transaction where column1 = ? or qcol1 = ? or column2 > ?";
+        LogicalPlan logicalPlan = new LogicalPlanGen().getLogicalPlan(sql);
+        PreparedTemplate template = PreparedTemplate.compile(logicalPlan);
+        assertEquals(3, template.getParameterCount());
+
+        LogicalPlan bound = template.bind(12l, "abcd", new BigInteger("40"));
+        LogicalPlan expected = new LogicalPlanGen().getLogicalPlan(sql);
+        QueryPlaceholderHandler handler = new QueryPlaceholderHandler(expected);
+        handler.setPlaceholderIndex();
+        handler.alterLogicalPlan(new Object[] { 12l, "abcd", new BigInteger("40") });
+        assertEquals(expected.getQuery(), bound.getQuery());
+        IdentifierNode ident = bound.getQuery().getChildType(WhereClause.class, 0).getChildNode(0).getChildNode(0).getChildNode(0)
+                .getChildType(IdentifierNode.class, 0);
+        assertEquals(12l, ident.getTypedValue());
+        assertEquals(IdentType.NUMBER, ident.getType());
+
+        // the source plan is left untouched
+        assertEquals(new LogicalPlanGen().getLogicalPlan(sql).getQuery(), logicalPlan.getQuery());
+
+        RangeNode<?> range = (RangeNode<?>) new DummyPhysicalPlan("dummyPlan", template.bind(5l, "y", 9l))
+                .getWhereClause().getChildNode(0).getChildNode(0);
+        assertEquals(new Range<Long>(5l, 5l), range.getRangeList().getRanges().get(0));
+    }
+
+    @Test
+    public void testBindSharesUntouchedNodes() {
+        String sql = "select hash, blocknumber from transaction where column1 = ? and qcol1 = 'x' group by hash";
+        PreparedTemplate template = PreparedTemplate.compile(new LogicalPlanGen().getLogicalPlan(sql));
+        LogicalPlan first = template.bind(1l);
+        LogicalPlan second = template.bind(2l);
+        assertSame(first.getQuery().getChildType(SelectClause.class, 0),
+                second.getQuery().getChildType(SelectClause.class, 0));
+        assertSame(first.getQuery().getChildType(GroupByClause.class, 0),
+                second.getQuery().getChildType(GroupByClause.class, 0));
+        TreeNode firstAnd = first.getQuery().getChildType(WhereClause.class, 0).getChildNode(0);
+        TreeNode secondAnd = second.getQuery().getChildType(WhereClause.class, 0).getChildNode(0);
+        assertNotSame(firstAnd.getChildNode(0), secondAnd.getChildNode(0));
+        assertSame(firstAnd.getChildNode(1), secondAnd.getChildNode(1));
+        assertEquals("1", firstAnd.getChildNode(0).getChildType(IdentifierNode.class, 0).getValue());
+        assertEquals("2", secondAnd.getChildNode(0).getChildType(IdentifierNode.class, 0).getValue());
+        assertEquals(1, template.bind(3l).getQuery().getChildType(WhereClause.class, 0).getChildNode(0)
+                .getChildNode(0).getChildType(IdentifierNode.class).size());
+    }
+
+    @Test
+    public void testBindInsert() {
+        String sql = "insert into transaction (toAddress, value, unit, async) values (?, ?, 'ether', ?)";
+        PreparedTemplate template = PreparedTemplate.compile(new LogicalPlanGen().getLogicalPlan(sql));
+        assertEquals(3, template.getParameterCount());
+        LogicalPlan bound = template.bind("0xabc", 10, true);
+        ColumnValue columnValue = bound.getInsert().getChildType(ColumnValue.class, 0);
+        assertFalse(columnValue.hasChildType(Placeholder.class));
+        assertEquals("0xabc", columnValue.getChildType(IdentifierNode.class, 0).getValue());
+        assertEquals(Boolean.TRUE, columnValue.getChildType(IdentifierNode.class, 3).getTypedValue());
+        assertSame(columnValue, columnValue.getChildNode(0).getParent());
+    }
+
+    @Test
+    public void testInvalidValues() {
+        PreparedTemplate template = PreparedTemplate
+                .compile(new LogicalPlanGen().getLogicalPlan("select * from transaction where column1 = ?"));
+        try {
+            template.bind(1l, 2l);
+            fail("Wrong parameter count should be reported");
+        } catch (BlkchnException e) {
+            assertEquals("Expected 1 parameter values but got 2", e.getMessage());
+        }
+        try {
+            template.bind((Object) null);
+            fail("Null value should be reported");
+        } catch (BlkchnException e) {
+            assertEquals("Can't set NULL value", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testConcurrentBind() throws Exception {
+        PreparedTemplate template = PreparedTemplate
+                .compile(new LogicalPlanGen().getLogicalPlan("select * from transaction where column1 = ?"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (long i = 0; i < 100; i++) {
+                final long value = i;
+                futures.add(executor.submit(() -> template.bind(value).getQuery().getChildType(WhereClause.class, 0).getChildNode(0)
+                        .getChildType(IdentifierNode.class, 0).getValue()));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(String.valueOf(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}